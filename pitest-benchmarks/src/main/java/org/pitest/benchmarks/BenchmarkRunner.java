@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.util.Unchecked;
+
+/**
+ * Runs the benchmarks with the pitest agent installed in each fork, writes the
+ * scores and compares them with a stored baseline.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar [--include regex] [--baseline file]
+ *     [--results file] [--threshold percent] [--record]
+ * </pre>
+ *
+ * With --record the scores replace the baseline rather than being compared to
+ * it. The process exits with status 1 if any benchmark has regressed.
+ */
+public class BenchmarkRunner {
+
+  private String  include   = "org\\.pitest\\..*Benchmark.*";
+  private File    baseline  = new File("baseline.txt");
+  private File    results   = new File("target/benchmark-results.txt");
+  private double  threshold = 10;
+  private boolean record;
+
+  public static void main(final String[] args) throws RunnerException {
+    final BenchmarkRunner runner = new BenchmarkRunner();
+    runner.parse(args);
+    System.exit(runner.run() ? 0 : 1);
+  }
+
+  void parse(final String[] args) {
+    for (int i = 0; i != args.length; i++) {
+      final String arg = args[i];
+      if ("--record".equals(arg)) {
+        this.record = true;
+      } else if (i + 1 == args.length) {
+        throw new IllegalArgumentException("Missing value for " + arg);
+      } else if ("--include".equals(arg)) {
+        this.include = args[++i];
+      } else if ("--baseline".equals(arg)) {
+        this.baseline = new File(args[++i]);
+      } else if ("--results".equals(arg)) {
+        this.results = new File(args[++i]);
+      } else if ("--threshold".equals(arg)) {
+        this.threshold = Double.parseDouble(args[++i]);
+      } else {
+        throw new IllegalArgumentException("Unknown option " + arg);
+      }
+    }
+  }
+
+  boolean run() throws RunnerException {
+    final JarCreatingJarFinder agent = new JarCreatingJarFinder();
+    final List<Measurement> measurements;
+    try {
+      final Options options = new OptionsBuilder().include(this.include)
+          .jvmArgsAppend("-javaagent:" + agent.getJarLocation().value())
+          .build();
+      measurements = toMeasurements(new Runner(options).run());
+    } finally {
+      agent.close();
+    }
+
+    write(measurements, this.results);
+    if (this.record) {
+      write(measurements, this.baseline);
+      System.out.println("Recorded " + measurements.size()
+          + " measurements as baseline in " + this.baseline);
+      return true;
+    }
+
+    if (!this.baseline.exists()) {
+      System.out.println("No baseline at " + this.baseline
+          + ". Rerun with --record to create one");
+      return true;
+    }
+
+    final RegressionReport report = new RegressionReport(this.threshold);
+    final List<RegressionReport.Row> rows = report.compare(read(this.baseline),
+        measurements);
+    report.print(rows, System.out);
+    return !RegressionReport.hasRegressions(rows);
+  }
+
+  static List<Measurement> toMeasurements(final Collection<RunResult> runs) {
+    final List<Measurement> measurements = new ArrayList<Measurement>();
+    for (final RunResult each : runs) {
+      final BenchmarkParams params = each.getParams();
+      final Result<?> primary = each.getPrimaryResult();
+      measurements.add(new Measurement(nameOf(params), params.getMode()
+          .shortLabel(), primary.getScore(), primary.getScoreError(), primary
+          .getScoreUnit()));
+    }
+    return measurements;
+  }
+
+  private static String nameOf(final BenchmarkParams params) {
+    final StringBuilder sb = new StringBuilder(params.getBenchmark());
+    String separator = ":";
+    for (final String key : params.getParamsKeys()) {
+      sb.append(separator).append(key).append('=').append(params.getParam(key));
+      separator = ",";
+    }
+    return sb.toString();
+  }
+
+  private static void write(final List<Measurement> measurements,
+      final File file) {
+    final File parent = file.getAbsoluteFile().getParentFile();
+    if (!parent.exists()) {
+      parent.mkdirs();
+    }
+    try {
+      final Writer out = new OutputStreamWriter(new FileOutputStream(file),
+          "UTF-8");
+      try {
+        Measurements.write(measurements, out);
+      } finally {
+        out.close();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static Map<String, Measurement> read(final File file) {
+    try {
+      final Reader in = new InputStreamReader(new FileInputStream(file),
+          "UTF-8");
+      try {
+        return Measurements.read(in);
+      } finally {
+        in.close();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
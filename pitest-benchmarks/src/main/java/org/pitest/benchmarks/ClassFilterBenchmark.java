@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.functional.prelude.Prelude;
+import org.pitest.util.Glob;
+import org.pitest.util.GlobSet;
+
+/**
+ * Matching of class names against a configured list of exclusion globs, as
+ * performed for each class loaded by the coverage minion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassFilterBenchmark {
+
+  private static final int  CLASSES = 1000;
+
+  @Param({ "10", "150" })
+  public int                globs;
+
+  private Predicate<String> sequential;
+  private Predicate<String> globSet;
+  private List<String>      classNames;
+
+  @Setup
+  public void setUp() {
+    final List<String> patterns = new ArrayList<String>();
+    for (int i = 0; i != this.globs; i++) {
+      patterns.add("com.example.module" + i + ".*");
+    }
+    final Collection<Predicate<String>> ps = Glob.toGlobPredicates(patterns);
+    this.sequential = Prelude.or(ps);
+    this.globSet = new GlobSet(ps);
+    this.classNames = new ArrayList<String>();
+    for (int i = 0; i != CLASSES; i++) {
+      this.classNames.add("com.example.module" + (i % (this.globs * 2))
+          + ".Class" + i);
+    }
+  }
+
+  @Benchmark
+  public void sequentialGlobs(final Blackhole bh) {
+    match(this.sequential, bh);
+  }
+
+  @Benchmark
+  public void globSet(final Blackhole bh) {
+    match(this.globSet, bh);
+  }
+
+  private void match(final Predicate<String> p, final Blackhole bh) {
+    for (final String each : this.classNames) {
+      bh.consume(p.apply(each));
+    }
+  }
+
+}
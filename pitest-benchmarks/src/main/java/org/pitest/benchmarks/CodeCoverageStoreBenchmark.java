@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+/**
+ * Probe recording as performed by instrumented code during coverage, and the
+ * collection of hits at the end of each test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodeCoverageStoreBenchmark {
+
+  private static final int CLASSES = 200;
+  private static final int PROBES  = 64;
+
+  private boolean[]        probes;
+
+  @Setup
+  public void setUp() {
+    CodeCoverageStore.resetAllStaticState();
+    CodeCoverageStore.init(new InvokeReceiver() {
+      @Override
+      public void registerClass(final int id, final String className) {
+
+      }
+
+      @Override
+      public void registerProbes(final int classId, final String methodName,
+          final String methodDesc, final int firstProbe, final int lastProbe) {
+
+      }
+    });
+    for (int i = 0; i != CLASSES; i++) {
+      CodeCoverageStore.registerClassProbes(i, PROBES);
+    }
+    this.probes = new boolean[PROBES / 2];
+    for (int i = 0; i < this.probes.length; i += 3) {
+      this.probes[i] = true;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
+  @Benchmark
+  public void visitSingleProbe() {
+    CodeCoverageStore.visitSingleProbe(7, 5);
+  }
+
+  @Benchmark
+  public void visitThreeProbes() {
+    CodeCoverageStore.visitProbes(7, 0, true, false, true);
+  }
+
+  @Benchmark
+  public void visitProbeArray() {
+    CodeCoverageStore.visitProbes(7, 0, this.probes);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void visitProbesContended() {
+    CodeCoverageStore.visitProbes(7, 0, true, false, true);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int collectAndResetHits() {
+    for (int i = 0; i < CLASSES; i += 2) {
+      CodeCoverageStore.visitProbes(i, 0, this.probes);
+    }
+    final int hits = CodeCoverageStore.getHits().size();
+    CodeCoverageStore.reset();
+    return hits;
+  }
+
+}
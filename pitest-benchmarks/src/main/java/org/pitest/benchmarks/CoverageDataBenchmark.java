@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.ClassLine;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestInfo;
+
+/**
+ * Building the coverage database from the results sent by the coverage minion,
+ * and the queries made of it while assigning tests to mutants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoverageDataBenchmark {
+
+  @Param({ "200" })
+  public int                   classes;
+
+  @Param({ "1000", "5000" })
+  public int                   tests;
+
+  private SyntheticCoverage    synthetic;
+  private List<CoverageResult> results;
+  private CoverageData         populated;
+  private int                  next;
+
+  @Setup
+  public void setUp() {
+    this.synthetic = new SyntheticCoverage(this.classes, this.tests, 60);
+    this.results = this.synthetic.results();
+    this.populated = this.synthetic.build();
+    // force the lazily calculated views so queries measure lookups only
+    this.populated.getCoverageIdForClass(this.synthetic.classes().get(0));
+    this.populated.getTestsForClass(this.synthetic.classes().get(0));
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public CoverageData build() {
+    return this.synthetic.build();
+  }
+
+  @Benchmark
+  public Collection<TestInfo> testsForClassLine() {
+    final ClassName clazz = nextClass();
+    return this.populated.getTestsForClassLine(new ClassLine(clazz,
+        SyntheticCoverage.lineFor(this.next % SyntheticCoverage.BLOCKS_PER_CLASS)));
+  }
+
+  @Benchmark
+  public Collection<TestInfo> testsForClass() {
+    return this.populated.getTestsForClass(nextClass());
+  }
+
+  @Benchmark
+  public long coverageIdForClass() {
+    return this.populated.getCoverageIdForClass(nextClass());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public long coverageIdsAfterNewResult() {
+    // each new result invalidates the derived views
+    this.populated.calculateClassCoverage(this.results.get(this.next++
+        % this.results.size()));
+    return this.populated.getCoverageIdForClass(nextClass());
+  }
+
+  private ClassName nextClass() {
+    this.next++;
+    return this.synthetic.classes().get(this.next % this.classes);
+  }
+
+}
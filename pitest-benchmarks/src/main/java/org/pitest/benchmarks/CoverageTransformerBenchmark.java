@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.lang.instrument.IllegalClassFormatException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.CoverageTransformer;
+import org.pitest.functional.predicate.True;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+/**
+ * Instrumentation of classes for coverage, as performed once per class loaded
+ * by the coverage minion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoverageTransformerBenchmark {
+
+  @Param({ "org.pitest.coverage.CoverageData",
+      "org.pitest.mutationtest.engine.gregor.GregorMutater" })
+  public String               className;
+
+  private CoverageTransformer testee;
+  private String              internalName;
+  private byte[]              bytes;
+
+  @Setup
+  public void setUp() {
+    CodeCoverageStore.init(new InvokeReceiver() {
+      @Override
+      public void registerClass(final int id, final String className) {
+
+      }
+
+      @Override
+      public void registerProbes(final int classId, final String methodName,
+          final String methodDesc, final int firstProbe, final int lastProbe) {
+
+      }
+    });
+    final ClassByteArraySource source = new ClassloaderByteArraySource(
+        getClass().getClassLoader());
+    this.internalName = this.className.replace('.', '/');
+    this.bytes = source.getBytes(this.className).value();
+    this.testee = new CoverageTransformer(True.<String> all());
+  }
+
+  @Benchmark
+  public byte[] transform() throws IllegalClassFormatException {
+    return this.testee.transform(getClass().getClassLoader(),
+        this.internalName, null, null, this.bytes);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.mutationtest.engine.gregor.inlinedcode.InlinedFinallyBlockDetector;
+
+/**
+ * Mutant generation. Mutations are found once per class by the main process,
+ * and each mutant is created again by the minion that tests it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GregorMutaterBenchmark {
+
+  @Param({ "org.pitest.coverage.CoverageData",
+      "org.pitest.mutationtest.engine.gregor.GregorMutater" })
+  public String                 className;
+
+  @Param({ "DEFAULTS", "ALL" })
+  public String                 mutators;
+
+  private GregorMutater         testee;
+  private ClassName             clazz;
+  private List<MutationDetails> mutations;
+  private int                   next;
+
+  @Setup
+  public void setUp() {
+    this.testee = new GregorMutater(new ClassloaderByteArraySource(getClass()
+        .getClassLoader()), True.<MethodInfo> all(),
+        "ALL".equals(this.mutators) ? Mutator.all() : Mutator.defaults(),
+        Collections.<String> emptyList(), new InlinedFinallyBlockDetector());
+    this.clazz = ClassName.fromString(this.className);
+    this.mutations = this.testee.findMutations(this.clazz);
+    if (this.mutations.isEmpty()) {
+      throw new IllegalStateException("No mutations found in " + this.clazz);
+    }
+  }
+
+  @Benchmark
+  public List<MutationDetails> findMutations() {
+    return this.testee.findMutations(this.clazz);
+  }
+
+  @Benchmark
+  public Mutant getMutation() {
+    this.next = (this.next + 1) % this.mutations.size();
+    return this.testee.getMutation(this.mutations.get(this.next).getId());
+  }
+
+}
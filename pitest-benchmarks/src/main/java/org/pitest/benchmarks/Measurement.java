@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+/**
+ * The primary score of one benchmark, with any parameters included in its
+ * name.
+ */
+public final class Measurement {
+
+  private final String name;
+  private final String mode;
+  private final double score;
+  private final double error;
+  private final String unit;
+
+  public Measurement(final String name, final String mode, final double score,
+      final double error, final String unit) {
+    this.name = name;
+    this.mode = mode;
+    this.score = score;
+    this.error = error;
+    this.unit = unit;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public String getMode() {
+    return this.mode;
+  }
+
+  public double getScore() {
+    return this.score;
+  }
+
+  public double getError() {
+    return this.error;
+  }
+
+  public String getUnit() {
+    return this.unit;
+  }
+
+  /**
+   * Throughput scores improve as they rise, the time based modes as they fall.
+   */
+  public boolean isHigherBetter() {
+    return "thrpt".equals(this.mode);
+  }
+
+  @Override
+  public String toString() {
+    return "Measurement [name=" + this.name + ", mode=" + this.mode
+        + ", score=" + this.score + ", error=" + this.error + ", unit="
+        + this.unit + "]";
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.pitest.util.Unchecked;
+
+/**
+ * Reads and writes measurements as tab separated lines of name, mode, score,
+ * error and unit, so that a baseline can be kept under version control and
+ * compared by eye.
+ */
+public final class Measurements {
+
+  private static final String SEPARATOR = "\t";
+  private static final String COMMENT   = "#";
+
+  private Measurements() {
+  }
+
+  public static void write(final Collection<Measurement> measurements,
+      final Writer out) {
+    final PrintWriter pw = new PrintWriter(out);
+    pw.println(COMMENT + " name" + SEPARATOR + "mode" + SEPARATOR + "score"
+        + SEPARATOR + "error" + SEPARATOR + "unit");
+    for (final Measurement each : measurements) {
+      pw.println(each.getName() + SEPARATOR + each.getMode() + SEPARATOR
+          + each.getScore() + SEPARATOR + each.getError() + SEPARATOR
+          + each.getUnit());
+    }
+    pw.flush();
+  }
+
+  public static Map<String, Measurement> read(final Reader in) {
+    final Map<String, Measurement> measurements = new LinkedHashMap<String, Measurement>();
+    final BufferedReader reader = new BufferedReader(in);
+    try {
+      String line = reader.readLine();
+      while (line != null) {
+        if ((line.trim().length() != 0) && !line.startsWith(COMMENT)) {
+          final Measurement m = parse(line);
+          measurements.put(m.getName(), m);
+        }
+        line = reader.readLine();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return measurements;
+  }
+
+  private static Measurement parse(final String line) {
+    final String[] parts = line.split(SEPARATOR);
+    if (parts.length != 5) {
+      throw new IllegalArgumentException("Malformed measurement: " + line);
+    }
+    try {
+      return new Measurement(parts[0], parts[1], Double.parseDouble(parts[2]),
+          Double.parseDouble(parts[3]), parts[4]);
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Malformed measurement: " + line, e);
+    }
+  }
+
+}
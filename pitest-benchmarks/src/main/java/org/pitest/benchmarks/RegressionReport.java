@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares a run of the benchmarks with a stored baseline.
+ *
+ * A benchmark has regressed or improved only when its score has moved by more
+ * than the threshold percentage and by more than the combined error of the
+ * two measurements, so that noise in either run is not reported as a change.
+ */
+public class RegressionReport {
+
+  public enum Verdict {
+    REGRESSED, IMPROVED, UNCHANGED, NEW, MISSING
+  }
+
+  public static final class Row {
+    private final String      name;
+    private final Measurement baseline;
+    private final Measurement current;
+    private final Verdict     verdict;
+
+    Row(final String name, final Measurement baseline,
+        final Measurement current, final Verdict verdict) {
+      this.name = name;
+      this.baseline = baseline;
+      this.current = current;
+      this.verdict = verdict;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public Verdict getVerdict() {
+      return this.verdict;
+    }
+
+    /**
+     * @return percentage change in score from the baseline, positive when the
+     *         benchmark has improved, or NaN if either score is unavailable
+     */
+    public double getImprovement() {
+      if ((this.baseline == null) || (this.current == null)
+          || (this.baseline.getScore() == 0)) {
+        return Double.NaN;
+      }
+      final double change = ((this.current.getScore() - this.baseline
+          .getScore()) / this.baseline.getScore()) * 100;
+      return this.current.isHigherBetter() ? change : -change;
+    }
+  }
+
+  private final double thresholdPercent;
+
+  public RegressionReport(final double thresholdPercent) {
+    this.thresholdPercent = thresholdPercent;
+  }
+
+  public List<Row> compare(final Map<String, Measurement> baseline,
+      final Collection<Measurement> current) {
+    final List<Row> rows = new ArrayList<Row>();
+    final Set<String> seen = new HashSet<String>();
+    for (final Measurement each : current) {
+      seen.add(each.getName());
+      final Measurement before = baseline.get(each.getName());
+      rows.add(new Row(each.getName(), before, each, verdict(before, each)));
+    }
+    for (final Measurement each : baseline.values()) {
+      if (!seen.contains(each.getName())) {
+        rows.add(new Row(each.getName(), each, null, Verdict.MISSING));
+      }
+    }
+    return rows;
+  }
+
+  private Verdict verdict(final Measurement before, final Measurement after) {
+    if ((before == null) || !before.getUnit().equals(after.getUnit())
+        || !before.getMode().equals(after.getMode())) {
+      return Verdict.NEW;
+    }
+    final double difference = after.getScore() - before.getScore();
+    final double noise = safe(before.getError()) + safe(after.getError());
+    final double threshold = Math.abs(before.getScore())
+        * (this.thresholdPercent / 100);
+    if ((Math.abs(difference) <= threshold) || (Math.abs(difference) <= noise)) {
+      return Verdict.UNCHANGED;
+    }
+    final boolean better = after.isHigherBetter() ? difference > 0
+        : difference < 0;
+    return better ? Verdict.IMPROVED : Verdict.REGRESSED;
+  }
+
+  // jmh reports an error of NaN when too few samples were taken
+  private static double safe(final double error) {
+    return Double.isNaN(error) ? 0 : error;
+  }
+
+  public static boolean hasRegressions(final List<Row> rows) {
+    for (final Row each : rows) {
+      if (each.getVerdict() == Verdict.REGRESSED) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public void print(final List<Row> rows, final PrintStream out) {
+    out.println(String.format(Locale.ROOT, "%-10s %9s %14s %14s  %s",
+        "verdict", "change", "baseline", "current", "benchmark"));
+    for (final Row each : rows) {
+      out.println(String.format(Locale.ROOT, "%-10s %9s %14s %14s  %s",
+          each.getVerdict(), formatChange(each.getImprovement()),
+          format(each.baseline), format(each.current), each.getName()));
+    }
+  }
+
+  private static String formatChange(final double improvement) {
+    if (Double.isNaN(improvement)) {
+      return "";
+    }
+    return String.format(Locale.ROOT, "%+.1f%%", improvement);
+  }
+
+  private static String format(final Measurement m) {
+    if (m == null) {
+      return "-";
+    }
+    return String.format(Locale.ROOT, "%.3f %s", m.getScore(), m.getUnit());
+  }
+
+}
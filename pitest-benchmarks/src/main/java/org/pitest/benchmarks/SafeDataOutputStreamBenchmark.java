@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Encoding of the messages minions send back to the main process, in the
+ * shapes used by the coverage and mutation protocols.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SafeDataOutputStreamBenchmark {
+
+  private static final String    TEST_NAME = "com.example.SomeFairlyTypicalTest.shouldDoSomethingUseful(com.example.SomeFairlyTypicalTest)";
+
+  private final long[]           hits      = new long[64];
+
+  private ByteArrayOutputStream  buffer;
+  private SafeDataOutputStream   testee;
+  private MutationIdentifier     id;
+  private MutationStatusTestPair status;
+
+  @Setup
+  public void setUp() {
+    this.buffer = new ByteArrayOutputStream(64 * 1024);
+    this.testee = new SafeDataOutputStream(this.buffer);
+    for (int i = 0; i != this.hits.length; i++) {
+      this.hits[i] = ((long) i << 32) | (i * 7);
+    }
+    this.id = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), MethodName.fromString("bar"),
+        "(I)V"), 3, "org.pitest.mutationtest.engine.gregor.mutators.MathMutator");
+    this.status = new MutationStatusTestPair(3, DetectionStatus.KILLED,
+        TEST_NAME);
+  }
+
+  @Benchmark
+  public int coverageResult() {
+    this.buffer.reset();
+    this.testee.writeByte((byte) 1);
+    this.testee.writeString(TEST_NAME);
+    this.testee.writeBoolean(true);
+    this.testee.writeInt(12);
+    this.testee.writeInt(this.hits.length);
+    for (final long each : this.hits) {
+      this.testee.writeLong(each);
+    }
+    this.testee.flush();
+    return this.buffer.size();
+  }
+
+  @Benchmark
+  public int mutationResult() {
+    this.buffer.reset();
+    this.testee.writeByte((byte) 2);
+    this.testee.write(this.id);
+    this.testee.write(this.status);
+    this.testee.flush();
+    return this.buffer.size();
+  }
+
+}
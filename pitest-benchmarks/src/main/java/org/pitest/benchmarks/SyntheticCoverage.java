@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassFilter;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathRoot;
+import org.pitest.classpath.CodeSource;
+import org.pitest.classpath.PathFilter;
+import org.pitest.classpath.ProjectClassPaths;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.LineMap;
+import org.pitest.functional.predicate.False;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.TestClassIdentifier;
+
+/**
+ * Generates repeatable coverage for a made up code base, so that benchmarks of
+ * the coverage structures do not depend on the classes available to them.
+ */
+class SyntheticCoverage {
+
+  static final int              BLOCKS_PER_CLASS  = 40;
+  static final int              BLOCKS_PER_METHOD = 4;
+
+  private final List<ClassName> classes           = new ArrayList<ClassName>();
+  private final int             tests;
+  private final int             blocksPerTest;
+
+  SyntheticCoverage(final int classes, final int tests, final int blocksPerTest) {
+    for (int i = 0; i != classes; i++) {
+      this.classes.add(ClassName.fromString("com.example.app.Class" + i));
+    }
+    this.tests = tests;
+    this.blocksPerTest = blocksPerTest;
+  }
+
+  List<ClassName> classes() {
+    return this.classes;
+  }
+
+  List<CoverageResult> results() {
+    final Random random = new Random(42);
+    final List<CoverageResult> results = new ArrayList<CoverageResult>();
+    for (int t = 0; t != this.tests; t++) {
+      final List<BlockLocation> blocks = new ArrayList<BlockLocation>();
+      final ClassName home = this.classes.get(t % this.classes.size());
+      for (int b = 0; b != this.blocksPerTest; b++) {
+        // most blocks in the class under test, some elsewhere
+        final ClassName clazz = random.nextInt(4) == 0 ? this.classes
+            .get(random.nextInt(this.classes.size())) : home;
+        blocks.add(block(clazz, random.nextInt(BLOCKS_PER_CLASS)));
+      }
+      results.add(new CoverageResult(new Description("test" + t,
+          "com.example.app.Class" + (t % this.classes.size()) + "Test"),
+          1 + random.nextInt(50), true, blocks));
+    }
+    return results;
+  }
+
+  CoverageData build() {
+    final CoverageData data = new CoverageData(emptyCodeSource(), lineMap());
+    for (final CoverageResult each : results()) {
+      data.calculateClassCoverage(each);
+    }
+    return data;
+  }
+
+  static BlockLocation block(final ClassName clazz, final int block) {
+    return new BlockLocation(Location.location(clazz,
+        MethodName.fromString("method" + (block / BLOCKS_PER_METHOD)), "()V"),
+        block);
+  }
+
+  static int lineFor(final int block) {
+    return 10 + block;
+  }
+
+  private static LineMap lineMap() {
+    return new LineMap() {
+      @Override
+      public Map<BlockLocation, Set<Integer>> mapLines(final ClassName clazz) {
+        final Map<BlockLocation, Set<Integer>> map = new HashMap<BlockLocation, Set<Integer>>();
+        for (int b = 0; b != BLOCKS_PER_CLASS; b++) {
+          map.put(block(clazz, b), Collections.singleton(lineFor(b)));
+        }
+        return map;
+      }
+    };
+  }
+
+  private static CodeSource emptyCodeSource() {
+    return new CodeSource(new ProjectClassPaths(new ClassPath(),
+        new ClassFilter(False.<String> instance(), False.<String> instance()),
+        new PathFilter(False.<ClassPathRoot> instance(),
+            False.<ClassPathRoot> instance())), new TestClassIdentifier() {
+      @Override
+      public boolean isATestClass(final ClassInfo a) {
+        return false;
+      }
+
+      @Override
+      public boolean isIncluded(final ClassInfo a) {
+        return false;
+      }
+    });
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.benchmarks;
+
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageData;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.incremental.XStreamHistoryStore;
+
+/**
+ * Loading the history file written by a previous incremental analysis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XStreamHistoryStoreBenchmark {
+
+  private static final int MUTANTS_PER_CLASS = 25;
+
+  @Param({ "200", "1000" })
+  public int               classes;
+
+  private String           history;
+
+  @Setup
+  public void setUp() {
+    final SyntheticCoverage synthetic = new SyntheticCoverage(this.classes,
+        this.classes * 5, 60);
+    final CoverageData coverage = synthetic.build();
+
+    final StringWriter output = new StringWriter();
+    final XStreamHistoryStore store = new XStreamHistoryStore(
+        writingTo(output), Option.<Reader> none());
+    final List<HierarchicalClassId> ids = new ArrayList<HierarchicalClassId>();
+    for (final ClassName each : synthetic.classes()) {
+      ids.add(new HierarchicalClassId(new ClassIdentifier(each.hashCode(),
+          each), Integer.toHexString(each.hashCode())));
+    }
+    store.recordClassPath(ids, coverage);
+    for (final ClassName each : synthetic.classes()) {
+      for (int m = 0; m != MUTANTS_PER_CLASS; m++) {
+        store.recordResult(result(each, m));
+      }
+    }
+    this.history = output.toString();
+  }
+
+  @Benchmark
+  public XStreamHistoryStore load() {
+    final XStreamHistoryStore store = new XStreamHistoryStore(
+        writingTo(new StringWriter()), Option.<Reader> some(new StringReader(
+            this.history)));
+    store.initialize();
+    return store;
+  }
+
+  private static MutationResult result(final ClassName clazz, final int index) {
+    final int block = index % SyntheticCoverage.BLOCKS_PER_CLASS;
+    final MutationIdentifier id = new MutationIdentifier(SyntheticCoverage
+        .block(clazz, block).getLocation(), index,
+        "org.pitest.mutationtest.engine.gregor.mutators.MathMutator");
+    final MutationDetails details = new MutationDetails(id, clazz
+        .getNameWithoutPackage().asJavaName() + ".java",
+        "Replaced integer addition with subtraction",
+        SyntheticCoverage.lineFor(block), block);
+    final DetectionStatus status = index % 3 == 0 ? DetectionStatus.SURVIVED
+        : DetectionStatus.KILLED;
+    return new MutationResult(details, new MutationStatusTestPair(2, status,
+        status == DetectionStatus.KILLED ? "test" + index : null));
+  }
+
+  private static WriterFactory writingTo(final Writer writer) {
+    return new WriterFactory() {
+      @Override
+      public PrintWriter create() {
+        return new PrintWriter(writer);
+      }
+
+      @Override
+      public void close() {
+
+      }
+    };
+  }
+
+}
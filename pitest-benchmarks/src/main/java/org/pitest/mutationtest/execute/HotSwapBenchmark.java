@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.mutationtest.engine.gregor.inlinedcode.NoInlinedCodeDetection;
+
+/**
+ * Redefinition of classes as each mutant is inserted into a minion. Needs the
+ * pitest agent, so should be launched through the benchmark runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotSwapBenchmark {
+
+  private HotSwap     testee;
+  private ClassLoader loader;
+  private ClassName   first;
+  private ClassName   second;
+  private byte[][]    firstMutants;
+  private byte[][]    secondMutants;
+  private int         next;
+
+  public static class FirstTarget {
+    public int add(final int a, final int b) {
+      if (a > b) {
+        return a + b;
+      }
+      return a - b;
+    }
+  }
+
+  public static class SecondTarget {
+    public int multiply(final int a, final int b) {
+      if (a < b) {
+        return a * b;
+      }
+      return a / b;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    this.loader = getClass().getClassLoader();
+    final ClassByteArraySource source = new ClassloaderByteArraySource(
+        this.loader);
+    this.testee = new HotSwap(source);
+    this.first = ClassName.fromClass(FirstTarget.class);
+    this.second = ClassName.fromClass(SecondTarget.class);
+
+    // make sure both targets are loaded before swapping
+    new FirstTarget().add(1, 2);
+    new SecondTarget().multiply(1, 2);
+
+    final GregorMutater mutater = new GregorMutater(source,
+        True.<MethodInfo> all(), Mutator.defaults(),
+        Collections.<String> emptyList(), new NoInlinedCodeDetection());
+    this.firstMutants = mutants(mutater, this.first);
+    this.secondMutants = mutants(mutater, this.second);
+
+    try {
+      this.testee.apply(this.first, this.loader, this.firstMutants[0]);
+    } catch (final NullPointerException e) {
+      throw new IllegalStateException(
+          "pitest agent is not installed. Launch through BenchmarkRunner", e);
+    }
+  }
+
+  @Benchmark
+  public Boolean swapMutantsOfSameClass() {
+    this.next++;
+    return this.testee.apply(this.first, this.loader,
+        this.firstMutants[this.next % this.firstMutants.length]);
+  }
+
+  @Benchmark
+  public Boolean swapMutantsOfDifferentClasses() {
+    // moving to a new class also restores the previous one
+    this.next++;
+    if ((this.next & 1) == 0) {
+      return this.testee.apply(this.first, this.loader,
+          this.firstMutants[(this.next / 2) % this.firstMutants.length]);
+    }
+    return this.testee.apply(this.second, this.loader,
+        this.secondMutants[(this.next / 2) % this.secondMutants.length]);
+  }
+
+  private static byte[][] mutants(final GregorMutater mutater,
+      final ClassName clazz) {
+    final List<MutationDetails> mutations = mutater.findMutations(clazz);
+    final byte[][] mutants = new byte[mutations.size()][];
+    for (int i = 0; i != mutants.length; i++) {
+      mutants[i] = mutater.getMutation(mutations.get(i).getId()).getBytes();
+    }
+    return mutants;
+  }
+
+}
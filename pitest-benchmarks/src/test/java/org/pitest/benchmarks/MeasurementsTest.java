@@ -0,0 +1,45 @@
+package org.pitest.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class MeasurementsTest {
+
+  @Test
+  public void shouldReadBackWrittenMeasurements() {
+    final StringWriter out = new StringWriter();
+    Measurements.write(Arrays.asList(new Measurement("a.b:x=1", "avgt", 1.5,
+        0.25, "us/op"), new Measurement("c", "thrpt", 10, Double.NaN,
+        "ops/us")), out);
+
+    final Map<String, Measurement> actual = Measurements.read(new StringReader(
+        out.toString()));
+
+    assertEquals(2, actual.size());
+    final Measurement a = actual.get("a.b:x=1");
+    assertEquals("avgt", a.getMode());
+    assertEquals(1.5, a.getScore(), 0);
+    assertEquals(0.25, a.getError(), 0);
+    assertEquals("us/op", a.getUnit());
+    assertEquals(Double.NaN, actual.get("c").getError(), 0);
+  }
+
+  @Test
+  public void shouldIgnoreCommentsAndBlankLines() {
+    final Map<String, Measurement> actual = Measurements.read(new StringReader(
+        "# a comment\n\na\tavgt\t1.0\t0.1\tus/op\n"));
+    assertEquals(1, actual.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectMalformedLines() {
+    Measurements.read(new StringReader("a\tavgt\tnot a number\t0.1\tus/op\n"));
+  }
+
+}
@@ -0,0 +1,128 @@
+package org.pitest.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.benchmarks.RegressionReport.Row;
+import org.pitest.benchmarks.RegressionReport.Verdict;
+
+public class RegressionReportTest {
+
+  private final RegressionReport         testee   = new RegressionReport(10);
+
+  private final Map<String, Measurement> baseline = new LinkedHashMap<String, Measurement>();
+
+  @Test
+  public void shouldReportRegressionWhenAverageTimeRisesBeyondThreshold() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    assertEquals(Verdict.REGRESSED, verdictFor(avgt("a", 120, 1)));
+  }
+
+  @Test
+  public void shouldReportImprovementWhenAverageTimeFallsBeyondThreshold() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    assertEquals(Verdict.IMPROVED, verdictFor(avgt("a", 80, 1)));
+  }
+
+  @Test
+  public void shouldReportRegressionWhenThroughputFallsBeyondThreshold() {
+    this.baseline.put("a", thrpt("a", 100, 1));
+    assertEquals(Verdict.REGRESSED, verdictFor(thrpt("a", 80, 1)));
+  }
+
+  @Test
+  public void shouldTreatChangesWithinThresholdAsUnchanged() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    assertEquals(Verdict.UNCHANGED, verdictFor(avgt("a", 105, 1)));
+  }
+
+  @Test
+  public void shouldTreatChangesWithinMeasurementErrorAsUnchanged() {
+    this.baseline.put("a", avgt("a", 100, 15));
+    assertEquals(Verdict.UNCHANGED, verdictFor(avgt("a", 125, 15)));
+  }
+
+  @Test
+  public void shouldIgnoreUnknownErrors() {
+    this.baseline.put("a", avgt("a", 100, Double.NaN));
+    assertEquals(Verdict.REGRESSED, verdictFor(avgt("a", 120, Double.NaN)));
+  }
+
+  @Test
+  public void shouldReportBenchmarksWithoutBaselineAsNew() {
+    assertEquals(Verdict.NEW, verdictFor(avgt("a", 100, 1)));
+  }
+
+  @Test
+  public void shouldReportBenchmarksWhoseUnitsChangedAsNew() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    assertEquals(Verdict.NEW, verdictFor(new Measurement("a", "avgt", 100, 1,
+        "ms/op")));
+  }
+
+  @Test
+  public void shouldReportBaselinesNoLongerRunAsMissing() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    final List<Row> rows = this.testee.compare(this.baseline,
+        Collections.<Measurement> emptyList());
+    assertEquals(Verdict.MISSING, rows.get(0).getVerdict());
+  }
+
+  @Test
+  public void shouldExpressChangeAsImprovementPercentage() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    this.baseline.put("b", thrpt("b", 100, 1));
+    final List<Row> rows = this.testee.compare(this.baseline,
+        Arrays.asList(avgt("a", 120, 1), thrpt("b", 120, 1)));
+    assertEquals(-20, rows.get(0).getImprovement(), 0.001);
+    assertEquals(20, rows.get(1).getImprovement(), 0.001);
+  }
+
+  @Test
+  public void shouldDetectRegressionsAmongRows() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    assertTrue(RegressionReport.hasRegressions(this.testee.compare(
+        this.baseline, Collections.singletonList(avgt("a", 200, 1)))));
+    assertFalse(RegressionReport.hasRegressions(this.testee.compare(
+        this.baseline, Collections.singletonList(avgt("a", 50, 1)))));
+  }
+
+  @Test
+  public void shouldPrintOneLinePerBenchmarkAfterHeader() {
+    this.baseline.put("a", avgt("a", 100, 1));
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    this.testee.print(this.testee.compare(this.baseline,
+        Collections.singletonList(avgt("a", 120, 1))), new PrintStream(bytes));
+    final String[] lines = bytes.toString().split("\\r?\\n");
+    assertEquals(2, lines.length);
+    assertThat(lines[1]).contains("REGRESSED").contains("-20.0%").endsWith("a");
+  }
+
+  private Verdict verdictFor(final Measurement current) {
+    return this.testee
+        .compare(this.baseline, Collections.singletonList(current)).get(0)
+        .getVerdict();
+  }
+
+  private static Measurement avgt(final String name, final double score,
+      final double error) {
+    return new Measurement(name, "avgt", score, error, "us/op");
+  }
+
+  private static Measurement thrpt(final String name, final double score,
+      final double error) {
+    return new Measurement(name, "thrpt", score, error, "ops/us");
+  }
+
+}
@@ -19,10 +19,12 @@ import java.util.HashMap;
 import org.pitest.coverage.CoverageSummary;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.mutationtest.tooling.ReportAggregator;
 import org.pitest.util.Unchecked;
 
 /**
@@ -72,6 +74,11 @@ public class MutationCoverageReport {
   private static CombinedStatistics runReport(ReportOptions data,
       PluginServices plugins) {
 
+    if (!data.getMutationResultFiles().isEmpty()) {
+      return new ReportAggregator(data, new SettingsFactory(data, plugins))
+          .aggregate();
+    }
+
     EntryPoint e = new EntryPoint();
     AnalysisResult result = e.execute(null, data, plugins,
         new HashMap<String, String>());
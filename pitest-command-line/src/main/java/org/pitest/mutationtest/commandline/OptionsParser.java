@@ -14,31 +14,50 @@
  */
 package org.pitest.mutationtest.commandline;
 
+import static org.pitest.mutationtest.config.ConfigOption.ANALYSIS_BUDGET;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.CHANGE_IMPACT_ANALYSIS;
+import static org.pitest.mutationtest.config.ConfigOption.ADAPTIVE_TIMEOUTS;
+import static org.pitest.mutationtest.config.ConfigOption.AUTO_SIZE_MINIONS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
+import static org.pitest.mutationtest.config.ConfigOption.CHECKPOINT_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
+import static org.pitest.mutationtest.config.ConfigOption.DISCOVERY_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_METRICS;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_MINION_PROFILE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.HTML_RENDER_THREADS;
+import static org.pitest.mutationtest.config.ConfigOption.LINE_COVERAGE_FILES;
+import static org.pitest.mutationtest.config.ConfigOption.MUTATION_RESULT_FILES;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
+import static org.pitest.mutationtest.config.ConfigOption.METRICS_PORT;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATE_STATIC_INITIALIZERS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
+import static org.pitest.mutationtest.config.ConfigOption.OFF_HEAP_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.RESULT_CACHE;
+import static org.pitest.mutationtest.config.ConfigOption.RESUME;
+import static org.pitest.mutationtest.config.ConfigOption.REUSE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLE_RATE;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLE_SEED;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
@@ -48,6 +67,8 @@ import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
+import static org.pitest.mutationtest.config.ConfigOption.WORKERS;
+import static org.pitest.mutationtest.config.ConfigOption.WORKER_TOKEN;
 
 import java.io.File;
 import java.io.IOException;
@@ -84,9 +105,17 @@ public class OptionsParser {
   private final OptionSpec<String>                   avoidCallsSpec;
   private final OptionSpec<Integer>                  depth;
   private final OptionSpec<Integer>                  threadsSpec;
+  private final OptionSpec<Integer>                  coverageThreadsSpec;
+  private final OptionSpec<Integer>                  discoveryThreadsSpec;
+  private final OptionSpec<Integer>                  htmlRenderThreadsSpec;
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
   private final OptionSpec<File>                     historyInputSpec;
+  private final OptionSpec<File>                     mutationResultFilesSpec;
+  private final OptionSpec<File>                     lineCoverageFilesSpec;
+  private final OptionSpec<String>                   workersSpec;
+  private final OptionSpec<String>                   workerTokenSpec;
+  private final OptionSpec<String>                   resultCacheSpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   jvmArgs;
   private final ArgumentAcceptingOptionSpec<Boolean> mutateStatics;
@@ -103,12 +132,25 @@ public class OptionsParser {
   private final OptionSpec<String>                   excludedGroupsSpec;
   private final OptionSpec<String>                   includedGroupsSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
+  private final OptionSpec<Integer>                  metricsPortSpec;
+  private final OptionSpec<Float>                    sampleRateSpec;
+  private final OptionSpec<Long>                     sampleSeedSpec;
+  private final OptionSpec<Integer>                  analysisBudgetSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> coverageThreshHoldSpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportMinionProfileSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> changeImpactAnalysisSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> adaptiveTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportMetricsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> offHeapMutationsSpec;
+  private final OptionSpec<File>                     checkpointFileSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> resumeSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> autoSizeMinionsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reuseCoverageSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
 
@@ -157,6 +199,21 @@ public class OptionsParser {
         .ofType(Integer.class).defaultsTo(THREADS.getDefault(Integer.class))
         .describedAs("number of threads to use for testing");
 
+    this.coverageThreadsSpec = parserAccepts(COVERAGE_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(COVERAGE_THREADS.getDefault(Integer.class))
+        .describedAs("number of threads to run test classes on when gathering coverage");
+
+    this.discoveryThreadsSpec = parserAccepts(DISCOVERY_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(DISCOVERY_THREADS.getDefault(Integer.class))
+        .describedAs("number of threads to discover tests in test classes on");
+
+    this.htmlRenderThreadsSpec = parserAccepts(HTML_RENDER_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(HTML_RENDER_THREADS.getDefault(Integer.class))
+        .describedAs("number of threads to render html source pages on once their results are known, or 0 to render as results arrive");
+
     this.maxMutationsPerClassSpec = parserAccepts(MAX_MUTATIONS_PER_CLASS)
         .withRequiredArg().ofType(Integer.class)
         .defaultsTo(MAX_MUTATIONS_PER_CLASS.getDefault(Integer.class))
@@ -227,6 +284,92 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.exportMinionProfileSpec = parserAccepts(EXPORT_MINION_PROFILE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to write timings reported by mutation minions to disk");
+
+    this.changeImpactAnalysisSpec = parserAccepts(CHANGE_IMPACT_ANALYSIS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to only mutate classes impacted by changes since the history was recorded");
+
+    this.adaptiveTimeoutsSpec = parserAccepts(ADAPTIVE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to learn timeouts from the cpu time used by passing tests");
+
+    this.exportMetricsSpec = parserAccepts(EXPORT_METRICS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to write live run metrics to metrics.jsonl");
+
+    this.metricsPortSpec = parserAccepts(METRICS_PORT)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs(
+            "local port on which to serve the latest run metrics over http, or 0 for none")
+        .defaultsTo(METRICS_PORT.getDefault(Integer.class));
+
+    this.sampleRateSpec = parserAccepts(SAMPLE_RATE)
+        .withRequiredArg()
+        .ofType(Float.class)
+        .describedAs(
+            "fraction of mutations to analyse, sampled by package, method and mutator")
+        .defaultsTo(SAMPLE_RATE.getDefault(Float.class));
+
+    this.sampleSeedSpec = parserAccepts(SAMPLE_SEED).withRequiredArg()
+        .ofType(Long.class)
+        .describedAs("seed for the random choices made when sampling")
+        .defaultsTo(SAMPLE_SEED.getDefault(Long.class));
+
+    this.analysisBudgetSpec = parserAccepts(ANALYSIS_BUDGET)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs(
+            "minutes to spend analysing mutations before no more are started, or 0 for no limit")
+        .defaultsTo(ANALYSIS_BUDGET.getDefault(Integer.class));
+
+    this.offHeapMutationsSpec = parserAccepts(OFF_HEAP_MUTATIONS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to hold mutations waiting for analysis in a memory mapped file");
+
+    this.checkpointFileSpec = parserAccepts(CHECKPOINT_FILE)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File to journal results to as mutations are analysed");
+
+    this.resumeSpec = parserAccepts(RESUME)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to continue an interrupted run from its checkpoint journal");
+
+    this.autoSizeMinionsSpec = parserAccepts(AUTO_SIZE_MINIONS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to size minion heaps and concurrency from measured memory use");
+
+    this.reuseCoverageSpec = parserAccepts(REUSE_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to restore the coverage of unchanged tests from history");
+
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
         .describedAs("whether or not to analyse launch classpath");
@@ -277,6 +420,30 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.mutationResultFilesSpec = parserAccepts(MUTATION_RESULT_FILES)
+        .withRequiredArg().ofType(File.class).withValuesSeparatedBy(',')
+        .describedAs(
+            "comma separated list of xml mutation results to merge into a single report without running any tests");
+
+    this.lineCoverageFilesSpec = parserAccepts(LINE_COVERAGE_FILES)
+        .withRequiredArg().ofType(File.class).withValuesSeparatedBy(',')
+        .describedAs(
+            "comma separated list of exported line coverage files to include in a merged report");
+
+    this.workersSpec = parserAccepts(WORKERS).withRequiredArg()
+        .ofType(String.class).withValuesSeparatedBy(',')
+        .describedAs(
+            "comma separated list of host:port addresses of worker agents to run minions on");
+
+    this.workerTokenSpec = parserAccepts(WORKER_TOKEN).withRequiredArg()
+        .ofType(String.class)
+        .describedAs(
+            "token shared with the worker agents, defaults to the PIT_WORKER_TOKEN environment variable");
+
+    this.resultCacheSpec = parserAccepts(RESULT_CACHE).withRequiredArg()
+        .ofType(String.class)
+        .describedAs("directory or http url of a shared mutation result cache");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -353,6 +520,9 @@ public class OptionsParser {
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
     data.setNumberOfThreads(this.threadsSpec.value(userArgs));
+    data.setCoverageThreads(this.coverageThreadsSpec.value(userArgs));
+    data.setDiscoveryThreads(this.discoveryThreadsSpec.value(userArgs));
+    data.setHtmlRenderThreads(this.htmlRenderThreadsSpec.value(userArgs));
     data.setTimeoutFactor(this.timeoutFactorSpec.value(userArgs));
     data.setTimeoutConstant(this.timeoutConstSpec.value(userArgs));
     data.setLoggingClasses(this.avoidCallsSpec.values(userArgs));
@@ -368,9 +538,18 @@ public class OptionsParser {
     data.setFailWhenNoMutations(this.failWhenNoMutations.value(userArgs));
     data.setCodePaths(this.codePaths.values(userArgs));
     data.setMutationUnitSize(this.mutationUnitSizeSpec.value(userArgs));
+    data.setMetricsPort(this.metricsPortSpec.value(userArgs));
+    data.setSampleRate(this.sampleRateSpec.value(userArgs));
+    data.setSampleSeed(this.sampleSeedSpec.value(userArgs));
+    data.setAnalysisBudget(this.analysisBudgetSpec.value(userArgs));
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setMutationResultFiles(this.mutationResultFilesSpec.values(userArgs));
+    data.setLineCoverageFiles(this.lineCoverageFilesSpec.values(userArgs));
+    data.setWorkers(this.workersSpec.values(userArgs));
+    data.setWorkerToken(this.workerTokenSpec.value(userArgs));
+    data.setResultCache(this.resultCacheSpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
@@ -379,6 +558,23 @@ public class OptionsParser {
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
         && userArgs.valueOf(this.exportLineCoverageSpec));
+    data.setExportMinionProfile(userArgs.has(this.exportMinionProfileSpec)
+        && userArgs.valueOf(this.exportMinionProfileSpec));
+    data.setChangeImpactAnalysis(userArgs.has(this.changeImpactAnalysisSpec)
+        && userArgs.valueOf(this.changeImpactAnalysisSpec));
+    data.setAdaptiveTimeouts(userArgs.has(this.adaptiveTimeoutsSpec)
+        && userArgs.valueOf(this.adaptiveTimeoutsSpec));
+    data.setExportMetrics(userArgs.has(this.exportMetricsSpec)
+        && userArgs.valueOf(this.exportMetricsSpec));
+    data.setOffHeapMutations(userArgs.has(this.offHeapMutationsSpec)
+        && userArgs.valueOf(this.offHeapMutationsSpec));
+    data.setCheckpointFile(this.checkpointFileSpec.value(userArgs));
+    data.setResume(userArgs.has(this.resumeSpec)
+        && userArgs.valueOf(this.resumeSpec));
+    data.setAutoSizeMinions(userArgs.has(this.autoSizeMinionsSpec)
+        && userArgs.valueOf(this.autoSizeMinionsSpec));
+    data.setReuseCoverage(userArgs.has(this.reuseCoverageSpec)
+        && userArgs.valueOf(this.reuseCoverageSpec));
 
     setClassPath(userArgs, data);
 
@@ -169,6 +169,45 @@ public class OptionsParserTest {
     assertFalse(actual.shouldCreateTimeStampedReports());
   }
 
+  @Test
+  public void shouldParseNumberOfCoverageThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageThreads",
+        "4");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldGatherCoverageOnOneThreadByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldParseNumberOfDiscoveryThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--discoveryThreads",
+        "4");
+    assertEquals(4, actual.getDiscoveryThreads());
+  }
+
+  @Test
+  public void shouldDiscoverTestsOnOneThreadByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getDiscoveryThreads());
+  }
+
+  @Test
+  public void shouldParseNumberOfHtmlRenderThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--htmlRenderThreads",
+        "2");
+    assertEquals(2, actual.getHtmlRenderThreads());
+  }
+
+  @Test
+  public void shouldRenderHtmlAsResultsArriveByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getHtmlRenderThreads());
+  }
+
   @Test
   public void shouldParseNumberOfThreads() {
     final ReportOptions actual = parseAddingRequiredArgs("--threads", "42");
@@ -340,6 +379,45 @@ public class OptionsParserTest {
     assertEquals(50, actual.getMutationUnitSize());
   }
 
+  @Test
+  public void shouldParseMetricsPort() {
+    final ReportOptions actual = parseAddingRequiredArgs("--metricsPort",
+        "8123");
+    assertEquals(8123, actual.getMetricsPort());
+  }
+
+  @Test
+  public void shouldNotServeMetricsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getMetricsPort());
+  }
+
+  @Test
+  public void shouldParseSampleRate() {
+    final ReportOptions actual = parseAddingRequiredArgs("--sampleRate", "0.1");
+    assertEquals(0.1f, actual.getSampleRate(), 0.0001);
+  }
+
+  @Test
+  public void shouldAnalyseAllMutationsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1f, actual.getSampleRate(), 0.0001);
+    assertEquals(0, actual.getAnalysisBudget());
+  }
+
+  @Test
+  public void shouldParseSampleSeed() {
+    final ReportOptions actual = parseAddingRequiredArgs("--sampleSeed", "42");
+    assertEquals(42L, actual.getSampleSeed());
+  }
+
+  @Test
+  public void shouldParseAnalysisBudget() {
+    final ReportOptions actual = parseAddingRequiredArgs("--analysisBudget",
+        "30");
+    assertEquals(30, actual.getAnalysisBudget());
+  }
+
   @Test
   public void shouldDefaultMutationUnitSizeToCorrectValue() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -369,6 +447,44 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldParseCommaSeparatedListOfMutationResultFiles() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--mutationResultFiles", "a/mutations.xml,b/mutations.xml");
+    assertEquals(Arrays.asList(new File("a/mutations.xml"), new File(
+        "b/mutations.xml")), actual.getMutationResultFiles());
+  }
+
+  @Test
+  public void shouldParseCommaSeparatedListOfLineCoverageFiles() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--lineCoverageFiles", "a/linecoverage.xml,b/linecoverage.xml");
+    assertEquals(Arrays.asList(new File("a/linecoverage.xml"), new File(
+        "b/linecoverage.xml")), actual.getLineCoverageFiles());
+  }
+
+  @Test
+  public void shouldParseCommaSeparatedListOfWorkers() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workers",
+        "localhost:9001,other:9002");
+    assertEquals(Arrays.asList("localhost:9001", "other:9002"),
+        actual.getWorkers());
+  }
+
+  @Test
+  public void shouldParseWorkerToken() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workerToken",
+        "secret");
+    assertEquals("secret", actual.getWorkerToken());
+  }
+
+  @Test
+  public void shouldParseResultCache() {
+    final ReportOptions actual = parseAddingRequiredArgs("--resultCache",
+        "/shared/pit-cache");
+    assertEquals("/shared/pit-cache", actual.getResultCache());
+  }
+
   @Test
   public void shouldParseMutationThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--mutationThreshold",
@@ -420,6 +536,117 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldParseExportMinionProfileFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportMinionProfile");
+    assertTrue(actual.shouldExportMinionProfile());
+  }
+
+  @Test
+  public void shouldNotExportMinionProfileWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportMinionProfile());
+  }
+
+  @Test
+  public void shouldParseChangeImpactAnalysisFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--changeImpactAnalysis");
+    assertTrue(actual.shouldUseChangeImpactAnalysis());
+  }
+
+  @Test
+  public void shouldNotUseChangeImpactAnalysisWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldUseChangeImpactAnalysis());
+  }
+
+  @Test
+  public void shouldParseAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--adaptiveTimeouts");
+    assertTrue(actual.shouldUseAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldNotUseAdaptiveTimeoutsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldUseAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldParseExportMetricsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportMetrics");
+    assertTrue(actual.shouldExportMetrics());
+  }
+
+  @Test
+  public void shouldNotExportMetricsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportMetrics());
+  }
+
+  @Test
+  public void shouldParseOffHeapMutationsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--offHeapMutations");
+    assertTrue(actual.shouldStoreMutationsOffHeap());
+  }
+
+  @Test
+  public void shouldHoldMutationsOnHeapByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldStoreMutationsOffHeap());
+  }
+
+  @Test
+  public void shouldParseCheckpointFile() {
+    final ReportOptions actual = parseAddingRequiredArgs("--checkpointFile",
+        "foo");
+    assertEquals(new File("foo"), actual.getCheckpointJournal().value());
+  }
+
+  @Test
+  public void shouldParseResumeFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--resume");
+    assertTrue(actual.shouldResume());
+  }
+
+  @Test
+  public void shouldParseAutoSizeMinionsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--autoSizeMinions");
+    assertTrue(actual.shouldAutoSizeMinions());
+  }
+
+  @Test
+  public void shouldNotAutoSizeMinionsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldAutoSizeMinions());
+  }
+
+  @Test
+  public void shouldParseReuseCoverageFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reuseCoverage");
+    assertTrue(actual.shouldReuseCoverage());
+  }
+
+  @Test
+  public void shouldNotReuseCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldReuseCoverage());
+  }
+
+  @Test
+  public void shouldJournalToReportDirWhenResumingWithoutCheckpointFile() {
+    final ReportOptions actual = parseAddingRequiredArgs("--resume");
+    assertEquals(new File(actual.getReportDir(), "pit-checkpoint.journal"),
+        actual.getCheckpointJournal().value());
+  }
+
+  @Test
+  public void shouldNotJournalByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldResume());
+    assertFalse(actual.getCheckpointJournal().hasSome());
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -16,8 +16,11 @@ package org.pitest.mutationtest.report.html;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.coverage.ClassLine;
@@ -32,18 +35,33 @@ import org.pitest.util.StringUtil;
 
 public class AnnotatedLineFactory {
 
-  private final FunctionalIterable<MutationResult> mutations;
+  private final Map<Integer, List<MutationResult>> mutationsByLine;
   private final CoverageDatabase                   statistics;
   private final Collection<ClassInfo>              classesInFile;
 
   public AnnotatedLineFactory(
       final FunctionalIterable<MutationResult> mutations,
       final CoverageDatabase statistics, final Collection<ClassInfo> classes) {
-    this.mutations = mutations;
+    this.mutationsByLine = bucketByLine(mutations);
     this.statistics = statistics;
     this.classesInFile = classes;
   }
 
+  private static Map<Integer, List<MutationResult>> bucketByLine(
+      final Iterable<MutationResult> mutations) {
+    final Map<Integer, List<MutationResult>> bucketed = new HashMap<Integer, List<MutationResult>>();
+    for (final MutationResult each : mutations) {
+      final int line = each.getDetails().getLineNumber();
+      List<MutationResult> forLine = bucketed.get(line);
+      if (forLine == null) {
+        forLine = new ArrayList<MutationResult>();
+        bucketed.put(line, forLine);
+      }
+      forLine.add(each);
+    }
+    return bucketed;
+  }
+
   public FunctionalList<Line> convert(final Reader source) throws IOException {
     try {
       final InputStreamLineIterable lines = new InputStreamLineIterable(source);
@@ -71,18 +89,11 @@ public class AnnotatedLineFactory {
   }
 
   private List<MutationResult> getMutationsForLine(final int lineNumber) {
-    return this.mutations.filter(isAtLineNumber(lineNumber));
-  }
-
-  private F<MutationResult, Boolean> isAtLineNumber(final int lineNumber) {
-    return new F<MutationResult, Boolean>() {
-
-      @Override
-      public Boolean apply(final MutationResult result) {
-        return result.getDetails().getLineNumber() == lineNumber;
-      }
-
-    };
+    final List<MutationResult> forLine = this.mutationsByLine.get(lineNumber);
+    if (forLine == null) {
+      return new ArrayList<MutationResult>();
+    }
+    return forLine;
   }
 
   private LineStatus lineCovered(final int line) {
@@ -28,7 +28,7 @@ public class HtmlReportFactory implements MutationResultListenerFactory {
       ListenerArguments args) {
     return new MutationHtmlReportListener(args.getCoverage(),
         args.getOutputStrategy(), args.getEngine().getMutatorNames(),
-        args.getLocator());
+        args.getRenderThreads(), args.getLocator());
   }
 
   @Override
@@ -22,46 +22,101 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.antlr.stringtemplate.StringTemplate;
 import org.antlr.stringtemplate.StringTemplateGroup;
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationPlanListener;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.FileUtil;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
 
-public class MutationHtmlReportListener implements MutationResultListener {
+/**
+ * Writes an annotated source page for each mutated file, plus package and
+ * project index pages at the end of the run.
+ *
+ * By default each page is rewritten whenever results for another class in the
+ * file arrive. If render threads are given, pages are instead rendered once on
+ * a pool of that size when the last planned mutation for the file has been
+ * reported, or at the end of the run for files with no plan. A file that
+ * receives results after it was rendered is rendered again at the end of the
+ * run, once its earlier render has finished.
+ */
+public class MutationHtmlReportListener implements MutationResultListener,
+    MutationPlanListener {
 
-  private final ResultOutputStrategy      outputStrategy;
+  private final ResultOutputStrategy                 outputStrategy;
 
-  private final Collection<SourceLocator> sourceRoots;
+  private final Collection<SourceLocator>            sourceRoots;
 
-  private final PackageSummaryMap         packageSummaryData = new PackageSummaryMap();
-  private final CoverageDatabase          coverage;
-  private final Set<String>               mutatorNames;
+  private final PackageSummaryMap                    packageSummaryData   = new PackageSummaryMap();
+  private final CoverageDatabase                     coverage;
+  private final Set<String>                          mutatorNames;
 
-  private final String                    css;
+  private final String                               css;
+  private final ThreadLocal<StringTemplateGroup>     group                = templateGroups();
+
+  private final Option<ExecutorService>              renderers;
+  private final Map<String, Integer>                 outstandingMutations = new HashMap<String, Integer>();
+  private final Map<String, MutationTestSummaryData> unrenderedFiles      = new LinkedHashMap<String, MutationTestSummaryData>();
+  private final Map<String, Future<?>>               renderedFiles        = new HashMap<String, Future<?>>();
 
   public MutationHtmlReportListener(final CoverageDatabase coverage,
       final ResultOutputStrategy outputStrategy,
       Collection<String> mutatorNames, final SourceLocator... locators) {
+    this(coverage, outputStrategy, mutatorNames, 0, locators);
+  }
+
+  public MutationHtmlReportListener(final CoverageDatabase coverage,
+      final ResultOutputStrategy outputStrategy,
+      final Collection<String> mutatorNames, final int renderThreads,
+      final SourceLocator... locators) {
     this.coverage = coverage;
     this.outputStrategy = outputStrategy;
     this.sourceRoots = new HashSet<SourceLocator>(Arrays.asList(locators));
     this.mutatorNames = new HashSet<String>(mutatorNames);
     this.css = loadCss();
+    if (renderThreads > 0) {
+      this.renderers = Option.some(Executors.newFixedThreadPool(
+          renderThreads, renderThreadFactory()));
+    } else {
+      this.renderers = Option.none();
+    }
+  }
+
+  // string template groups are not thread safe, so each render thread has its
+  // own
+  private static ThreadLocal<StringTemplateGroup> templateGroups() {
+    return new ThreadLocal<StringTemplateGroup>() {
+      @Override
+      protected StringTemplateGroup initialValue() {
+        return new StringTemplateGroup("mutation_test");
+      }
+    };
   }
 
   private String loadCss() {
@@ -83,8 +138,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
       final Writer writer = this.outputStrategy.createWriterForFile(fileName);
 
-      final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-      final StringTemplate st = group
+      final StringTemplate st = this.group.get()
           .getInstanceOf("templates/mutation/mutation_report");
       st.setAttribute("css", this.css);
 
@@ -185,8 +239,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   private void createIndexPages() {
 
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.group.get()
         .getInstanceOf("templates/mutation/mutation_package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile("index.html");
@@ -212,8 +265,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
   }
 
   private void createPackageIndexPage(final PackageSummaryData psData) {
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.group.get()
         .getInstanceOf("templates/mutation/package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile(psData
@@ -236,16 +288,118 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   @Override
   public void runEnd() {
+    if (this.renderers.hasSome()) {
+      renderRemainingFiles(this.renderers.value());
+    }
     createIndexPages();
   }
 
+  @Override
+  public void handleMutationPlan(final Iterable<MutationDetails> mutations) {
+    if (this.renderers.hasNone()) {
+      // files are only counted down when rendered as results arrive
+      return;
+    }
+    for (final MutationDetails each : mutations) {
+      final String file = fileKey(each.getClassName(), each.getFilename());
+      final Integer count = this.outstandingMutations.get(file);
+      this.outstandingMutations.put(file, count == null ? 1 : count + 1);
+    }
+  }
+
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
+    final String file = fileKey(metaData.getMutatedClass(),
+        metaData.getFileName());
+    if (this.renderers.hasSome()) {
+      // the summary of a file must not change while it is being rendered
+      awaitRender(file);
+    }
+
     final PackageSummaryData packageData = collectPackageSummaries(metaData);
+    final MutationTestSummaryData fileData = packageData
+        .getForSourceFile(metaData.getFileName());
+
+    if (this.renderers.hasSome()) {
+      deferRendering(file, fileData, metaData.getMutations().size());
+    } else {
+      generateAnnotatedSourceFile(fileData);
+    }
+
+  }
 
-    generateAnnotatedSourceFile(packageData.getForSourceFile(metaData
-        .getFileName()));
+  private void deferRendering(final String file,
+      final MutationTestSummaryData fileData, final int numberOfMutations) {
+    final Integer outstanding = this.outstandingMutations.get(file);
+    if ((outstanding == null) || (outstanding > numberOfMutations)) {
+      if (outstanding != null) {
+        this.outstandingMutations.put(file, outstanding - numberOfMutations);
+      } else if (this.renderedFiles.containsKey(file)) {
+        Log.getLogger().fine(
+            "More results for " + file
+                + " after it was rendered. Rendering it again at end of run");
+      }
+      this.unrenderedFiles.put(file, fileData);
+      return;
+    }
+
+    this.outstandingMutations.remove(file);
+    this.unrenderedFiles.remove(file);
+    this.renderedFiles.put(file,
+        this.renderers.value().submit(renderTask(fileData)));
+  }
+
+  private void awaitRender(final String file) {
+    final Future<?> render = this.renderedFiles.get(file);
+    if (render == null) {
+      return;
+    }
+    try {
+      render.get();
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void renderRemainingFiles(final ExecutorService pool) {
+    for (final MutationTestSummaryData each : this.unrenderedFiles.values()) {
+      pool.execute(renderTask(each));
+    }
+    this.unrenderedFiles.clear();
+    pool.shutdown();
+    try {
+      while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+        Log.getLogger().fine("Waiting for html pages to be written");
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Runnable renderTask(final MutationTestSummaryData fileData) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        generateAnnotatedSourceFile(fileData);
+      }
+    };
+  }
+
+  private static ThreadFactory renderThreadFactory() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "pit-html-report");
+        t.setDaemon(true);
+        return t;
+      }
+    };
+  }
 
+  private static String fileKey(final ClassName clazz, final String fileName) {
+    return clazz.getPackage().asJavaName() + File.separator + fileName;
   }
 
 }
\ No newline at end of file
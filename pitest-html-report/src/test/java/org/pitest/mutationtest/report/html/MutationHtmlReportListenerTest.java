@@ -16,11 +16,17 @@ package org.pitest.mutationtest.report.html;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -36,6 +42,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 import org.pitest.util.ResultOutputStrategy;
 
@@ -93,4 +100,83 @@ public class MutationHtmlReportListenerTest {
     verify(this.sourceLocator).locate(any(Collection.class), eq(fileName));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldNotRenderDeferredFileUntilAllPlannedMutationsReported() {
+    this.testee = makeDeferredTestee();
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Option.<Reader> none());
+    final MutationResult mr = makeResult("foo.java");
+    this.testee.handleMutationPlan(Arrays.asList(mr.getDetails(),
+        mr.getDetails()));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    verify(this.sourceLocator, never()).locate(any(Collection.class),
+        any(String.class));
+
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.runEnd();
+    verify(this.sourceLocator, times(1)).locate(any(Collection.class),
+        eq("foo.java"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldNotWalkPlanWhenRenderingAsResultsArrive() {
+    final Iterable<MutationDetails> plan = mock(Iterable.class);
+    this.testee.handleMutationPlan(plan);
+    verifyZeroInteractions(plan);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldRenderDeferredFilesWithoutPlanAtRunEnd() {
+    this.testee = makeDeferredTestee();
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Option.<Reader> none());
+    final MutationResult mr = makeResult("foo.java");
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    verify(this.sourceLocator, never()).locate(any(Collection.class),
+        any(String.class));
+
+    this.testee.runEnd();
+    verify(this.sourceLocator, times(1)).locate(any(Collection.class),
+        eq("foo.java"));
+    verify(this.outputStrategy).createWriterForFile(
+        "default" + File.separator + "foo.java.html");
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldRenderDeferredFileAgainWhenResultsArriveAfterItWasRendered() {
+    this.testee = makeDeferredTestee();
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Option.<Reader> none());
+    final MutationResult mr = makeResult("foo.java");
+    this.testee.handleMutationPlan(Collections.singletonList(mr.getDetails()));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.runEnd();
+    verify(this.outputStrategy, times(2)).createWriterForFile(
+        "default" + File.separator + "foo.java.html");
+  }
+
+  private MutationHtmlReportListener makeDeferredTestee() {
+    return new MutationHtmlReportListener(this.coverageDb,
+        this.outputStrategy, Collections.<String> emptyList(), 2,
+        this.sourceLocator);
+  }
+
+  private MutationResult makeResult(final String fileName) {
+    return new MutationResult(
+        MutationTestResultMother.createDetails(fileName),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+  }
+
 }
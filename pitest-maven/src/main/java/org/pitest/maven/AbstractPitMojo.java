@@ -109,6 +109,25 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "1", property = "threads")
   private int                         threads;
 
+  /**
+   * Number of threads on which the coverage minion runs test classes
+   */
+  @Parameter(defaultValue = "1", property = "coverageThreads")
+  private int                         coverageThreads;
+
+  /**
+   * Number of threads on which minions discover the tests in test classes
+   */
+  @Parameter(defaultValue = "1", property = "discoveryThreads")
+  private int                         discoveryThreads;
+
+  /**
+   * Number of threads on which html source pages are rendered once all their
+   * results are known. If 0, pages are rewritten as each result arrives
+   */
+  @Parameter(defaultValue = "0", property = "htmlRenderThreads")
+  private int                         htmlRenderThreads;
+
   /**
    * Mutate static initializers
    */
@@ -151,6 +170,29 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter
   private ArrayList<String>           jvmArgs;
 
+  /**
+   * Addresses (host:port) of worker agents to run minions on. Minions are
+   * run locally if none are given or none can be reached.
+   */
+  @Parameter(property = "workers")
+  private ArrayList<String>           workers;
+
+  /**
+   * Token shared with the worker agents, which must be started with it in
+   * their PIT_WORKER_TOKEN environment variable. Defaults to the value of
+   * that variable.
+   */
+  @Parameter(property = "workerToken")
+  private String                      workerToken;
+
+  /**
+   * Directory or http url of a cache of mutation results shared between
+   * builds. Results are reused whenever the mutated class and the tests that
+   * cover it are unchanged.
+   */
+  @Parameter(property = "resultCache")
+  private String                      resultCache;
+
   /**
    * Formats to output during analysis phase
    */
@@ -203,6 +245,97 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "exportLineCoverage")
   private boolean                     exportLineCoverage;
 
+  /**
+   * Export timings reported by mutation minions
+   */
+  @Parameter(defaultValue = "false", property = "exportMinionProfile")
+  private boolean                     exportMinionProfile;
+
+  /**
+   * Only mutate classes impacted by changes since the history file was
+   * written, copying all other results from it. All classes are mutated when
+   * the mutators, excluded methods, mutation limit or filters have changed
+   */
+  @Parameter(defaultValue = "false", property = "changeImpactAnalysis")
+  private boolean                     changeImpactAnalysis;
+
+  /**
+   * Learn per test timeouts from the coverage run and passing runs against
+   * mutants, budgeting cpu rather than wall clock time where supported
+   */
+  @Parameter(defaultValue = "false", property = "adaptiveTimeouts")
+  private boolean                     adaptiveTimeouts;
+
+  /**
+   * Write a snapshot of run progress, such as mutants completed by status,
+   * minion restarts and estimated time remaining, to metrics.jsonl in the
+   * report directory at a fixed interval while mutations are analysed
+   */
+  @Parameter(defaultValue = "false", property = "exportMetrics")
+  private boolean                     exportMetrics;
+
+  /**
+   * Local port on which to serve the latest run metrics over http. 0 for no
+   * endpoint
+   */
+  @Parameter(property = "metricsPort")
+  private int                         metricsPort;
+
+  /**
+   * Fraction of mutations to analyse, chosen as a random sample stratified by
+   * package, method and mutator. The mutation score is then reported as an
+   * estimate with a confidence interval
+   */
+  @Parameter(defaultValue = "1", property = "sampleRate")
+  private float                       sampleRate;
+
+  /**
+   * Seed for the random choices made when sampling mutations
+   */
+  @Parameter(defaultValue = "0", property = "sampleSeed")
+  private long                        sampleSeed;
+
+  /**
+   * Minutes of wall clock time to spend analysing mutations, after which no
+   * further mutations are started. 0 for no limit
+   */
+  @Parameter(defaultValue = "0", property = "analysisBudget")
+  private int                         analysisBudget;
+
+  /**
+   * Hold mutations waiting to be analysed in a memory mapped file rather than
+   * on the heap, for projects producing very large numbers of mutations
+   */
+  @Parameter(defaultValue = "false", property = "offHeapMutations")
+  private boolean                     offHeapMutations;
+
+  /**
+   * File to journal results to as mutations are analysed, so that an
+   * interrupted run can be resumed
+   */
+  @Parameter(property = "checkpointFile")
+  private File                        checkpointFile;
+
+  /**
+   * Continue an interrupted run from the results in its checkpoint journal
+   */
+  @Parameter(defaultValue = "false", property = "resume")
+  private boolean                     resume;
+
+  /**
+   * Choose minion heap sizes and how many run at once from the memory
+   * earlier minions used and the memory available on the machine
+   */
+  @Parameter(defaultValue = "false", property = "autoSizeMinions")
+  private boolean                     autoSizeMinions;
+
+  /**
+   * Restore the coverage of tests unchanged since the run recorded in the
+   * history file rather than gathering it again
+   */
+  @Parameter(defaultValue = "false", property = "reuseCoverage")
+  private boolean                     reuseCoverage;
+
   /**
    * Mutation score threshold at which to fail build
    */
@@ -448,6 +581,18 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.jvmArgs;
   }
 
+  public List<String> getWorkers() {
+    return this.workers;
+  }
+
+  public String getWorkerToken() {
+    return this.workerToken;
+  }
+
+  public String getResultCache() {
+    return this.resultCache;
+  }
+
   public List<String> getOutputFormats() {
     return this.outputFormats;
   }
@@ -504,9 +649,76 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.exportLineCoverage;
   }
 
+  public boolean isExportMinionProfile() {
+    return this.exportMinionProfile;
+  }
+
+  public boolean isChangeImpactAnalysis() {
+    return this.changeImpactAnalysis;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public boolean isExportMetrics() {
+    return this.exportMetrics;
+  }
+
+  public int getMetricsPort() {
+    return this.metricsPort;
+  }
+
+  public float getSampleRate() {
+    return this.sampleRate;
+  }
+
+  public long getSampleSeed() {
+    return this.sampleSeed;
+  }
+
+  public int getAnalysisBudget() {
+    return this.analysisBudget;
+  }
+
+  public boolean isOffHeapMutations() {
+    return this.offHeapMutations;
+  }
+
+  public File getCheckpointFile() {
+    return this.checkpointFile;
+  }
+
+  public boolean isResume() {
+    return this.resume;
+  }
+
+  public boolean isAutoSizeMinions() {
+    return this.autoSizeMinions;
+  }
+
+  public boolean isReuseCoverage() {
+    return this.reuseCoverage;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public int getDiscoveryThreads() {
+    return this.discoveryThreads;
+  }
+
+  public int getHtmlRenderThreads() {
+    return this.htmlRenderThreads;
+  }
+
   protected boolean shouldRun() {
-    return !this.skip && !this.skipTests
-        && !this.project.getPackaging().equalsIgnoreCase("pom");
+    return !isSkipped() && !this.project.getPackaging().equalsIgnoreCase("pom");
+  }
+
+  protected boolean isSkipped() {
+    return this.skip || this.skipTests;
   }
 
   public String getMutationEngine() {
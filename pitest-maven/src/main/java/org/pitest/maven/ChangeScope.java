@@ -0,0 +1,23 @@
+package org.pitest.maven;
+
+/**
+ * Granularity at which the scm goal mutates changed code.
+ */
+public enum ChangeScope {
+
+  /**
+   * Only mutations on changed lines
+   */
+  LINE,
+
+  /**
+   * Mutations in any method containing a changed line
+   */
+  METHOD,
+
+  /**
+   * All mutations in changed classes
+   */
+  CLASS;
+
+}
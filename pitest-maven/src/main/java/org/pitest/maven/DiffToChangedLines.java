@@ -0,0 +1,94 @@
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pitest.mutationtest.filter.ChangedLines;
+
+/**
+ * Reads the lines changed in java files within the supplied source root from
+ * the per file unified diffs reported by the scm. Paths in the diff are taken
+ * to be relative to the scm root.
+ *
+ * Added lines are recorded as changed, as is the line following any removed
+ * lines so that pure deletions still mark the code around them.
+ */
+class DiffToChangedLines {
+
+  private final File   scmRoot;
+  private final String sourceRoot;
+
+  DiffToChangedLines(final File scmRoot, final String sourceRoot) {
+    this.scmRoot = scmRoot;
+    this.sourceRoot = sourceRoot;
+  }
+
+  ChangedLines convert(final Map<String, CharSequence> differences) {
+    final ChangedLines lines = new ChangedLines();
+    for (final Entry<String, CharSequence> each : differences.entrySet()) {
+      final String path = toSourcePath(each.getKey());
+      if (path != null) {
+        lines.addFile(path);
+        readHunks(path, each.getValue().toString(), lines);
+      }
+    }
+    return lines;
+  }
+
+  private String toSourcePath(final String scmPath) {
+    File f = new File(scmPath);
+    if (!f.isAbsolute()) {
+      f = new File(this.scmRoot, scmPath);
+    }
+    final String absolute = f.getAbsolutePath();
+    if (!absolute.startsWith(this.sourceRoot) || !absolute.endsWith(".java")) {
+      return null;
+    }
+    return absolute.substring(this.sourceRoot.length() + 1).replace('\\', '/');
+  }
+
+  private static void readHunks(final String path, final String diff,
+      final ChangedLines lines) {
+    boolean inHunk = false;
+    int line = 0;
+    for (final String each : diff.split("\r?\n")) {
+      if (each.startsWith("@@")) {
+        line = firstNewLine(each);
+        inHunk = line >= 0;
+      } else if (!inHunk) {
+        continue;
+      } else if (each.startsWith("+")) {
+        lines.add(path, line, line);
+        line++;
+      } else if (each.startsWith("-")) {
+        if (line > 0) {
+          lines.add(path, line, line);
+        }
+      } else if (each.startsWith(" ") || (each.length() == 0)) {
+        line++;
+      } else if (!each.startsWith("\\")) {
+        // next file header
+        inHunk = false;
+      }
+    }
+  }
+
+  // @@ -a,b +c,d @@
+  private static int firstNewLine(final String header) {
+    final int plus = header.indexOf('+');
+    if (plus == -1) {
+      return -1;
+    }
+    int end = plus + 1;
+    while ((end < header.length()) && Character.isDigit(header.charAt(end))) {
+      end++;
+    }
+    try {
+      return Integer.parseInt(header.substring(plus + 1, end));
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+
+/**
+ * Goal which merges the xml mutation results (and optionally the exported
+ * line coverage) of earlier runs into a single report without running any
+ * tests.
+ */
+@Mojo(name = "mergeReports", requiresDependencyResolution = ResolutionScope.TEST)
+public class MergeReportsMojo extends AbstractPitMojo {
+
+  /**
+   * Xml mutation results to merge
+   */
+  @Parameter(property = "mutationResultFiles", required = true)
+  private ArrayList<File> mutationResultFiles;
+
+  /**
+   * Line coverage exported by the runs that produced the results
+   */
+  @Parameter(property = "lineCoverageFiles")
+  private ArrayList<File> lineCoverageFiles = new ArrayList<File>();
+
+  public MergeReportsMojo(final GoalStrategy strategy,
+      final Predicate<Artifact> filter, final PluginServices plugins) {
+    super(strategy, filter, plugins);
+  }
+
+  public MergeReportsMojo() {
+    this(new MergeReportsStrategy(), new DependencyFilter(new PluginServices(
+        MergeReportsMojo.class.getClassLoader())), new PluginServices(
+        MergeReportsMojo.class.getClassLoader()));
+  }
+
+  @Override
+  protected Option<CombinedStatistics> analyse() throws MojoExecutionException {
+    final ReportOptions data = new MojoToReportOptionsConverter(this,
+        new SurefireConfigConverter(), this.filter).convert();
+    data.setMutationResultFiles(this.mutationResultFiles);
+    data.setLineCoverageFiles(this.lineCoverageFiles);
+    return Option.some(this.goalStrategy.execute(detectBaseDir(), data,
+        this.plugins, new HashMap<String, String>()));
+  }
+
+}
@@ -37,7 +37,8 @@ import org.pitest.util.Glob;
 
 public class MojoToReportOptionsConverter {
 
-  private final AbstractPitMojo                 mojo;
+  private final AbstractPitMojo         mojo;
+  private final MavenProject            project;
   private final Predicate<Artifact>     dependencyFilter;
   private final Log                     log;
   private final SurefireConfigConverter surefireConverter;
@@ -45,7 +46,18 @@ public class MojoToReportOptionsConverter {
   public MojoToReportOptionsConverter(final AbstractPitMojo mojo,
       SurefireConfigConverter surefireConverter,
       Predicate<Artifact> dependencyFilter) {
+    this(mojo, mojo.getProject(), surefireConverter, dependencyFilter);
+  }
+
+  /**
+   * Converts the mojo's configuration for a project other than its own, such
+   * as a module of the build it runs in.
+   */
+  public MojoToReportOptionsConverter(final AbstractPitMojo mojo,
+      final MavenProject project, SurefireConfigConverter surefireConverter,
+      Predicate<Artifact> dependencyFilter) {
     this.mojo = mojo;
+    this.project = project;
     this.dependencyFilter = dependencyFilter;
     this.log = mojo.getLog();
     this.surefireConverter = surefireConverter;
@@ -57,7 +69,7 @@ public class MojoToReportOptionsConverter {
     final List<String> classPath = new ArrayList<String>();
 
     try {
-      classPath.addAll(this.mojo.getProject().getTestClasspathElements());
+      classPath.addAll(this.project.getTestClasspathElements());
     } catch (final DependencyResolutionRequiredException e1) {
       this.log.info(e1);
     }
@@ -66,7 +78,7 @@ public class MojoToReportOptionsConverter {
 
     classPath.addAll(this.mojo.getAdditionalClasspathElements());
 
-    for (Object artifact : this.mojo.getProject().getArtifacts()) {
+    for (Object artifact : this.project.getArtifacts()) {
       final Artifact dependency = (Artifact) artifact;
 
       if (this.mojo.getClasspathDependencyExcludes().contains(
@@ -84,10 +96,10 @@ public class MojoToReportOptionsConverter {
   private ReportOptions parseReportOptions(final List<String> classPath) {
     final ReportOptions data = new ReportOptions();
 
-    if (this.mojo.getProject().getBuild() != null) {
+    if (this.project.getBuild() != null) {
       this.log.info("Mutating from "
-          + this.mojo.getProject().getBuild().getOutputDirectory());
-      data.setCodePaths(Collections.singleton(this.mojo.getProject().getBuild()
+          + this.project.getBuild().getOutputDirectory());
+      data.setCodePaths(Collections.singleton(this.project.getBuild()
           .getOutputDirectory()));
     }
 
@@ -104,6 +116,9 @@ public class MojoToReportOptionsConverter {
     data.setExcludedClasses(globStringsToPredicates(this.mojo
         .getExcludedClasses()));
     data.setNumberOfThreads(this.mojo.getThreads());
+    data.setCoverageThreads(this.mojo.getCoverageThreads());
+    data.setDiscoveryThreads(this.mojo.getDiscoveryThreads());
+    data.setHtmlRenderThreads(this.mojo.getHtmlRenderThreads());
     data.setMaxMutationsPerClass(this.mojo.getMaxMutationsPerClass());
 
     data.setReportDir(this.mojo.getReportsDirectory().getAbsolutePath());
@@ -111,6 +126,11 @@ public class MojoToReportOptionsConverter {
     if (this.mojo.getJvmArgs() != null) {
       data.addChildJVMArgs(this.mojo.getJvmArgs());
     }
+    if (this.mojo.getWorkers() != null) {
+      data.setWorkers(this.mojo.getWorkers());
+    }
+    data.setWorkerToken(this.mojo.getWorkerToken());
+    data.setResultCache(this.mojo.getResultCache());
 
     data.setMutators(determineMutators());
     data.setTimeoutConstant(this.mojo.getTimeoutConstant());
@@ -120,8 +140,8 @@ public class MojoToReportOptionsConverter {
     }
 
     final List<String> sourceRoots = new ArrayList<String>();
-    sourceRoots.addAll(this.mojo.getProject().getCompileSourceRoots());
-    sourceRoots.addAll(this.mojo.getProject().getTestCompileSourceRoots());
+    sourceRoots.addAll(this.project.getCompileSourceRoots());
+    sourceRoots.addAll(this.project.getTestCompileSourceRoots());
 
     data.setSourceDirs(stringsTofiles(sourceRoots));
 
@@ -136,6 +156,19 @@ public class MojoToReportOptionsConverter {
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setExportMinionProfile(this.mojo.isExportMinionProfile());
+    data.setChangeImpactAnalysis(this.mojo.isChangeImpactAnalysis());
+    data.setAdaptiveTimeouts(this.mojo.isAdaptiveTimeouts());
+    data.setExportMetrics(this.mojo.isExportMetrics());
+    data.setMetricsPort(this.mojo.getMetricsPort());
+    data.setSampleRate(this.mojo.getSampleRate());
+    data.setSampleSeed(this.mojo.getSampleSeed());
+    data.setAnalysisBudget(this.mojo.getAnalysisBudget());
+    data.setOffHeapMutations(this.mojo.isOffHeapMutations());
+    data.setCheckpointFile(this.mojo.getCheckpointFile());
+    data.setResume(this.mojo.isResume());
+    data.setAutoSizeMinions(this.mojo.isAutoSizeMinions());
+    data.setReuseCoverage(this.mojo.isReuseCoverage());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
@@ -154,7 +187,7 @@ public class MojoToReportOptionsConverter {
 
   private void useHistoryFileInTempDir(final ReportOptions data) {
     String tempDir = System.getProperty("java.io.tmpdir");
-    MavenProject project = this.mojo.project;
+    MavenProject project = this.project;
     String name = project.getGroupId() + "."
         + project.getArtifactId() + "."
         + project.getVersion() + "_pitest_history.bin";
@@ -189,7 +222,7 @@ public class MojoToReportOptionsConverter {
 
   private Collection<Plugin> lookupPlugin(String key) {
     @SuppressWarnings("unchecked")
-    List<Plugin> plugins = this.mojo.getProject().getBuildPlugins();
+    List<Plugin> plugins = this.project.getBuildPlugins();
     return FCollection.filter(plugins, hasKey(key));
   }
 
@@ -249,7 +282,7 @@ public class MojoToReportOptionsConverter {
   private Collection<Predicate<String>> returnOrDefaultToClassesLikeGroupName(
       final Collection<String> filters) {
     if (!hasValue(filters)) {
-      final String groupId = this.mojo.getProject().getGroupId() + "*";
+      final String groupId = this.project.getGroupId() + "*";
       this.mojo.getLog().info("Defaulting to group id (" + groupId + ")");
       return Collections.<Predicate<String>> singleton(new Glob(groupId));
     } else {
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.pitest.coverage.CoverageSummary;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.SharedAnalysisResources;
+
+/**
+ * Goal which runs a coverage mutation report for every module of a build
+ * together.
+ *
+ * Modules are set up concurrently and the mutation analysis units of all of
+ * them are run on one scheduler, while the agent jar and the contents of the
+ * archives on their class paths are shared. Each module gets its own report,
+ * the thresholds are checked against the results of the whole build.
+ */
+@Mojo(name = "reactorCoverage", aggregator = true, requiresDependencyResolution = ResolutionScope.TEST)
+public class ReactorPitMojo extends AbstractPitMojo {
+
+  /**
+   * Number of mutation analysis units to run at once across all modules. If
+   * not set one is run per available processor.
+   */
+  @Parameter(defaultValue = "0", property = "reactorThreads")
+  private int                      reactorThreads;
+
+  /**
+   * <i>Internal</i>: The modules of the build.
+   */
+  @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+  private List<MavenProject>       reactorProjects;
+
+  private final RunPitStrategy     runner;
+
+  public ReactorPitMojo(final RunPitStrategy strategy,
+      final Predicate<Artifact> filter, final PluginServices plugins) {
+    super(strategy, filter, plugins);
+    this.runner = strategy;
+  }
+
+  public ReactorPitMojo() {
+    this(new RunPitStrategy(), new DependencyFilter(new PluginServices(
+        ReactorPitMojo.class.getClassLoader())), new PluginServices(
+        ReactorPitMojo.class.getClassLoader()));
+  }
+
+  @Override
+  protected boolean shouldRun() {
+    return !isSkipped();
+  }
+
+  @Override
+  protected Option<CombinedStatistics> analyse() throws MojoExecutionException {
+    final List<MavenProject> modules = findModulesToAnalyse();
+    if (modules.isEmpty()) {
+      this.getLog().info("No modules to analyse");
+      return Option.none();
+    }
+
+    final int threads = reactorThreads();
+    this.getLog().info(
+        "Analysing " + modules.size() + " modules with " + threads
+            + " threads");
+
+    final SharedAnalysisResources shared = new SharedAnalysisResources(threads);
+    final ExecutorService moduleExecutor = Executors.newFixedThreadPool(Math
+        .min(modules.size(), threads));
+    try {
+      final List<Future<CombinedStatistics>> results = new ArrayList<Future<CombinedStatistics>>();
+      for (final MavenProject each : modules) {
+        results.add(moduleExecutor.submit(analyseModule(each,
+            convert(each), shared)));
+      }
+      return Option.some(combine(results));
+    } finally {
+      moduleExecutor.shutdownNow();
+      shared.close();
+    }
+  }
+
+  private List<MavenProject> findModulesToAnalyse() {
+    final List<MavenProject> modules = new ArrayList<MavenProject>();
+    for (final MavenProject each : this.reactorProjects) {
+      if (each.getPackaging().equalsIgnoreCase("pom")
+          || (each.getBuild() == null)
+          || !new File(each.getBuild().getOutputDirectory()).exists()) {
+        this.getLog().info("Skipping module " + each.getArtifactId());
+      } else {
+        modules.add(each);
+      }
+    }
+    return modules;
+  }
+
+  private int reactorThreads() {
+    if (this.reactorThreads > 0) {
+      return this.reactorThreads;
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  private ReportOptions convert(final MavenProject module) {
+    final ReportOptions data = new MojoToReportOptionsConverter(this, module,
+        new SurefireConfigConverter(), this.filter).convert();
+    data.setReportDir(moduleReportDir(module, data.getReportDir()));
+    if (data.getMetricsPort() != 0) {
+      this.getLog().info(
+          "Not serving metrics for " + module.getArtifactId()
+              + " as modules are analysed together");
+      data.setMetricsPort(0);
+    }
+    return data;
+  }
+
+  /**
+   * The reports directory is resolved against the project the goal was run
+   * from, so is moved to the same place within each module's build directory
+   * or, if it lies elsewhere, given a sub directory per module
+   */
+  String moduleReportDir(final MavenProject module, final String reportDir) {
+    final String rootBuildDir = buildDirectory(this.project);
+    final String moduleBuildDir = buildDirectory(module);
+    if ((rootBuildDir != null) && (moduleBuildDir != null)
+        && reportDir.startsWith(rootBuildDir)) {
+      return moduleBuildDir + reportDir.substring(rootBuildDir.length());
+    }
+    return new File(reportDir, module.getArtifactId()).getAbsolutePath();
+  }
+
+  private static String buildDirectory(final MavenProject project) {
+    if ((project.getBuild() == null)
+        || (project.getBuild().getDirectory() == null)) {
+      return null;
+    }
+    return new File(project.getBuild().getDirectory()).getAbsolutePath();
+  }
+
+  private Callable<CombinedStatistics> analyseModule(
+      final MavenProject module, final ReportOptions data,
+      final SharedAnalysisResources shared) {
+    return new Callable<CombinedStatistics>() {
+      @Override
+      public CombinedStatistics call() throws Exception {
+        return ReactorPitMojo.this.runner.execute(module.getBasedir(), data,
+            ReactorPitMojo.this.plugins, getEnvironmentVariables(), shared);
+      }
+    };
+  }
+
+  private static CombinedStatistics combine(
+      final List<Future<CombinedStatistics>> results)
+      throws MojoExecutionException {
+    final MutationStatistics stats = new MutationStatistics();
+    int lines = 0;
+    int coveredLines = 0;
+    for (final Future<CombinedStatistics> each : results) {
+      final CombinedStatistics result = get(each);
+      stats.add(result.getMutationStatistics());
+      lines = lines + result.getCoverageSummary().getNumberOfLines();
+      coveredLines = coveredLines
+          + result.getCoverageSummary().getNumberOfCoveredLines();
+    }
+    return new CombinedStatistics(stats, new CoverageSummary(lines,
+        coveredLines));
+  }
+
+  private static CombinedStatistics get(final Future<CombinedStatistics> result)
+      throws MojoExecutionException {
+    try {
+      return result.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof MojoExecutionException) {
+        throw (MojoExecutionException) e.getCause();
+      }
+      throw new MojoExecutionException("fail", e.getCause());
+    }
+  }
+
+}
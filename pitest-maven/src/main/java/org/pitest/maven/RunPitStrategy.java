@@ -23,6 +23,7 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.mutationtest.tooling.SharedAnalysisResources;
 
 public class RunPitStrategy implements GoalStrategy {
 
@@ -34,6 +35,24 @@ public class RunPitStrategy implements GoalStrategy {
     EntryPoint e = new EntryPoint();
     AnalysisResult result = e.execute(baseDir, data, plugins,
         environmentVariables);
+    return statisticsOrFail(result);
+  }
+
+  /**
+   * Runs an analysis alongside others that use the same shared resources
+   */
+  public CombinedStatistics execute(File baseDir, ReportOptions data,
+      PluginServices plugins, Map<String, String> environmentVariables,
+      SharedAnalysisResources shared) throws MojoExecutionException {
+
+    EntryPoint e = new EntryPoint();
+    AnalysisResult result = e.execute(baseDir, data, plugins,
+        environmentVariables, shared);
+    return statisticsOrFail(result);
+  }
+
+  private static CombinedStatistics statisticsOrFail(AnalysisResult result)
+      throws MojoExecutionException {
     if (result.getError().hasSome()) {
       throw new MojoExecutionException("fail", result.getError().value());
     }
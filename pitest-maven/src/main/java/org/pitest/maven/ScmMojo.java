@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -22,8 +23,10 @@ import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.ScmRevision;
 import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
 import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.diff.DiffScmResult;
 import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.ScmManager;
 import org.apache.maven.scm.repository.ScmRepository;
@@ -34,12 +37,20 @@ import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.filter.ChangedLines;
+import org.pitest.mutationtest.filter.ChangedLinesFilterFactory;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 
 /**
  * Goal which runs a coverage mutation report only for files that have been
  * modified or introduced locally based on the source control configured in
  * maven.
+ *
+ * By default only mutations within methods containing a changed line are
+ * analysed. The changed lines are read from a diff against HEAD (or between
+ * HEAD~1 and HEAD when analysing the last commit), so narrower scopes are only
+ * available for scms that understand those revisions, such as git. Where no
+ * diff is available whole classes are mutated.
  */
 @Mojo(name = "scmMutationCoverage", defaultPhase = LifecyclePhase.VERIFY, requiresDependencyResolution = ResolutionScope.TEST)
 public class ScmMojo extends AbstractPitMojo {
@@ -62,6 +73,14 @@ public class ScmMojo extends AbstractPitMojo {
   @Parameter(defaultValue = "false", property = "analyseLastCommit")
   private boolean analyseLastCommit;
 
+  /**
+   * Granularity at which to mutate changes. LINE mutates only changed lines,
+   * METHOD any method containing a changed line and CLASS the whole of any
+   * changed class.
+   */
+  @Parameter(defaultValue = "METHOD", property = "changeScope")
+  private String          changeScope;
+
   /**
    * Connection type to use when querying scm for changed files. Can either be
    * "connection" or "developerConnection".
@@ -97,7 +116,8 @@ public class ScmMojo extends AbstractPitMojo {
   @Override
   protected Option<CombinedStatistics> analyse() throws MojoExecutionException {
 
-    this.targetClasses = makeConcreteList(findModifiedClassNames());
+    final List<String> modifiedPaths = findModifiedPaths();
+    this.targetClasses = makeConcreteList(findModifiedClassNames(modifiedPaths));
 
     if (this.targetClasses.isEmpty()) {
       this.getLog().info(
@@ -110,6 +130,7 @@ public class ScmMojo extends AbstractPitMojo {
     final ReportOptions data = new MojoToReportOptionsConverter(this,
         new SurefireConfigConverter(), filter).convert();
     data.setFailWhenNoMutations(false);
+    restrictToChangedLines(data);
 
     return Option.some(this.goalStrategy.execute(detectBaseDir(), data,
         plugins, new HashMap<String, String>()));
@@ -129,15 +150,67 @@ public class ScmMojo extends AbstractPitMojo {
     }
   }
 
-  private List<String> findModifiedClassNames() throws MojoExecutionException {
+  private List<String> findModifiedClassNames(final List<String> modifiedPaths) {
+    return FCollection.flatMap(modifiedPaths, new PathToJavaClassConverter(
+        sourceRoot().getAbsolutePath()));
+  }
 
-    final File sourceRoot = new File(this.project.getBuild()
-        .getSourceDirectory());
+  private File sourceRoot() {
+    return new File(this.project.getBuild().getSourceDirectory());
+  }
 
-    final List<String> modifiedPaths = findModifiedPaths();
-    return FCollection.flatMap(modifiedPaths, new PathToJavaClassConverter(
-        sourceRoot.getAbsolutePath()));
+  private void restrictToChangedLines(final ReportOptions data)
+      throws MojoExecutionException {
+    final ChangeScope scope = this.changeScope == null ? ChangeScope.METHOD
+        : ChangeScope.valueOf(this.changeScope.toUpperCase());
+    if (scope == ChangeScope.CLASS) {
+      return;
+    }
+
+    final ChangedLines lines = findChangedLines();
+    if (lines.isEmpty()) {
+      this.getLog().info(
+          "No changed lines could be found - will mutate whole classes");
+      return;
+    }
 
+    Properties props = data.getFreeFormProperties();
+    if (props == null) {
+      props = new Properties();
+      data.setFreeFormProperties(props);
+    }
+    props.setProperty(ChangedLinesFilterFactory.CHANGED_LINES,
+        lines.toString());
+    props.setProperty(ChangedLinesFilterFactory.CHANGED_LINES_SCOPE, scope
+        .name().toLowerCase());
+    this.getLog().info(
+        "Will mutate changed " + scope.name().toLowerCase() + "s only");
+  }
+
+  private ChangedLines findChangedLines() throws MojoExecutionException {
+    try {
+      final ScmRepository repository = this.manager
+          .makeScmRepository(getSCMConnection());
+      final DiffScmResult diff = diff(repository, new ScmFileSet(scmRoot()));
+      if ((diff == null) || !diff.isSuccess()
+          || (diff.getDifferences() == null)) {
+        return new ChangedLines();
+      }
+      return new DiffToChangedLines(scmRoot(), sourceRoot().getAbsolutePath())
+          .convert(diff.getDifferences());
+    } catch (final ScmException e) {
+      this.getLog().warn("Could not read changed lines from scm", e);
+      return new ChangedLines();
+    }
+  }
+
+  private DiffScmResult diff(final ScmRepository repository,
+      final ScmFileSet files) throws ScmException {
+    if (this.analyseLastCommit) {
+      return this.manager.diff(repository, files, new ScmRevision("HEAD~1"),
+          new ScmRevision("HEAD"));
+    }
+    return this.manager.diff(repository, files, new ScmRevision("HEAD"), null);
   }
 
   private List<String> findModifiedPaths() throws MojoExecutionException {
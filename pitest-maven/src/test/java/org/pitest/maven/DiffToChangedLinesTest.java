@@ -0,0 +1,69 @@
+package org.pitest.maven;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DiffToChangedLinesTest {
+
+  private static final File         ROOT   = new File("project")
+                                               .getAbsoluteFile();
+  private final DiffToChangedLines testee = new DiffToChangedLines(ROOT,
+                                               new File(ROOT, "src/main/java")
+                                                   .getAbsolutePath());
+
+  @Test
+  public void shouldRecordAddedLines() {
+    assertEquals("com/example/Foo.java:11-12", convert(
+        "src/main/java/com/example/Foo.java", "@@ -10,3 +10,5 @@\n"
+            + " context\n" + "+added\n" + "+added\n" + " context\n"
+            + " context\n"));
+  }
+
+  @Test
+  public void shouldRecordLineFollowingRemovedLines() {
+    assertEquals("com/example/Foo.java:11", convert(
+        "src/main/java/com/example/Foo.java", "@@ -10,3 +10,2 @@\n"
+            + " context\n" + "-removed\n" + " context\n"));
+  }
+
+  @Test
+  public void shouldReadMultipleHunks() {
+    assertEquals("com/example/Foo.java:2,40", convert(
+        "src/main/java/com/example/Foo.java", "diff --git a/x b/x\n"
+            + "--- a/x\n" + "+++ b/x\n" + "@@ -1,2 +1,2 @@\n" + " context\n"
+            + "-old\n" + "+new\n" + "@@ -40 +40 @@\n" + "-old\n" + "+new\n"
+            + "\\ No newline at end of file\n"));
+  }
+
+  @Test
+  public void shouldIgnoreFilesOutsideSourceRoot() {
+    assertEquals("", convert("src/test/java/com/example/FooTest.java",
+        "@@ -1 +1 @@\n" + "+new\n"));
+  }
+
+  @Test
+  public void shouldIgnoreNonJavaFiles() {
+    assertEquals("", convert("src/main/java/com/example/foo.properties",
+        "@@ -1 +1 @@\n" + "+new\n"));
+  }
+
+  @Test
+  public void shouldRecordFilesWithoutHunks() {
+    assertEquals("com/example/Foo.java:", convert(
+        "src/main/java/com/example/Foo.java", "Binary files differ\n"));
+  }
+
+  private String convert(final String path, final String diff) {
+    final Map<String, CharSequence> differences = new LinkedHashMap<String, CharSequence>();
+    differences.put(path, diff);
+    return this.testee.convert(Collections.unmodifiableMap(differences))
+        .toString();
+  }
+
+}
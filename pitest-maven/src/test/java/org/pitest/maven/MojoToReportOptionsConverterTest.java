@@ -97,6 +97,26 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(Arrays.asList("foo", "bar"), actual.getJvmArgs());
   }
 
+  public void testParsesListOfWorkers() {
+    final String xml = "<workers>" + //
+        "                      <param>localhost:9001</param>" + //
+        "                      <param>other:9002</param>" + //
+        "                  </workers>";
+    final ReportOptions actual = parseConfig(xml);
+    assertEquals(Arrays.asList("localhost:9001", "other:9002"),
+        actual.getWorkers());
+  }
+
+  public void testParsesWorkerToken() {
+    final ReportOptions actual = parseConfig("<workerToken>secret</workerToken>");
+    assertEquals("secret", actual.getWorkerToken());
+  }
+
+  public void testParsesResultCache() {
+    final ReportOptions actual = parseConfig("<resultCache>http://cache:8080/pit</resultCache>");
+    assertEquals("http://cache:8080/pit", actual.getResultCache());
+  }
+
   public void testParsesListOfMutationOperators() {
     final String xml = "<mutators>" + //
         "                      <param>foo</param>" + //
@@ -115,6 +135,21 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         .isMutateStaticInitializers());
   }
 
+  public void testParsesNumberOfCoverageThreads() {
+    final ReportOptions actual = parseConfig("<coverageThreads>4</coverageThreads>");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  public void testParsesNumberOfDiscoveryThreads() {
+    final ReportOptions actual = parseConfig("<discoveryThreads>4</discoveryThreads>");
+    assertEquals(4, actual.getDiscoveryThreads());
+  }
+
+  public void testParsesNumberOfHtmlRenderThreads() {
+    final ReportOptions actual = parseConfig("<htmlRenderThreads>2</htmlRenderThreads>");
+    assertEquals(2, actual.getHtmlRenderThreads());
+  }
+
   public void testParsesNumberOfThreads() {
     final ReportOptions actual = parseConfig("<threads>42</threads>");
     assertEquals(42, actual.getNumberOfThreads());
@@ -259,6 +294,26 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(50, actual.getMutationUnitSize());
   }
 
+  public void testParsesMetricsPort() {
+    final ReportOptions actual = parseConfig("<metricsPort>8123</metricsPort>");
+    assertEquals(8123, actual.getMetricsPort());
+  }
+
+  public void testParsesSampleRate() {
+    final ReportOptions actual = parseConfig("<sampleRate>0.1</sampleRate>");
+    assertEquals(0.1f, actual.getSampleRate(), 0.0001);
+  }
+
+  public void testParsesSampleSeed() {
+    final ReportOptions actual = parseConfig("<sampleSeed>42</sampleSeed>");
+    assertEquals(42L, actual.getSampleSeed());
+  }
+
+  public void testParsesAnalysisBudget() {
+    final ReportOptions actual = parseConfig("<analysisBudget>30</analysisBudget>");
+    assertEquals(30, actual.getAnalysisBudget());
+  }
+
   public void testDefaultsMutationUnitSizeToCorrectValue() {
     final ReportOptions actual = parseConfig("");
     assertEquals(
@@ -300,6 +355,92 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesMinionProfileExportFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<exportMinionProfile>true</exportMinionProfile>");
+    assertTrue(actual.shouldExportMinionProfile());
+  }
+
+  public void testParsesMinionProfileExportFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<exportMinionProfile>false</exportMinionProfile>");
+    assertFalse(actual.shouldExportMinionProfile());
+  }
+
+  public void testParsesChangeImpactAnalysisFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<changeImpactAnalysis>true</changeImpactAnalysis>");
+    assertTrue(actual.shouldUseChangeImpactAnalysis());
+  }
+
+  public void testParsesChangeImpactAnalysisFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<changeImpactAnalysis>false</changeImpactAnalysis>");
+    assertFalse(actual.shouldUseChangeImpactAnalysis());
+  }
+
+  public void testParsesAdaptiveTimeoutsFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>true</adaptiveTimeouts>");
+    assertTrue(actual.shouldUseAdaptiveTimeouts());
+  }
+
+  public void testParsesAdaptiveTimeoutsFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>false</adaptiveTimeouts>");
+    assertFalse(actual.shouldUseAdaptiveTimeouts());
+  }
+
+  public void testParsesExportMetricsFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<exportMetrics>true</exportMetrics>");
+    assertTrue(actual.shouldExportMetrics());
+  }
+
+  public void testParsesExportMetricsFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<exportMetrics>false</exportMetrics>");
+    assertFalse(actual.shouldExportMetrics());
+  }
+
+  public void testParsesOffHeapMutationsFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<offHeapMutations>true</offHeapMutations>");
+    assertTrue(actual.shouldStoreMutationsOffHeap());
+  }
+
+  public void testParsesOffHeapMutationsFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<offHeapMutations>false</offHeapMutations>");
+    assertFalse(actual.shouldStoreMutationsOffHeap());
+  }
+
+  public void testParsesCheckpointFile() {
+    final ReportOptions actual = parseConfig("<checkpointFile>foo</checkpointFile>");
+    assertEquals(new File("foo"), actual.getCheckpointJournal().value());
+  }
+
+  public void testParsesResumeFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<resume>true</resume>");
+    assertTrue(actual.shouldResume());
+  }
+
+  public void testParsesAutoSizeMinionsFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<autoSizeMinions>true</autoSizeMinions>");
+    assertTrue(actual.shouldAutoSizeMinions());
+  }
+
+  public void testDoesNotAutoSizeMinionsByDefault() {
+    final ReportOptions actual = parseConfig("");
+    assertFalse(actual.shouldAutoSizeMinions());
+  }
+
+  public void testParsesReuseCoverageFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<reuseCoverage>true</reuseCoverage>");
+    assertTrue(actual.shouldReuseCoverage());
+  }
+
+  public void testDoesNotReuseCoverageByDefault() {
+    final ReportOptions actual = parseConfig("");
+    assertFalse(actual.shouldReuseCoverage());
+  }
+
+  public void testDoesNotResumeByDefault() {
+    final ReportOptions actual = parseConfig("");
+    assertFalse(actual.shouldResume());
+    assertFalse(actual.getCheckpointJournal().hasSome());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
@@ -0,0 +1,134 @@
+package org.pitest.maven;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.mockito.Matchers;
+import org.pitest.coverage.CoverageSummary;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.SharedAnalysisResources;
+
+public class ReactorPitMojoTest extends BasePitMojoTest {
+
+  private ReactorPitMojo testee;
+
+  private MavenProject   pom;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    when(this.project.getBuild()).thenReturn(
+        build(new File("target").getAbsolutePath()));
+    when(this.project.getArtifactId()).thenReturn("module");
+    this.pom = mock(MavenProject.class);
+    when(this.pom.getPackaging()).thenReturn("pom");
+  }
+
+  public void testAnalysesEveryModuleThatIsNotAPom() throws Exception {
+    this.testee = createReactorMojo("", this.project, this.pom, this.project);
+    setupCoverage(new CoverageSummary(10, 5));
+    this.testee.execute();
+    verify(this.executionStrategy, times(2)).execute(any(File.class),
+        any(ReportOptions.class), any(PluginServices.class), anyMap(),
+        any(SharedAnalysisResources.class));
+  }
+
+  public void testDoesNotAnalyseWhenSkipFlagSet() throws Exception {
+    this.testee = createReactorMojo("<skip>true</skip>", this.project);
+    this.testee.execute();
+    verify(this.executionStrategy, times(0)).execute(any(File.class),
+        any(ReportOptions.class), any(PluginServices.class), anyMap(),
+        any(SharedAnalysisResources.class));
+  }
+
+  public void testChecksThresholdsAgainstCombinedResults() throws Exception {
+    final MavenProject other = mock(MavenProject.class);
+    when(other.getPackaging()).thenReturn("jar");
+    when(other.getBuild()).thenReturn(
+        build(new File("target").getAbsolutePath()));
+    when(other.getArtifactId()).thenReturn("other");
+    this.testee = createReactorMojo(
+        "<coverageThreshold>60</coverageThreshold>", this.project, other);
+    when(
+        this.executionStrategy.execute(any(File.class),
+            any(ReportOptions.class), any(PluginServices.class), anyMap(),
+            any(SharedAnalysisResources.class))).thenReturn(
+        statistics(new CoverageSummary(100, 100)),
+        statistics(new CoverageSummary(100, 10)));
+    try {
+      this.testee.execute();
+      fail();
+    } catch (final MojoFailureException ex) {
+      assertTrue(ex.getMessage().contains("(110/200)"));
+    }
+  }
+
+  public void testMovesReportsDirectoryIntoEachModulesBuildDirectory()
+      throws Exception {
+    final MavenProject module = mock(MavenProject.class);
+    when(module.getBuild()).thenReturn(build("/build/module/target"));
+    this.testee = createReactorMojo("", this.project);
+    final String root = new File("target").getAbsolutePath();
+    assertEquals("/build/module/target" + File.separator + "pit-reports",
+        this.testee.moduleReportDir(module, root + File.separator
+            + "pit-reports"));
+  }
+
+  public void testGivesEachModuleASubDirectoryOfReportsDirectoryOutsideBuild()
+      throws Exception {
+    final MavenProject module = mock(MavenProject.class);
+    when(module.getBuild()).thenReturn(build("/build/module/target"));
+    when(module.getArtifactId()).thenReturn("module");
+    this.testee = createReactorMojo("", this.project);
+    assertEquals(new File("/reports/module").getAbsolutePath(),
+        this.testee.moduleReportDir(module, "/reports"));
+  }
+
+  private ReactorPitMojo createReactorMojo(final String config,
+      final MavenProject... modules) throws Exception {
+    final ReactorPitMojo mojo = new ReactorPitMojo(this.executionStrategy,
+        this.filter, this.plugins);
+    configurePitMojo(mojo, createPomWithConfiguration(config));
+    setVariableValueToObject(mojo, "reactorProjects",
+        new ArrayList<MavenProject>(Arrays.asList(modules)));
+    return mojo;
+  }
+
+  private static Build build(final String directory) {
+    final Build build = new Build();
+    build.setDirectory(directory);
+    build.setOutputDirectory(new File("target/classes").getAbsolutePath());
+    return build;
+  }
+
+  private void setupCoverage(final CoverageSummary coverage) throws Exception {
+    when(
+        this.executionStrategy.execute(any(File.class),
+            any(ReportOptions.class), any(PluginServices.class), anyMap(),
+            any(SharedAnalysisResources.class))).thenReturn(
+        statistics(coverage));
+  }
+
+  private static CombinedStatistics statistics(final CoverageSummary coverage) {
+    return new CombinedStatistics(new MutationStatistics(), coverage);
+  }
+
+  private Map<String, String> anyMap() {
+    return Matchers.<Map<String, String>> any();
+  }
+
+}
@@ -21,16 +21,21 @@ import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.ScmResult;
+import org.apache.maven.scm.ScmVersion;
 import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
 import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
 import org.apache.maven.scm.command.changelog.ChangeLogSet;
+import org.apache.maven.scm.command.diff.DiffScmResult;
 import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.ScmManager;
 import org.apache.maven.scm.repository.ScmRepository;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.filter.ChangedLinesFilterFactory;
 
 public class ScmMojoTest extends BasePitMojoTest {
 
@@ -170,6 +175,68 @@ public class ScmMojoTest extends BasePitMojoTest {
         any(ReportOptions.class), any(PluginServices.class), anyMap());
   }
 
+  public void testMutatesOnlyChangedMethodsWhenDiffAvailable()
+      throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    setDiff("bar/Bar.java", "@@ -3,1 +3,1 @@\n-old\n+new\n");
+    this.testee.execute();
+    final ReportOptions actual = captureOptions();
+    assertEquals("bar/Bar.java:3", actual.getFreeFormProperties()
+        .getProperty(ChangedLinesFilterFactory.CHANGED_LINES));
+    assertEquals("method", actual.getFreeFormProperties().getProperty(
+        ChangedLinesFilterFactory.CHANGED_LINES_SCOPE));
+  }
+
+  public void testMutatesOnlyChangedLinesWhenLineScopeConfigured()
+      throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    setDiff("bar/Bar.java", "@@ -3,1 +3,1 @@\n-old\n+new\n");
+    configurePitMojo(this.testee,
+        createPomWithConfiguration("<changeScope>LINE</changeScope>"));
+    this.testee.execute();
+    assertEquals("line", captureOptions().getFreeFormProperties()
+        .getProperty(ChangedLinesFilterFactory.CHANGED_LINES_SCOPE));
+  }
+
+  public void testMutatesWholeClassesWhenNoDiffAvailable() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    this.testee.execute();
+    assertNull(captureOptions().getFreeFormProperties().getProperty(
+        ChangedLinesFilterFactory.CHANGED_LINES));
+  }
+
+  public void testDoesNotDiffWhenClassScopeConfigured() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    configurePitMojo(this.testee,
+        createPomWithConfiguration("<changeScope>CLASS</changeScope>"));
+    this.testee.execute();
+    verify(this.manager, never()).diff(any(ScmRepository.class),
+        any(ScmFileSet.class), any(ScmVersion.class), any(ScmVersion.class));
+  }
+
+  private void setDiff(final String path, final String diff)
+      throws ScmException {
+    final Map<String, CharSequence> differences = Collections
+        .<String, CharSequence> singletonMap(path, diff);
+    when(
+        this.manager.diff(any(ScmRepository.class), any(ScmFileSet.class),
+            any(ScmVersion.class), any(ScmVersion.class))).thenReturn(
+        new DiffScmResult(Collections.<ScmFile> emptyList(), differences, "",
+            new ScmResult("", "", "", true)));
+  }
+
+  private ReportOptions captureOptions() throws MojoExecutionException {
+    final ArgumentCaptor<ReportOptions> options = ArgumentCaptor
+        .forClass(ReportOptions.class);
+    verify(this.executionStrategy).execute(any(File.class), options.capture(),
+        any(PluginServices.class), anyMap());
+    return options.getValue();
+  }
+
   public void testDoesNotAnalysePomProjects() throws Exception {
     setupConnection();
     setFileWithStatus(ScmFileStatus.MODIFIED);
@@ -25,10 +25,31 @@ public class HotSwapAgent {
 
   private static Instrumentation instrumentation;
 
+  private static long            installStarted;
+  private static long            installFinished;
+
   public static void premain(final String agentArguments, // NO_UCD
       final Instrumentation inst) {
+    installStarted = System.currentTimeMillis();
     System.out.println("Installing PIT agent");
     instrumentation = inst;
+    installFinished = System.currentTimeMillis();
+  }
+
+  /**
+   * @return wall clock time at which premain was entered, or 0 if the agent
+   *         was not installed at startup
+   */
+  public static long getInstallStarted() {
+    return installStarted;
+  }
+
+  /**
+   * @return wall clock time at which premain completed, or 0 if the agent was
+   *         not installed at startup
+   */
+  public static long getInstallFinished() {
+    return installFinished;
   }
 
   public static void addTransformer(final ClassFileTransformer transformer) {
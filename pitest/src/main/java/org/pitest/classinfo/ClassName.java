@@ -20,12 +20,23 @@ import org.pitest.functional.F;
 import org.pitest.functional.Option;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.SymbolTable;
 
+/**
+ * The name of a class, held in its internal form.
+ *
+ * Names created through the static factories are canonical, with one instance
+ * shared by both the java and internal spellings of a name, so usually compare
+ * by identity and convert between forms without allocating.
+ */
 public final class ClassName implements Comparable<ClassName> {
 
-  private static final Logger LOG = Log.getLogger();
+  private static final Logger                 LOG   = Log.getLogger();
+
+  private static final SymbolTable<ClassName> NAMES = new SymbolTable<ClassName>();
 
-  private final String        name;
+  private final String                        name;
+  private transient String                    javaName;
 
   public ClassName(final String name) {
     this.name = name.replace('.', '/').intern();
@@ -36,15 +47,29 @@ public final class ClassName implements Comparable<ClassName> {
   }
 
   public static ClassName fromString(final String clazz) {
-    return new ClassName(clazz);
+    final ClassName known = NAMES.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    final ClassName created = new ClassName(clazz);
+    final ClassName canonical = NAMES.intern(created.name, created);
+    if (!clazz.equals(canonical.name)) {
+      NAMES.intern(clazz, canonical);
+    }
+    return canonical;
   }
 
   public static ClassName fromClass(final Class<?> clazz) {
-    return new ClassName(clazz);
+    return fromString(clazz.getName());
   }
 
   public String asJavaName() {
-    return this.name.replace('/', '.');
+    String java = this.javaName;
+    if (java == null) {
+      java = this.name.replace('/', '.');
+      this.javaName = java;
+    }
+    return java;
   }
 
   public String asInternalName() {
@@ -54,7 +79,7 @@ public final class ClassName implements Comparable<ClassName> {
   public ClassName getNameWithoutPackage() {
     final int lastSeparator = this.name.lastIndexOf('/');
     if (lastSeparator != -1) {
-      return new ClassName(this.name.substring(lastSeparator + 1,
+      return fromString(this.name.substring(lastSeparator + 1,
           this.name.length()));
     }
     return this;
@@ -63,14 +88,14 @@ public final class ClassName implements Comparable<ClassName> {
   public ClassName getPackage() {
     final int lastSeparator = this.name.lastIndexOf('/');
     if (lastSeparator != -1) {
-      return new ClassName(this.name.substring(0, lastSeparator));
+      return fromString(this.name.substring(0, lastSeparator));
     }
-    return new ClassName("");
+    return fromString("");
   }
 
   public ClassName withoutPrefixChars(final int prefixLength) {
     final String nameWithoutPackage = this.getNameWithoutPackage().asJavaName();
-    return new ClassName(this.getPackage().asJavaName()
+    return fromString(this.getPackage().asJavaName()
         + "/"
         + nameWithoutPackage.substring(prefixLength,
             nameWithoutPackage.length()));
@@ -78,7 +103,7 @@ public final class ClassName implements Comparable<ClassName> {
 
   public ClassName withoutSuffixChars(final int suffixLength) {
     final String nameWithoutPacakge = this.getNameWithoutPackage().asJavaName();
-    return new ClassName(this.getPackage().asJavaName()
+    return fromString(this.getPackage().asJavaName()
         + "/"
         + nameWithoutPacakge.substring(0, nameWithoutPacakge.length()
             - suffixLength));
@@ -165,7 +190,17 @@ public final class ClassName implements Comparable<ClassName> {
 
   @Override
   public int compareTo(final ClassName o) {
+    if (this == o) {
+      return 0;
+    }
     return this.asJavaName().compareTo(o.asJavaName());
   }
 
+  /**
+   * Names arriving from another process are swapped for the canonical instance
+   */
+  private Object readResolve() {
+    return fromString(this.name);
+  }
+
 }
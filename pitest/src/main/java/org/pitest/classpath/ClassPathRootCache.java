@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classpath;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates class paths whose roots are shared with the other class paths it
+ * has created, so that analyses run together, such as those of the modules of
+ * a build, list the contents of each archive they have in common once.
+ *
+ * Archives are assumed not to change while the cache is in use.
+ */
+public class ClassPathRootCache {
+
+  private final Map<File, ClassPathRoot> roots = new HashMap<File, ClassPathRoot>();
+
+  public ClassPath classPath(final Collection<File> files) {
+    final List<ClassPathRoot> rs = new ArrayList<ClassPathRoot>();
+    for (final File each : files) {
+      if (each.exists() && each.canRead()) {
+        rs.add(rootFor(each));
+      }
+    }
+    return new ClassPath(rs);
+  }
+
+  synchronized ClassPathRoot rootFor(final File file) {
+    final File key = file.getAbsoluteFile();
+    ClassPathRoot root = this.roots.get(key);
+    if (root == null) {
+      if (file.isDirectory()) {
+        root = new DirectoryClassPathRoot(file);
+      } else {
+        root = new IndexedArchiveClassPathRoot(file);
+      }
+      this.roots.put(key, root);
+    }
+    return root;
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Archive root that lists its classes once and answers requests for classes
+ * it does not hold without opening the archive.
+ */
+public class IndexedArchiveClassPathRoot extends ArchiveClassPathRoot {
+
+  private Collection<String> classNames;
+  private Set<String>        index;
+
+  public IndexedArchiveClassPathRoot(final File file) {
+    super(file);
+  }
+
+  @Override
+  public InputStream getData(final String name) throws IOException {
+    if (!index().contains(name.replace('/', '.'))) {
+      return null;
+    }
+    return super.getData(name);
+  }
+
+  @Override
+  public synchronized Collection<String> classNames() {
+    if (this.classNames == null) {
+      this.classNames = Collections.unmodifiableList(new ArrayList<String>(
+          super.classNames()));
+    }
+    return this.classNames;
+  }
+
+  private synchronized Set<String> index() {
+    if (this.index == null) {
+      this.index = new HashSet<String>(classNames());
+    }
+    return this.index;
+  }
+
+}
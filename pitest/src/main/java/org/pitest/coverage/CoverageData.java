@@ -15,9 +15,9 @@
 
 package org.pitest.coverage;
 
-import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -46,6 +46,8 @@ public class CoverageData implements CoverageDatabase {
   // We calculate block coverage, but everything currently runs on line
   // coverage. Ugly mess of maps below should go when
   // api changed to work via blocks
+  // The line maps are filled lazily, so methods reading them are synchronized
+  // to allow reports to be rendered from several threads
   private final Map<BlockLocation, Set<TestInfo>>             blockCoverage = new LinkedHashMap<BlockLocation, Set<TestInfo>>();
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<BlockLocation, Set<Integer>>();
   private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<ClassName, Map<ClassLine, Set<TestInfo>>>();
@@ -57,6 +59,9 @@ public class CoverageData implements CoverageDatabase {
 
   private boolean                                             hasFailedTest = false;
 
+  private Map<ClassName, Long>                                coverageIds;
+  private Map<ClassName, Set<TestInfo>>                       testsForClass;
+
   public CoverageData(final CodeSource code, final LineMap lm) {
     this.code = code;
     this.lm = lm;
@@ -65,7 +70,8 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
+  public synchronized Collection<TestInfo> getTestsForClassLine(
+      final ClassLine classLine) {
     final Collection<TestInfo> result = getTestsForClassName(
         classLine.getClassName()).get(classLine);
     if (result == null) {
@@ -85,21 +91,28 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public int getNumberOfCoveredLines(final Collection<ClassName> mutatedClass) {
+  public synchronized int getNumberOfCoveredLines(
+      final Collection<ClassName> mutatedClass) {
     return FCollection.fold(numberCoveredLines(), 0, mutatedClass);
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
-    final Set<TestInfo> tis = new TreeSet<TestInfo>(
-        new TestInfoNameComparator());
-    tis.addAll(FCollection.filter(this.blockCoverage.entrySet(), isFor(clazz))
-        .flatMap(toTests()));
-    return tis;
+  public synchronized Collection<TestInfo> getTestsForClass(
+      final ClassName clazz) {
+    if (this.testsForClass == null) {
+      this.testsForClass = calculateTestsForClasses();
+    }
+    final Set<TestInfo> tests = this.testsForClass.get(clazz);
+    if (tests == null) {
+      return Collections.emptySet();
+    }
+    return Collections.unmodifiableSet(tests);
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
 
+    this.coverageIds = null;
+    this.testsForClass = null;
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
@@ -108,6 +121,19 @@ public class CoverageData implements CoverageDatabase {
     }
   }
 
+  /**
+   * Records coverage read back from an earlier export, where only the tests
+   * covering each block are known.
+   */
+  public void recordBlockCoverage(final BlockLocation block,
+      final Collection<TestInfo> tests) {
+    this.coverageIds = null;
+    this.testsForClass = null;
+    for (final TestInfo each : tests) {
+      addTestsToBlockMap(each, block);
+    }
+  }
+
   private void addTestsToBlockMap(final TestInfo ti, BlockLocation each) {
     Set<TestInfo> tests = this.blockCoverage.get(each);
     if (tests == null) {
@@ -117,14 +143,22 @@ public class CoverageData implements CoverageDatabase {
     tests.add(ti);
   }
 
+  /**
+   * Returns a 64 bit fingerprint of the set of test classes that cover the
+   * supplied class, combined with the hierarchical hashes of those tests. The
+   * fingerprints for all classes are calculated together on the first call
+   * after coverage has been gathered.
+   */
   @Override
-  public BigInteger getCoverageIdForClass(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> coverage = getTestsForClassName(clazz);
-    if (coverage.isEmpty()) {
-      return BigInteger.ZERO;
+  public synchronized long getCoverageIdForClass(final ClassName clazz) {
+    if (this.coverageIds == null) {
+      this.coverageIds = calculateCoverageIds();
     }
-
-    return generateCoverageNumber(coverage);
+    final Long id = this.coverageIds.get(clazz);
+    if (id == null) {
+      return 0;
+    }
+    return id;
   }
 
   public List<BlockCoverage> createCoverage() {
@@ -158,30 +192,82 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public CoverageSummary createSummary() {
+  public synchronized CoverageSummary createSummary() {
     return new CoverageSummary(numberOfLines(), coveredLines());
   }
 
-  private BigInteger generateCoverageNumber(
-      final Map<ClassLine, Set<TestInfo>> coverage) {
-    BigInteger coverageNumber = BigInteger.ZERO;
-    final Set<ClassName> testClasses = new HashSet<ClassName>();
-    FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
+  private Map<ClassName, Set<TestInfo>> calculateTestsForClasses() {
+    final Map<ClassName, Set<TestInfo>> tests = new HashMap<ClassName, Set<TestInfo>>();
+    for (final Entry<BlockLocation, Set<TestInfo>> each : this.blockCoverage
+        .entrySet()) {
+      final ClassName clazz = each.getKey().getLocation().getClassName();
+      Set<TestInfo> forClass = tests.get(clazz);
+      if (forClass == null) {
+        forClass = new TreeSet<TestInfo>(new TestInfoNameComparator());
+        tests.put(clazz, forClass);
+      }
+      forClass.addAll(each.getValue());
+    }
+    return tests;
+  }
+
+  private Map<ClassName, Long> calculateCoverageIds() {
+    final Map<ClassName, Set<ClassName>> classesToTests = new HashMap<ClassName, Set<ClassName>>();
+    for (final Entry<BlockLocation, Set<TestInfo>> each : this.blockCoverage
+        .entrySet()) {
+      final ClassName clazz = each.getKey().getLocation().getClassName();
+      Set<ClassName> tests = classesToTests.get(clazz);
+      if (tests == null) {
+        tests = new HashSet<ClassName>();
+        classesToTests.put(clazz, tests);
+      }
+      FCollection.mapTo(each.getValue(), TestInfo.toDefiningClassName(), tests);
+    }
 
-    for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
-      coverageNumber = coverageNumber.add(each.getDeepHash());
+    final Set<ClassName> allTests = new HashSet<ClassName>();
+    for (final Set<ClassName> each : classesToTests.values()) {
+      allTests.addAll(each);
     }
 
-    return coverageNumber;
+    final Map<ClassName, Long> testHashes = hashTestClasses(allTests);
+    final Map<ClassName, Long> ids = new HashMap<ClassName, Long>(
+        classesToTests.size());
+    for (final Entry<ClassName, Set<ClassName>> each : classesToTests
+        .entrySet()) {
+      long id = 0;
+      for (final ClassName test : each.getValue()) {
+        // summing keeps the id independent of the order tests were seen in
+        id = id + testHashes.get(test);
+      }
+      ids.put(each.getKey(), id);
+    }
+    return ids;
   }
 
-  private F<Set<TestInfo>, Iterable<ClassName>> testsToClassName() {
-    return new F<Set<TestInfo>, Iterable<ClassName>>() {
-      @Override
-      public Iterable<ClassName> apply(final Set<TestInfo> a) {
-        return FCollection.map(a, TestInfo.toDefiningClassName());
-      }
-    };
+  private Map<ClassName, Long> hashTestClasses(final Set<ClassName> tests) {
+    final Map<ClassName, Long> deepHashes = new HashMap<ClassName, Long>(
+        tests.size());
+    for (final ClassInfo each : this.code.getClassInfo(tests)) {
+      deepHashes.put(each.getName(), each.getDeepHash().longValue());
+    }
+
+    final Map<ClassName, Long> hashes = new HashMap<ClassName, Long>(
+        tests.size());
+    for (final ClassName each : tests) {
+      final Long deepHash = deepHashes.get(each);
+      final long hash = deepHash == null ? 0 : deepHash;
+      hashes.put(each, mix(hash + mix(each.asJavaName().hashCode())));
+    }
+    return hashes;
+  }
+
+  // 64 bit finaliser from splitmix64, spreads each test hash across all bits
+  // so that the sum of several is unlikely to collide
+  private static long mix(final long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
   }
 
   private static F<ClassInfo, String> keyFromClassInfo() {
@@ -330,15 +416,6 @@ public class CoverageData implements CoverageDatabase {
     this.hasFailedTest = true;
   }
 
-  private F<Entry<BlockLocation, Set<TestInfo>>, Iterable<TestInfo>> toTests() {
-    return new F<Entry<BlockLocation, Set<TestInfo>>, Iterable<TestInfo>>() {
-      @Override
-      public Iterable<TestInfo> apply(Entry<BlockLocation, Set<TestInfo>> a) {
-        return a.getValue();
-      }
-    };
-  }
-
   private Predicate<Entry<BlockLocation, Set<TestInfo>>> isFor(
       final ClassName clazz) {
     return new Predicate<Entry<BlockLocation, Set<TestInfo>>>() {
@@ -1,6 +1,5 @@
 package org.pitest.coverage;
 
-import java.math.BigInteger;
 import java.util.Collection;
 
 import org.pitest.classinfo.ClassInfo;
@@ -16,7 +15,7 @@ public interface CoverageDatabase {
 
   Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
-  BigInteger getCoverageIdForClass(ClassName clazz);
+  long getCoverageIdForClass(ClassName clazz);
 
   Collection<ClassInfo> getClassesForFile(String sourceFile, String packageName);
 
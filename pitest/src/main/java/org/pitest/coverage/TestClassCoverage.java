@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.functional.Option;
+
+/**
+ * The coverage recorded for every test within a single test class, together
+ * with the hierarchical ids of the test class and of each class it covered at
+ * the time it was run. This allows the coverage to be reused by a later run if
+ * none of those classes have since changed.
+ */
+public final class TestClassCoverage {
+
+  private final HierarchicalClassId       testClass;
+  private final List<HierarchicalClassId> coveredClasses;
+  private final List<CoverageResult>      results;
+
+  public TestClassCoverage(final HierarchicalClassId testClass,
+      final Collection<HierarchicalClassId> coveredClasses,
+      final Collection<CoverageResult> results) {
+    this.testClass = testClass;
+    this.coveredClasses = new ArrayList<HierarchicalClassId>(coveredClasses);
+    this.results = new ArrayList<CoverageResult>(results);
+  }
+
+  /**
+   * Creates a record for the supplied test class and results, looking up the
+   * current ids of the classes the results cover.
+   */
+  public static TestClassCoverage fromResults(final ClassInfo testClass,
+      final Collection<CoverageResult> results, final ClassInfoSource source) {
+    final Set<ClassName> covered = new LinkedHashSet<ClassName>();
+    for (final CoverageResult each : results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        covered.add(block.getLocation().getClassName());
+      }
+    }
+
+    final List<HierarchicalClassId> ids = new ArrayList<HierarchicalClassId>();
+    for (final ClassName each : covered) {
+      final Option<ClassInfo> info = source.fetchClass(each);
+      if (info.hasSome()) {
+        ids.add(info.value().getHierarchicalId());
+      }
+    }
+    return new TestClassCoverage(testClass.getHierarchicalId(), ids, results);
+  }
+
+  public ClassName getTestClass() {
+    return this.testClass.getName();
+  }
+
+  public Collection<HierarchicalClassId> getCoveredClasses() {
+    return this.coveredClasses;
+  }
+
+  public Collection<CoverageResult> getResults() {
+    return this.results;
+  }
+
+  /**
+   * Returns true if neither the test class nor any class it covered (or any
+   * of their super classes) differs from the supplied source.
+   */
+  public boolean isUnchanged(final ClassInfo currentTestClass,
+      final ClassInfoSource source) {
+    if (!this.testClass.equals(currentTestClass.getHierarchicalId())) {
+      return false;
+    }
+    for (final HierarchicalClassId each : this.coveredClasses) {
+      final Option<ClassInfo> current = source.fetchClass(each.getName());
+      if (current.hasNone()
+          || !each.equals(current.value().getHierarchicalId())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "TestClassCoverage [testClass=" + this.testClass
+        + ", coveredClasses=" + this.coveredClasses + ", results="
+        + this.results + "]";
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.coverage.CoverageReceiver;
+import org.pitest.testapi.Description;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.ProbeContext;
+
+/**
+ * Collects the coverage of the tests of a single test class, run one after
+ * another on one thread while other classes run on others, against contexts
+ * of their own. Outcomes are held until the class has finished so that,
+ * should any of its tests start threads, the class can be run again in
+ * isolation instead.
+ *
+ * Hits that cannot be attributed to any running test may belong to this
+ * class, so should any be made while it runs the class is also run again.
+ */
+class ClassCoverageBuffer implements CoverageReceiver {
+
+  private final CoveragePipe  pipe;
+  private final List<Outcome> outcomes = new ArrayList<Outcome>();
+  private ProbeContext        context;
+  private boolean             startedThreads;
+  private long                strayHitsAtStart;
+  private boolean             missedHits;
+
+  ClassCoverageBuffer(final CoveragePipe pipe) {
+    this.pipe = pipe;
+  }
+
+  @Override
+  public void newTest() {
+    this.context = CodeCoverageStore.startTestOnThisThread();
+  }
+
+  @Override
+  public void recordTestOutcome(final Description description,
+      final boolean wasGreen, final int executionTime) {
+    CodeCoverageStore.endTestOnThisThread();
+    this.startedThreads = this.startedThreads
+        || this.context.isHitFromOtherThreads();
+    this.outcomes.add(new Outcome(description, wasGreen, executionTime,
+        this.context.getHits()));
+  }
+
+  @Override
+  public void registerClass(final int id, final String className) {
+    this.pipe.registerClass(id, className);
+  }
+
+  @Override
+  public void registerProbes(final int classId, final String methodName,
+      final String methodDesc, final int firstProbe, final int lastProbe) {
+    this.pipe.registerProbes(classId, methodName, methodDesc, firstProbe,
+        lastProbe);
+  }
+
+  void start() {
+    this.strayHitsAtStart = CodeCoverageStore.getStrayHits();
+  }
+
+  void finish() {
+    this.missedHits = CodeCoverageStore.getStrayHits() != this.strayHitsAtStart;
+  }
+
+  boolean hasStartedThreads() {
+    return this.startedThreads;
+  }
+
+  /**
+   * Returns true if hits that could not be attributed to a test were made
+   * while the class ran.
+   */
+  boolean mayHaveMissedHits() {
+    return this.missedHits;
+  }
+
+  void replay() {
+    for (final Outcome each : this.outcomes) {
+      this.pipe.recordTestOutcome(each.description, each.wasGreen,
+          each.executionTime, each.hits);
+    }
+  }
+
+  private static class Outcome {
+    private final Description      description;
+    private final boolean          wasGreen;
+    private final int              executionTime;
+    private final Collection<Long> hits;
+
+    Outcome(final Description description, final boolean wasGreen,
+        final int executionTime, final Collection<Long> hits) {
+      this.description = description;
+      this.wasGreen = wasGreen;
+      this.executionTime = executionTime;
+      this.hits = hits;
+    }
+  }
+
+}
@@ -5,15 +5,24 @@ import java.util.List;
 
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.util.CommunicationThread;
+import org.pitest.util.MemorySample;
 
 public class CoverageCommunicationThread extends CommunicationThread {
 
   public CoverageCommunicationThread(final ServerSocket socket,
       final CoverageOptions arguments, final List<String> tus,
       final SideEffect1<CoverageResult> handler) {
-    super(socket, new SendData(arguments, tus), new Receive(handler));
+    this(socket, arguments, tus, handler, Prelude
+        .noSideEffect(MemorySample.class));
+  }
 
+  public CoverageCommunicationThread(final ServerSocket socket,
+      final CoverageOptions arguments, final List<String> tus,
+      final SideEffect1<CoverageResult> handler,
+      final SideEffect1<MemorySample> memory) {
+    super(socket, new SendData(arguments, tus), new Receive(handler, memory));
   }
 
 }
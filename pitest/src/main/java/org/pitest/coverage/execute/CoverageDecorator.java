@@ -30,11 +30,24 @@ public class CoverageDecorator extends TestUnitDecorator {
   private static final Logger    LOG     = Log.getLogger();
 
   private final CoverageReceiver invokeQueue;
+  private final boolean          countThreads;
   private final ThreadMXBean     threads = ManagementFactory.getThreadMXBean();
 
   protected CoverageDecorator(final CoverageReceiver queue, final TestUnit child) {
+    this(queue, child, true);
+  }
+
+  /**
+   * @param countThreads
+   *          whether to warn when a test leaves more threads running than
+   *          when it started, which is only meaningful when tests run one at
+   *          a time
+   */
+  CoverageDecorator(final CoverageReceiver queue, final TestUnit child,
+      final boolean countThreads) {
     super(child);
     this.invokeQueue = queue;
+    this.countThreads = countThreads;
   }
 
   @Override
@@ -52,7 +65,7 @@ public class CoverageDecorator extends TestUnitDecorator {
     final int executionTime = (int) (System.currentTimeMillis() - t0);
 
     final int threadsAfterTest = this.threads.getThreadCount();
-    if (threadsAfterTest > threadsBeforeTest) {
+    if (this.countThreads && (threadsAfterTest > threadsBeforeTest)) {
       LOG.warning("More threads at end of test (" + threadsAfterTest + ") "
           + child().getDescription().getName() + " than start. ("
           + threadsBeforeTest + ")");
@@ -80,7 +80,8 @@ public class CoverageMinion {
 
       LOG.info(tus.size() + " tests received");
 
-      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus);
+      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus,
+          paramsFromParent.getThreads());
 
       worker.run();
 
@@ -143,7 +144,8 @@ public class CoverageMinion {
   private static List<TestUnit> discoverTests(
       final CoverageOptions paramsFromParent, final List<ClassName> classes) {
     final FindTestUnits finder = new FindTestUnits(
-        paramsFromParent.getPitConfig());
+        paramsFromParent.getPitConfig(),
+        paramsFromParent.getDiscoveryThreads());
     final List<TestUnit> tus = finder
         .findTestUnitsForAllSuppliedClasses(FCollection.flatMap(classes,
             ClassName.nameToClass()));
@@ -157,7 +159,7 @@ public class CoverageMinion {
     LOG.fine("Expecting " + count + " tests classes from parent");
     final List<ClassName> classes = new ArrayList<ClassName>(count);
     for (int i = 0; i != count; i++) {
-      classes.add(new ClassName(dis.readString()));
+      classes.add(ClassName.fromString(dis.readString()));
     }
     LOG.fine("Tests classes received");
 
@@ -24,14 +24,31 @@ public class CoverageOptions {
   private final boolean           verbose;
   private final Configuration     pitConfig;
   private final int               maxDependencyDistance;
+  private final int               threads;
+  private final int               discoveryThreads;
 
   public CoverageOptions(final Predicate<String> filter,
       final Configuration pitConfig, final boolean verbose,
       final int maxDependencyDistance) {
+    this(filter, pitConfig, verbose, maxDependencyDistance, 1);
+  }
+
+  public CoverageOptions(final Predicate<String> filter,
+      final Configuration pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final int threads) {
+    this(filter, pitConfig, verbose, maxDependencyDistance, threads, 1);
+  }
+
+  public CoverageOptions(final Predicate<String> filter,
+      final Configuration pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final int threads,
+      final int discoveryThreads) {
     this.filter = filter;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.threads = threads;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public Predicate<String> getFilter() {
@@ -50,4 +67,18 @@ public class CoverageOptions {
     return this.maxDependencyDistance;
   }
 
+  /**
+   * The number of threads the coverage minion should run test classes on
+   */
+  public int getThreads() {
+    return this.threads;
+  }
+
+  /**
+   * The number of threads the coverage minion should discover tests on
+   */
+  public int getDiscoveryThreads() {
+    return this.discoveryThreads;
+  }
+
 }
@@ -7,6 +7,7 @@ import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MemorySample;
 import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
@@ -27,8 +28,17 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
+    recordTestOutcome(description, wasGreen, executionTime,
+        CodeCoverageStore.getHits());
+  }
 
+  /**
+   * Records the outcome of a test whose hits were collected separately from
+   * the shared store.
+   */
+  public synchronized void recordTestOutcome(final Description description,
+      final boolean wasGreen, final int executionTime,
+      final Collection<Long> hits) {
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
     this.dos.writeInt(hits.size());
@@ -41,6 +51,7 @@ public class CoveragePipe implements CoverageReceiver {
   }
 
   public synchronized void end(final ExitCode exitCode) {
+    MemorySample.measure().write(this.dos);
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
     this.dos.flush();
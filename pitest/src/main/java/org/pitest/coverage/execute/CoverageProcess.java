@@ -6,9 +6,11 @@ import java.util.List;
 
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.MemorySample;
 
 public class CoverageProcess {
 
@@ -19,10 +21,18 @@ public class CoverageProcess {
       final CoverageOptions arguments, final ServerSocket socket,
       final List<String> testClases, final SideEffect1<CoverageResult> handler)
           throws IOException {
+    this(processArgs, arguments, socket, testClases, handler, Prelude
+        .noSideEffect(MemorySample.class));
+  }
+
+  public CoverageProcess(final ProcessArgs processArgs,
+      final CoverageOptions arguments, final ServerSocket socket,
+      final List<String> testClases, final SideEffect1<CoverageResult> handler,
+      final SideEffect1<MemorySample> memory) throws IOException {
     this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
         CoverageMinion.class);
     this.crt = new CoverageCommunicationThread(socket, arguments, testClases,
-        handler);
+        handler, memory);
   }
 
   public void start() throws IOException, InterruptedException {
@@ -19,37 +19,66 @@ import static org.pitest.util.Unchecked.translateCheckedException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.UnContainer;
+import org.pitest.util.Log;
 
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Runs tests gathering the coverage of each.
+ *
+ * With more than one thread the tests of different test classes are run
+ * concurrently, each class on a single thread, with probe hits recorded
+ * against the test running on the thread that made them. Classes with tests
+ * that start threads of their own cannot be reliably separated from those
+ * running alongside them, so are run again one test at a time once the
+ * others have finished. Hits made by threads that hold no test's context,
+ * or the context of a test that has ended, cannot be attributed, so classes
+ * running when any such hit is made are also run again.
+ */
 public class CoverageWorker {
 
+  private static final Logger  LOG = Log.getLogger();
+
   private final CoveragePipe   pipe;
   private final List<TestUnit> tests;
+  private final int            threads;
 
   public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests) {
+    this(pipe, tests, 1);
+  }
+
+  public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests,
+      final int threads) {
     this.pipe = pipe;
     this.tests = tests;
+    this.threads = threads;
   }
 
   public void run() {
 
     try {
-      final List<TestUnit> decoratedTests = decorateForCoverage(this.tests,
-          this.pipe);
-
-      Collections.sort(decoratedTests, testComparator());
+      final List<TestUnit> sorted = new ArrayList<TestUnit>(this.tests);
+      Collections.sort(sorted, testComparator());
 
-      final Container c = new UnContainer();
-
-      final Pitest pit = new Pitest(
-          Collections.singletonList(new ErrorListener()));
-      pit.run(c, decoratedTests);
+      if (this.threads > 1) {
+        runConcurrently(sorted);
+      } else {
+        runSerially(sorted);
+      }
 
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
@@ -57,6 +86,88 @@ public class CoverageWorker {
 
   }
 
+  private void runSerially(final List<TestUnit> sorted) {
+    run(decorateForCoverage(sorted, this.pipe, true));
+  }
+
+  private void runConcurrently(final List<TestUnit> sorted) throws Exception {
+    final Map<String, List<TestUnit>> byClass = groupByTestClass(sorted);
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(
+        this.threads, Math.max(1, byClass.size())));
+
+    final Map<String, ClassCoverageBuffer> buffers = new LinkedHashMap<String, ClassCoverageBuffer>();
+    final List<Future<?>> runs = new ArrayList<Future<?>>();
+    CodeCoverageStore.setPerThreadHits(true);
+    try {
+      for (final Map.Entry<String, List<TestUnit>> each : byClass.entrySet()) {
+        final ClassCoverageBuffer buffer = new ClassCoverageBuffer(this.pipe);
+        buffers.put(each.getKey(), buffer);
+        runs.add(executor.submit(runTests(
+            decorateForCoverage(each.getValue(), buffer, false), buffer)));
+      }
+      for (final Future<?> each : runs) {
+        each.get();
+      }
+    } finally {
+      executor.shutdown();
+      CodeCoverageStore.setPerThreadHits(false);
+    }
+
+    final List<TestUnit> isolated = new ArrayList<TestUnit>();
+    for (final Map.Entry<String, ClassCoverageBuffer> each : buffers
+        .entrySet()) {
+      if (each.getValue().hasStartedThreads()) {
+        LOG.info("Tests in " + each.getKey()
+            + " start threads so will be run again in isolation");
+        isolated.addAll(byClass.get(each.getKey()));
+      } else if (each.getValue().mayHaveMissedHits()) {
+        LOG.info("Code was run outside of any test while tests in "
+            + each.getKey() + " ran so they will be run again in isolation");
+        isolated.addAll(byClass.get(each.getKey()));
+      } else {
+        each.getValue().replay();
+      }
+    }
+    runSerially(isolated);
+  }
+
+  private static Map<String, List<TestUnit>> groupByTestClass(
+      final List<TestUnit> sorted) {
+    final Map<String, List<TestUnit>> byClass = new LinkedHashMap<String, List<TestUnit>>();
+    for (final TestUnit each : sorted) {
+      final String testClass = String.valueOf(each.getDescription()
+          .getFirstTestClass());
+      List<TestUnit> forClass = byClass.get(testClass);
+      if (forClass == null) {
+        forClass = new ArrayList<TestUnit>();
+        byClass.put(testClass, forClass);
+      }
+      forClass.add(each);
+    }
+    return byClass;
+  }
+
+  private static Callable<Void> runTests(final List<TestUnit> decorated,
+      final ClassCoverageBuffer buffer) {
+    return new Callable<Void>() {
+      @Override
+      public Void call() {
+        buffer.start();
+        run(decorated);
+        buffer.finish();
+        return null;
+      }
+    };
+  }
+
+  private static void run(final List<TestUnit> decorated) {
+    final Container c = new UnContainer();
+
+    final Pitest pit = new Pitest(
+        Collections.singletonList(new ErrorListener()));
+    pit.run(c, decorated);
+  }
+
   private static Comparator<TestUnit> testComparator() {
     return new Comparator<TestUnit>() {
       @Override
@@ -69,10 +180,10 @@ public class CoverageWorker {
   }
 
   private static List<TestUnit> decorateForCoverage(final List<TestUnit> plainTests,
-      final CoverageReceiver queue) {
+      final CoverageReceiver queue, final boolean countThreads) {
     final List<TestUnit> decorated = new ArrayList<TestUnit>(plainTests.size());
     for (final TestUnit each : plainTests) {
-      decorated.add(new CoverageDecorator(queue, each));
+      decorated.add(new CoverageDecorator(queue, each, countThreads));
     }
     return decorated;
   }
@@ -18,29 +18,37 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.HistoryStore;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.testapi.Configuration;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
+import org.pitest.util.MemorySample;
 import org.pitest.util.PitError;
 import org.pitest.util.SocketFinder;
 import org.pitest.util.Timings;
@@ -57,11 +65,28 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final Option<HistoryStore> history;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, Option.<HistoryStore> none());
+  }
+
+  /**
+   * When a history store is supplied, coverage recorded by a previous run is
+   * reused for any test class for which neither the test nor the code it
+   * covered has changed, and only the remaining tests are run. The history
+   * must be initialized before coverage is calculated.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final Option<HistoryStore> history) {
+    this.history = history;
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -113,12 +138,57 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private void gatherCoverageData(final Collection<ClassInfo> tests,
       final CoverageData coverage) throws IOException, InterruptedException,
       ExecutionException {
+    if (this.history.hasNone()) {
+      runTests(tests, resultProcessor(coverage));
+      return;
+    }
+
+    final HistoryStore store = this.history.value();
+    final Map<ClassName, TestClassCoverage> previous = store
+        .getHistoricTestCoverage();
+    final List<TestClassCoverage> recorded = new ArrayList<TestClassCoverage>();
+    final List<ClassInfo> changed = new ArrayList<ClassInfo>();
+    for (final ClassInfo each : tests) {
+      final TestClassCoverage old = previous.get(each.getName());
+      if ((old != null) && old.isUnchanged(each, this.code)) {
+        recorded.add(old);
+        for (final CoverageResult result : old.getResults()) {
+          coverage.calculateClassCoverage(result);
+        }
+      } else {
+        changed.add(each);
+      }
+    }
+
+    LOG.info("Reusing coverage from history for " + recorded.size()
+        + " test classes. Running " + changed.size() + " test classes.");
+
+    if (!changed.isEmpty()) {
+      final ResultGrouper grouper = new ResultGrouper(changed,
+          resultProcessor(coverage));
+      runTests(changed, grouper);
+      if (!grouper.allResultsAttributed) {
+        // results we cannot tie back to a test class (e.g from suites) would
+        // be lost if only part of the coverage was reused next time
+        LOG.fine("Not recording coverage history as some tests could not be matched to a test class");
+        return;
+      }
+      for (final ClassInfo each : changed) {
+        recorded.add(TestClassCoverage.fromResults(each,
+            grouper.results.get(each.getName()), this.code));
+      }
+    }
+
+    store.recordTestCoverage(recorded);
+  }
+
+  private void runTests(final Collection<ClassInfo> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException,
+      InterruptedException, ExecutionException {
 
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final SideEffect1<CoverageResult> handler = resultProcessor(coverage);
-
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
@@ -126,7 +196,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
         .andLaunchOptions(this.launchOptions).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
+        socket, filteredTests, handler, memoryRecorder());
 
     process.start();
 
@@ -145,6 +215,13 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private SideEffect1<MemorySample> memoryRecorder() {
+    if (this.launchOptions.getMinionSizer().hasSome()) {
+      return this.launchOptions.getMinionSizer().value().recorder();
+    }
+    return Prelude.noSideEffect(MemorySample.class);
+  }
+
   private static F<ClassInfo, String> classInfoToName() {
     return new F<ClassInfo, String>() {
       @Override
@@ -210,4 +287,31 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     return this.launchOptions;
   }
 
+  private static class ResultGrouper implements SideEffect1<CoverageResult> {
+    private final Map<ClassName, List<CoverageResult>> results = new LinkedHashMap<ClassName, List<CoverageResult>>();
+    private final SideEffect1<CoverageResult>          next;
+    private boolean                                    allResultsAttributed = true;
+
+    ResultGrouper(final Collection<ClassInfo> tests,
+        final SideEffect1<CoverageResult> next) {
+      this.next = next;
+      for (final ClassInfo each : tests) {
+        this.results.put(each.getName(), new ArrayList<CoverageResult>());
+      }
+    }
+
+    @Override
+    public void apply(final CoverageResult cr) {
+      this.next.apply(cr);
+      final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+      final List<CoverageResult> forClass = testClass == null ? null
+          : this.results.get(ClassName.fromString(testClass));
+      if (forClass != null) {
+        forClass.add(cr);
+      } else {
+        this.allResultsAttributed = false;
+      }
+    }
+  }
+
 }
@@ -10,10 +10,12 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.MemorySample;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
@@ -25,9 +27,16 @@ final class Receive implements ReceiveStrategy {
   private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<Long, BlockLocation>();
 
   private final SideEffect1<CoverageResult> handler;
+  private final SideEffect1<MemorySample>   memory;
 
   Receive(final SideEffect1<CoverageResult> handler) {
+    this(handler, Prelude.noSideEffect(MemorySample.class));
+  }
+
+  Receive(final SideEffect1<CoverageResult> handler,
+      final SideEffect1<MemorySample> memory) {
     this.handler = handler;
+    this.memory = memory;
   }
 
   @Override
@@ -44,6 +53,9 @@ final class Receive implements ReceiveStrategy {
     case Id.OUTCOME:
       handleTestEnd(is);
       break;
+    case Id.MEMORY:
+      this.memory.apply(MemorySample.read(is));
+      break;
     case Id.DONE:
       // nothing to do ?
     }
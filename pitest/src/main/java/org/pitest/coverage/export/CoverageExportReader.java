@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.export;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.Unchecked;
+
+/**
+ * Streams the blocks recorded by {@link DefaultCoverageExporter} back in, one
+ * block at a time, so that large exports can be read without holding the
+ * document in memory.
+ */
+public class CoverageExportReader {
+
+  private final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+  public void read(final Reader in, final SideEffect1<BlockCoverage> handler) {
+    try {
+      final XMLStreamReader xml = this.factory.createXMLStreamReader(in);
+      try {
+        readBlocks(xml, handler);
+      } finally {
+        xml.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void readBlocks(final XMLStreamReader xml,
+      final SideEffect1<BlockCoverage> handler) throws XMLStreamException {
+    BlockLocation block = null;
+    List<String> tests = new ArrayList<String>();
+    while (xml.hasNext()) {
+      final int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if ("block".equals(xml.getLocalName())) {
+          block = readBlock(xml);
+          tests = new ArrayList<String>();
+        } else if ("test".equals(xml.getLocalName())) {
+          tests.add(xml.getAttributeValue(null, "name"));
+        }
+      } else if ((event == XMLStreamConstants.END_ELEMENT)
+          && "block".equals(xml.getLocalName())) {
+        handler.apply(new BlockCoverage(block, tests));
+      }
+    }
+  }
+
+  private static BlockLocation readBlock(final XMLStreamReader xml) {
+    final String desc = xml.getAttributeValue(null, "desc");
+    final Location location = Location.location(
+        ClassName.fromString(xml.getAttributeValue(null, "classname")),
+        MethodName.fromString(xml.getAttributeValue(null, "method")),
+        desc == null ? "" : desc);
+    return new BlockLocation(location, Integer.parseInt(xml
+        .getAttributeValue(null, "number")));
+  }
+
+}
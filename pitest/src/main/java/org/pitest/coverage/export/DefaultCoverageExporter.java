@@ -49,12 +49,14 @@ public class DefaultCoverageExporter implements CoverageExporter {
         "<block classname='" + l.getClassName().asJavaName() + "'"
             + " method='"
             + StringUtil.escapeBasicHtmlChars(l.getMethodName().name())
-            + "' number='" + each.getBlock().getBlock() + "'>");
+            + "' number='" + each.getBlock().getBlock() + "' desc='"
+            + StringUtil.escapeBasicHtmlChars(l.getMethodDesc()) + "'>");
     write(out, "<tests>\n");
     final List<String> ts = new ArrayList<String>(each.getTests());
     Collections.sort(ts);
     for (final String test : ts) {
-      write(out, "<test name='" + test + "'/>\n");
+      write(out, "<test name='" + StringUtil.escapeBasicHtmlChars(test)
+          + "'/>\n");
     }
     write(out, "</tests>\n");
     write(out, "</block>\n");
@@ -20,6 +20,7 @@ import java.util.Collection;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.util.Glob;
+import org.pitest.util.GlobSet;
 
 public class IgnoreCoreClasses implements Predicate<DependencyAccess> {
 
@@ -31,7 +32,7 @@ public class IgnoreCoreClasses implements Predicate<DependencyAccess> {
       "org.jmock.*", "com.sun.*");
 
   IgnoreCoreClasses() {
-    this.impl = Prelude.not(Prelude.or(Glob.toGlobPredicates(this.filtered)));
+    this.impl = Prelude.not(new GlobSet(Glob.toGlobPredicates(this.filtered)));
   }
 
   @Override
@@ -107,6 +107,11 @@ public abstract class Option<T> implements FunctionalIterable<T> {
       return false;
     }
 
+    // keep None a singleton when read back by xstream
+    private Object readResolve() {
+      return NONE;
+    }
+
   }
 
   public static final class Some<T> extends Option<T> {
@@ -17,8 +17,8 @@ package org.pitest.junit.adapter;
 
 import static org.pitest.util.Unchecked.translateCheckedException;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.List;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
 import java.util.concurrent.Callable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,16 +29,28 @@ import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.Filterable;
 import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runners.Parameterized;
 import org.junit.runners.model.RunnerBuilder;
 import org.pitest.functional.Option;
+import org.pitest.junit.DescriptionFilter;
+import org.pitest.junit.ParameterisedTestFilter;
 import org.pitest.testapi.AbstractTestUnit;
 import org.pitest.testapi.ResultCollector;
-import org.pitest.testapi.foreignclassloader.Events;
+import org.pitest.testapi.foreignclassloader.ForeignLoaderBridge;
 import org.pitest.util.ClassLoaderDetectionStrategy;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
-import org.pitest.util.Unchecked;
 
+/**
+ * Runs a JUnit runner, optionally filtered, as a pitest test unit.
+ *
+ * The filtered runner is built on first execution and reused while the unit
+ * keeps being executed against the same loader, as a minion will run the same
+ * tests against many mutants. It is held softly so may be rebuilt under memory
+ * pressure. Runners that report errors and parameterized runners, whose
+ * parameters are computed by test code when they are constructed, are rebuilt
+ * for every execution.
+ */
 public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   private static final Logger                LOG = Log.getLogger();
@@ -47,6 +59,8 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
   private final Class<?>                     clazz;
   private final Option<Filter>               filter;
 
+  private SoftReference<PreparedRunner>      prepared;
+
   public AdaptedJUnitTestUnit(final Class<?> clazz, final Option<Filter> filter) {
     this(IsolationUtils.loaderDetectionStrategy(), clazz, filter);
   }
@@ -71,18 +85,17 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
   @Override
   public void execute(final ClassLoader loader, final ResultCollector rc) {
 
-    final Runner runner = createRunner(this.clazz);
-    checkForErrorRunner(runner);
-    filterIfRequired(rc, runner);
-
-    
     try {
-      if (this.loaderDetection.fromDifferentLoader(runner.getClass(), loader)) {
-        executeInDifferentClassLoader(loader, rc, runner);
+      if (this.loaderDetection.fromDifferentLoader(this.clazz, loader)) {
+        executeInDifferentClassLoader(loader, rc);
 
       } else {
+        final PreparedRunner pr = prepareRunner(loader);
+        if (pr.noTestsRemain) {
+          rc.notifySkipped(this.getDescription());
+        }
         final CustomRunnerExecutor nativeCe = new CustomRunnerExecutor(
-            this.getDescription(), runner, rc);
+            this.getDescription(), pr.runner, rc);
         nativeCe.run();
       }
 
@@ -90,33 +103,68 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
       LOG.log(Level.SEVERE, "Error while running adapter JUnit fixture "
           + this.clazz + " with filter " + this.filter, e);
       throw translateCheckedException(e);
-    } 
+    }
+
+  }
+
+  private synchronized PreparedRunner prepareRunner(final ClassLoader loader) {
+    final PreparedRunner cached = this.prepared != null ? this.prepared.get()
+        : null;
+    if ((cached != null) && (cached.loader == loader)) {
+      return cached;
+    }
+
+    final Runner runner = createRunner(this.clazz);
+    checkForErrorRunner(this.clazz, runner);
+    final PreparedRunner pr = new PreparedRunner(loader, runner,
+        !filterIfRequired(runner));
+    if (isReusable(runner)) {
+      this.prepared = new SoftReference<PreparedRunner>(pr);
+    } else {
+      this.prepared = null;
+    }
+    return pr;
+  }
 
+  private static boolean isReusable(final Runner runner) {
+    return !(runner instanceof ErrorReportingRunner)
+        && !(runner instanceof Parameterized);
   }
 
-  private void checkForErrorRunner(final Runner runner) {
+  static void checkForErrorRunner(final Class<?> clazz, final Runner runner) {
     if (runner instanceof ErrorReportingRunner) {
-      LOG.warning("JUnit error for class " + this.clazz + " : "
+      LOG.warning("JUnit error for class " + clazz + " : "
           + runner.getDescription());
     }
 
   }
 
-  private void filterIfRequired(final ResultCollector rc, final Runner runner) {
+  /**
+   * @return false if the filter left no tests to run
+   */
+  private boolean filterIfRequired(final Runner runner) {
     if (this.filter.hasSome()) {
-      if (!(runner instanceof Filterable)) {
-        LOG.warning("Not able to filter " + runner.getDescription()
-            + ". Mutation may have prevented JUnit from constructing test");
-        return;
-      }
-      final Filterable f = (Filterable) runner;
-      try {
-        f.filter(this.filter.value());
-      } catch (final NoTestsRemainException e1) {
-        rc.notifySkipped(this.getDescription());
-        return;
-      }
+      return filter(runner, this.filter.value());
+    }
+    return true;
+  }
+
+  /**
+   * @return false if the filter left no tests to run
+   */
+  static boolean filter(final Runner runner, final Filter filter) {
+    if (!(runner instanceof Filterable)) {
+      LOG.warning("Not able to filter " + runner.getDescription()
+          + ". Mutation may have prevented JUnit from constructing test");
+      return true;
+    }
+    final Filterable f = (Filterable) runner;
+    try {
+      f.filter(filter);
+    } catch (final NoTestsRemainException e1) {
+      return false;
     }
+    return true;
   }
 
   public static Runner createRunner(final Class<?> clazz) {
@@ -135,30 +183,45 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
   }
 
   private void executeInDifferentClassLoader(final ClassLoader loader,
-      final ResultCollector rc, final Runner runner)
-          throws IllegalAccessException, InvocationTargetException {
-
-    // must jump through hoops to run in different class loader
-    // when even our framework classes may be duplicated
-    // translate everything via strings
-    final ForeignClassLoaderCustomRunnerExecutor ce = new ForeignClassLoaderCustomRunnerExecutor(
-        runner);
-    @SuppressWarnings("unchecked")
-    Callable<List<String>> foreignCe = (Callable<List<String>>) IsolationUtils
-    .cloneForLoader(ce, loader);
+      final ResultCollector rc) throws Exception {
 
-    try {
-      final List<String> q = foreignCe.call();
-      convertStringsToResults(rc, q);
-    } catch (Exception ex) {
-      throw Unchecked.translateCheckedException(ex);
-    }
+    // our framework classes may be duplicated in the other loader, so the
+    // runner is built there and reports back through a proxy
+    final Callable<?> foreignCe = ForeignLoaderBridge.createExecutor(loader,
+        ForeignClassLoaderCustomRunnerExecutor.class, this.clazz.getName(),
+        filterForLoader(loader),
+        ForeignLoaderBridge.createSink(loader, rc, this.getDescription()));
+    foreignCe.call();
 
   }
 
-  private void convertStringsToResults(final ResultCollector rc,
-      final List<String> q) {
-    Events.applyEvents(q, rc, this.getDescription());
+  private Object filterForLoader(final ClassLoader loader) throws Exception {
+    if (this.filter.hasNone()) {
+      return null;
+    }
+    final Filter f = this.filter.value();
+    if ((f instanceof DescriptionFilter)
+        || (f instanceof ParameterisedTestFilter)) {
+      // fully determined by their descriptions
+      final Constructor<?> c = IsolationUtils.convertForClassLoader(loader,
+          f.getClass()).getDeclaredConstructor(String.class);
+      c.setAccessible(true);
+      return c.newInstance(f.describe());
+    }
+    return IsolationUtils.cloneForLoader(f, loader);
+  }
+
+  private static class PreparedRunner {
+    private final ClassLoader loader;
+    private final Runner      runner;
+    private final boolean     noTestsRemain;
+
+    PreparedRunner(final ClassLoader loader, final Runner runner,
+        final boolean noTestsRemain) {
+      this.loader = loader;
+      this.runner = runner;
+      this.noTestsRemain = noTestsRemain;
+    }
   }
 
   @Override
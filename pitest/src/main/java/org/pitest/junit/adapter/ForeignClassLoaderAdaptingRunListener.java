@@ -15,31 +15,23 @@
 
 package org.pitest.junit.adapter;
 
-import java.util.List;
-
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.ResultCollector;
-import org.pitest.testapi.foreignclassloader.Fail;
-import org.pitest.testapi.foreignclassloader.Skipped;
-import org.pitest.testapi.foreignclassloader.Start;
-import org.pitest.testapi.foreignclassloader.Success;
-import org.pitest.util.IsolationUtils;
+import org.pitest.testapi.foreignclassloader.ResultSink;
 
 class ForeignClassLoaderAdaptingRunListener extends RunListener {
 
-  private final List<String> events;
-  private boolean            finished = false;
+  private final ResultSink sink;
+  private boolean          finished = false;
 
-  ForeignClassLoaderAdaptingRunListener(final List<String> queue) {
-    this.events = queue;
+  ForeignClassLoaderAdaptingRunListener(final ResultSink sink) {
+    this.sink = sink;
   }
 
   @Override
   public void testFailure(final Failure failure) throws Exception {
-    storeAsString(new Fail(failure.getException()));
+    this.sink.end(null, failure.getException());
     this.finished = true;
   }
 
@@ -50,25 +42,20 @@ class ForeignClassLoaderAdaptingRunListener extends RunListener {
 
   @Override
   public void testIgnored(final Description description) throws Exception {
-    storeAsString(new Skipped());
+    this.sink.skipped(null);
     this.finished = true;
   }
 
   @Override
   public void testStarted(final Description description) throws Exception {
-    storeAsString(new Start());
+    this.sink.start(null);
   }
 
   @Override
   public void testFinished(final Description description) throws Exception {
     if (!this.finished) {
-      storeAsString(new Success());
+      this.sink.end(null, null);
     }
   }
 
-  private void storeAsString(
-      final SideEffect2<ResultCollector, org.pitest.testapi.Description> result) {
-    this.events.add(IsolationUtils.toXml(result));
-  }
-
 }
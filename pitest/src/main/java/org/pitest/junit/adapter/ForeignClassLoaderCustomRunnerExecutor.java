@@ -14,33 +14,52 @@
  */
 package org.pitest.junit.adapter;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
 import org.junit.runner.notification.RunListener;
 import org.junit.runner.notification.RunNotifier;
+import org.pitest.testapi.foreignclassloader.ResultSink;
+import org.pitest.util.IsolationUtils;
 
-public class ForeignClassLoaderCustomRunnerExecutor implements
-    Callable<List<String>> {
+/**
+ * Constructed and run within a foreign class loader, so builds its runner
+ * there from the name of the test class.
+ */
+public class ForeignClassLoaderCustomRunnerExecutor implements Callable<Void> {
 
-  private final Runner runner;
+  private final String     testClass;
+  private final Filter     filter;
+  private final ResultSink sink;
 
-  public ForeignClassLoaderCustomRunnerExecutor(final Runner runner) {
-    this.runner = runner;
+  /**
+   * @param filter
+   *          filter to apply to the runner, or null
+   */
+  public ForeignClassLoaderCustomRunnerExecutor(final String testClass,
+      final Filter filter, final ResultSink sink) {
+    this.testClass = testClass;
+    this.filter = filter;
+    this.sink = sink;
   }
 
   @Override
-  public List<String> call() { // NO_UCD
-    List<String> queue = new ArrayList<String>();
+  public Void call() { // NO_UCD
+    final Class<?> clazz = IsolationUtils.convertForClassLoader(getClass()
+        .getClassLoader(), this.testClass);
+    final Runner runner = AdaptedJUnitTestUnit.createRunner(clazz);
+    AdaptedJUnitTestUnit.checkForErrorRunner(clazz, runner);
+    if ((this.filter != null)
+        && !AdaptedJUnitTestUnit.filter(runner, this.filter)) {
+      this.sink.skipped(null);
+    }
     final RunNotifier rn = new RunNotifier();
     final RunListener listener = new ForeignClassLoaderAdaptingRunListener(
-        queue);
+        this.sink);
     rn.addFirstListener(listener);
-    this.runner.run(rn);
-    return queue;
-
+    runner.run(rn);
+    return null;
   }
 
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest;
+
+/**
+ * A timeout strategy that learns how long each test takes from runs observed
+ * while mutation testing. Allowances are budgets of cpu time consumed by the
+ * thread running the test where the jvm supports measuring it, so load on the
+ * machine does not cause tests to time out.
+ */
+public interface AdaptiveTimeoutLengthStrategy extends TimeoutLengthStrategy {
+
+  /**
+   * @param test
+   *          qualified name of the test
+   * @param normalDuration
+   *          wall clock time taken by the test during coverage
+   * @return allowed time in milliseconds
+   */
+  long getAllowedTime(String test, long normalDuration);
+
+  /**
+   * Records the time in milliseconds taken by a run of a test that passed.
+   */
+  void recordPassingRun(String test, long duration);
+
+}
@@ -1,11 +1,14 @@
 package org.pitest.mutationtest;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface HistoryStore {
@@ -15,10 +18,37 @@ public interface HistoryStore {
   void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo);
 
+  /**
+   * Records the per test coverage gathered for the current run. Implementations
+   * may defer writing it out until the class path is recorded.
+   */
+  void recordTestCoverage(final Collection<TestClassCoverage> coverage);
+
   void recordResult(final MutationResult result);
 
+  /**
+   * Records a fingerprint of the settings that determine which mutations are
+   * generated for a class.
+   */
+  void recordMutationConfig(final String fingerprint);
+
   Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults();
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  /**
+   * Returns the mutations analysed by the previous run along with their
+   * results, grouped by mutated class. Tests are not assigned to the returned
+   * mutations.
+   */
+  Map<ClassName, List<MutationResult>> getHistoricMutations();
+
+  Map<ClassName, TestClassCoverage> getHistoricTestCoverage();
+
+  /**
+   * Returns the mutation config fingerprint recorded by the previous run, if
+   * there was one.
+   */
+  Option<String> getHistoricMutationConfig();
+
 }
@@ -15,15 +15,24 @@ public class ListenerArguments {
   private final long                 startTime;
   private final SourceLocator        locator;
   private final MutationEngine       engine;
+  private final int                  renderThreads;
 
   public ListenerArguments(final ResultOutputStrategy outputStrategy,
       final CoverageDatabase coverage, final SourceLocator locator,
       final MutationEngine engine, final long startTime) {
+    this(outputStrategy, coverage, locator, engine, startTime, 0);
+  }
+
+  public ListenerArguments(final ResultOutputStrategy outputStrategy,
+      final CoverageDatabase coverage, final SourceLocator locator,
+      final MutationEngine engine, final long startTime,
+      final int renderThreads) {
     this.outputStrategy = outputStrategy;
     this.coverage = coverage;
     this.locator = locator;
     this.startTime = startTime;
     this.engine = engine;
+    this.renderThreads = renderThreads;
   }
 
   public ResultOutputStrategy getOutputStrategy() {
@@ -46,4 +55,12 @@ public class ListenerArguments {
     return this.engine;
   }
 
+  /**
+   * Number of threads listeners may render reports on, or 0 if reports should
+   * be written on the thread results are reported to
+   */
+  public int getRenderThreads() {
+    return this.renderThreads;
+  }
+
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Implemented by listeners that need to know before analysis starts which
+ * mutations will be reported, so they can tell when all results for a class
+ * or file have arrived.
+ *
+ * The plan may be read from off heap storage as it is walked, so listeners
+ * should keep what they need from each mutation rather than the mutation
+ * itself.
+ */
+public interface MutationPlanListener {
+
+  void handleMutationPlan(Iterable<MutationDetails> mutations);
+
+}
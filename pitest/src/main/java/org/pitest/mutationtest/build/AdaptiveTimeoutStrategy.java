@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.AdaptiveTimeoutLengthStrategy;
+
+/**
+ * Allows each test a percentile of the times it has taken multiplied by the
+ * timeout factor, plus a small constant. The time a test took during the
+ * unmutated coverage run is the first of these, so the budget is learned from
+ * the start, and each passing run against a mutant adds another.
+ *
+ * The first run of each test against a mutant is discarded as the jvm will
+ * not yet have loaded and compiled the code it exercises.
+ */
+public class AdaptiveTimeoutStrategy implements AdaptiveTimeoutLengthStrategy {
+
+  static final int                                MAX_SAMPLES      = 50;
+  static final double                             PERCENTILE       = 0.95;
+  static final long                               LEARNED_CONSTANT = 250;
+
+  private final PercentAndConstantTimeoutStrategy base;
+  private final float                             factor;
+  private final Map<String, Samples>              samples          = new HashMap<String, Samples>();
+
+  public AdaptiveTimeoutStrategy(final float factor, final long constant) {
+    this.base = new PercentAndConstantTimeoutStrategy(factor, constant);
+    this.factor = factor;
+  }
+
+  @Override
+  public long getAllowedTime(final long normalDuration) {
+    return this.base.getAllowedTime(normalDuration);
+  }
+
+  @Override
+  public synchronized long getAllowedTime(final String test,
+      final long normalDuration) {
+    Samples forTest = this.samples.get(test);
+    if (forTest == null) {
+      forTest = new Samples(normalDuration);
+      this.samples.put(test, forTest);
+    }
+    return Math.round(forTest.percentile(PERCENTILE) * this.factor)
+        + LEARNED_CONSTANT;
+  }
+
+  @Override
+  public synchronized void recordPassingRun(final String test,
+      final long duration) {
+    final Samples forTest = this.samples.get(test);
+    if (forTest == null) {
+      return;
+    }
+    if (!forTest.warm) {
+      // warm up run
+      forTest.warm = true;
+      return;
+    }
+    forTest.add(duration);
+  }
+
+  private static class Samples {
+    private final List<Long> durations = new ArrayList<Long>();
+    private boolean          warm;
+
+    Samples(final long coverageDuration) {
+      this.durations.add(coverageDuration);
+    }
+
+    void add(final long duration) {
+      if (this.durations.size() == MAX_SAMPLES) {
+        this.durations.remove(0);
+      }
+      this.durations.add(duration);
+    }
+
+    long percentile(final double p) {
+      final List<Long> sorted = new ArrayList<Long>(this.durations);
+      Collections.sort(sorted);
+      final int rank = (int) Math.ceil(p * sorted.size());
+      return sorted.get(Math.max(0, rank - 1));
+    }
+  }
+
+}
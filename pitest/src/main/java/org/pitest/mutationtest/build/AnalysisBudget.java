@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.statistics.ScoreEstimate;
+
+/**
+ * Limits the wall clock time spent analysing mutations.
+ *
+ * Units are run in a random order so that those analysed before the budget is
+ * spent form a random sample of the whole. Units that have not started by the
+ * time the budget is spent report no results.
+ *
+ * As the sample is of whole units rather than of individual mutations, the
+ * results of each unit run are recorded so the design effect of that cluster
+ * sample can be estimated.
+ */
+public class AnalysisBudget {
+
+  private final long         millis;
+  private final long         seed;
+  private final List<long[]> analysed = new ArrayList<long[]>();
+
+  private long               deadline = Long.MAX_VALUE;
+  private long               skipped;
+
+  public AnalysisBudget(final long millis, final long seed) {
+    this.millis = millis;
+    this.seed = seed;
+  }
+
+  /**
+   * @return the units in the order they should be run, each of which will
+   *         report no results if started after the budget is spent
+   */
+  public List<MutationAnalysisUnit> schedule(
+      final List<MutationAnalysisUnit> units) {
+    final List<MutationAnalysisUnit> shuffled = new ArrayList<MutationAnalysisUnit>(
+        units);
+    Collections.shuffle(shuffled, new Random(this.seed));
+    final List<MutationAnalysisUnit> budgeted = new ArrayList<MutationAnalysisUnit>(
+        shuffled.size());
+    for (final MutationAnalysisUnit each : shuffled) {
+      budgeted.add(new BudgetedUnit(this, each));
+    }
+    return budgeted;
+  }
+
+  public void start() {
+    start(System.currentTimeMillis());
+  }
+
+  synchronized void start(final long now) {
+    this.deadline = now + this.millis;
+  }
+
+  synchronized boolean isSpent(final long now) {
+    return now >= this.deadline;
+  }
+
+  private synchronized void skip(final int mutations) {
+    this.skipped = this.skipped + mutations;
+  }
+
+  private synchronized void record(final MutationMetaData results) {
+    long detected = 0;
+    for (final MutationResult each : results.getMutations()) {
+      if (each.getStatus().isDetected()) {
+        detected++;
+      }
+    }
+    this.analysed.add(new long[] { results.getMutations().size(), detected });
+  }
+
+  /**
+   * @return estimated design effect of sampling whole units rather than
+   *         individual mutations
+   */
+  public synchronized double getDesignEffect() {
+    final long[] sizes = new long[this.analysed.size()];
+    final long[] detected = new long[this.analysed.size()];
+    for (int i = 0; i != sizes.length; i++) {
+      sizes[i] = this.analysed.get(i)[0];
+      detected[i] = this.analysed.get(i)[1];
+    }
+    return ScoreEstimate.designEffect(sizes, detected);
+  }
+
+  /**
+   * @return number of mutations not analysed because the budget was spent
+   */
+  public synchronized long getSkipped() {
+    return this.skipped;
+  }
+
+  static class BudgetedUnit implements MutationAnalysisUnit {
+
+    private final AnalysisBudget       budget;
+    private final MutationAnalysisUnit child;
+
+    BudgetedUnit(final AnalysisBudget budget, final MutationAnalysisUnit child) {
+      this.budget = budget;
+      this.child = child;
+    }
+
+    @Override
+    public MutationMetaData call() throws Exception {
+      if (this.budget.isSpent(System.currentTimeMillis())) {
+        this.budget.skip(this.child.mutations().size());
+        return new MutationMetaData(Collections.<MutationResult> emptyList());
+      }
+      final MutationMetaData results = this.child.call();
+      this.budget.record(results);
+      return results;
+    }
+
+    @Override
+    public int priority() {
+      return this.child.priority();
+    }
+
+    @Override
+    public Collection<MutationDetails> mutations() {
+      return this.child.mutations();
+    }
+
+    MutationAnalysisUnit child() {
+      return this.child;
+    }
+
+  }
+
+}
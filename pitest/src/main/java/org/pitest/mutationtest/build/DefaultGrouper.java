@@ -10,7 +10,7 @@ import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.MutationDetails;
 
-public class DefaultGrouper implements MutationGrouper {
+public class DefaultGrouper implements PerClassMutationGrouper {
 
   private final int unitSize;
 
@@ -3,9 +3,17 @@ package org.pitest.mutationtest.build;
 import java.util.Properties;
 
 import org.pitest.classpath.CodeSource;
+import org.pitest.util.PitError;
 
+/**
+ * Groups mutations by class unless a target duration for each unit, in
+ * milliseconds, is given in the {@value #UNIT_DURATION} property, in which
+ * case mutations are grouped by the tests that cover them.
+ */
 public class DefaultMutationGrouperFactory implements MutationGrouperFactory {
 
+  public static final String UNIT_DURATION = "unitDuration";
+
   @Override
   public String description() {
     return "Default mutation grouping";
@@ -14,7 +22,24 @@ public class DefaultMutationGrouperFactory implements MutationGrouperFactory {
   @Override
   public MutationGrouper makeFactory(final Properties props,
       final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
-    return new DefaultGrouper(unitSize);
+    if ((props == null) || (props.getProperty(UNIT_DURATION) == null)) {
+      return new DefaultGrouper(unitSize);
+    }
+    return new TestSetGrouper(parseDuration(props.getProperty(UNIT_DURATION)),
+        unitSize, numberOfThreads);
+  }
+
+  private static long parseDuration(final String value) {
+    try {
+      final long millis = Long.parseLong(value.trim());
+      if (millis > 0) {
+        return millis;
+      }
+    } catch (final NumberFormatException e) {
+      // reported below
+    }
+    throw new PitError(UNIT_DURATION
+        + " must be a positive number of milliseconds but was " + value);
   }
 
 }
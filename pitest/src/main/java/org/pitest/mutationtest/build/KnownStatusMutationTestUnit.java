@@ -1,10 +1,14 @@
 package org.pitest.mutationtest.build;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
 public class KnownStatusMutationTestUnit implements MutationAnalysisUnit {
@@ -30,4 +34,18 @@ public class KnownStatusMutationTestUnit implements MutationAnalysisUnit {
     return Integer.MAX_VALUE;
   }
 
+  @Override
+  public Collection<MutationDetails> mutations() {
+    return FCollection.map(this.mutations, resultToDetails());
+  }
+
+  private static F<MutationResult, MutationDetails> resultToDetails() {
+    return new F<MutationResult, MutationDetails>() {
+      @Override
+      public MutationDetails apply(final MutationResult a) {
+        return a.getDetails();
+      }
+    };
+  }
+
 }
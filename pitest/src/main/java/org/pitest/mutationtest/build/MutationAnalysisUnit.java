@@ -1,8 +1,10 @@
 package org.pitest.mutationtest.build;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
 
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.engine.MutationDetails;
 
 /**
  * A unit of mutation analysis
@@ -11,4 +13,9 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * @return the mutations this unit will report results for
+   */
+  Collection<MutationDetails> mutations();
+
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Holds mutations waiting to be analysed outside of the java heap.
+ *
+ * Each mutation is written to a memory mapped file as a fixed width record of
+ * ints. The names it refers to are held once on the heap and recorded by id,
+ * as are the tests that cover it, whose ids are written alongside the
+ * instruction indexes of the mutation. Lists returned by the catalogue create
+ * the details of a mutation each time it is read, so only the mutations of
+ * units that are being analysed need be held as objects.
+ *
+ * Any number of threads may read at once. Only storing mutations excludes
+ * other threads.
+ */
+public class MutationCatalogue implements Closeable {
+
+  private static final int                 CLASS         = 0;
+  private static final int                 METHOD        = 1;
+  private static final int                 DESCRIPTOR    = 2;
+  private static final int                 MUTATOR       = 3;
+  private static final int                 FILE          = 4;
+  private static final int                 DESCRIPTION   = 5;
+  private static final int                 LINE          = 6;
+  private static final int                 BLOCK         = 7;
+  private static final int                 FLAGS         = 8;
+  private static final int                 EXTRAS_HIGH   = 9;
+  private static final int                 EXTRAS_LOW    = 10;
+  private static final int                 RECORD_WIDTH  = 11;
+
+  private static final int                 FINALLY       = 1;
+  private static final int                 POISON        = 2;
+
+  private static final int                 NONE          = -1;
+
+  private final List<Object>               symbols       = new ArrayList<Object>();
+  private final Map<Object, Integer>       symbolIds     = new HashMap<Object, Integer>();
+  private final List<TestInfo>             tests         = new ArrayList<TestInfo>();
+  private final Map<TestInfo, Integer>     testIds       = new IdentityHashMap<TestInfo, Integer>();
+
+  private final IntStore                   records;
+  private final IntStore                   extras;
+  private final ReadWriteLock              lock          = new ReentrantReadWriteLock();
+
+  private int                              size;
+  private long                             extrasSize;
+
+  public MutationCatalogue() {
+    this(null);
+  }
+
+  /**
+   * @param dir
+   *          directory in which to create the backing files, or null for the
+   *          default temporary directory
+   */
+  public MutationCatalogue(final File dir) {
+    this.records = new IntStore(dir);
+    this.extras = new IntStore(dir);
+  }
+
+  /**
+   * Writes the mutations to the catalogue.
+   *
+   * @return a list that reads the stored mutations back from the catalogue
+   */
+  public List<MutationDetails> store(
+      final Collection<MutationDetails> mutations) {
+    final int[] stored = new int[mutations.size()];
+    this.lock.writeLock().lock();
+    try {
+      int i = 0;
+      for (final MutationDetails each : mutations) {
+        stored[i] = add(each);
+        i++;
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+    return new StoredMutations(this, stored);
+  }
+
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.size;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private int add(final MutationDetails details) {
+    final MutationIdentifier id = details.getId();
+    final Location location = id.getLocation();
+    final long base = (long) this.size * RECORD_WIDTH;
+    this.records.put(base + CLASS, symbol(location.getClassName()));
+    this.records.put(base + METHOD, symbol(location.getMethodName()));
+    this.records.put(base + DESCRIPTOR, symbol(location.getMethodDesc()));
+    this.records.put(base + MUTATOR, symbol(id.getMutator()));
+    this.records.put(base + FILE, symbol(details.getFilename()));
+    this.records.put(base + DESCRIPTION, symbol(details.getDescription()));
+    this.records.put(base + LINE, details.getLineNumber());
+    this.records.put(base + BLOCK, details.getBlock());
+    this.records.put(base + FLAGS, flags(details));
+    this.records.put(base + EXTRAS_HIGH, (int) (this.extrasSize >>> 32));
+    this.records.put(base + EXTRAS_LOW, (int) this.extrasSize);
+
+    addExtra(id.getIndexes().size());
+    for (final Integer each : id.getIndexes()) {
+      addExtra(each);
+    }
+    addExtra(details.getTestsInOrder().size());
+    for (final TestInfo each : details.getTestsInOrder()) {
+      addExtra(test(each));
+    }
+
+    if (this.size == Integer.MAX_VALUE) {
+      throw new PitError("Mutation catalogue is full");
+    }
+    return this.size++;
+  }
+
+  private void addExtra(final int value) {
+    this.extras.put(this.extrasSize, value);
+    this.extrasSize++;
+  }
+
+  private static int flags(final MutationDetails details) {
+    int flags = 0;
+    if (details.isInFinallyBlock()) {
+      flags = flags | FINALLY;
+    }
+    if (details.mayPoisonJVM()) {
+      flags = flags | POISON;
+    }
+    return flags;
+  }
+
+  private int symbol(final Object value) {
+    if (value == null) {
+      return NONE;
+    }
+    final Integer known = this.symbolIds.get(value);
+    if (known != null) {
+      return known;
+    }
+    final int id = this.symbols.size();
+    this.symbols.add(value);
+    this.symbolIds.put(value, id);
+    return id;
+  }
+
+  private int test(final TestInfo test) {
+    final Integer known = this.testIds.get(test);
+    if (known != null) {
+      return known;
+    }
+    final int id = this.tests.size();
+    this.tests.add(test);
+    this.testIds.put(test, id);
+    return id;
+  }
+
+  MutationDetails read(final int record) {
+    this.lock.readLock().lock();
+    try {
+      return readRecord(record);
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private MutationDetails readRecord(final int record) {
+    final long base = (long) record * RECORD_WIDTH;
+    final Location location = Location.location(
+        (ClassName) symbolAt(base + CLASS),
+        (MethodName) symbolAt(base + METHOD),
+        (String) symbolAt(base + DESCRIPTOR));
+
+    long extra = ((long) this.records.get(base + EXTRAS_HIGH) << 32)
+        | (this.records.get(base + EXTRAS_LOW) & 0xFFFFFFFFL);
+    final int indexCount = this.extras.get(extra++);
+    final List<Integer> indexes = new ArrayList<Integer>(indexCount);
+    for (int i = 0; i != indexCount; i++) {
+      indexes.add(this.extras.get(extra++));
+    }
+    final int testCount = this.extras.get(extra++);
+    final List<TestInfo> testsInOrder = new ArrayList<TestInfo>(testCount);
+    for (int i = 0; i != testCount; i++) {
+      testsInOrder.add(this.tests.get(this.extras.get(extra++)));
+    }
+
+    final int flags = this.records.get(base + FLAGS);
+    final MutationDetails details = new MutationDetails(
+        new MutationIdentifier(location, indexes,
+            (String) symbolAt(base + MUTATOR)),
+        (String) symbolAt(base + FILE),
+        (String) symbolAt(base + DESCRIPTION), this.records.get(base + LINE),
+        this.records.get(base + BLOCK), (flags & FINALLY) != 0,
+        (flags & POISON) != 0);
+    details.addTestsInOrder(testsInOrder);
+    return details;
+  }
+
+  private Object symbolAt(final long index) {
+    final int id = this.records.get(index);
+    if (id == NONE) {
+      return null;
+    }
+    return this.symbols.get(id);
+  }
+
+  @Override
+  public void close() {
+    this.lock.writeLock().lock();
+    try {
+      this.records.close();
+      this.extras.close();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private static class StoredMutations extends AbstractList<MutationDetails>
+      implements RandomAccess {
+
+    private final MutationCatalogue catalogue;
+    private final int[]             records;
+
+    StoredMutations(final MutationCatalogue catalogue, final int[] records) {
+      this.catalogue = catalogue;
+      this.records = records;
+    }
+
+    @Override
+    public MutationDetails get(final int index) {
+      return this.catalogue.read(this.records[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.records.length;
+    }
+
+  }
+
+  /**
+   * A growable array of ints mapped from a temporary file a chunk at a time.
+   */
+  private static class IntStore {
+
+    private static final int       CHUNK_SHIFT = 20;
+    private static final int       CHUNK_INTS  = 1 << CHUNK_SHIFT;
+    private static final int       CHUNK_MASK  = CHUNK_INTS - 1;
+
+    private final File             file;
+    private final RandomAccessFile raf;
+    private final FileChannel      channel;
+    private final List<IntBuffer>  chunks      = new ArrayList<IntBuffer>();
+
+    IntStore(final File dir) {
+      try {
+        this.file = File.createTempFile("pit-mutations", ".bin", dir);
+        this.file.deleteOnExit();
+        this.raf = new RandomAccessFile(this.file, "rw");
+        this.channel = this.raf.getChannel();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+
+    void put(final long index, final int value) {
+      final int chunk = (int) (index >>> CHUNK_SHIFT);
+      while (this.chunks.size() <= chunk) {
+        this.chunks.add(map(this.chunks.size()));
+      }
+      this.chunks.get(chunk).put((int) (index & CHUNK_MASK), value);
+    }
+
+    int get(final long index) {
+      return this.chunks.get((int) (index >>> CHUNK_SHIFT)).get(
+          (int) (index & CHUNK_MASK));
+    }
+
+    private IntBuffer map(final int chunk) {
+      try {
+        return this.channel.map(FileChannel.MapMode.READ_WRITE,
+            (long) chunk * CHUNK_INTS * 4, CHUNK_INTS * 4).asIntBuffer();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+
+    void close() {
+      this.chunks.clear();
+      try {
+        this.raf.close();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      // may fail while the file is still mapped, in which case it is removed
+      // on exit
+      this.file.delete();
+    }
+
+  }
+
+}
@@ -26,6 +26,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
@@ -34,25 +35,83 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 public class MutationTestBuilder {
 
-  private final MutationSource   mutationSource;
-  private final MutationAnalyser analyser;
-  private final WorkerFactory    workerFactory;
-  private final MutationGrouper  grouper;
+  private final MutationSource            mutationSource;
+  private final MutationAnalyser          analyser;
+  private final WorkerFactory             workerFactory;
+  private final MutationGrouper           grouper;
+  private final Option<MutationCatalogue> catalogue;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, Option
+        .<MutationCatalogue> none());
+  }
+
+  /**
+   * @param catalogue
+   *          where supplied, the mutations of the units created are held in
+   *          the catalogue rather than on the heap. If the grouper groups each
+   *          class separately, the mutations of a class are stored as soon as
+   *          they are grouped, so the mutations of only one class are held on
+   *          the heap at a time
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser, final MutationSource mutationSource,
+      final MutationGrouper grouper, final Option<MutationCatalogue> catalogue) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.catalogue = catalogue;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
+    return createMutationTestUnits(codeClasses,
+        Collections.<MutationResult> emptyList());
+  }
+
+  /**
+   * Creates units for the mutations in the supplied classes, together with a
+   * unit reporting the supplied results, which were determined without
+   * mutations being generated.
+   */
+  public List<MutationAnalysisUnit> createMutationTestUnits(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationResult> knownResults) {
     final List<MutationAnalysisUnit> tus = new ArrayList<MutationAnalysisUnit>();
+    final List<MutationResult> analysed = new ArrayList<MutationResult>(
+        knownResults);
+
+    if (this.catalogue.hasSome()
+        && (this.grouper instanceof PerClassMutationGrouper)) {
+      for (final ClassName each : codeClasses) {
+        final Collection<ClassName> clazz = Collections.singletonList(each);
+        addUnanalysedUnits(tus, clazz, analyse(clazz, analysed));
+      }
+    } else {
+      addUnanalysedUnits(tus, codeClasses, analyse(codeClasses, analysed));
+    }
+
+    if (!analysed.isEmpty()) {
+      tus.add(makePreAnalysedUnit(analysed));
+    }
+
+    Collections.sort(tus, new AnalysisPriorityComparator());
+    return tus;
+  }
 
+  /**
+   * Generates the mutations of the classes, adding those the analyser
+   * assigns a status to to the supplied results.
+   *
+   * @return the mutations left to analyse
+   */
+  private Collection<MutationDetails> analyse(
+      final Collection<ClassName> codeClasses,
+      final List<MutationResult> analysed) {
     final List<MutationDetails> mutations = FCollection.flatMap(codeClasses,
         classToMutations());
 
@@ -61,25 +120,22 @@ public class MutationTestBuilder {
     final Collection<MutationResult> analysedMutations = this.analyser
         .analyse(mutations);
 
-    final Collection<MutationDetails> needAnalysis = FCollection.filter(
-        analysedMutations, statusNotKnown()).map(resultToDetails());
-
-    final List<MutationResult> analysed = FCollection.filter(analysedMutations,
-        Prelude.not(statusNotKnown()));
+    FCollection.filter(analysedMutations, Prelude.not(statusNotKnown()),
+        analysed);
 
-    if (!analysed.isEmpty()) {
-      tus.add(makePreAnalysedUnit(analysed));
-    }
+    return FCollection.filter(analysedMutations, statusNotKnown()).map(
+        resultToDetails());
+  }
 
+  private void addUnanalysedUnits(final List<MutationAnalysisUnit> tus,
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> needAnalysis) {
     if (!needAnalysis.isEmpty()) {
       for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
           codeClasses, needAnalysis)) {
         tus.add(makeUnanalysedUnit(ms));
       }
     }
-
-    Collections.sort(tus, new AnalysisPriorityComparator());
-    return tus;
   }
 
   private Comparator<MutationDetails> comparator() {
@@ -114,10 +170,18 @@ public class MutationTestBuilder {
     FCollection.flatMapTo(needAnalysis, mutationDetailsToTestClass(),
         uniqueTestClasses);
 
-    return new MutationTestUnit(needAnalysis, uniqueTestClasses,
+    return new MutationTestUnit(store(needAnalysis), uniqueTestClasses,
         this.workerFactory);
   }
 
+  private Collection<MutationDetails> store(
+      final Collection<MutationDetails> mutations) {
+    if (this.catalogue.hasNone()) {
+      return mutations;
+    }
+    return this.catalogue.value().store(mutations);
+  }
+
   private static F<MutationResult, MutationDetails> resultToDetails() {
     return new F<MutationResult, MutationDetails>() {
       @Override
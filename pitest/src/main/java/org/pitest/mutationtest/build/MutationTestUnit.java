@@ -16,14 +16,19 @@ package org.pitest.mutationtest.build;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.metrics.MinionMetrics;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 
@@ -62,6 +67,11 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return this.availableMutations.size();
   }
 
+  @Override
+  public Collection<MutationDetails> mutations() {
+    return this.availableMutations;
+  }
+
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
       throws IOException, InterruptedException {
     while (mutations.hasUnrunMutations()) {
@@ -85,7 +95,24 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForMinionToDie(worker);
     worker.results(mutations);
 
-    correctResultForProcessExitCode(mutations, exitCode);
+    Collection<MutationIdentifier> rescheduled = Collections.emptyList();
+    if (worker.wasLost()) {
+      rescheduled = rescheduleUnfinishedRuns(mutations);
+    } else {
+      correctResultForProcessExitCode(mutations, exitCode, worker.metrics());
+    }
+    worker.metrics().exited(rescheduled, mutations.hasUnrunMutations());
+  }
+
+  private static Collection<MutationIdentifier> rescheduleUnfinishedRuns(
+      final MutationStatusMap mutations) {
+    final Collection<MutationDetails> unfinishedRuns = mutations
+        .getUnfinishedRuns();
+    LOG.warning("Lost contact with minion, will rerun " + unfinishedRuns.size()
+        + " unfinished mutations");
+    mutations.setStatusForMutations(unfinishedRuns,
+        DetectionStatus.NOT_STARTED);
+    return ids(unfinishedRuns);
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
@@ -102,7 +129,8 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   }
 
   private static void correctResultForProcessExitCode(
-      final MutationStatusMap mutations, final ExitCode exitCode) {
+      final MutationStatusMap mutations, final ExitCode exitCode,
+      final MinionMetrics metrics) {
 
     if (!exitCode.isOk()) {
       final Collection<MutationDetails> unfinishedRuns = mutations
@@ -113,6 +141,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
       LOG.fine("Setting " + unfinishedRuns.size() + " unfinished runs to "
           + status + " state");
       mutations.setStatusForMutations(unfinishedRuns, status);
+      metrics.mutantsFinished(ids(unfinishedRuns), status);
 
     } else {
       LOG.fine("Minion exited ok");
@@ -120,6 +149,17 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   }
 
+  private static Collection<MutationIdentifier> ids(
+      final Collection<MutationDetails> mutations) {
+    return FCollection.map(mutations,
+        new F<MutationDetails, MutationIdentifier>() {
+          @Override
+          public MutationIdentifier apply(final MutationDetails a) {
+            return a.getId();
+          }
+        });
+  }
+
   private static MutationMetaData reportResults(final MutationStatusMap mutationsMap) {
     return new MutationMetaData(mutationsMap.createMutationResults());
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 Henry Coles
+ * Copyright 2016 Henry Coles
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -12,18 +12,12 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and limitations under the License.
  */
+package org.pitest.mutationtest.build;
 
-package org.pitest.testapi.foreignclassloader;
-
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.Description;
-import org.pitest.testapi.ResultCollector;
-
-public class Skipped implements SideEffect2<ResultCollector, Description> {
-
-  @Override
-  public void apply(final ResultCollector rc, final Description description) {
-    rc.notifySkipped(description);
-  }
+/**
+ * A grouper that never places mutations of different classes in the same
+ * group, so may be given the mutations of one class at a time.
+ */
+public interface PerClassMutationGrouper extends MutationGrouper {
 
-}
\ No newline at end of file
+}
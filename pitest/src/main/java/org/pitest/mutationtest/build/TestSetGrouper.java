@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutations from any class into units that are expected to take a
+ * target length of time to analyse, placing mutations covered by the same
+ * test classes together so that each minion loads as few test classes as
+ * possible and runs the same tests against many mutants.
+ *
+ * Mutations covered by exactly the same test classes are always kept
+ * together unless they would exceed the target. A unit is then filled with
+ * the mutations whose test classes most overlap those already in it, each
+ * test class weighted by the time its tests took during coverage, before
+ * falling back to the largest set of mutations remaining.
+ *
+ * The time taken to analyse a mutation is estimated as the time taken by all
+ * the tests that cover it, plus a small allowance for inserting the mutant.
+ * The target is reduced if needed so that there are at least two units for
+ * each thread.
+ */
+public class TestSetGrouper implements MutationGrouper {
+
+  static final int   MUTANT_OVERHEAD = 10;
+
+  private final long targetMillis;
+  private final int  unitSize;
+  private final int  numberOfThreads;
+
+  /**
+   * @param targetMillis
+   *          time each unit should take to analyse
+   * @param unitSize
+   *          maximum number of mutations in a unit, or 0 for no limit
+   * @param numberOfThreads
+   *          number of units that will be analysed at once
+   */
+  public TestSetGrouper(final long targetMillis, final int unitSize,
+      final int numberOfThreads) {
+    this.targetMillis = targetMillis;
+    this.unitSize = unitSize;
+    this.numberOfThreads = numberOfThreads;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    final Map<ClassName, Long> weights = new HashMap<ClassName, Long>();
+    final List<TestSet> sets = toTestSets(mutations, weights);
+
+    final Map<ClassName, List<TestSet>> index = new HashMap<ClassName, List<TestSet>>();
+    long total = 0;
+    for (final TestSet each : sets) {
+      total = total + each.cost;
+      for (final ClassName test : each.tests) {
+        each.weight = each.weight + weights.get(test);
+        List<TestSet> containing = index.get(test);
+        if (containing == null) {
+          containing = new ArrayList<TestSet>();
+          index.put(test, containing);
+        }
+        containing.add(each);
+      }
+    }
+
+    final List<TestSet> largestFirst = new ArrayList<TestSet>(sets);
+    Collections.sort(largestFirst, largestFirst());
+
+    final Packer packer = new Packer(target(total), this.unitSize, index,
+        weights);
+    for (final TestSet each : largestFirst) {
+      if (each.assigned) {
+        continue;
+      }
+      packer.add(each);
+      TestSet next = packer.closest();
+      while (next != null) {
+        packer.add(next);
+        next = packer.closest();
+      }
+    }
+    return packer.finish();
+  }
+
+  private long target(final long total) {
+    final long perThread = total / (2L * Math.max(1, this.numberOfThreads));
+    return Math.max(1, Math.min(this.targetMillis, perThread));
+  }
+
+  private static List<TestSet> toTestSets(
+      final Collection<MutationDetails> mutations,
+      final Map<ClassName, Long> weights) {
+    final Map<Set<ClassName>, TestSet> sets = new LinkedHashMap<Set<ClassName>, TestSet>();
+    for (final MutationDetails each : mutations) {
+      final Set<ClassName> tests = new LinkedHashSet<ClassName>();
+      long cost = MUTANT_OVERHEAD;
+      for (final TestInfo test : each.getTestsInOrder()) {
+        final ClassName testClass = TestInfo.toDefiningClassName().apply(test);
+        tests.add(testClass);
+        cost = cost + test.getTime();
+        final Long weight = weights.get(testClass);
+        weights.put(testClass, (weight == null ? 1 : weight) + test.getTime());
+      }
+      TestSet set = sets.get(tests);
+      if (set == null) {
+        set = new TestSet(sets.size(), tests);
+        sets.put(tests, set);
+      }
+      set.mutations.add(each);
+      set.cost = set.cost + cost;
+    }
+    return new ArrayList<TestSet>(sets.values());
+  }
+
+  private static Comparator<TestSet> largestFirst() {
+    return new Comparator<TestSet>() {
+      @Override
+      public int compare(final TestSet a, final TestSet b) {
+        if (a.cost != b.cost) {
+          return a.cost > b.cost ? -1 : 1;
+        }
+        return a.order - b.order;
+      }
+    };
+  }
+
+  /**
+   * Mutations covered by the same test classes
+   */
+  private static class TestSet {
+    private final int                   order;
+    private final Set<ClassName>        tests;
+    private final List<MutationDetails> mutations = new ArrayList<MutationDetails>();
+    private long                        cost;
+    private long                        weight;
+    private boolean                     assigned;
+
+    TestSet(final int order, final Set<ClassName> tests) {
+      this.order = order;
+      this.tests = tests;
+    }
+  }
+
+  /**
+   * Fills units a mutation at a time, tracking how much of each unassigned
+   * set's test classes the current unit already loads
+   */
+  private static class Packer {
+    private final long                          target;
+    private final int                           unitSize;
+    private final Map<ClassName, List<TestSet>> index;
+    private final Map<ClassName, Long>          weights;
+
+    private final List<List<MutationDetails>>   units   = new ArrayList<List<MutationDetails>>();
+    private final Set<ClassName>                tests   = new HashSet<ClassName>();
+    private final Map<TestSet, Long>            overlap = new LinkedHashMap<TestSet, Long>();
+    private List<MutationDetails>               current = new ArrayList<MutationDetails>();
+    private long                                cost;
+
+    Packer(final long target, final int unitSize,
+        final Map<ClassName, List<TestSet>> index,
+        final Map<ClassName, Long> weights) {
+      this.target = target;
+      this.unitSize = unitSize;
+      this.index = index;
+      this.weights = weights;
+    }
+
+    void add(final TestSet set) {
+      set.assigned = true;
+      this.overlap.remove(set);
+      final long each = set.cost / set.mutations.size();
+      load(set.tests);
+      for (final MutationDetails mutation : set.mutations) {
+        if (isFull()) {
+          startUnit();
+          load(set.tests);
+        }
+        this.current.add(mutation);
+        this.cost = this.cost + each;
+      }
+    }
+
+    /**
+     * @return the unassigned set whose test classes are most loaded by the
+     *         current unit, or null if the unit is full or none overlap
+     */
+    TestSet closest() {
+      if (isFull()) {
+        return null;
+      }
+      TestSet best = null;
+      double bestScore = 0;
+      final Iterator<Map.Entry<TestSet, Long>> it = this.overlap.entrySet()
+          .iterator();
+      while (it.hasNext()) {
+        final Map.Entry<TestSet, Long> each = it.next();
+        final TestSet set = each.getKey();
+        if (set.assigned) {
+          it.remove();
+          continue;
+        }
+        final double score = (double) each.getValue() / set.weight;
+        if ((best == null) || (score > bestScore)
+            || ((score == bestScore) && (set.order < best.order))) {
+          best = set;
+          bestScore = score;
+        }
+      }
+      return best;
+    }
+
+    List<List<MutationDetails>> finish() {
+      if (!this.current.isEmpty()) {
+        this.units.add(this.current);
+      }
+      return this.units;
+    }
+
+    private boolean isFull() {
+      return (this.cost >= this.target)
+          || ((this.unitSize > 0) && (this.current.size() >= this.unitSize));
+    }
+
+    private void startUnit() {
+      this.units.add(this.current);
+      this.current = new ArrayList<MutationDetails>();
+      this.cost = 0;
+      this.tests.clear();
+      this.overlap.clear();
+    }
+
+    private void load(final Set<ClassName> added) {
+      for (final ClassName each : added) {
+        if (this.tests.add(each)) {
+          final Long weight = this.weights.get(each);
+          for (final TestSet set : this.index.get(each)) {
+            if (!set.assigned) {
+              final Long sofar = this.overlap.get(set);
+              this.overlap.put(set, (sofar == null ? 0 : sofar) + weight);
+            }
+          }
+        }
+      }
+    }
+
+  }
+
+}
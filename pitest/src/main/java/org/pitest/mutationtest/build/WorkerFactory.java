@@ -11,8 +11,13 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.MinionProfiler;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.NullMinionProfiler;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.process.LocalMinionLauncher;
+import org.pitest.process.MinionLauncher;
 import org.pitest.process.ProcessArgs;
 import org.pitest.testapi.Configuration;
 import org.pitest.util.Log;
@@ -27,6 +32,10 @@ public class WorkerFactory {
   private final boolean               verbose;
   private final MutationConfig        config;
   private final boolean               dontStopAtMutantKilled;
+  private final MinionProfiler        profiler;
+  private final MinionLauncher        launcher;
+  private final RunMetrics            metrics;
+  private final int                   discoveryThreads;
 
   public WorkerFactory(final File baseDir, final Configuration pitConfig,
       final MutationConfig mutationConfig,
@@ -38,6 +47,44 @@ public class WorkerFactory {
       final MutationConfig mutationConfig,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final String classPath, final boolean dontStopAtMutantKilled) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, dontStopAtMutantKilled, new NullMinionProfiler());
+  }
+
+  public WorkerFactory(final File baseDir, final Configuration pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final boolean dontStopAtMutantKilled,
+      final MinionProfiler profiler) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, dontStopAtMutantKilled, profiler, new LocalMinionLauncher());
+  }
+
+  public WorkerFactory(final File baseDir, final Configuration pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final boolean dontStopAtMutantKilled,
+      final MinionProfiler profiler, final MinionLauncher launcher) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, dontStopAtMutantKilled, profiler, launcher, new RunMetrics());
+  }
+
+  public WorkerFactory(final File baseDir, final Configuration pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final boolean dontStopAtMutantKilled,
+      final MinionProfiler profiler, final MinionLauncher launcher,
+      final RunMetrics metrics) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, dontStopAtMutantKilled, profiler, launcher, metrics, 1);
+  }
+
+  public WorkerFactory(final File baseDir, final Configuration pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final boolean dontStopAtMutantKilled,
+      final MinionProfiler profiler, final MinionLauncher launcher,
+      final RunMetrics metrics, final int discoveryThreads) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -45,6 +92,10 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.dontStopAtMutantKilled = dontStopAtMutantKilled;
+    this.profiler = profiler;
+    this.launcher = launcher;
+    this.metrics = metrics;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public MutationTestProcess createWorker(
@@ -52,7 +103,8 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine(), this.timeoutStrategy,
-        Log.isVerbose(), this.pitConfig, this.dontStopAtMutantKilled);
+        Log.isVerbose(), this.pitConfig, this.dontStopAtMutantKilled,
+        this.profiler.isEnabled(), this.discoveryThreads);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
@@ -61,7 +113,9 @@ public class WorkerFactory {
 
     final SocketFinder sf = new SocketFinder();
     final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), args, fileArgs,
+        this.profiler.newMinion(), this.launcher, this.metrics.newMinion(),
+        this.config.getLaunchOptions().getMinionSizer());
     return worker;
   }
 
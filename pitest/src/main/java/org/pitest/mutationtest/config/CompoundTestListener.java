@@ -14,13 +14,17 @@
  */
 package org.pitest.mutationtest.config;
 
+
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.CoverageListener;
+import org.pitest.mutationtest.MutationPlanListener;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.engine.MutationDetails;
 
-public class CompoundTestListener implements MutationResultListener, CoverageListener {
+public class CompoundTestListener implements MutationResultListener,
+    CoverageListener, MutationPlanListener {
 
   private final Iterable<MutationResultListener> children;
 
@@ -43,6 +47,15 @@ public class CompoundTestListener implements MutationResultListener, CoverageLis
     }
   }
   
+  @Override
+  public void handleMutationPlan(final Iterable<MutationDetails> mutations) {
+    for (final MutationResultListener each : this.children) {
+      if (each instanceof MutationPlanListener) {
+        ((MutationPlanListener) each).handleMutationPlan(mutations);
+      }
+    }
+  }
+
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
     for (final MutationResultListener each : this.children) {
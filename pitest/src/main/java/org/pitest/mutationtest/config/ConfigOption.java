@@ -142,6 +142,33 @@ public enum ConfigOption {
      */
     HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+    /**
+     * Xml mutation results of earlier runs to merge into a single report
+     * without running any tests
+     */
+    MUTATION_RESULT_FILES("mutationResultFiles"),
+
+    /**
+     * Exported line coverage of earlier runs to include in a merged report
+     */
+    LINE_COVERAGE_FILES("lineCoverageFiles"),
+
+    /**
+     * Addresses (host:port) of worker agents to run minions on
+     */
+    WORKERS("workers"),
+
+    /**
+     * Token shared with the worker agents, which refuse leases from
+     * coordinators that do not hold it
+     */
+    WORKER_TOKEN("workerToken"),
+
+    /**
+     * Directory or http url of a result cache shared between runs
+     */
+    RESULT_CACHE("resultCache"),
+
     /**
      * Mutation score below which to throw an error
      */
@@ -180,7 +207,103 @@ public enum ConfigOption {
      * Should we keep going with running more tests against the same mutant,
      * even when that mutant was killed?
      */
-    DONT_STOP_WHEN_MUTANT_KILLED("dontStopAtMutantKilled",false);
+    DONT_STOP_WHEN_MUTANT_KILLED("dontStopAtMutantKilled",false),
+
+    /**
+     * Write timings reported by mutation minions to disk
+     */
+    EXPORT_MINION_PROFILE("exportMinionProfile", false),
+
+    /**
+     * Only generate mutants for classes impacted by changes since the last
+     * run, copying other results from history. Mutants are generated for all
+     * classes when the mutation config has changed since that run
+     */
+    CHANGE_IMPACT_ANALYSIS("changeImpactAnalysis", false),
+
+    /**
+     * Learn per test timeouts from the coverage run and passing runs against
+     * mutants, budgeting cpu rather than wall clock time
+     */
+    ADAPTIVE_TIMEOUTS("adaptiveTimeouts", false),
+
+    /**
+     * Write a snapshot of run progress to metrics.jsonl in the report
+     * directory at a fixed interval while mutations are analysed
+     */
+    EXPORT_METRICS("exportMetrics", false),
+
+    /**
+     * Local port on which to serve the latest run metrics over http. 0 for no
+     * endpoint
+     */
+    METRICS_PORT("metricsPort", 0),
+
+    /**
+     * Fraction of mutations to analyse, chosen as a random sample stratified
+     * by package, method and mutator. 1 to analyse all mutations
+     */
+    SAMPLE_RATE("sampleRate", 1f),
+
+    /**
+     * Seed for the random choices made when sampling mutations, so that
+     * sampled runs can be reproduced
+     */
+    SAMPLE_SEED("sampleSeed", 0L),
+
+    /**
+     * Minutes of wall clock time to spend analysing mutations, after which no
+     * further mutations are started. 0 for no limit
+     */
+    ANALYSIS_BUDGET("analysisBudget", 0),
+
+    /**
+     * Hold mutations waiting to be analysed in a memory mapped file rather
+     * than on the heap
+     */
+    OFF_HEAP_MUTATIONS("offHeapMutations", false),
+
+    /**
+     * File to journal the results of the run to as mutations are analysed
+     */
+    CHECKPOINT_FILE("checkpointFile"),
+
+    /**
+     * Continue an interrupted run from the results in its checkpoint journal
+     */
+    RESUME("resume", false),
+
+    /**
+     * Choose minion heap sizes and how many run at once from the memory
+     * earlier minions used and the memory available on the machine
+     */
+    AUTO_SIZE_MINIONS("autoSizeMinions", false),
+
+    /**
+     * Restore the coverage of tests unchanged since the run recorded in the
+     * history file rather than gathering it again
+     */
+    REUSE_COVERAGE("reuseCoverage", false),
+
+    /**
+     * Number of threads on which the coverage minion runs test classes
+     */
+    COVERAGE_THREADS("coverageThreads", 1),
+
+    /**
+     * Number of threads on which minions discover the tests in test classes.
+     * Discovery runs the static initialisers of test classes and the test
+     * framework's runner builders, so is only done concurrently when asked
+     * for.
+     */
+    DISCOVERY_THREADS("discoveryThreads", 1),
+
+    /**
+     * Number of threads on which html source pages are rendered once all the
+     * results for their file are known. If 0, pages are rewritten on the
+     * reporting thread as each result arrives.
+     */
+    HTML_RENDER_THREADS("htmlRenderThreads", 0);
 
 
   private final String       text;
@@ -15,7 +15,6 @@
 package org.pitest.mutationtest.config;
 
 import static org.pitest.functional.prelude.Prelude.not;
-import static org.pitest.functional.prelude.Prelude.or;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -33,6 +32,7 @@ import java.util.Properties;
 import org.pitest.classpath.ClassFilter;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathRoot;
+import org.pitest.classpath.ClassPathRootCache;
 import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.functional.F;
@@ -49,6 +49,7 @@ import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
+import org.pitest.util.GlobSet;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
 
@@ -82,6 +83,15 @@ public class ReportOptions {
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
 
+  private Collection<File>               mutationResultFiles            = Collections
+      .emptyList();
+  private Collection<File>               lineCoverageFiles              = Collections
+      .emptyList();
+  private Collection<String>             workers                        = Collections
+      .emptyList();
+  private String                         workerToken;
+  private String                         resultCache;
+
   private Collection<File>               sourceDirs;
   private Collection<String>             classPathElements;
   private Collection<String>             mutators;
@@ -111,6 +121,23 @@ public class ReportOptions {
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
+  private boolean                        exportMinionProfile            = false;
+  private boolean                        changeImpactAnalysis           = false;
+  private boolean                        adaptiveTimeouts               = false;
+  private boolean                        exportMetrics                  = false;
+  private int                            metricsPort;
+  private float                          sampleRate                     = 1f;
+  private long                           sampleSeed;
+  private int                            analysisBudget;
+  private boolean                        offHeapMutations               = false;
+  private File                           checkpointFile;
+  private boolean                        resume                         = false;
+  private boolean                        autoSizeMinions                = false;
+  private boolean                        reuseCoverage                  = false;
+  private int                            coverageThreads                = 1;
+  private int                            discoveryThreads               = 1;
+  private int                            htmlRenderThreads              = 0;
+  private ClassPathRootCache             classPathRoots;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
 
@@ -213,8 +240,20 @@ public class ReportOptions {
   }
 
   private ClassPath createClassPathFromElements() {
-    return new ClassPath(
-        FCollection.map(this.classPathElements, stringToFile()));
+    final List<File> files = FCollection.map(this.classPathElements,
+        stringToFile());
+    if (this.classPathRoots != null) {
+      return this.classPathRoots.classPath(files);
+    }
+    return new ClassPath(files);
+  }
+
+  /**
+   * Shares the roots of the class path with other analyses using the same
+   * cache
+   */
+  public void setClassPathRootCache(final ClassPathRootCache classPathRoots) {
+    this.classPathRoots = classPathRoots;
   }
 
   private static F<String, File> stringToFile() {
@@ -234,7 +273,8 @@ public class ReportOptions {
 
   @SuppressWarnings("unchecked")
   public Predicate<String> getTargetClassesFilter() {
-    final Predicate<String> filter = Prelude.and(or(this.targetClasses),
+    final Predicate<String> filter = Prelude.and(
+        new GlobSet(this.targetClasses),
         not(isBlackListed(ReportOptions.this.excludedClasses)));
     checkNotTryingToMutateSelf(filter);
     return filter;
@@ -297,7 +337,7 @@ public class ReportOptions {
       return this.getTargetClassesFilter(); // if no tests specified assume the
       // target classes filter covers both
     } else {
-      return Prelude.and(or(this.targetTests),
+      return Prelude.and(new GlobSet(this.targetTests),
           not(isBlackListed(ReportOptions.this.excludedClasses)));
     }
 
@@ -305,14 +345,7 @@ public class ReportOptions {
 
   private static Predicate<String> isBlackListed(
       final Collection<Predicate<String>> excludedClasses) {
-    return new Predicate<String>() {
-
-      @Override
-      public Boolean apply(final String a) {
-        return or(excludedClasses).apply(a);
-      }
-
-    };
+    return new GlobSet(excludedClasses);
   }
 
   public Collection<String> getLoggingClasses() {
@@ -489,6 +522,46 @@ public class ReportOptions {
     return this.historyInputLocation;
   }
 
+  public Collection<File> getMutationResultFiles() {
+    return this.mutationResultFiles;
+  }
+
+  public void setMutationResultFiles(final Collection<File> mutationResultFiles) {
+    this.mutationResultFiles = mutationResultFiles;
+  }
+
+  public Collection<File> getLineCoverageFiles() {
+    return this.lineCoverageFiles;
+  }
+
+  public void setLineCoverageFiles(final Collection<File> lineCoverageFiles) {
+    this.lineCoverageFiles = lineCoverageFiles;
+  }
+
+  public Collection<String> getWorkers() {
+    return this.workers;
+  }
+
+  public void setWorkers(final Collection<String> workers) {
+    this.workers = workers;
+  }
+
+  public String getWorkerToken() {
+    return this.workerToken;
+  }
+
+  public void setWorkerToken(final String workerToken) {
+    this.workerToken = workerToken;
+  }
+
+  public String getResultCache() {
+    return this.resultCache;
+  }
+
+  public void setResultCache(final String resultCache) {
+    this.resultCache = resultCache;
+  }
+
   public File getHistoryOutputLocation() {
     return this.historyOutputLocation;
   }
@@ -501,6 +574,144 @@ public class ReportOptions {
     return this.exportLineCoverage;
   }
 
+  public void setExportMinionProfile(final boolean value) {
+    this.exportMinionProfile = value;
+  }
+
+  public boolean shouldExportMinionProfile() {
+    return this.exportMinionProfile;
+  }
+
+  public void setChangeImpactAnalysis(final boolean value) {
+    this.changeImpactAnalysis = value;
+  }
+
+  public boolean shouldUseChangeImpactAnalysis() {
+    return this.changeImpactAnalysis;
+  }
+
+  public void setAdaptiveTimeouts(final boolean value) {
+    this.adaptiveTimeouts = value;
+  }
+
+  public boolean shouldUseAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public void setExportMetrics(final boolean value) {
+    this.exportMetrics = value;
+  }
+
+  public boolean shouldExportMetrics() {
+    return this.exportMetrics;
+  }
+
+  public int getMetricsPort() {
+    return this.metricsPort;
+  }
+
+  public void setMetricsPort(final int metricsPort) {
+    this.metricsPort = metricsPort;
+  }
+
+  public float getSampleRate() {
+    return this.sampleRate;
+  }
+
+  public void setSampleRate(final float sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public long getSampleSeed() {
+    return this.sampleSeed;
+  }
+
+  public void setSampleSeed(final long sampleSeed) {
+    this.sampleSeed = sampleSeed;
+  }
+
+  public int getAnalysisBudget() {
+    return this.analysisBudget;
+  }
+
+  public void setAnalysisBudget(final int minutes) {
+    this.analysisBudget = minutes;
+  }
+
+  public boolean shouldStoreMutationsOffHeap() {
+    return this.offHeapMutations;
+  }
+
+  public void setOffHeapMutations(final boolean value) {
+    this.offHeapMutations = value;
+  }
+
+  public void setCheckpointFile(final File checkpointFile) {
+    this.checkpointFile = checkpointFile;
+  }
+
+  public void setResume(final boolean resume) {
+    this.resume = resume;
+  }
+
+  public boolean shouldResume() {
+    return this.resume;
+  }
+
+  public void setAutoSizeMinions(final boolean autoSizeMinions) {
+    this.autoSizeMinions = autoSizeMinions;
+  }
+
+  public boolean shouldAutoSizeMinions() {
+    return this.autoSizeMinions;
+  }
+
+  public void setReuseCoverage(final boolean reuseCoverage) {
+    this.reuseCoverage = reuseCoverage;
+  }
+
+  public boolean shouldReuseCoverage() {
+    return this.reuseCoverage;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public void setCoverageThreads(final int coverageThreads) {
+    this.coverageThreads = coverageThreads;
+  }
+
+  public int getDiscoveryThreads() {
+    return this.discoveryThreads;
+  }
+
+  public void setDiscoveryThreads(final int discoveryThreads) {
+    this.discoveryThreads = discoveryThreads;
+  }
+
+  public int getHtmlRenderThreads() {
+    return this.htmlRenderThreads;
+  }
+
+  public void setHtmlRenderThreads(final int htmlRenderThreads) {
+    this.htmlRenderThreads = htmlRenderThreads;
+  }
+
+  /**
+   * The journal is written to the configured file or, when resuming without
+   * one, to a fixed file in the report directory
+   */
+  public Option<File> getCheckpointJournal() {
+    if (this.checkpointFile != null) {
+      return Option.some(this.checkpointFile);
+    }
+    if (this.resume) {
+      return Option.some(new File(this.reportDir, "pit-checkpoint.journal"));
+    }
+    return Option.none();
+  }
+
   public int getMutationThreshold() {
     return this.mutationThreshold;
   }
@@ -556,7 +767,11 @@ public class ReportOptions {
         + this.excludedClasses + ", codePaths=" + this.codePaths
         + ", reportDir=" + this.reportDir + ", historyInputLocation="
         + this.historyInputLocation + ", historyOutputLocation="
-        + this.historyOutputLocation + ", sourceDirs=" + this.sourceDirs
+        + this.historyOutputLocation + ", mutationResultFiles="
+        + this.mutationResultFiles + ", lineCoverageFiles="
+        + this.lineCoverageFiles + ", workers=" + this.workers
+        + ", resultCache=" + this.resultCache
+        + ", sourceDirs=" + this.sourceDirs
         + ", classPathElements=" + this.classPathElements + ", mutators="
         + this.mutators + ", dependencyAnalysisMaxDistance="
         + this.dependencyAnalysisMaxDistance + ", mutateStaticInitializers="
@@ -572,7 +787,21 @@ public class ReportOptions {
         + ", shouldCreateTimestampedReports="
         + this.shouldCreateTimestampedReports + ", detectInlinedCode="
         + this.detectInlinedCode + ", exportLineCoverage="
-        + this.exportLineCoverage + ", mutationThreshold="
+        + this.exportLineCoverage + ", exportMinionProfile="
+        + this.exportMinionProfile + ", changeImpactAnalysis="
+        + this.changeImpactAnalysis + ", adaptiveTimeouts="
+        + this.adaptiveTimeouts + ", exportMetrics="
+        + this.exportMetrics + ", metricsPort=" + this.metricsPort
+        + ", sampleRate=" + this.sampleRate + ", sampleSeed="
+        + this.sampleSeed + ", analysisBudget=" + this.analysisBudget
+        + ", offHeapMutations=" + this.offHeapMutations
+        + ", checkpointFile=" + this.checkpointFile + ", resume="
+        + this.resume + ", autoSizeMinions=" + this.autoSizeMinions
+        + ", reuseCoverage=" + this.reuseCoverage
+        + ", coverageThreads=" + this.coverageThreads
+        + ", discoveryThreads=" + this.discoveryThreads
+        + ", htmlRenderThreads=" + this.htmlRenderThreads
+        + ", mutationThreshold="
         + this.mutationThreshold + ", coverageThreshold="
         + this.coverageThreshold + ", mutationEngine=" + this.mutationEngine
         + ", javaExecutable=" + this.javaExecutable
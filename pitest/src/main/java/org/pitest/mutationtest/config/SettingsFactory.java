@@ -2,6 +2,7 @@ package org.pitest.mutationtest.config;
 
 import static org.pitest.functional.prelude.Prelude.not;
 
+import java.io.Writer;
 import java.util.Collection;
 
 import org.pitest.classpath.ClassPathByteArraySource;
@@ -11,6 +12,7 @@ import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.MutationEngineFactory;
@@ -19,8 +21,13 @@ import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.execute.ChromeTraceMinionProfiler;
+import org.pitest.mutationtest.execute.MinionProfiler;
+import org.pitest.mutationtest.execute.NullMinionProfiler;
 import org.pitest.mutationtest.filter.CompoundFilterFactory;
 import org.pitest.mutationtest.filter.MutationFilterFactory;
+import org.pitest.mutationtest.metrics.MetricsPublisher;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
@@ -53,6 +60,31 @@ public class SettingsFactory {
     }
   }
 
+  public MinionProfiler createMinionProfiler() {
+    if (this.options.shouldExportMinionProfile()) {
+      return new ChromeTraceMinionProfiler(getOutputStrategy());
+    } else {
+      return new NullMinionProfiler();
+    }
+  }
+
+  public Option<MetricsPublisher> createMetricsPublisher(
+      final RunMetrics metrics) {
+    if (!this.options.shouldExportMetrics()
+        && (this.options.getMetricsPort() <= 0)) {
+      return Option.none();
+    }
+    final Option<Writer> out;
+    if (this.options.shouldExportMetrics()) {
+      out = Option.some(getOutputStrategy().createWriterForFile(
+          MetricsPublisher.FILE_NAME));
+    } else {
+      out = Option.none();
+    }
+    return Option.some(new MetricsPublisher(metrics, out, this.options
+        .getMetricsPort()));
+  }
+
   public MutationEngineFactory createEngine() {
     for (final MutationEngineFactory each : this.plugins.findMutationEngines()) {
       if (each.name().equals(this.options.getMutationEngine())) {
@@ -138,7 +170,9 @@ public class SettingsFactory {
     return new CoverageOptions(Prelude.and(
         this.options.getTargetClassesFilter(), not(commonClasses())),
         this.getTestFrameworkPlugin(), this.options.isVerbose(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance(),
+        this.options.getCoverageThreads(),
+        this.options.getDiscoveryThreads());
   }
 
   private static F<String, Boolean> commonClasses() {
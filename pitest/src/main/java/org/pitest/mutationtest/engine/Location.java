@@ -15,22 +15,34 @@
 package org.pitest.mutationtest.engine;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.util.SymbolTable;
 
 /**
  * The co-ordinates of a method within a class.
  *
+ * Method descriptors are interned so that, with canonical class and method
+ * names, locations compare field by field by identity.
  */
 public final class Location implements Comparable<Location> {
 
-  private final ClassName  clazz;
-  private final MethodName method;
-  private final String     methodDesc;
+  private static final SymbolTable<String> DESCRIPTORS = new SymbolTable<String>();
+
+  private final ClassName                  clazz;
+  private final MethodName                 method;
+  private final String                     methodDesc;
 
   public Location(final ClassName clazz, final MethodName method,
       final String methodDesc) {
     this.clazz = clazz;
     this.method = method;
-    this.methodDesc = methodDesc;
+    this.methodDesc = internDescriptor(methodDesc);
+  }
+
+  private static String internDescriptor(final String desc) {
+    if (desc == null) {
+      return null;
+    }
+    return DESCRIPTORS.intern(desc, desc);
   }
 
   public static Location location(final ClassName clazz,
@@ -111,6 +123,9 @@ public final class Location implements Comparable<Location> {
 
   @Override
   public int compareTo(final Location o) {
+    if (this == o) {
+      return 0;
+    }
     int comp = this.clazz.compareTo(o.getClassName());
     if (comp != 0) {
       return comp;
@@ -124,4 +139,8 @@ public final class Location implements Comparable<Location> {
     return this.methodDesc.compareTo(o.getMethodDesc());
   }
 
+  private Object readResolve() {
+    return new Location(this.clazz, this.method, this.methodDesc);
+  }
+
 }
@@ -1,15 +1,26 @@
 package org.pitest.mutationtest.engine;
 
+import org.pitest.util.SymbolTable;
+
 public class MethodName {
 
-  private final String name;
+  private static final SymbolTable<MethodName> NAMES = new SymbolTable<MethodName>();
+
+  private final String                         name;
 
   MethodName(final String name) {
     this.name = name;
   }
 
   public static MethodName fromString(final String name) {
-    return new MethodName(name);
+    if (name == null) {
+      return new MethodName(null);
+    }
+    final MethodName known = NAMES.get(name);
+    if (known != null) {
+      return known;
+    }
+    return NAMES.intern(name, new MethodName(name));
   }
 
   @Override
@@ -52,4 +63,8 @@ public class MethodName {
     return this.name;
   }
 
+  private Object readResolve() {
+    return fromString(this.name);
+  }
+
 }
@@ -42,6 +42,7 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.inlinedcode.InlinedCodeFilter;
+import org.pitest.util.GlobSet;
 
 import de.unisb.cs.st.javaslicer.tracer.Tracer;
 
@@ -51,7 +52,7 @@ public class GregorMutater implements Mutater {
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<MethodMutatorFactory>();
-  private final Set<String>               loggingClasses = new HashSet<String>();
+  private final Predicate<String>         isLoggingClass;
   private final InlinedCodeFilter         inlinedCodeDetector;
 
   public GregorMutater(final ClassByteArraySource byteSource,
@@ -59,14 +60,32 @@ public class GregorMutater implements Mutater {
       final Collection<MethodMutatorFactory> mutators,
       final Collection<String> loggingClasses,
       final InlinedCodeFilter inlinedCodeDetector) {
+    this(byteSource, filter, mutators, isLoggingClass(loggingClasses),
+        inlinedCodeDetector);
+  }
+
+  GregorMutater(final ClassByteArraySource byteSource,
+      final Predicate<MethodInfo> filter,
+      final Collection<MethodMutatorFactory> mutators,
+      final Predicate<String> isLoggingClass,
+      final InlinedCodeFilter inlinedCodeDetector) {
     this.filter = filter;
     this.mutators.addAll(mutators);
     this.byteSource = byteSource;
-    this.loggingClasses.addAll(FCollection.map(loggingClasses,
-        classNameToJVMClassName()));
+    this.isLoggingClass = isLoggingClass;
     this.inlinedCodeDetector = inlinedCodeDetector;
   }
 
+  /**
+   * @return predicate matching the internal names of classes calls to which
+   *         should not be mutated
+   */
+  static Predicate<String> isLoggingClass(
+      final Collection<String> loggingClasses) {
+    return GlobSet.prefixes(FCollection.map(loggingClasses,
+        classNameToJVMClassName()));
+  }
+
   @Override
   public FunctionalList<MutationDetails> findMutations(
       final ClassName classToMutate) {
@@ -107,7 +126,7 @@ public class GregorMutater implements Mutater {
   private PremutationClassInfo performPreScan(final byte[] classToMutate) {
     final ClassReader reader = new ClassReader(classToMutate);
 
-    final PreMutationAnalyser an = new PreMutationAnalyser(this.loggingClasses);
+    final PreMutationAnalyser an = new PreMutationAnalyser(this.isLoggingClass);
     reader.accept(an, 0);
     return an.getClassInfo();
 
@@ -35,21 +35,22 @@ import org.pitest.mutationtest.engine.gregor.inlinedcode.InlinedCodeFilter;
 public class GregorMutationEngine implements MutationEngine {
 
   private final Set<MethodMutatorFactory> mutationOperators = new LinkedHashSet<MethodMutatorFactory>();
-  private final Set<String>               loggingClasses    = new LinkedHashSet<String>();
+  private final Predicate<String>         isLoggingClass;
   private final Predicate<MethodInfo>     methodFilter;
   private final InlinedCodeFilter         inlinedCodeDetector;
 
   public GregorMutationEngine(final MutationEngineConfiguration config) {
     this.methodFilter = config.methodFilter();
     this.mutationOperators.addAll(config.mutators());
-    this.loggingClasses.addAll(config.doNotMutateCallsTo());
+    this.isLoggingClass = GregorMutater.isLoggingClass(config
+        .doNotMutateCallsTo());
     this.inlinedCodeDetector = config.inlinedCodeDetector();
   }
 
   @Override
   public Mutater createMutator(final ClassByteArraySource byteSource) {
     return new GregorMutater(byteSource, this.methodFilter,
-        this.mutationOperators, this.loggingClasses, this.inlinedCodeDetector);
+        this.mutationOperators, this.isLoggingClass, this.inlinedCodeDetector);
   }
 
   @Override
@@ -1,22 +1,21 @@
 package org.pitest.mutationtest.engine.gregor;
 
-import java.util.Set;
-
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.pitest.functional.predicate.Predicate;
 
 public class PreMutationAnalyser extends ClassVisitor {
 
   private final PremutationClassInfo classInfo = new PremutationClassInfo();
-  private final Set<String>          loggingClasses;
+  private final Predicate<String>    isLoggingClass;
 
-  public PreMutationAnalyser(final Set<String> loggingClasses) {
+  public PreMutationAnalyser(final Predicate<String> isLoggingClass) {
     super(Opcodes.ASM5);
-    this.loggingClasses = loggingClasses;
+    this.isLoggingClass = isLoggingClass;
   }
 
   @Override
@@ -63,7 +62,8 @@ public class PreMutationAnalyser extends ClassVisitor {
   @Override
   public MethodVisitor visitMethod(final int access, final String name,
       final String desc, final String signature, final String[] exceptions) {
-    return new PreMutationMethodAnalyzer(this.loggingClasses, this.classInfo);
+    return new PreMutationMethodAnalyzer(this.isLoggingClass,
+        this.classInfo);
   }
 
   @Override
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.execute.MinionTiming.Stage;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.StringUtil;
+import org.pitest.util.Unchecked;
+
+/**
+ * Aggregates minion timings into a run level summary and writes them out in
+ * the chrome trace event format, with one row per minion, so they can be
+ * viewed in chrome://tracing or similar tools.
+ */
+public class ChromeTraceMinionProfiler implements MinionProfiler {
+
+  static final String                FILE_NAME = "minion-profile.json";
+
+  private final ResultOutputStrategy outputStrategy;
+  private final AtomicInteger        minions   = new AtomicInteger();
+  private final List<Event>          events    = new ArrayList<Event>();
+
+  public ChromeTraceMinionProfiler(final ResultOutputStrategy outputStrategy) {
+    this.outputStrategy = outputStrategy;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public SideEffect1<MinionTiming> newMinion() {
+    final int minion = this.minions.incrementAndGet();
+    return new SideEffect1<MinionTiming>() {
+      @Override
+      public void apply(final MinionTiming timing) {
+        record(minion, timing);
+      }
+    };
+  }
+
+  @Override
+  public void report(final PrintStream ps) {
+    final Map<Stage, StageSummary> summaries = summarise();
+    ps.println("> minions launched : " + this.minions.get());
+    for (final Entry<Stage, StageSummary> each : summaries.entrySet()) {
+      ps.println("> " + each.getKey() + " : " + each.getValue());
+    }
+  }
+
+  @Override
+  public void writeProfile() {
+    final Writer out = this.outputStrategy.createWriterForFile(FILE_NAME);
+    try {
+      out.write("{\"traceEvents\":[\n");
+      String separator = "";
+      for (final Event each : copyEvents()) {
+        out.write(separator);
+        out.write(each.toJson());
+        separator = ",\n";
+      }
+      out.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+      out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private synchronized void record(final int minion, final MinionTiming timing) {
+    this.events.add(new Event(minion, timing));
+  }
+
+  private synchronized List<Event> copyEvents() {
+    return new ArrayList<Event>(this.events);
+  }
+
+  private Map<Stage, StageSummary> summarise() {
+    final Map<Stage, StageSummary> summaries = new EnumMap<Stage, StageSummary>(
+        Stage.class);
+    for (final Event each : copyEvents()) {
+      final Stage stage = each.timing.getStage();
+      StageSummary summary = summaries.get(stage);
+      if (summary == null) {
+        summary = new StageSummary();
+        summaries.put(stage, summary);
+      }
+      summary.add(each.timing.getDuration());
+    }
+    return summaries;
+  }
+
+  private static class Event {
+    private final int          minion;
+    private final MinionTiming timing;
+
+    Event(final int minion, final MinionTiming timing) {
+      this.minion = minion;
+      this.timing = timing;
+    }
+
+    String toJson() {
+      final StringBuilder sb = new StringBuilder();
+      sb.append("{\"name\":\"");
+      StringUtil.escapeJson(this.timing.getStage().toString(), sb);
+      sb.append("\",\"cat\":\"minion\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+      sb.append(this.minion);
+      sb.append(",\"ts\":");
+      sb.append(this.timing.getStart());
+      sb.append(",\"dur\":");
+      sb.append(this.timing.getDuration());
+      final String detail = this.timing.getDetail();
+      if ((detail != null) && (detail.length() != 0)) {
+        sb.append(",\"args\":{\"detail\":\"");
+        StringUtil.escapeJson(detail, sb);
+        sb.append("\"}");
+      }
+      sb.append("}");
+      return sb.toString();
+    }
+  }
+
+  private static class StageSummary {
+    private long count;
+    private long total;
+    private long max;
+
+    void add(final long duration) {
+      this.count++;
+      this.total = this.total + duration;
+      this.max = Math.max(this.max, duration);
+    }
+
+    @Override
+    public String toString() {
+      return this.count + " times, total " + toMillis(this.total)
+          + " ms, mean " + toMillis(this.total / this.count) + " ms, max "
+          + toMillis(this.max) + " ms";
+    }
+
+    private static long toMillis(final long micros) {
+      return micros / 1000;
+    }
+  }
+
+}
@@ -21,6 +21,7 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MemorySample;
 import org.pitest.util.SafeDataOutputStream;
 
 public class DefaultReporter implements Reporter {
@@ -48,6 +49,24 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void timing(final MinionTiming timing)
+      throws IOException {
+    // not flushed - timings are sent on with the next report
+    this.w.writeByte(Id.TIMING);
+    this.w.writeInt(timing.getStage().ordinal());
+    this.w.writeLong(timing.getStart());
+    this.w.writeLong(timing.getDuration());
+    this.w.writeString(detailOrEmpty(timing));
+  }
+
+  @Override
+  public synchronized void memory(final MemorySample sample)
+      throws IOException {
+    // not flushed - sent on with done
+    sample.write(this.w);
+  }
+
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
@@ -55,4 +74,11 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  private static String detailOrEmpty(final MinionTiming timing) {
+    if (timing.getDetail() == null) {
+      return "";
+    }
+    return timing.getDetail();
+  }
+
 }
@@ -31,11 +31,28 @@ public class MinionArguments {
   final boolean                     verbose;
   final Configuration               pitConfig;
   final boolean dontStopAtMutantKilled;
+  final boolean                     profile;
+  final int                         discoveryThreads;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final MutationEngine engine,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final Configuration pitConfig, final boolean dontStopAtMutantKilled) {
+    this(mutations, tests, engine, timeoutStrategy, verbose, pitConfig,
+        dontStopAtMutantKilled, false, 1);
+  }
+
+  /**
+   * @param profile
+   *          whether the minion should report timings for the minion profile
+   * @param discoveryThreads
+   *          number of threads on which to discover tests
+   */
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final MutationEngine engine,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final Configuration pitConfig, final boolean dontStopAtMutantKilled,
+      final boolean profile, final int discoveryThreads) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -43,6 +60,8 @@ public class MinionArguments {
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.dontStopAtMutantKilled = dontStopAtMutantKilled;
+    this.profile = profile;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public boolean isVerbose() {
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.PrintStream;
+
+import org.pitest.functional.SideEffect1;
+
+/**
+ * Collects the timings reported by each mutation minion over a run.
+ */
+public interface MinionProfiler {
+
+  /**
+   * Called once for each minion launched
+   *
+   * @return receiver for the timings reported by the new minion
+   */
+  SideEffect1<MinionTiming> newMinion();
+
+  /**
+   * @return true if the timings minions report are used, so minions need not
+   *         gather them when not
+   */
+  boolean isEnabled();
+
+  void report(PrintStream ps);
+
+  void writeProfile();
+
+}
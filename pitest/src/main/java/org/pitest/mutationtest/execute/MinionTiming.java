@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A span of time spent by a minion in a particular stage of its lifecycle.
+ * Start times are wall clock based so spans from different minions can be
+ * placed on the same timeline. All values are in microseconds.
+ */
+public final class MinionTiming {
+
+  public enum Stage {
+    JVM_START("jvm start to main"), AGENT_INSTALL("agent install"), FIND_TESTS(
+        "find tests"), FIRST_TEST("main to first test"), GENERATE_MUTANT(
+        "generate mutant"), HOTSWAP_MUTANT("hotswap mutant"), TEST_MUTANT(
+        "run tests against mutant"), EXIT("main to exit");
+
+    private final String description;
+
+    Stage(final String desc) {
+      this.description = desc;
+    }
+
+    @Override
+    public String toString() {
+      return this.description;
+    }
+  }
+
+  private final Stage  stage;
+  private final long   start;
+  private final long   duration;
+  private final String detail;
+
+  public MinionTiming(final Stage stage, final long start,
+      final long duration, final String detail) {
+    this.stage = stage;
+    this.start = start;
+    this.duration = duration;
+    this.detail = detail;
+  }
+
+  /**
+   * Creates a timing for a stage between two wall clock times in
+   * milliseconds.
+   */
+  public static MinionTiming between(final Stage stage,
+      final long startMillis, final long endMillis, final String detail) {
+    return new MinionTiming(stage, toMicros(startMillis), toMicros(endMillis
+        - startMillis), detail);
+  }
+
+  /**
+   * Creates a timing for a stage that began at the supplied wall clock time
+   * (in milliseconds) and ends now.
+   */
+  public static MinionTiming since(final Stage stage, final long startMillis,
+      final String detail) {
+    return between(stage, startMillis, System.currentTimeMillis(), detail);
+  }
+
+  /**
+   * Creates a timing for a stage that began at the supplied wall clock time
+   * (in milliseconds) and was measured with the more precise
+   * {@link System#nanoTime()} as lasting until now.
+   */
+  public static MinionTiming since(final Stage stage, final long startMillis,
+      final long startNanos, final String detail) {
+    return new MinionTiming(stage, toMicros(startMillis),
+        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), detail);
+  }
+
+  private static long toMicros(final long millis) {
+    return TimeUnit.MILLISECONDS.toMicros(millis);
+  }
+
+  public Stage getStage() {
+    return this.stage;
+  }
+
+  public long getStart() {
+    return this.start;
+  }
+
+  public long getDuration() {
+    return this.duration;
+  }
+
+  public String getDetail() {
+    return this.detail;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = (prime * result)
+        + ((this.detail == null) ? 0 : this.detail.hashCode());
+    result = (prime * result) + (int) (this.duration ^ (this.duration >>> 32));
+    result = (prime * result)
+        + ((this.stage == null) ? 0 : this.stage.hashCode());
+    result = (prime * result) + (int) (this.start ^ (this.start >>> 32));
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final MinionTiming other = (MinionTiming) obj;
+    if (this.detail == null) {
+      if (other.detail != null) {
+        return false;
+      }
+    } else if (!this.detail.equals(other.detail)) {
+      return false;
+    }
+    return (this.duration == other.duration) && (this.stage == other.stage)
+        && (this.start == other.start);
+  }
+
+  @Override
+  public String toString() {
+    return "MinionTiming [stage=" + this.stage + ", start=" + this.start
+        + ", duration=" + this.duration + ", detail=" + this.detail + "]";
+  }
+
+}
@@ -2,7 +2,9 @@ package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -16,6 +18,7 @@ import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
 
@@ -24,14 +27,39 @@ public class MutationAnalysisExecutor {
   private static final Logger                LOG = Log.getLogger();
 
   private final List<MutationResultListener> listeners;
-  private final ThreadPoolExecutor           executor;
+  private final ExecutorService              executor;
+  private final boolean                      ownsExecutor;
+  private final RunMetrics                   metrics;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, new RunMetrics());
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, RunMetrics metrics) {
+    this(new ThreadPoolExecutor(numberOfThreads, numberOfThreads, 10,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+        Executors.defaultThreadFactory()), true, listeners, metrics);
+  }
+
+  /**
+   * Runs units on an executor shared with other analyses, such as those of
+   * the other modules of a build, so that their units are interleaved. The
+   * executor is left running once the units have completed.
+   */
+  public MutationAnalysisExecutor(ExecutorService executor,
+      List<MutationResultListener> listeners, RunMetrics metrics) {
+    this(executor, false, listeners, metrics);
+  }
+
+  private MutationAnalysisExecutor(ExecutorService executor,
+      boolean ownsExecutor, List<MutationResultListener> listeners,
+      RunMetrics metrics) {
     this.listeners = listeners;
-    this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
-        10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
-        Executors.defaultThreadFactory());
+    this.metrics = metrics;
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
   }
 
   // entry point for mutation testing
@@ -40,15 +68,18 @@ public class MutationAnalysisExecutor {
     LOG.fine("Running " + testUnits.size() + " units");
 
     signalRunStartToAllListeners();
+    this.metrics.runStarted(countMutations(testUnits));
 
     List<Future<MutationMetaData>> results = new ArrayList<Future<MutationMetaData>>(
         testUnits.size());
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.add(this.executor.submit(recordMetrics(unit)));
     }
 
-    this.executor.shutdown();
+    if (this.ownsExecutor) {
+      this.executor.shutdown();
+    }
 
     try {
       processResult(results);
@@ -62,6 +93,27 @@ public class MutationAnalysisExecutor {
 
   }
 
+  private static int countMutations(final List<MutationAnalysisUnit> testUnits) {
+    int count = 0;
+    for (final MutationAnalysisUnit each : testUnits) {
+      count = count + each.mutations().size();
+    }
+    return count;
+  }
+
+  private Callable<MutationMetaData> recordMetrics(
+      final MutationAnalysisUnit unit) {
+    return new Callable<MutationMetaData>() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        final MutationMetaData result = unit.call();
+        MutationAnalysisExecutor.this.metrics.unitFinished(result
+            .getMutations());
+        return result;
+      }
+    };
+  }
+
   private void processResult(List<Future<MutationMetaData>> results)
       throws InterruptedException, ExecutionException {
     for (Future<MutationMetaData> f : results) {
@@ -19,12 +19,15 @@ import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.metrics.MinionMetrics;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
+import org.pitest.util.MemorySample;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
@@ -50,9 +53,17 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final SideEffect1<MinionTiming>                       timings;
+    private final MinionMetrics                                   metrics;
+    private final SideEffect1<MemorySample>                       memory;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final SideEffect1<MinionTiming> timings, final MinionMetrics metrics,
+        final SideEffect1<MemorySample> memory) {
       this.idMap = idMap;
+      this.timings = timings;
+      this.metrics = metrics;
+      this.memory = memory;
     }
 
     @Override
@@ -64,14 +75,30 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.TIMING:
+        handleTiming(is);
+        break;
+      case Id.MEMORY:
+        this.memory.apply(MemorySample.read(is));
+        break;
       }
     }
 
+    private void handleTiming(final SafeDataInputStream is) {
+      final MinionTiming.Stage stage = MinionTiming.Stage.values()[is
+          .readInt()];
+      final long start = is.readLong();
+      final long duration = is.readLong();
+      final String detail = is.readString();
+      this.timings.apply(new MinionTiming(stage, start, duration, detail));
+    }
+
     private void handleReport(final SafeDataInputStream is) {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
       final MutationStatusTestPair value = is
           .read(MutationStatusTestPair.class);
       this.idMap.put(mutation, value);
+      this.metrics.mutantFinished(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
@@ -79,6 +106,7 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
       this.idMap.put(mutation, new MutationStatusTestPair(1,
           DetectionStatus.STARTED));
+      this.metrics.mutantStarted(mutation);
     }
 
   }
@@ -88,7 +116,31 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, Prelude.noSideEffect(MinionTiming.class));
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final SideEffect1<MinionTiming> timings) {
+    this(socket, arguments, idMap, timings, MinionMetrics.none());
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final SideEffect1<MinionTiming> timings, final MinionMetrics metrics) {
+    this(socket, arguments, idMap, timings, metrics, Prelude
+        .noSideEffect(MemorySample.class));
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final SideEffect1<MinionTiming> timings, final MinionMetrics metrics,
+      final SideEffect1<MemorySample> memory) {
+    super(socket, new SendData(arguments), new Receive(idMap, timings,
+        metrics, memory));
     this.idMap = idMap;
   }
 
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
 import java.net.UnknownHostException;
@@ -34,6 +35,7 @@ import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.F3;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
+import org.pitest.mutationtest.execute.MinionTiming.Stage;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
@@ -43,6 +45,7 @@ import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.MemorySample;
 import org.pitest.util.MemoryWatchdog;
 import org.pitest.util.SafeDataInputStream;
 
@@ -52,11 +55,19 @@ public class MutationTestMinion {
 
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
+  private final long                minionStart;
+  private boolean                   profile;
 
   public MutationTestMinion(final SafeDataInputStream dis,
       final Reporter reporter) {
+    this(dis, reporter, System.currentTimeMillis());
+  }
+
+  public MutationTestMinion(final SafeDataInputStream dis,
+      final Reporter reporter, final long minionStart) {
     this.dis = dis;
     this.reporter = reporter;
+    this.minionStart = minionStart;
   }
 
   public void run() {
@@ -66,6 +77,10 @@ public class MutationTestMinion {
           .read(MinionArguments.class);
 
       Log.setVerbose(paramsFromParent.isVerbose());
+      this.profile = paramsFromParent.profile;
+      if (this.profile) {
+        reportStartupTimings(this.reporter, this.minionStart);
+      }
 
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
@@ -77,40 +92,65 @@ public class MutationTestMinion {
 
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
           paramsFromParent.engine.createMutator(byteSource), loader,
-          paramsFromParent.dontStopAtMutantKilled);
+          paramsFromParent.dontStopAtMutantKilled, this.minionStart,
+          this.profile);
 
+      final long findStart = System.currentTimeMillis();
       final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, paramsFromParent.pitConfig);
+          paramsFromParent.testClasses, paramsFromParent.pitConfig,
+          paramsFromParent.discoveryThreads);
+      if (this.profile) {
+        this.reporter.timing(MinionTiming.since(Stage.FIND_TESTS, findStart,
+            tests.size() + " tests"));
+      }
 
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
               tests, this.reporter));
-      this.reporter.done(ExitCode.OK);
+      done(ExitCode.OK);
     } catch (final Throwable ex) {
       LOG.log(Level.WARNING, "Error during mutation test", ex);
-      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+      done(ExitCode.UNKNOWN_ERROR);
     }
 
   }
 
+  private void done(final ExitCode exitCode) {
+    try {
+      if (this.profile) {
+        this.reporter.timing(MinionTiming.since(Stage.EXIT, this.minionStart,
+            exitCode.name()));
+      }
+      this.reporter.memory(MemorySample.measure());
+    } catch (final Throwable ex) {
+      LOG.log(Level.FINE, "Could not report exit timing and memory", ex);
+    }
+    this.reporter.done(exitCode);
+  }
+
   public static void main(final String[] args) {
 
+    final long mainEntered = System.currentTimeMillis();
+
     LOG.log(Level.FINE, "minion started");
 
     enablePowerMockSupport();
 
     final int port = Integer.valueOf(args[0]);
+    // minions launched by a remote worker are told where to report
+    final String host = args.length > 1 ? args[1] : "localhost";
 
     Socket s = null;
     try {
-      s = new Socket("localhost", port);
+      s = new Socket(host, port);
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
       final Reporter reporter = new DefaultReporter(s.getOutputStream());
       addMemoryWatchDog(reporter);
 
-      final MutationTestMinion instance = new MutationTestMinion(dis, reporter);
+      final MutationTestMinion instance = new MutationTestMinion(dis,
+          reporter, mainEntered);
       instance.run();
     } catch (final UnknownHostException ex) {
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -126,12 +166,25 @@ public class MutationTestMinion {
 
   }
 
+  private static void reportStartupTimings(final Reporter reporter,
+      final long mainEntered) throws IOException {
+    final long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+    reporter.timing(MinionTiming.between(Stage.JVM_START, jvmStart,
+        mainEntered, null));
+    if (HotSwapAgent.getInstallStarted() != 0) {
+      reporter.timing(MinionTiming.between(Stage.AGENT_INSTALL,
+          HotSwapAgent.getInstallStarted(), HotSwapAgent.getInstallFinished(),
+          null));
+    }
+  }
+
   private static List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
+      final Configuration pitConfig, final int discoveryThreads) {
     final Collection<Class<?>> tcs = FCollection.flatMap(testClasses,
         ClassName.nameToClass(loader));
-    FindTestUnits finder = new FindTestUnits(pitConfig);
+    final FindTestUnits finder = new FindTestUnits(pitConfig,
+        discoveryThreads);
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
 
@@ -4,31 +4,113 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.HashMap;
 
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.metrics.MinionMetrics;
+import org.pitest.process.LaunchedMinion;
+import org.pitest.process.LocalMinionLauncher;
+import org.pitest.process.MinionSizer;
+import org.pitest.process.MinionLauncher;
 import org.pitest.process.ProcessArgs;
-import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.MemorySample;
 
 public class MutationTestProcess {
 
-  private final WrappingProcess                 process;
+  private final int                             port;
+  private final ProcessArgs                     processArgs;
+  private final MinionLauncher                  launcher;
   private final MutationTestCommunicationThread thread;
+  private final MinionMetrics                   metrics;
+  private final Option<MinionSizer>             sizer;
+
+  private LaunchedMinion                        minion;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
-        MutationTestMinion.class);
+    this(socket, processArgs, arguments, Prelude
+        .noSideEffect(MinionTiming.class));
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final SideEffect1<MinionTiming> timings) {
+    this(socket, processArgs, arguments, timings, new LocalMinionLauncher());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final SideEffect1<MinionTiming> timings, final MinionLauncher launcher) {
+    this(socket, processArgs, arguments, timings, launcher, MinionMetrics
+        .none());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final SideEffect1<MinionTiming> timings, final MinionLauncher launcher,
+      final MinionMetrics metrics) {
+    this(socket, processArgs, arguments, timings, launcher, metrics, Option
+        .<MinionSizer> none());
+  }
+
+  /**
+   * Creates a process that, when a sizer is supplied, waits for the machine
+   * to have memory for it before launching and reports the memory the minion
+   * used.
+   */
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final SideEffect1<MinionTiming> timings, final MinionLauncher launcher,
+      final MinionMetrics metrics, final Option<MinionSizer> sizer) {
+    this.port = socket.getLocalPort();
+    this.processArgs = processArgs;
+    this.launcher = launcher;
+    this.metrics = metrics;
+    this.sizer = sizer;
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-        new HashMap<MutationIdentifier, MutationStatusTestPair>());
+        new HashMap<MutationIdentifier, MutationStatusTestPair>(), timings,
+        metrics, memoryRecorder(sizer));
+
+  }
 
+  private static SideEffect1<MemorySample> memoryRecorder(
+      final Option<MinionSizer> sizer) {
+    if (sizer.hasSome()) {
+      return sizer.value().recorder();
+    }
+    return Prelude.noSideEffect(MemorySample.class);
   }
 
   public void start() throws IOException, InterruptedException {
-    this.thread.start();
-    this.process.start();
+    if (this.sizer.hasSome()) {
+      this.sizer.value().acquire();
+    }
+    boolean launched = false;
+    try {
+      this.thread.start();
+      this.minion = this.launcher.launch(this.port, this.processArgs,
+          MutationTestMinion.class, abandonThread());
+      launched = true;
+    } finally {
+      if (!launched) {
+        releaseSizer(ExitCode.UNKNOWN_ERROR);
+      }
+    }
+  }
+
+  private SideEffect abandonThread() {
+    return new SideEffect() {
+      @Override
+      public void apply() {
+        MutationTestProcess.this.thread.abandon();
+      }
+    };
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
@@ -43,12 +125,36 @@ public class MutationTestProcess {
   }
 
   public ExitCode waitToDie() {
+    ExitCode exitCode = ExitCode.UNKNOWN_ERROR;
     try {
-      return this.thread.waitToFinish();
+      exitCode = this.thread.waitToFinish();
+      return exitCode;
     } finally {
-      this.process.destroy();
+      this.minion.destroy();
+      releaseSizer(exitCode);
     }
 
   }
 
+  private void releaseSizer(final ExitCode exitCode) {
+    if (this.sizer.hasSome()) {
+      if (exitCode == ExitCode.OUT_OF_MEMORY) {
+        this.sizer.value().outOfMemory();
+      }
+      this.sizer.value().release();
+    }
+  }
+
+  /**
+   * Returns true if contact with the minion was lost before it completed, so
+   * that the mutations it did not report should be run again.
+   */
+  public boolean wasLost() {
+    return this.minion.isLost();
+  }
+
+  public MinionMetrics metrics() {
+    return this.metrics;
+  }
+
 }
@@ -33,6 +33,7 @@ import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MinionTiming.Stage;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
 import org.pitest.testapi.TestResult;
 import org.pitest.testapi.TestUnit;
@@ -61,6 +62,9 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean dontStopAtMutantKilled;
+  private final long                                        minionStart;
+  private final boolean                                     profile;
+  private boolean                                           testsStarted;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
@@ -71,10 +75,33 @@ public class MutationTestWorker {
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, boolean dontStopAtMutantKilled) {
+    this(hotswap, mutater, loader, dontStopAtMutantKilled, System
+        .currentTimeMillis());
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean dontStopAtMutantKilled, final long minionStart) {
+    this(hotswap, mutater, loader, dontStopAtMutantKilled, minionStart, true);
+  }
+
+  /**
+   * @param profile
+   *          whether to report timings for the minion profile, which is
+   *          skipped when not wanted as it costs several messages per mutant
+   */
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean dontStopAtMutantKilled, final long minionStart,
+      final boolean profile) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.dontStopAtMutantKilled = dontStopAtMutantKilled;
+    this.minionStart = minionStart;
+    this.profile = profile;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
@@ -99,7 +126,13 @@ public class MutationTestWorker {
       final MutationDetails mutationDetails) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
+    final long generateStart = System.currentTimeMillis();
+    final long generateStartNanos = System.nanoTime();
     final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    if (this.profile) {
+      r.timing(MinionTiming.since(Stage.GENERATE_MUTANT, generateStart,
+          generateStartNanos, mutationId.toString()));
+    }
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -116,7 +149,7 @@ public class MutationTestWorker {
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
+    final MutationStatusTestPair mutationDetected = handleMutation(r,
         mutationDetails, mutatedClass, relevantTests);
 
     r.report(mutationId, mutationDetected);
@@ -125,9 +158,9 @@ public class MutationTestWorker {
     }
   }
 
-  private MutationStatusTestPair handleMutation(
+  private MutationStatusTestPair handleMutation(final Reporter r,
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests) throws IOException {
     MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info("No test coverage for mutation  " + mutationId + " in "
@@ -135,16 +168,16 @@ public class MutationTestWorker {
       mutationDetected = new MutationStatusTestPair(0,
           DetectionStatus.RUN_ERROR);
     } else {
-      mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
+      mutationDetected = handleCoveredMutation(r, mutationId, mutatedClass,
           relevantTests);
 
     }
     return mutationDetected;
   }
 
-  private MutationStatusTestPair handleCoveredMutation(
+  private MutationStatusTestPair handleCoveredMutation(final Reporter r,
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests) throws IOException {
     MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine("" + relevantTests.size() + " relevant test for "
@@ -154,13 +187,26 @@ public class MutationTestWorker {
     final ClassLoader activeloader = pickClassLoaderForMutant(mutationId);
     final Container c = createNewContainer(activeloader, dontStopAtMutantKilled);
     final long t0 = System.currentTimeMillis();
-    if (this.hotswap.apply(mutationId.getClassName(), activeloader,
-        mutatedClass.getBytes())) {
+    final long t0Nanos = System.nanoTime();
+    final boolean swapped = this.hotswap.apply(mutationId.getClassName(),
+        activeloader, mutatedClass.getBytes());
+    if (this.profile) {
+      r.timing(MinionTiming.since(Stage.HOTSWAP_MUTANT, t0, t0Nanos,
+          mutationId.getId().toString()));
+    }
+    if (swapped) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
       }
+      reportFirstTest(r);
+      final long testStart = System.currentTimeMillis();
+      final long testStartNanos = System.nanoTime();
       mutationDetected = doTestsDetectMutation(c, relevantTests);
+      if (this.profile) {
+        r.timing(MinionTiming.since(Stage.TEST_MUTANT, testStart,
+            testStartNanos, mutationId.getId().toString()));
+      }
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = new MutationStatusTestPair(0,
@@ -169,6 +215,13 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private void reportFirstTest(final Reporter r) throws IOException {
+    if (this.profile && !this.testsStarted) {
+      this.testsStarted = true;
+      r.timing(MinionTiming.since(Stage.FIRST_TEST, this.minionStart, null));
+    }
+  }
+
   private static Container createNewContainer(final ClassLoader activeloader, final boolean dontStopAtMutantKilled) {
     final Container c = new UnContainer() {
       @Override
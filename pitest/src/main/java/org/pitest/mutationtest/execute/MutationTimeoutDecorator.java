@@ -15,14 +15,19 @@
 package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.AdaptiveTimeoutLengthStrategy;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
@@ -32,6 +37,12 @@ import edu.columbia.cs.psl.testprof.TracerConnector;
 
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
+  static final long                   WALL_CLOCK_MULTIPLE = 10;
+
+  private static final long           POLL_INTERVAL       = 10;
+  private static final ThreadMXBean   THREADS             = ManagementFactory
+                                                              .getThreadMXBean();
+
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
@@ -52,11 +63,16 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
         String logName = TracerConnector.allMutations.size() +"."+this.getDescription().getName();
         Tracer.getInstance().writeOutAndStartFresh(logName);
     }
-    final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
-
-    final FutureTask<?> future = createFutureForChildTestUnit(loader, rc);
-    executeFutureWithTimeOut(maxTime, future, rc);
+    final FutureTask<?> future;
+    if (this.timeOutStrategy instanceof AdaptiveTimeoutLengthStrategy) {
+      future = executeWithinBudget(
+          (AdaptiveTimeoutLengthStrategy) this.timeOutStrategy, loader, rc);
+    } else {
+      final long maxTime = this.timeOutStrategy
+          .getAllowedTime(this.executionTime);
+      future = createFutureForChildTestUnit(loader, rc);
+      executeFutureWithTimeOut(maxTime, future, rc);
+    }
     try {
         if(Tracer.isAvailable())
             Tracer.getInstance().finish();
@@ -82,15 +98,91 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
+  /**
+   * Runs the test until it either completes or uses more than its budget of
+   * cpu time. As time spent blocked does not consume cpu the test is also
+   * stopped if it runs for many times its budget by the wall clock, which only
+   * a test blocked for good is expected to do.
+   */
+  private FutureTask<?> executeWithinBudget(
+      final AdaptiveTimeoutLengthStrategy strategy, final ClassLoader loader,
+      final ResultCollector rc) {
+    final String test = getDescription().getQualifiedName();
+    final long budget = strategy.getAllowedTime(test, this.executionTime);
+    final long wallClockLimit = budget * WALL_CLOCK_MULTIPLE;
+
+    final FailureDetectingCollector collector = new FailureDetectingCollector(
+        rc);
+    final AtomicLong cpuTime = new AtomicLong(-1);
+    final FutureTask<?> future = new FutureTask<Object>(recordingCpuTime(
+        createRunnable(loader, collector), cpuTime), null);
+    final Thread thread = startThread(future);
+    final long start = System.currentTimeMillis();
+
+    long wallClock = 0;
+    while (!future.isDone()) {
+      wallClock = System.currentTimeMillis() - start;
+      if ((timeUsed(cpuTimeOf(thread), wallClock) > budget)
+          || (wallClock > wallClockLimit)) {
+        return future;
+      }
+      executeFutureWithTimeOut(POLL_INTERVAL, future, rc);
+    }
+
+    wallClock = System.currentTimeMillis() - start;
+    if (!collector.hasFailed()) {
+      strategy.recordPassingRun(test, timeUsed(cpuTime.get(), wallClock));
+    }
+    return future;
+  }
+
+  private static long timeUsed(final long cpuTime, final long wallClock) {
+    if (cpuTime < 0) {
+      return wallClock;
+    }
+    return cpuTime;
+  }
+
+  private static long cpuTimeOf(final Thread thread) {
+    if (!THREADS.isThreadCpuTimeSupported()
+        || !THREADS.isThreadCpuTimeEnabled()) {
+      return -1;
+    }
+    final long nanos = THREADS.getThreadCpuTime(thread.getId());
+    if (nanos < 0) {
+      return -1;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  private static Runnable recordingCpuTime(final Runnable r,
+      final AtomicLong cpuTime) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        try {
+          r.run();
+        } finally {
+          cpuTime.set(cpuTimeOf(Thread.currentThread()));
+        }
+      }
+    };
+  }
+
   private FutureTask<?> createFutureForChildTestUnit(final ClassLoader loader,
       final ResultCollector rc) {
     final FutureTask<?> future = new FutureTask<Object>(createRunnable(loader,
         rc), null);
-    final Thread thread = new Thread(future);
+    startThread(future);
+    return future;
+  }
+
+  private static Thread startThread(final Runnable r) {
+    final Thread thread = new Thread(r);
     thread.setDaemon(true);
     thread.setName("mutationTestThread");
     thread.start();
-    return future;
+    return thread;
   }
 
   private Runnable createRunnable(final ClassLoader loader,
@@ -109,4 +201,48 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     };
   }
 
+  private static final class FailureDetectingCollector implements
+      ResultCollector {
+
+    private final ResultCollector child;
+    private volatile boolean      failed;
+
+    FailureDetectingCollector(final ResultCollector child) {
+      this.child = child;
+    }
+
+    boolean hasFailed() {
+      return this.failed;
+    }
+
+    @Override
+    public void notifyEnd(final Description description, final Throwable t) {
+      if (t != null) {
+        this.failed = true;
+      }
+      this.child.notifyEnd(description, t);
+    }
+
+    @Override
+    public void notifyEnd(final Description description) {
+      this.child.notifyEnd(description);
+    }
+
+    @Override
+    public void notifyStart(final Description description) {
+      this.child.notifyStart(description);
+    }
+
+    @Override
+    public void notifySkipped(final Description description) {
+      this.child.notifySkipped(description);
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return this.child.shouldExit();
+    }
+
+  }
+
 }
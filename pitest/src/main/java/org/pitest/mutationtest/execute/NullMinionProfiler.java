@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 Henry Coles
+ * Copyright 2016 Henry Coles
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -12,24 +12,33 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and limitations under the License.
  */
+package org.pitest.mutationtest.execute;
 
-package org.pitest.testapi.foreignclassloader;
+import java.io.PrintStream;
 
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.Description;
-import org.pitest.testapi.ResultCollector;
+import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 
-public class Fail implements SideEffect2<ResultCollector, Description> {
+public class NullMinionProfiler implements MinionProfiler {
 
-  private final Throwable throwable;
+  @Override
+  public SideEffect1<MinionTiming> newMinion() {
+    return Prelude.noSideEffect(MinionTiming.class);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public void report(final PrintStream ps) {
 
-  public Fail(final Throwable throwable) {
-    this.throwable = throwable;
   }
 
   @Override
-  public void apply(final ResultCollector rc, final Description description) {
-    rc.notifyEnd(description, this.throwable);
+  public void writeProfile() {
+
   }
 
 }
@@ -19,6 +19,7 @@ import java.io.IOException;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
+import org.pitest.util.MemorySample;
 
 public interface Reporter {
 
@@ -27,6 +28,10 @@ public interface Reporter {
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected)
       throws IOException;
 
+  void timing(MinionTiming timing) throws IOException;
+
+  void memory(MemorySample sample) throws IOException;
+
   void done(ExitCode exitCode);
 
 }
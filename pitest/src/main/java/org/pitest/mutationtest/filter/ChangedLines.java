@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.filter;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.PitError;
+
+/**
+ * The lines changed in each of a set of source files, identified by their path
+ * relative to the source root (e.g. com/example/Foo.java).
+ *
+ * Written and read in the form {@code com/example/Foo.java:3-7,12;...} so that
+ * it can be passed to the filter as a plugin property.
+ */
+public class ChangedLines {
+
+  private final Map<String, BitSet> files = new TreeMap<String, BitSet>();
+
+  public static ChangedLines parse(final String spec) {
+    final ChangedLines lines = new ChangedLines();
+    for (final String file : spec.split(";")) {
+      if (file.trim().length() == 0) {
+        continue;
+      }
+      final int colon = file.lastIndexOf(':');
+      if (colon == -1) {
+        throw new PitError("Could not parse changed lines " + file);
+      }
+      final String path = file.substring(0, colon).trim();
+      lines.addFile(path);
+      for (final String range : file.substring(colon + 1).split(",")) {
+        if (range.trim().length() != 0) {
+          addRange(lines, path, range.trim());
+        }
+      }
+    }
+    return lines;
+  }
+
+  private static void addRange(final ChangedLines lines, final String path,
+      final String range) {
+    try {
+      final int dash = range.indexOf('-');
+      if (dash == -1) {
+        final int line = Integer.parseInt(range);
+        lines.add(path, line, line);
+      } else {
+        lines.add(path, Integer.parseInt(range.substring(0, dash)),
+            Integer.parseInt(range.substring(dash + 1)));
+      }
+    } catch (final NumberFormatException e) {
+      throw new PitError("Could not parse changed lines " + range + " of "
+          + path);
+    }
+  }
+
+  /**
+   * Records that a file has changed, even if no lines within it are yet known
+   * to have done so.
+   */
+  public void addFile(final String path) {
+    if (!this.files.containsKey(path)) {
+      this.files.put(path, new BitSet());
+    }
+  }
+
+  public void add(final String path, final int first, final int last) {
+    addFile(path);
+    this.files.get(path).set(first, last + 1);
+  }
+
+  public boolean isEmpty() {
+    return this.files.isEmpty();
+  }
+
+  public boolean contains(final String path) {
+    return this.files.containsKey(path);
+  }
+
+  public boolean isChanged(final String path, final int line) {
+    return isChangedBetween(path, line, line);
+  }
+
+  public boolean isChangedBetween(final String path, final int first,
+      final int last) {
+    final BitSet lines = this.files.get(path);
+    if ((lines == null) || (first < 0)) {
+      return false;
+    }
+    final int next = lines.nextSetBit(first);
+    return (next != -1) && (next <= last);
+  }
+
+  /**
+   * Path relative to the source root of the file a class was compiled from
+   */
+  public static String sourcePathFor(final ClassName clazz,
+      final String sourceFile) {
+    final String name = clazz.asInternalName();
+    final int slash = name.lastIndexOf('/');
+    if (slash == -1) {
+      return sourceFile;
+    }
+    return name.substring(0, slash + 1) + sourceFile;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder();
+    for (final Entry<String, BitSet> each : this.files.entrySet()) {
+      if (sb.length() != 0) {
+        sb.append(';');
+      }
+      sb.append(each.getKey()).append(':');
+      appendRanges(sb, each.getValue());
+    }
+    return sb.toString();
+  }
+
+  private static void appendRanges(final StringBuilder sb, final BitSet lines) {
+    int start = lines.nextSetBit(0);
+    boolean first = true;
+    while (start != -1) {
+      final int end = lines.nextClearBit(start) - 1;
+      if (!first) {
+        sb.append(',');
+      }
+      sb.append(start);
+      if (end != start) {
+        sb.append('-').append(end);
+      }
+      first = false;
+      start = lines.nextSetBit(end + 1);
+    }
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Removes mutations from changed source files that are not on a changed line
+ * or, if whole methods are included, that are not within a method containing a
+ * changed line. Mutations in files with no recorded changes are kept.
+ *
+ * The lines spanned by a method are read from the line number table of the
+ * class that contains it.
+ */
+public class ChangedLinesFilter implements MutationFilter {
+
+  private final ChangedLines                       lines;
+  private final boolean                            wholeMethods;
+  private final ClassByteArraySource               source;
+  private final Map<ClassName, Map<String, int[]>> methodLines = new HashMap<ClassName, Map<String, int[]>>();
+
+  public ChangedLinesFilter(final ChangedLines lines,
+      final boolean wholeMethods, final ClassByteArraySource source) {
+    this.lines = lines;
+    this.wholeMethods = wholeMethods;
+    this.source = source;
+  }
+
+  @Override
+  public Collection<MutationDetails> filter(
+      final Collection<MutationDetails> mutations) {
+    final List<MutationDetails> filtered = new ArrayList<MutationDetails>(
+        mutations.size());
+    for (final MutationDetails each : mutations) {
+      if (isInScope(each)) {
+        filtered.add(each);
+      }
+    }
+    return filtered;
+  }
+
+  private boolean isInScope(final MutationDetails mutation) {
+    final String path = ChangedLines.sourcePathFor(mutation.getClassName(),
+        mutation.getFilename());
+    if (!this.lines.contains(path)
+        || this.lines.isChanged(path, mutation.getLineNumber())) {
+      return true;
+    }
+    return this.wholeMethods && methodIsChanged(path, mutation);
+  }
+
+  private boolean methodIsChanged(final String path,
+      final MutationDetails mutation) {
+    final Location location = mutation.getId().getLocation();
+    final int[] span = linesFor(location.getClassName()).get(
+        location.getMethodName().name() + location.getMethodDesc());
+    return (span != null) && this.lines.isChangedBetween(path, span[0], span[1]);
+  }
+
+  private synchronized Map<String, int[]> linesFor(final ClassName clazz) {
+    Map<String, int[]> spans = this.methodLines.get(clazz);
+    if (spans == null) {
+      spans = readMethodLines(clazz);
+      this.methodLines.put(clazz, spans);
+    }
+    return spans;
+  }
+
+  private Map<String, int[]> readMethodLines(final ClassName clazz) {
+    final Map<String, int[]> spans = new HashMap<String, int[]>();
+    final Option<byte[]> bytes = this.source.getBytes(clazz.asJavaName());
+    if (bytes.hasNone()) {
+      return spans;
+    }
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes.value()).accept(node, ClassReader.SKIP_FRAMES);
+    for (final Object each : node.methods) {
+      final MethodNode method = (MethodNode) each;
+      final int[] span = spanOf(method);
+      if (span != null) {
+        spans.put(method.name + method.desc, span);
+      }
+    }
+    return spans;
+  }
+
+  private static int[] spanOf(final MethodNode method) {
+    int[] span = null;
+    for (int i = 0; i != method.instructions.size(); i++) {
+      final AbstractInsnNode ins = method.instructions.get(i);
+      if (ins instanceof LineNumberNode) {
+        final int line = ((LineNumberNode) ins).line;
+        if (span == null) {
+          span = new int[] { line, line };
+        } else {
+          span[0] = Math.min(span[0], line);
+          span[1] = Math.max(span[1], line);
+        }
+      }
+    }
+    return span;
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.filter;
+
+import java.util.Properties;
+
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.CodeSource;
+
+/**
+ * Restricts analysis to the lines listed in the {@value #CHANGED_LINES}
+ * property, or to the methods containing them unless
+ * {@value #CHANGED_LINES_SCOPE} is set to {@code line}. Does nothing if no
+ * changed lines are supplied.
+ */
+public class ChangedLinesFilterFactory implements MutationFilterFactory {
+
+  public static final String CHANGED_LINES       = "changedLines";
+  public static final String CHANGED_LINES_SCOPE = "changedLinesScope";
+
+  @Override
+  public MutationFilter createFilter(final Properties props,
+      final CodeSource source, final int maxMutationsPerClass) {
+    if ((props == null) || (props.getProperty(CHANGED_LINES) == null)) {
+      return UnfilteredMutationFilter.INSTANCE;
+    }
+    final boolean wholeMethods = !"line".equalsIgnoreCase(props
+        .getProperty(CHANGED_LINES_SCOPE));
+    return new ChangedLinesFilter(ChangedLines.parse(props
+        .getProperty(CHANGED_LINES)), wholeMethods,
+        new ClassPathByteArraySource(source.getClassPath()));
+  }
+
+  @Override
+  public String description() {
+    return "Changed lines filter";
+  }
+
+}
@@ -20,7 +20,14 @@ public class CompoundFilterFactory implements MutationFilterFactory {
 
   @Override
   public String description() {
-    return null;
+    final StringBuilder sb = new StringBuilder();
+    for (final MutationFilterFactory each : this.children) {
+      if (sb.length() != 0) {
+        sb.append(", ");
+      }
+      sb.append(each.description());
+    }
+    return sb.toString();
   }
 
   @Override
@@ -6,11 +6,11 @@ import java.util.List;
 
 import org.pitest.mutationtest.engine.MutationDetails;
 
-class CompoundMutationFilter implements MutationFilter {
+public class CompoundMutationFilter implements MutationFilter {
 
   private final List<MutationFilter> children = new ArrayList<MutationFilter>();
 
-  CompoundMutationFilter(List<MutationFilter> children) {
+  public CompoundMutationFilter(List<MutationFilter> children) {
     this.children.addAll(children);
   }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.pitest.functional.FCollection;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+
+/**
+ * Selects a random sample of a fixed fraction of the mutations in each class.
+ *
+ * Mutations are ordered by method and then by mutator, and every 1/rate-th
+ * mutation is chosen from a random starting point. This systematic sample
+ * takes each method, and each mutator within a method, in proportion to its
+ * share of the class to within a single mutation, so the sample as a whole is
+ * stratified by package, method and mutator. Unlike taking the first n
+ * mutations it does not favour the top of a file.
+ *
+ * The starting point for each class is drawn from a generator seeded with the
+ * given seed and the class name, so the same seed always selects the same
+ * mutations regardless of the order in which classes are processed.
+ */
+public class StratifiedSamplingFilter implements MutationFilter {
+
+  private final double rate;
+  private final long   seed;
+
+  private long         population;
+  private long         selected;
+
+  public StratifiedSamplingFilter(final double rate, final long seed) {
+    if ((rate <= 0) || (rate > 1)) {
+      throw new PitError(
+          "Sample rate must be greater than 0 and at most 1 but was " + rate);
+    }
+    this.rate = rate;
+    this.seed = seed;
+  }
+
+  @Override
+  public Collection<MutationDetails> filter(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationDetails> sample = sample(mutations);
+    synchronized (this) {
+      this.population = this.population + mutations.size();
+      this.selected = this.selected + sample.size();
+    }
+    return sample;
+  }
+
+  private Collection<MutationDetails> sample(
+      final Collection<MutationDetails> mutations) {
+    if ((this.rate == 1) || mutations.isEmpty()) {
+      return mutations;
+    }
+
+    final List<MutationDetails> ordered = new ArrayList<MutationDetails>(
+        mutations);
+    Collections.sort(ordered, byId());
+
+    final Random rng = new Random(scramble((this.seed * 31)
+        + ordered.get(0).getClassName().asJavaName().hashCode()));
+    final Set<MutationIdentifier> chosen = new HashSet<MutationIdentifier>();
+    double position = rng.nextDouble();
+    for (final MutationDetails each : ordered) {
+      position = position + this.rate;
+      if (position >= 1) {
+        chosen.add(each.getId());
+        position = position - 1;
+      }
+    }
+
+    return FCollection.filter(mutations, isIn(chosen));
+  }
+
+  /**
+   * @return number of mutations offered to the filter
+   */
+  public synchronized long getPopulation() {
+    return this.population;
+  }
+
+  /**
+   * @return number of mutations the filter has chosen
+   */
+  public synchronized long getSelected() {
+    return this.selected;
+  }
+
+  private static long scramble(final long seed) {
+    // the first values drawn by java.util.Random from similar seeds are
+    // similar, so spread the bits of the seed first
+    long z = (seed ^ (seed >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+
+  private static Comparator<MutationDetails> byId() {
+    // identifiers order by method, then mutator
+    return new Comparator<MutationDetails>() {
+      @Override
+      public int compare(final MutationDetails a, final MutationDetails b) {
+        return a.getId().compareTo(b.getId());
+      }
+    };
+  }
+
+  private static Predicate<MutationDetails> isIn(
+      final Set<MutationIdentifier> chosen) {
+    return new Predicate<MutationDetails>() {
+      @Override
+      public Boolean apply(final MutationDetails a) {
+        return chosen.contains(a.getId());
+      }
+    };
+  }
+
+}
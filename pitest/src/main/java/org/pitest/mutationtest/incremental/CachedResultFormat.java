@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.UnsupportedEncodingException;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.util.Unchecked;
+
+/**
+ * Plain text form of a cached result, shared by all cache backends. The
+ * status, the number of tests run and the killing test (if any) are written
+ * on separate lines.
+ */
+final class CachedResultFormat {
+
+  private static final String ENCODING = "UTF-8";
+
+  private CachedResultFormat() {
+  }
+
+  static byte[] write(final MutationStatusTestPair result) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(result.getStatus().name()).append('\n');
+    sb.append(result.getNumberOfTestsRun()).append('\n');
+    if (result.getKillingTest().hasSome()) {
+      sb.append(result.getKillingTest().value()).append('\n');
+    }
+    try {
+      return sb.toString().getBytes(ENCODING);
+    } catch (final UnsupportedEncodingException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  static Option<MutationStatusTestPair> read(final byte[] data) {
+    try {
+      final String[] lines = new String(data, ENCODING).split("\n");
+      if (lines.length < 2) {
+        return Option.none();
+      }
+      final DetectionStatus status = DetectionStatus.valueOf(lines[0]);
+      final int testsRun = Integer.parseInt(lines[1]);
+      final String killingTest = lines.length > 2 ? lines[2] : null;
+      return Option.some(new MutationStatusTestPair(testsRun, status,
+          killingTest));
+    } catch (final UnsupportedEncodingException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final IllegalArgumentException e) {
+      // truncated or written by an incompatible version
+      return Option.none();
+    }
+  }
+
+}
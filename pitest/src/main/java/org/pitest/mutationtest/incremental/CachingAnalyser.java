@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Looks up mutations that the wrapped analyser could not assign a status to in
+ * a content addressed result cache. The listener returned by
+ * {@link #recorder()} stores the results of the run in the cache.
+ *
+ * Only statuses that are fully determined by the bytecode of the mutant and
+ * its tests are cached. Timeouts and memory errors depend on the machine and on
+ * settings that are not part of the cache key, so they are always re-run.
+ */
+public class CachingAnalyser implements MutationAnalyser {
+
+  private static final Logger               LOG       = Log.getLogger();
+
+  private static final Set<DetectionStatus> CACHEABLE = EnumSet.of(
+      DetectionStatus.KILLED, DetectionStatus.SURVIVED,
+      DetectionStatus.NON_VIABLE, DetectionStatus.NO_COVERAGE);
+
+  private final MutationAnalyser            child;
+  private final ResultCache                 cache;
+  private final ResultCacheKeys             keys;
+  private final Set<MutationIdentifier>     reused    = Collections
+      .synchronizedSet(new HashSet<MutationIdentifier>());
+
+  public CachingAnalyser(final MutationAnalyser child,
+      final ResultCache cache, final ResultCacheKeys keys) {
+    this.child = child;
+    this.cache = cache;
+    this.keys = keys;
+  }
+
+  @Override
+  public Collection<MutationResult> analyse(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationResult> results = this.child.analyse(mutations);
+    final List<MutationResult> mrs = new ArrayList<MutationResult>(
+        results.size());
+    int reusedHere = 0;
+    for (final MutationResult each : results) {
+      if (each.getStatus() == DetectionStatus.NOT_STARTED) {
+        final MutationResult fromCache = analyseFromCache(each);
+        if (fromCache != each) {
+          reusedHere++;
+        }
+        mrs.add(fromCache);
+      } else {
+        mrs.add(each);
+      }
+    }
+    LOG.info("Reused " + reusedHere + " of " + mrs.size()
+        + " mutation results from cache");
+    return mrs;
+  }
+
+  private MutationResult analyseFromCache(final MutationResult result) {
+    final MutationDetails details = result.getDetails();
+    final Option<String> key = this.keys.keyFor(details);
+    if (key.hasNone()) {
+      return result;
+    }
+    final Option<MutationStatusTestPair> cached = this.cache.get(key.value());
+    if (cached.hasNone() || !CACHEABLE.contains(cached.value().getStatus())) {
+      return result;
+    }
+    this.reused.add(details.getId());
+    return new MutationResult(details, cached.value());
+  }
+
+  /**
+   * Returns a listener that stores every result not already supplied by the
+   * cache.
+   */
+  public MutationResultListener recorder() {
+    return new MutationResultListener() {
+
+      @Override
+      public void runStart() {
+
+      }
+
+      @Override
+      public void handleMutationResult(final ClassMutationResults results) {
+        for (final MutationResult each : results.getMutations()) {
+          record(each);
+        }
+      }
+
+      @Override
+      public void runEnd() {
+
+      }
+
+    };
+  }
+
+  private void record(final MutationResult result) {
+    if (!CACHEABLE.contains(result.getStatus())
+        || this.reused.contains(result.getDetails().getId())) {
+      return;
+    }
+    final Option<String> key = this.keys.keyFor(result.getDetails());
+    if (key.hasSome()) {
+      this.cache.put(key.value(), result.getStatusTestPair());
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.util.Log;
+
+/**
+ * Works out up front which classes could have mutation results that differ
+ * from the previous run, so that mutants need only be generated for those
+ * classes.
+ *
+ * A class is impacted if it has no recorded mutations, if it or the tests
+ * that cover it have changed, if it depends on a changed class, or if it is
+ * covered by a test that also covers a changed class.
+ */
+public class ChangeImpactAnalyser {
+
+  private static final Logger                     LOG = Log.getLogger();
+
+  private final CodeHistory                       history;
+  private final CoverageDatabase                  coverage;
+  private final Set<ClassName>                    classesWithHistory;
+  private final F<ClassName, Iterable<ClassName>> dependencies;
+
+  public ChangeImpactAnalyser(final CodeHistory history,
+      final CoverageDatabase coverage,
+      final Collection<ClassName> classesWithHistory,
+      final F<ClassName, Iterable<ClassName>> dependencies) {
+    this.history = history;
+    this.coverage = coverage;
+    this.classesWithHistory = new HashSet<ClassName>(classesWithHistory);
+    this.dependencies = dependencies;
+  }
+
+  public Set<ClassName> findImpactedClasses(
+      final Collection<ClassName> codeClasses) {
+    final Set<ClassName> changed = new HashSet<ClassName>(FCollection.filter(
+        codeClasses, hasChanged()));
+    final Set<String> testsOfChanged = new HashSet<String>();
+    for (final ClassName each : changed) {
+      FCollection.mapTo(this.coverage.getTestsForClass(each),
+          TestInfo.toName(), testsOfChanged);
+    }
+
+    final Set<ClassName> impacted = new LinkedHashSet<ClassName>();
+    for (final ClassName each : codeClasses) {
+      if (isImpacted(each, changed, testsOfChanged)) {
+        impacted.add(each);
+      }
+    }
+
+    LOG.fine(changed.size() + " classes have changed, impacting "
+        + impacted.size() + " of " + codeClasses.size() + " classes");
+    return impacted;
+  }
+
+  private boolean isImpacted(final ClassName clazz,
+      final Set<ClassName> changed, final Set<String> testsOfChanged) {
+    return !this.classesWithHistory.contains(clazz) || changed.contains(clazz)
+        || this.history.hasCoverageChanged(clazz,
+            this.coverage.getCoverageIdForClass(clazz))
+        || sharesTestWith(clazz, testsOfChanged)
+        || dependsOnAny(clazz, changed);
+  }
+
+  private boolean sharesTestWith(final ClassName clazz,
+      final Set<String> tests) {
+    for (final TestInfo each : this.coverage.getTestsForClass(clazz)) {
+      if (tests.contains(each.getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean dependsOnAny(final ClassName clazz,
+      final Set<ClassName> changed) {
+    if (changed.isEmpty()) {
+      return false;
+    }
+    for (final ClassName each : this.dependencies.apply(clazz)) {
+      if (changed.contains(each)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private F<ClassName, Boolean> hasChanged() {
+    return new F<ClassName, Boolean>() {
+      @Override
+      public Boolean apply(final ClassName a) {
+        return ChangeImpactAnalyser.this.history.hasClassChanged(a);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Append only journal of the mutations planned for a run and of the results
+ * of each unit of analysis as it completes, so that a run that is interrupted
+ * can be resumed without analysing those mutations again.
+ *
+ * Entries are written one per line and flushed as each unit completes, but
+ * are only synced to the disk once a second, so a few results may be lost if
+ * the machine itself fails. Entries cut short are ignored when the journal is
+ * read.
+ *
+ * A run that finishes journals that it is complete, and a completed journal
+ * is not resumed from.
+ */
+public class CheckpointJournal implements Closeable {
+
+  static final String                                          FORMAT        = "pit-checkpoint-2";
+
+  private static final Logger                                  LOG           = Log
+                                                                                 .getLogger();
+
+  private static final long                                    SYNC_INTERVAL = 1000;
+
+  private static final String                                  PLAN          = "plan";
+  private static final String                                  RESULT        = "result";
+  private static final String                                  COMPLETE      = "complete";
+
+  private static final Set<DetectionStatus>                    UNFINISHED    = EnumSet
+                                                                                 .of(DetectionStatus.NOT_STARTED,
+                                                                                     DetectionStatus.STARTED);
+
+  private final File                                           file;
+  private final Map<MutationIdentifier, MutationStatusTestPair> restored      = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+  private String                                               restoredPlan;
+  private boolean                                              restoredComplete;
+
+  private FileOutputStream                                     out;
+  private Writer                                               writer;
+  private long                                                 lastSync;
+
+  CheckpointJournal(final File file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens the journal, restoring the results it holds if resuming or
+   * discarding them if not.
+   */
+  public static CheckpointJournal open(final File file, final boolean resume) {
+    final CheckpointJournal journal = new CheckpointJournal(file);
+    final boolean restored = resume && journal.restore();
+    journal.openForAppend(!restored);
+    return journal;
+  }
+
+  /**
+   * @return the results restored from an earlier, interrupted, run
+   */
+  public Map<MutationIdentifier, MutationStatusTestPair> getRestoredResults() {
+    return Collections.unmodifiableMap(this.restored);
+  }
+
+  /**
+   * Records the mutations the run will report on and the classes and tests
+   * they will be analysed against. When resuming these must match those of
+   * the interrupted run, or results restored for it may not hold.
+   */
+  public synchronized void recordPlan(final Iterable<MutationDetails> plan,
+      final Collection<HierarchicalClassId> classes) {
+    final String fingerprint = fingerprint(plan) + ":"
+        + classFingerprint(classes);
+    if ((this.restoredPlan != null) && !this.restoredPlan.equals(fingerprint)) {
+      throw new PitError("The mutations planned, or the classes and tests"
+          + " they are analysed against, differ from those of the run"
+          + " journalled at " + this.file
+          + ". Delete the journal or run without resuming.");
+    }
+    writeEntry(PLAN + '\t' + fingerprint);
+    sync();
+  }
+
+  /**
+   * Records the final results among those given that were not restored from
+   * the journal
+   */
+  public synchronized void recordResults(
+      final Collection<MutationResult> results) {
+    for (final MutationResult each : results) {
+      if (!UNFINISHED.contains(each.getStatus())
+          && !this.restored.containsKey(each.getDetails().getId())) {
+        writeEntry(encode(each.getDetails().getId(), each.getStatusTestPair()));
+      }
+    }
+    flush();
+    final long now = System.currentTimeMillis();
+    if ((now - this.lastSync) >= SYNC_INTERVAL) {
+      sync();
+    }
+  }
+
+  /**
+   * Records that the run finished, so that the journal will not be resumed
+   * from
+   */
+  public synchronized void recordComplete() {
+    writeEntry(COMPLETE);
+    sync();
+  }
+
+  /**
+   * @return the units, each of which journals its results once complete
+   */
+  public List<MutationAnalysisUnit> journal(
+      final List<MutationAnalysisUnit> units) {
+    final List<MutationAnalysisUnit> journalled = new ArrayList<MutationAnalysisUnit>(
+        units.size());
+    for (final MutationAnalysisUnit each : units) {
+      journalled.add(new JournalledUnit(this, each));
+    }
+    return journalled;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.writer == null) {
+      return;
+    }
+    sync();
+    try {
+      this.writer.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.writer = null;
+    }
+  }
+
+  private boolean restore() {
+    if (!this.file.exists()) {
+      LOG.info("No checkpoint journal found at " + this.file
+          + ", starting from the beginning");
+      return false;
+    }
+    try {
+      final BufferedReader in = new BufferedReader(new InputStreamReader(
+          new FileInputStream(this.file), "UTF-8"));
+      try {
+        if (!FORMAT.equals(in.readLine())) {
+          LOG.warning("Ignoring unrecognised checkpoint journal " + this.file);
+          return false;
+        }
+        String line = in.readLine();
+        while (line != null) {
+          restoreEntry(line);
+          line = in.readLine();
+        }
+      } finally {
+        in.close();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    if (this.restoredComplete) {
+      LOG.info("Checkpoint journal " + this.file
+          + " is of a completed run, starting from the beginning");
+      this.restored.clear();
+      this.restoredPlan = null;
+      return false;
+    }
+    LOG.info("Restored " + this.restored.size()
+        + " mutation results from checkpoint journal " + this.file);
+    return true;
+  }
+
+  private void restoreEntry(final String line) {
+    final int checkStart = line.lastIndexOf('\t');
+    if ((checkStart == -1)
+        || !line.substring(checkStart + 1).equals(
+            check(line.substring(0, checkStart)))) {
+      // cut short by an interrupted run
+      return;
+    }
+    final String[] fields = line.substring(0, checkStart).split("\t", -1);
+    try {
+      if (fields[0].equals(PLAN) && (fields.length == 2)) {
+        this.restoredPlan = fields[1];
+      } else if (fields[0].equals(COMPLETE) && (fields.length == 1)) {
+        this.restoredComplete = true;
+      } else if (fields[0].equals(RESULT) && (fields.length == 9)) {
+        final MutationIdentifier id = new MutationIdentifier(new Location(
+            ClassName.fromString(unescape(fields[1])),
+            MethodName.fromString(unescape(fields[2])), unescape(fields[3])),
+            indexes(fields[4]), unescape(fields[5]));
+        final String killingTest = fields[8].length() == 0 ? null
+            : unescape(fields[8]);
+        this.restored.put(id,
+            new MutationStatusTestPair(Integer.parseInt(fields[7]),
+                DetectionStatus.valueOf(fields[6]), killingTest));
+      }
+    } catch (final IllegalArgumentException e) {
+      LOG.fine("Ignoring checkpoint journal entry " + line);
+    }
+  }
+
+  private void openForAppend(final boolean fresh) {
+    try {
+      final File parent = this.file.getAbsoluteFile().getParentFile();
+      if (parent != null) {
+        parent.mkdirs();
+      }
+      this.out = new FileOutputStream(this.file, !fresh);
+      this.writer = new BufferedWriter(new OutputStreamWriter(this.out,
+          "UTF-8"));
+      if (fresh) {
+        write(FORMAT);
+        sync();
+      } else {
+        // start on a fresh line if the last entry was cut short
+        write("");
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * Entries end with a check of their content so that any cut short can be
+   * recognised
+   */
+  private void writeEntry(final String entry) {
+    write(entry + '\t' + check(entry));
+  }
+
+  private static String check(final String entry) {
+    return Integer.toHexString(entry.hashCode());
+  }
+
+  private void write(final String line) {
+    try {
+      this.writer.write(line);
+      this.writer.write('\n');
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void flush() {
+    try {
+      this.writer.flush();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void sync() {
+    flush();
+    try {
+      this.out.getFD().sync();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    this.lastSync = System.currentTimeMillis();
+  }
+
+  static String encode(final MutationIdentifier id,
+      final MutationStatusTestPair result) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(RESULT).append('\t');
+    appendId(sb, id);
+    sb.append('\t').append(result.getStatus().name());
+    sb.append('\t').append(result.getNumberOfTestsRun());
+    sb.append('\t');
+    if (result.getKillingTest().hasSome()) {
+      sb.append(escape(result.getKillingTest().value()));
+    }
+    return sb.toString();
+  }
+
+  private static void appendId(final StringBuilder sb,
+      final MutationIdentifier id) {
+    final Location l = id.getLocation();
+    sb.append(escape(l.getClassName().asJavaName())).append('\t');
+    sb.append(escape(l.getMethodName().name())).append('\t');
+    sb.append(escape(l.getMethodDesc())).append('\t');
+    for (int i = 0; i != id.getIndexes().size(); i++) {
+      if (i != 0) {
+        sb.append(',');
+      }
+      sb.append(id.getIndexes().get(i));
+    }
+    sb.append('\t').append(escape(id.getMutator()));
+  }
+
+  /**
+   * Independent of the order in which the mutations are planned
+   */
+  static String fingerprint(final Iterable<MutationDetails> plan) {
+    long size = 0;
+    long sum = 0;
+    for (final MutationDetails each : plan) {
+      final StringBuilder sb = new StringBuilder();
+      appendId(sb, each.getId());
+      sum = sum + mix(sb.toString().hashCode());
+      size++;
+    }
+    return size + ":" + Long.toHexString(sum);
+  }
+
+  /**
+   * Covers the deep hash of each class, so that changes to a class, to a
+   * test or to anything they extend are recognised
+   */
+  static String classFingerprint(
+      final Collection<HierarchicalClassId> classes) {
+    long sum = 0;
+    for (final HierarchicalClassId each : classes) {
+      sum = sum
+          + mix((each.getName().asJavaName() + '\t' + each
+              .getHierarchicalHash()).hashCode());
+    }
+    return classes.size() + ":" + Long.toHexString(sum);
+  }
+
+  private static long mix(final long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    h = h ^ (h >>> 32);
+    return h * 0xC2B2AE3D27D4EB4FL;
+  }
+
+  private static List<Integer> indexes(final String field) {
+    final List<Integer> indexes = new ArrayList<Integer>();
+    for (final String each : field.split(",")) {
+      indexes.add(Integer.valueOf(each));
+    }
+    return indexes;
+  }
+
+  private static String escape(final String value) {
+    final StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i != value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+      case '\\':
+        sb.append("\\\\");
+        break;
+      case '\t':
+        sb.append("\\t");
+        break;
+      case '\n':
+        sb.append("\\n");
+        break;
+      case '\r':
+        sb.append("\\r");
+        break;
+      default:
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String unescape(final String value) {
+    final StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if ((c != '\\') || (i == (value.length() - 1))) {
+        sb.append(c);
+        continue;
+      }
+      i++;
+      switch (value.charAt(i)) {
+      case 't':
+        sb.append('\t');
+        break;
+      case 'n':
+        sb.append('\n');
+        break;
+      case 'r':
+        sb.append('\r');
+        break;
+      default:
+        sb.append(value.charAt(i));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static class JournalledUnit implements MutationAnalysisUnit {
+
+    private final CheckpointJournal    journal;
+    private final MutationAnalysisUnit child;
+
+    JournalledUnit(final CheckpointJournal journal,
+        final MutationAnalysisUnit child) {
+      this.journal = journal;
+      this.child = child;
+    }
+
+    @Override
+    public MutationMetaData call() throws Exception {
+      final MutationMetaData results = this.child.call();
+      this.journal.recordResults(results.getMutations());
+      return results;
+    }
+
+    @Override
+    public int priority() {
+      return this.child.priority();
+    }
+
+    @Override
+    public Collection<MutationDetails> mutations() {
+      return this.child.mutations();
+    }
+
+  }
+
+}
@@ -1,7 +1,5 @@
 package org.pitest.mutationtest.incremental;
 
-import java.math.BigInteger;
-
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.MutationStatusTestPair;
@@ -13,6 +11,6 @@ public interface CodeHistory {
 
   boolean hasClassChanged(ClassName className);
 
-  boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
+  boolean hasCoverageChanged(ClassName className, long currentCoverage);
 
 }
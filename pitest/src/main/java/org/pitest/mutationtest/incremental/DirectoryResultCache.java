@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.util.FileUtil;
+import org.pitest.util.Log;
+import org.pitest.util.StreamUtil;
+
+/**
+ * Keeps one small file per result beneath a directory, which may be on a
+ * shared file system. Entries are written to a temporary file and renamed into
+ * place so concurrent builds never see partial results.
+ */
+public class DirectoryResultCache implements ResultCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final File          dir;
+
+  public DirectoryResultCache(final File dir) {
+    this.dir = dir;
+  }
+
+  @Override
+  public Option<MutationStatusTestPair> get(final String key) {
+    final File file = fileFor(key);
+    if (!file.exists()) {
+      return Option.none();
+    }
+    try {
+      final InputStream in = new FileInputStream(file);
+      try {
+        return CachedResultFormat.read(StreamUtil.streamToByteArray(in));
+      } finally {
+        in.close();
+      }
+    } catch (final IOException e) {
+      LOG.fine("Could not read cached result " + file + " " + e);
+      return Option.none();
+    }
+  }
+
+  @Override
+  public void put(final String key, final MutationStatusTestPair result) {
+    final File file = fileFor(key);
+    if (file.exists()) {
+      return;
+    }
+    final File parent = file.getParentFile();
+    final File temp = new File(parent, key + "." + FileUtil.randomFilename()
+        + ".part");
+    try {
+      parent.mkdirs();
+      final OutputStream out = new FileOutputStream(temp);
+      try {
+        out.write(CachedResultFormat.write(result));
+      } finally {
+        out.close();
+      }
+      if (!temp.renameTo(file)) {
+        temp.delete();
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not write cached result " + file + " " + e);
+      temp.delete();
+    }
+  }
+
+  private File fileFor(final String key) {
+    return new File(new File(this.dir, key.substring(0, 2)), key);
+  }
+
+}
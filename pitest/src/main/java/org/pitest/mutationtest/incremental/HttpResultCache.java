@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.util.Log;
+import org.pitest.util.StreamUtil;
+
+/**
+ * Reads results with GET and stores them with PUT beneath a base url, so any
+ * http server able to store and serve static files can act as a cache shared
+ * by several machines.
+ *
+ * The first time the server cannot be reached the cache is disabled for the
+ * rest of the run rather than slow every mutation down with further attempts.
+ */
+public class HttpResultCache implements ResultCache {
+
+  private static final Logger LOG       = Log.getLogger();
+
+  static final int            TIMEOUT   = 5000;
+
+  private final String        base;
+  private volatile boolean    available = true;
+
+  public HttpResultCache(final String base) {
+    this.base = base.endsWith("/") ? base : base + "/";
+  }
+
+  @Override
+  public Option<MutationStatusTestPair> get(final String key) {
+    if (!this.available) {
+      return Option.none();
+    }
+    try {
+      final HttpURLConnection connection = connect(key);
+      try {
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+          return Option.none();
+        }
+        final InputStream in = connection.getInputStream();
+        try {
+          return CachedResultFormat.read(StreamUtil.streamToByteArray(in));
+        } finally {
+          in.close();
+        }
+      } finally {
+        connection.disconnect();
+      }
+    } catch (final IOException e) {
+      disable(e);
+      return Option.none();
+    }
+  }
+
+  @Override
+  public void put(final String key, final MutationStatusTestPair result) {
+    if (!this.available) {
+      return;
+    }
+    try {
+      final byte[] data = CachedResultFormat.write(result);
+      final HttpURLConnection connection = connect(key);
+      try {
+        connection.setRequestMethod("PUT");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(data.length);
+        connection.setRequestProperty("Content-Type", "text/plain");
+        final OutputStream out = connection.getOutputStream();
+        try {
+          out.write(data);
+        } finally {
+          out.close();
+        }
+        final int code = connection.getResponseCode();
+        if (code >= 300) {
+          LOG.fine("Result cache refused " + key + " with status " + code);
+        }
+      } finally {
+        connection.disconnect();
+      }
+    } catch (final IOException e) {
+      disable(e);
+    }
+  }
+
+  private HttpURLConnection connect(final String key) throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection) new URL(
+        this.base + key).openConnection();
+    connection.setConnectTimeout(TIMEOUT);
+    connection.setReadTimeout(TIMEOUT);
+    connection.setUseCaches(false);
+    return connection;
+  }
+
+  private void disable(final IOException e) {
+    if (this.available) {
+      this.available = false;
+      LOG.warning("Result cache at " + this.base
+          + " is unavailable and will not be used for the rest of this run "
+          + e);
+    }
+  }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.MutationStatusTestPair;
+
+/**
+ * Store of mutation results addressed by a hash of everything that could
+ * affect them, so that results can be shared between branches, builds and
+ * machines.
+ *
+ * Implementations should treat failures as cache misses rather than fail the
+ * analysis.
+ */
+public interface ResultCache {
+
+  Option<MutationStatusTestPair> get(String key);
+
+  void put(String key, MutationStatusTestPair result);
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
+
+/**
+ * Derives the cache key of a mutation from the deep hash of the mutated
+ * class, the mutation identifier, the coverage id of the class and the names
+ * and deep hashes of the tests that cover the mutation. Two mutations with the
+ * same key are expected to produce the same result.
+ *
+ * Deep hashes include the super and outer classes of a class but not the other
+ * code it calls. The coverage id picks up many such changes, but the key is no
+ * stronger than the change detection already used for incremental analysis.
+ */
+public class ResultCacheKeys {
+
+  static final String                          FORMAT = "pit-result-1";
+
+  private final ClassInfoSource                code;
+  private final CoverageDatabase               coverage;
+  private final Map<ClassName, Option<String>> hashes = new ConcurrentHashMap<ClassName, Option<String>>();
+
+  public ResultCacheKeys(final ClassInfoSource code,
+      final CoverageDatabase coverage) {
+    this.code = code;
+    this.coverage = coverage;
+  }
+
+  /**
+   * Returns no key if the hash of any of the classes involved is not known.
+   */
+  public Option<String> keyFor(final MutationDetails mutation) {
+    final ClassName clazz = mutation.getClassName();
+    final Option<String> classHash = hashFor(clazz);
+    if (classHash.hasNone()) {
+      return Option.none();
+    }
+
+    final StringBuilder sb = new StringBuilder();
+    sb.append(FORMAT).append('\n');
+    sb.append(classHash.value()).append('\n');
+    sb.append(mutation.getId()).append('\n');
+    sb.append(Long.toHexString(this.coverage.getCoverageIdForClass(clazz)))
+        .append('\n');
+
+    final List<String> tests = new ArrayList<String>();
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      final Option<String> testHash = hashFor(TestInfo.toDefiningClassName()
+          .apply(each));
+      if (testHash.hasNone()) {
+        return Option.none();
+      }
+      tests.add(each.getName() + " " + testHash.value());
+    }
+    // the order tests are run in does not affect the result
+    Collections.sort(tests);
+    for (final String each : tests) {
+      sb.append(each).append('\n');
+    }
+
+    return Option.some(sha1(sb.toString()));
+  }
+
+  private Option<String> hashFor(final ClassName clazz) {
+    Option<String> hash = this.hashes.get(clazz);
+    if (hash == null) {
+      final Option<ClassInfo> info = this.code.fetchClass(clazz);
+      if (info.hasSome()) {
+        hash = Option.some(info.value().getHierarchicalId()
+            .getHierarchicalHash());
+      } else {
+        hash = Option.none();
+      }
+      this.hashes.put(clazz, hash);
+    }
+    return hash;
+  }
+
+  private static String sha1(final String value) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-1").digest(
+          value.getBytes("UTF-8"));
+      final StringBuilder sb = new StringBuilder(digest.length * 2);
+      for (final byte each : digest) {
+        sb.append(Integer.toHexString((each & 0xff) | 0x100).substring(1));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final UnsupportedEncodingException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Assigns mutations the results recorded for them by an interrupted run, in
+ * preference to any the wrapped analyser finds, so only the mutations that
+ * run did not finish are analysed.
+ */
+public class ResumingAnalyser implements MutationAnalyser {
+
+  private static final Logger                                   LOG = Log
+                                                                        .getLogger();
+
+  private final MutationAnalyser                                child;
+  private final Map<MutationIdentifier, MutationStatusTestPair> restored;
+
+  public ResumingAnalyser(final MutationAnalyser child,
+      final Map<MutationIdentifier, MutationStatusTestPair> restored) {
+    this.child = child;
+    this.restored = restored;
+  }
+
+  @Override
+  public Collection<MutationResult> analyse(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationResult> results = this.child.analyse(mutations);
+    final List<MutationResult> mrs = new ArrayList<MutationResult>(
+        results.size());
+    int resumed = 0;
+    for (final MutationResult each : results) {
+      final MutationStatusTestPair result = this.restored.get(each
+          .getDetails().getId());
+      if (result != null) {
+        mrs.add(new MutationResult(each.getDetails(), result));
+        resumed++;
+      } else {
+        mrs.add(each);
+      }
+    }
+    LOG.fine("Resumed " + resumed + " of " + mrs.size()
+        + " mutation results from checkpoint");
+    return mrs;
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Assigns mutations in classes not impacted by any change the result the
+ * previous run recorded for them. Mutations are still generated by the current
+ * configuration, so only those it would produce are reported, and any it
+ * produces that the previous run did not are left to the wrapped analyser.
+ *
+ * Run errors, memory errors and non viable mutants may have been caused by the
+ * environment of the previous run rather than the code, so are never reused.
+ */
+public class UnimpactedClassAnalyser implements MutationAnalyser {
+
+  private static final Logger                                   LOG = Log
+                                                                        .getLogger();
+
+  private static final Set<DetectionStatus>                     REUSABLE = EnumSet
+      .of(DetectionStatus.KILLED, DetectionStatus.SURVIVED,
+          DetectionStatus.TIMED_OUT, DetectionStatus.NO_COVERAGE);
+
+  private final MutationAnalyser                                child;
+  private final Map<MutationIdentifier, MutationStatusTestPair> historic;
+
+  public UnimpactedClassAnalyser(final MutationAnalyser child,
+      final Set<ClassName> impacted,
+      final Map<ClassName, List<MutationResult>> historic) {
+    this.child = child;
+    this.historic = unimpactedResults(impacted, historic);
+  }
+
+  private static Map<MutationIdentifier, MutationStatusTestPair> unimpactedResults(
+      final Set<ClassName> impacted,
+      final Map<ClassName, List<MutationResult>> historic) {
+    final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+    for (final Entry<ClassName, List<MutationResult>> each : historic
+        .entrySet()) {
+      if (!impacted.contains(each.getKey())) {
+        for (final MutationResult result : each.getValue()) {
+          if (REUSABLE.contains(result.getStatus())) {
+            results.put(result.getDetails().getId(),
+                result.getStatusTestPair());
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Returns true if every one of the supplied historic results may be reused
+   * in place of running the mutation again.
+   */
+  public static boolean canReuseAll(final Collection<MutationResult> results) {
+    for (final MutationResult each : results) {
+      if (!REUSABLE.contains(each.getStatus())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Collection<MutationResult> analyse(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationResult> results = this.child.analyse(mutations);
+    final List<MutationResult> mrs = new ArrayList<MutationResult>(
+        results.size());
+    int reused = 0;
+    for (final MutationResult each : results) {
+      final MutationStatusTestPair result = this.historic.get(each
+          .getDetails().getId());
+      if (result != null) {
+        mrs.add(new MutationResult(each.getDetails(), result));
+        reused++;
+      } else {
+        mrs.add(each);
+      }
+    }
+    LOG.info("Reused " + reused + " of " + mrs.size()
+        + " mutation results for classes not impacted by changes");
+    return mrs;
+  }
+
+}
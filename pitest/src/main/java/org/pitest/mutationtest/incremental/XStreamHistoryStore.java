@@ -6,21 +6,27 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
 import org.pitest.util.PitXmlDriver;
@@ -41,6 +47,11 @@ public class XStreamHistoryStore implements HistoryStore {
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<MutationIdentifier, MutationStatusTestPair>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<ClassName, ClassHistory>();
+  private final Map<ClassName, TestClassCoverage>               previousCoverage  = new HashMap<ClassName, TestClassCoverage>();
+  private final Map<ClassName, List<MutationResult>>            previousMutations = new HashMap<ClassName, List<MutationResult>>();
+  private final List<TestClassCoverage>                         testCoverage      = new ArrayList<TestClassCoverage>();
+  private Option<String>                                        previousMutationConfig = Option
+      .none();
 
   public XStreamHistoryStore(final WriterFactory output,
       final Option<Reader> input) {
@@ -57,6 +68,11 @@ public class XStreamHistoryStore implements HistoryStore {
     xstream.alias("result", IdResult.class);
     xstream.alias("statusTestPair", MutationStatusTestPair.class);
     xstream.alias("status", DetectionStatus.class);
+    xstream.alias("details", MutationDetails.class);
+    xstream.alias("testCoverage", TestClassCoverage.class);
+    xstream.alias("coverageResult", CoverageResult.class);
+    xstream.alias("block", BlockLocation.class);
+    xstream.alias("mutationConfig", MutationConfig.class);
     xstream.useAttributeFor(MutationStatusTestPair.class, "numberOfTestsRun");
     xstream.useAttributeFor(MutationStatusTestPair.class, "status");
     xstream.useAttributeFor(MutationStatusTestPair.class, "killingTest");
@@ -64,6 +80,7 @@ public class XStreamHistoryStore implements HistoryStore {
     xstream.useAttributeFor(ClassIdentifier.class, "hash");
     xstream.useAttributeFor(HierarchicalClassId.class, "hierarchicalHash");
     xstream.useAttributeFor(HierarchicalClassId.class, "classId");
+    xstream.useAttributeFor(MutationConfig.class, "fingerprint");
     return xstream;
   }
 
@@ -80,18 +97,33 @@ public class XStreamHistoryStore implements HistoryStore {
     final PrintWriter output = this.outputFactory.create();
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
-      final ClassHistory coverage = new ClassHistory(each, coverageInfo
-          .getCoverageIdForClass(each.getName()).toString(16));
+      final ClassHistory coverage = new ClassHistory(each,
+          Long.toHexString(coverageInfo.getCoverageIdForClass(each.getName())));
       output.println(toXml(coverage));
     }
+    for (final TestClassCoverage each : this.testCoverage) {
+      output.println(toXml(each));
+    }
     output.flush();
   }
 
+  @Override
+  public void recordTestCoverage(final Collection<TestClassCoverage> coverage) {
+    this.testCoverage.addAll(coverage);
+  }
+
   @Override
   public void recordResult(final MutationResult result) {
     final PrintWriter output = this.outputFactory.create();
     output.println(toXml(new IdResult(result.getDetails().getId(), result
-        .getStatusTestPair())));
+        .getStatusTestPair(), withoutTests(result.getDetails()))));
+    output.flush();
+  }
+
+  @Override
+  public void recordMutationConfig(final String fingerprint) {
+    final PrintWriter output = this.outputFactory.create();
+    output.println(toXml(new MutationConfig(fingerprint)));
     output.flush();
   }
 
@@ -105,6 +137,21 @@ public class XStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public Map<ClassName, List<MutationResult>> getHistoricMutations() {
+    return this.previousMutations;
+  }
+
+  @Override
+  public Map<ClassName, TestClassCoverage> getHistoricTestCoverage() {
+    return this.previousCoverage;
+  }
+
+  @Override
+  public Option<String> getHistoricMutationConfig() {
+    return this.previousMutationConfig;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
@@ -123,8 +170,7 @@ public class XStreamHistoryStore implements HistoryStore {
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = (IdResult) fromXml(line);
-        this.previousResults.put(result.id, result.status);
+        restoreEntry(fromXml(line));
         line = this.input.readLine();
       }
     } catch (final IOException e) {
@@ -135,6 +181,40 @@ public class XStreamHistoryStore implements HistoryStore {
 
   }
 
+  private void restoreEntry(final Object entry) {
+    if (entry instanceof TestClassCoverage) {
+      final TestClassCoverage coverage = (TestClassCoverage) entry;
+      this.previousCoverage.put(coverage.getTestClass(), coverage);
+    } else if (entry instanceof MutationConfig) {
+      this.previousMutationConfig = Option
+          .some(((MutationConfig) entry).fingerprint);
+    } else {
+      final IdResult result = (IdResult) entry;
+      this.previousResults.put(result.id, result.status);
+      if (result.details != null) {
+        restoreMutation(new MutationResult(result.details, result.status));
+      }
+    }
+  }
+
+  private void restoreMutation(final MutationResult result) {
+    final ClassName clazz = result.getDetails().getClassName();
+    List<MutationResult> results = this.previousMutations.get(clazz);
+    if (results == null) {
+      results = new ArrayList<MutationResult>();
+      this.previousMutations.put(clazz, results);
+    }
+    results.add(result);
+  }
+
+  // tests are assigned afresh from the current coverage when reused, so are
+  // not worth the space in the history file
+  private static MutationDetails withoutTests(final MutationDetails details) {
+    return new MutationDetails(details.getId(), details.getFilename(),
+        details.getDescription(), details.getLineNumber(), details.getBlock(),
+        details.isInFinallyBlock(), details.mayPoisonJVM());
+  }
+
   private void restoreClassPath() {
     try {
       final long classPathSize = Long.valueOf(this.input.readLine());
@@ -163,10 +243,22 @@ public class XStreamHistoryStore implements HistoryStore {
   private static class IdResult {
     final MutationIdentifier     id;
     final MutationStatusTestPair status;
+    final MutationDetails        details;
 
-    IdResult(final MutationIdentifier id, final MutationStatusTestPair status) {
+    IdResult(final MutationIdentifier id, final MutationStatusTestPair status,
+        final MutationDetails details) {
       this.id = id;
       this.status = status;
+      this.details = details;
+    }
+
+  }
+
+  private static class MutationConfig {
+    final String fingerprint;
+
+    MutationConfig(final String fingerprint) {
+      this.fingerprint = fingerprint;
     }
 
   }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+/**
+ * Counts non negative values in power of two buckets, so that percentiles can
+ * be estimated in constant space however many values are recorded. Not thread
+ * safe.
+ */
+public class Histogram {
+
+  // bucket 0 holds zero, bucket n holds values from 2^(n-1) to 2^n - 1
+  private final long[] buckets = new long[64];
+  private long         count;
+  private long         sum;
+  private long         min     = Long.MAX_VALUE;
+  private long         max;
+
+  public void record(final long value) {
+    final long v = Math.max(0, value);
+    this.buckets[bucketFor(v)]++;
+    this.count++;
+    this.sum = this.sum + v;
+    this.min = Math.min(this.min, v);
+    this.max = Math.max(this.max, v);
+  }
+
+  public long getCount() {
+    return this.count;
+  }
+
+  public long getMin() {
+    return this.count == 0 ? 0 : this.min;
+  }
+
+  public long getMax() {
+    return this.max;
+  }
+
+  public double getMean() {
+    return this.count == 0 ? 0 : (double) this.sum / this.count;
+  }
+
+  /**
+   * @return the upper bound of the bucket holding the given percentile, which
+   *         is never more than the largest value recorded
+   */
+  public long percentile(final double p) {
+    if (this.count == 0) {
+      return 0;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(p * this.count));
+    long seen = 0;
+    for (int i = 0; i != this.buckets.length; i++) {
+      seen = seen + this.buckets[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), this.max);
+      }
+    }
+    return this.max;
+  }
+
+  void appendJson(final StringBuilder sb) {
+    sb.append("{\"count\":").append(this.count);
+    sb.append(",\"min\":").append(getMin());
+    sb.append(",\"mean\":").append(Math.round(getMean() * 100) / 100.0);
+    sb.append(",\"p50\":").append(percentile(0.5));
+    sb.append(",\"p95\":").append(percentile(0.95));
+    sb.append(",\"max\":").append(this.max);
+    sb.append("}");
+  }
+
+  private static int bucketFor(final long value) {
+    if (value == 0) {
+      return 0;
+    }
+    return 64 - Long.numberOfLeadingZeros(value);
+  }
+
+  private static long upperBound(final int bucket) {
+    if (bucket == 0) {
+      return 0;
+    }
+    if (bucket == 63) {
+      return Long.MAX_VALUE;
+    }
+    return (1L << bucket) - 1;
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Serves the current run metrics as json to http GET requests on the loopback
+ * interface, so that a scheduler on the same machine can poll a long run.
+ * Requests are handled one at a time.
+ */
+public class MetricsEndpoint {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private final RunMetrics    metrics;
+  private final ServerSocket  socket;
+  private volatile boolean    stopped = false;
+
+  public MetricsEndpoint(final RunMetrics metrics, final int port) {
+    this.metrics = metrics;
+    try {
+      this.socket = new ServerSocket(port, 50, InetAddress.getByName(null));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  public void start() {
+    final Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        serve();
+      }
+    });
+    thread.setDaemon(true);
+    thread.setName("pit metrics " + getPort());
+    thread.start();
+  }
+
+  public void stop() {
+    this.stopped = true;
+    try {
+      this.socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close socket", e);
+    }
+  }
+
+  private void serve() {
+    while (!this.stopped) {
+      try {
+        final Socket client = this.socket.accept();
+        try {
+          respond(client);
+        } finally {
+          client.close();
+        }
+      } catch (final IOException e) {
+        if (!this.stopped) {
+          LOG.log(Level.FINE, "Could not serve metrics request", e);
+        }
+      }
+    }
+  }
+
+  private void respond(final Socket client) throws IOException {
+    client.setSoTimeout(5000);
+    final BufferedReader in = new BufferedReader(new InputStreamReader(
+        client.getInputStream(), "ISO-8859-1"));
+    final String requestLine = in.readLine();
+    String header = in.readLine();
+    while ((header != null) && (header.length() != 0)) {
+      header = in.readLine();
+    }
+
+    final OutputStream out = client.getOutputStream();
+    if (isMetricsRequest(requestLine)) {
+      write(out, "200 OK",
+          this.metrics.toJson(System.currentTimeMillis()) + "\n");
+    } else {
+      write(out, "404 Not Found", "{\"error\":\"not found\"}\n");
+    }
+  }
+
+  private static boolean isMetricsRequest(final String requestLine) {
+    if (requestLine == null) {
+      return false;
+    }
+    final String[] parts = requestLine.split(" ");
+    return (parts.length >= 2) && "GET".equals(parts[0])
+        && ("/".equals(parts[1]) || "/metrics".equals(parts[1]));
+  }
+
+  private static void write(final OutputStream out, final String status,
+      final String body) throws IOException {
+    final byte[] bytes = body.getBytes("UTF-8");
+    final String head = "HTTP/1.1 " + status + "\r\n"
+        + "Content-Type: application/json; charset=utf-8\r\n"
+        + "Content-Length: " + bytes.length + "\r\n"
+        + "Connection: close\r\n\r\n";
+    out.write(head.getBytes("ISO-8859-1"));
+    out.write(bytes);
+    out.flush();
+  }
+
+}
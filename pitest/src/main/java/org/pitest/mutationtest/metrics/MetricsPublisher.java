@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Appends a snapshot of the run metrics to a json lines file at a fixed
+ * interval, and optionally serves the current metrics over http, for the
+ * duration of the mutation analysis.
+ */
+public class MetricsPublisher {
+
+  public static final String   FILE_NAME       = "metrics.jsonl";
+  static final long            INTERVAL_MILLIS = 10000;
+
+  private static final Logger  LOG             = Log.getLogger();
+
+  private final RunMetrics     metrics;
+  private final Option<Writer> out;
+  private final int            port;
+  private final long           interval;
+
+  private Timer                timer;
+  private MetricsEndpoint      endpoint;
+  private boolean              closed;
+
+  public MetricsPublisher(final RunMetrics metrics, final Option<Writer> out,
+      final int port) {
+    this(metrics, out, port, INTERVAL_MILLIS);
+  }
+
+  MetricsPublisher(final RunMetrics metrics, final Option<Writer> out,
+      final int port, final long interval) {
+    this.metrics = metrics;
+    this.out = out;
+    this.port = port;
+    this.interval = interval;
+  }
+
+  public void start() {
+    if (this.port > 0) {
+      this.endpoint = new MetricsEndpoint(this.metrics, this.port);
+      this.endpoint.start();
+      LOG.info("Serving run metrics at http://localhost:"
+          + this.endpoint.getPort() + "/metrics");
+    }
+    if (this.out.hasSome()) {
+      this.timer = new Timer("pit metrics", true);
+      this.timer.scheduleAtFixedRate(new TimerTask() {
+        @Override
+        public void run() {
+          publish();
+        }
+      }, this.interval, this.interval);
+    }
+  }
+
+  /**
+   * Stops publishing, writing a final snapshot of the metrics
+   */
+  public void stop() {
+    if (this.timer != null) {
+      this.timer.cancel();
+    }
+    if (this.endpoint != null) {
+      this.endpoint.stop();
+    }
+    if (this.out.hasSome()) {
+      close();
+    }
+  }
+
+  private synchronized void close() {
+    publish();
+    this.closed = true;
+    try {
+      this.out.value().close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  synchronized void publish() {
+    if (this.closed) {
+      return;
+    }
+    try {
+      final Writer w = this.out.value();
+      w.write(this.metrics.toJson(System.currentTimeMillis()));
+      w.write("\n");
+      w.flush();
+    } catch (final IOException e) {
+      LOG.warning("Could not write run metrics " + e.getMessage());
+    }
+  }
+
+}
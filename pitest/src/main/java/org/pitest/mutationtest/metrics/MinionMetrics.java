@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.util.Collection;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Records the progress of a single mutation minion into the metrics for the
+ * run.
+ */
+public class MinionMetrics {
+
+  private final RunMetrics run;
+  private final long       launched;
+  private int              finished;
+
+  MinionMetrics(final RunMetrics run, final long launched) {
+    this.run = run;
+    this.launched = launched;
+  }
+
+  /**
+   * @return metrics for a minion whose progress is not reported anywhere
+   */
+  public static MinionMetrics none() {
+    return new RunMetrics().newMinion();
+  }
+
+  public void mutantStarted(final MutationIdentifier id) {
+    this.run.mutantStarted(id);
+  }
+
+  public void mutantFinished(final MutationIdentifier id,
+      final MutationStatusTestPair result) {
+    synchronized (this) {
+      this.finished++;
+    }
+    this.run.mutantFinished(id, result);
+  }
+
+  /**
+   * Records final statuses for mutants the minion did not report, as when it
+   * timed out or ran out of memory
+   */
+  public void mutantsFinished(final Collection<MutationIdentifier> ids,
+      final DetectionStatus status) {
+    for (final MutationIdentifier each : ids) {
+      mutantFinished(each, new MutationStatusTestPair(0, status));
+    }
+  }
+
+  /**
+   * Called once the minion has exited.
+   *
+   * @param rescheduled
+   *          mutants that were started but will be run again by another
+   *          minion
+   * @param replaced
+   *          true if another minion will be launched to continue the work
+   */
+  public void exited(final Collection<MutationIdentifier> rescheduled,
+      final boolean replaced) {
+    this.run.minionExited(this, rescheduled, replaced);
+  }
+
+  synchronized int getFinished() {
+    return this.finished;
+  }
+
+  long getLaunched() {
+    return this.launched;
+  }
+
+}
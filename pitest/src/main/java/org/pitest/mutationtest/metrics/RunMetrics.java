@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Live counts of the progress of a mutation analysis, updated as minions
+ * report each mutant and as each unit of analysis completes.
+ *
+ * Mutants reported by minions are counted as soon as they are reported.
+ * Mutants whose status is known without running them, such as those with no
+ * coverage or with a result reused from history, are counted when their unit
+ * completes. Each mutant is counted once.
+ */
+public class RunMetrics {
+
+  private final Set<MutationIdentifier>            running        = new HashSet<MutationIdentifier>();
+  private final Set<MutationIdentifier>            countedLive    = new HashSet<MutationIdentifier>();
+  private final Map<DetectionStatus, Integer>      statuses       = new EnumMap<DetectionStatus, Integer>(
+                                                                      DetectionStatus.class);
+  private final Histogram                          testsPerMutant = new Histogram();
+  private final Histogram                          minionRate     = new Histogram();
+
+  private long                                     started;
+  private int                                      total;
+  private int                                      completed;
+  private int                                      minionsLaunched;
+  private int                                      minionsActive;
+  private int                                      minionRestarts;
+  private int                                      hotSwapFailures;
+
+  public void runStarted(final int mutants) {
+    runStarted(mutants, System.currentTimeMillis());
+  }
+
+  synchronized void runStarted(final int mutants, final long now) {
+    this.started = now;
+    this.total = mutants;
+  }
+
+  public MinionMetrics newMinion() {
+    return newMinion(System.currentTimeMillis());
+  }
+
+  synchronized MinionMetrics newMinion(final long now) {
+    this.minionsLaunched++;
+    this.minionsActive++;
+    return new MinionMetrics(this, now);
+  }
+
+  synchronized void mutantStarted(final MutationIdentifier id) {
+    this.running.add(id);
+  }
+
+  synchronized void mutantFinished(final MutationIdentifier id,
+      final MutationStatusTestPair result) {
+    this.running.remove(id);
+    if (!this.countedLive.add(id)) {
+      return;
+    }
+    count(result.getStatus());
+    if (result.getStatus() == DetectionStatus.NON_VIABLE) {
+      this.hotSwapFailures++;
+    } else {
+      this.testsPerMutant.record(result.getNumberOfTestsRun());
+    }
+  }
+
+  void minionExited(final MinionMetrics minion,
+      final Collection<MutationIdentifier> rescheduled, final boolean replaced) {
+    minionExited(minion, rescheduled, replaced, System.currentTimeMillis());
+  }
+
+  synchronized void minionExited(final MinionMetrics minion,
+      final Collection<MutationIdentifier> rescheduled,
+      final boolean replaced, final long now) {
+    this.minionsActive--;
+    this.running.removeAll(rescheduled);
+    if (replaced) {
+      this.minionRestarts++;
+    }
+    final long lifetime = Math.max(1, now - minion.getLaunched());
+    this.minionRate.record((minion.getFinished() * 60000L) / lifetime);
+  }
+
+  /**
+   * Called with the results of each unit of analysis as it completes
+   */
+  public synchronized void unitFinished(
+      final Collection<MutationResult> results) {
+    for (final MutationResult each : results) {
+      final MutationIdentifier id = each.getDetails().getId();
+      this.running.remove(id);
+      if (!this.countedLive.remove(id)) {
+        count(each.getStatus());
+      }
+    }
+  }
+
+  private void count(final DetectionStatus status) {
+    final Integer current = this.statuses.get(status);
+    this.statuses.put(status, current == null ? 1 : current + 1);
+    this.completed++;
+  }
+
+  public synchronized int getCompleted() {
+    return this.completed;
+  }
+
+  public synchronized int getRunning() {
+    return this.running.size();
+  }
+
+  public synchronized int getCount(final DetectionStatus status) {
+    final Integer count = this.statuses.get(status);
+    return count == null ? 0 : count;
+  }
+
+  public synchronized int getMinionsLaunched() {
+    return this.minionsLaunched;
+  }
+
+  public synchronized int getMinionRestarts() {
+    return this.minionRestarts;
+  }
+
+  public synchronized int getHotSwapFailures() {
+    return this.hotSwapFailures;
+  }
+
+  /**
+   * Estimates the time to complete the remaining mutants from the rate at
+   * which mutants have completed so far.
+   *
+   * @return estimated milliseconds remaining, or -1 if nothing has completed
+   */
+  public synchronized long estimateRemainingMillis(final long now) {
+    if (this.completed == 0) {
+      return -1;
+    }
+    final long elapsed = Math.max(0, now - this.started);
+    final long remaining = Math.max(0, this.total - this.completed);
+    return (elapsed * remaining) / this.completed;
+  }
+
+  /**
+   * @return the current metrics as a single line json object
+   */
+  public synchronized String toJson(final long now) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("{\"timestamp\":").append(now);
+    sb.append(",\"elapsedMillis\":").append(Math.max(0, now - this.started));
+    sb.append(",\"mutants\":{\"total\":").append(this.total);
+    sb.append(",\"pending\":").append(
+        Math.max(0, this.total - this.completed - this.running.size()));
+    sb.append(",\"running\":").append(this.running.size());
+    sb.append(",\"completed\":").append(this.completed);
+    for (final Entry<DetectionStatus, Integer> each : this.statuses.entrySet()) {
+      sb.append(",\"").append(each.getKey().name().toLowerCase(Locale.ROOT))
+          .append("\":").append(each.getValue());
+    }
+    sb.append("},\"minions\":{\"launched\":").append(this.minionsLaunched);
+    sb.append(",\"active\":").append(this.minionsActive);
+    sb.append(",\"restarts\":").append(this.minionRestarts);
+    sb.append(",\"mutantsPerMinute\":");
+    this.minionRate.appendJson(sb);
+    sb.append("},\"hotSwapFailures\":").append(this.hotSwapFailures);
+    sb.append(",\"testsPerMutant\":");
+    this.testsPerMutant.appendJson(sb);
+    sb.append(",\"estimatedRemainingMillis\":").append(
+        estimateRemainingMillis(now));
+    sb.append("}");
+    return sb.toString();
+  }
+
+}
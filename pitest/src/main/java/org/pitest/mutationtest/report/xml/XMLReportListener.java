@@ -25,6 +25,7 @@ import static org.pitest.mutationtest.report.xml.Tag.mutation;
 import static org.pitest.mutationtest.report.xml.Tag.mutator;
 import static org.pitest.mutationtest.report.xml.Tag.sourceFile;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
 
@@ -42,83 +43,80 @@ import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Unchecked;
 
-import sun.management.counter.Units;
-
 enum Tag {
   mutation, sourceFile, mutatedClass, mutatedMethod, methodDescription, lineNumber, mutator, index, killingTest, description;
 }
 
+/**
+ * Streams results to the report as they arrive. Values are escaped straight
+ * into a buffered writer, which is flushed after the results for each class.
+ */
 public class XMLReportListener implements MutationResultListener, CoverageListener {
 
-  private final Writer out;
+  private final Writer     out;
+
+  private CodeSource       code;
+  private CoverageDatabase coverage;
 
   public XMLReportListener(final ResultOutputStrategy outputStrategy) {
     this(outputStrategy.createWriterForFile("mutations.xml"));
   }
 
   public XMLReportListener(final Writer out) {
-    this.out = out;
+    this.out = buffer(out);
   }
 
-  private void writeResult(final ClassMutationResults metaData) {
-    for (final MutationResult mutation : metaData.getMutations()) {
-      writeMutationResultXML(mutation);
+  private static Writer buffer(final Writer out) {
+    if (out instanceof BufferedWriter) {
+      return out;
     }
+    return new BufferedWriter(out);
   }
 
-  private void writeMutationResultXML(final MutationResult result) {
-    write(makeNode(makeMutationNode(result), makeMutationAttributes(result),
-        mutation) + "\n");
-  }
-
-  private String makeMutationAttributes(final MutationResult result) {
-    return "detected='" + result.getStatus().isDetected() + "' status='"
-        + result.getStatus() + "'";
-  }
-
-  private String makeMutationNode(final MutationResult mutation) {
-    final MutationDetails details = mutation.getDetails();
-    return makeNode(clean(details.getFilename()), sourceFile)
-        + makeNode(clean(details.getClassName().asJavaName()), mutatedClass)
-        + makeNode(clean(details.getMethod().name()), mutatedMethod)
-        + makeNode(clean(details.getId().getLocation().getMethodDesc()),
-            methodDescription)
-        + makeNode("" + details.getLineNumber(), lineNumber)
-        + makeNode(clean(details.getMutator()), mutator)
-        + makeNode("" + details.getFirstIndex(), index)
-        + makeNode(createKillingTestDesc(mutation.getKillingTest()),
-            killingTest)
-        + makeNode(clean(details.getDescription()), description);
-  }
-
-  private String clean(final String value) {
-    return StringUtil.escapeBasicHtmlChars(value);
-  }
-
-  private String makeNode(final String value, final String attributes,
-      final Tag tag) {
-    if (value != null) {
-      return "<" + tag + " " + attributes + ">" + value + "</" + tag + ">";
-    } else {
-      return "<" + tag + attributes + "/>";
+  private void writeResult(final ClassMutationResults metaData)
+      throws IOException {
+    for (final MutationResult mutation : metaData.getMutations()) {
+      writeMutationResultXML(mutation);
     }
+  }
 
+  private void writeMutationResultXML(final MutationResult result)
+      throws IOException {
+    final MutationDetails details = result.getDetails();
+    this.out.write("<" + mutation + " detected='");
+    this.out.write(Boolean.toString(result.getStatus().isDetected()));
+    this.out.write("' status='");
+    this.out.write(result.getStatus().name());
+    this.out.write("'>");
+    writeNode(sourceFile, details.getFilename());
+    writeNode(mutatedClass, details.getClassName().asJavaName());
+    writeNode(mutatedMethod, details.getMethod().name());
+    writeNode(methodDescription, details.getId().getLocation().getMethodDesc());
+    writeNode(lineNumber, Integer.toString(details.getLineNumber()));
+    writeNode(mutator, details.getMutator());
+    writeNode(index, Integer.toString(details.getFirstIndex()));
+    writeNode(killingTest, result.getKillingTest());
+    writeNode(description, details.getDescription());
+    this.out.write("</" + mutation + ">\n");
   }
 
-  private String makeNode(final String value, final Tag tag) {
-    if (value != null) {
-      return "<" + tag + ">" + value + "</" + tag + ">";
+  private void writeNode(final Tag tag, final Option<String> value)
+      throws IOException {
+    if (value.hasSome()) {
+      writeNode(tag, value.value());
     } else {
-      return "<" + tag + "/>";
+      this.out.write("<" + tag + "/>");
     }
   }
 
-  private String createKillingTestDesc(final Option<String> killingTest) {
-    if (killingTest.hasSome()) {
-      return clean(killingTest.value());
-    } else {
-      return null;
-    }
+  private void writeNode(final Tag tag, final String value) throws IOException {
+    this.out.write('<');
+    this.out.write(tag.name());
+    this.out.write('>');
+    StringUtil.escapeBasicHtmlChars(value, this.out);
+    this.out.write("</");
+    this.out.write(tag.name());
+    this.out.write('>');
   }
 
   private void write(final String value) {
@@ -137,7 +135,12 @@ public class XMLReportListener implements MutationResultListener, CoverageListen
 
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
-    writeResult(metaData);
+    try {
+      writeResult(metaData);
+      this.out.flush();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
   @Override
@@ -145,13 +148,7 @@ public class XMLReportListener implements MutationResultListener, CoverageListen
     try {
       write("</mutations>\n");
       write("<tests>\n");
-      for(ClassInfo i : code.getTests())
-      {
-        for(TestInfo t : coverage.getTestsForClass(i.getName()))
-        {
-          write("<test>"+t.getName()+"</test>\n");
-        }
-      }
+      writeTests();
       write("</tests></data>\n");
       this.out.close();
     } catch (final IOException e) {
@@ -159,12 +156,24 @@ public class XMLReportListener implements MutationResultListener, CoverageListen
     }
   }
 
-  private CodeSource code;
-  private CoverageDatabase coverage;
-  
+  private void writeTests() throws IOException {
+    if ((this.code == null) || (this.coverage == null)) {
+      return;
+    }
+    for (final ClassInfo each : this.code.getTests()) {
+      for (final TestInfo test : this.coverage.getTestsForClass(each
+          .getName())) {
+        this.out.write("<test>");
+        StringUtil.escapeBasicHtmlChars(test.getName(), this.out);
+        this.out.write("</test>\n");
+      }
+    }
+  }
+
   @Override
-  public void handleCoverageData(CodeSource code, CoverageDatabase coverage) {
-    this.code= code;
+  public void handleCoverageData(final CodeSource code,
+      final CoverageDatabase coverage) {
+    this.code = code;
     this.coverage = coverage;
   }
 
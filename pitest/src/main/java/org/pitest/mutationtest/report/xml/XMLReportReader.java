@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.report.xml;
+
+import java.io.Reader;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Unchecked;
+
+/**
+ * Streams the mutations written by {@link XMLReportListener} back in, one
+ * mutation at a time.
+ *
+ * The report does not record the block of each mutation or how many tests
+ * were run against it, so these are returned as zero.
+ */
+public class XMLReportReader {
+
+  private final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+  public void read(final Reader in, final SideEffect1<MutationResult> handler) {
+    try {
+      final XMLStreamReader xml = this.factory.createXMLStreamReader(in);
+      try {
+        readMutations(xml, handler);
+      } finally {
+        xml.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void readMutations(final XMLStreamReader xml,
+      final SideEffect1<MutationResult> handler) throws XMLStreamException {
+    while (xml.hasNext()) {
+      if ((xml.next() == XMLStreamConstants.START_ELEMENT)
+          && Tag.mutation.name().equals(xml.getLocalName())) {
+        handler.apply(readMutation(xml));
+      }
+    }
+  }
+
+  private MutationResult readMutation(final XMLStreamReader xml)
+      throws XMLStreamException {
+    final DetectionStatus status = DetectionStatus.valueOf(xml
+        .getAttributeValue(null, "status"));
+    final Map<Tag, String> values = new EnumMap<Tag, String>(Tag.class);
+    while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      final Tag tag = Tag.valueOf(xml.getLocalName());
+      values.put(tag, xml.getElementText());
+    }
+
+    final Location location = Location.location(
+        ClassName.fromString(values.get(Tag.mutatedClass)),
+        MethodName.fromString(values.get(Tag.mutatedMethod)),
+        values.get(Tag.methodDescription));
+    final MutationIdentifier id = new MutationIdentifier(location,
+        Integer.parseInt(values.get(Tag.index)), values.get(Tag.mutator));
+    final MutationDetails details = new MutationDetails(id,
+        values.get(Tag.sourceFile), values.get(Tag.description),
+        Integer.parseInt(values.get(Tag.lineNumber)), 0);
+    return new MutationResult(details, new MutationStatusTestPair(0, status,
+        emptyToNull(values.get(Tag.killingTest))));
+  }
+
+  private static String emptyToNull(final String value) {
+    if ((value == null) || (value.length() == 0)) {
+      return null;
+    }
+    return value;
+  }
+
+}
@@ -30,6 +30,8 @@ import org.pitest.mutationtest.MutationResult;
 public class MutationStatistics {
   private final Map<String, Score> mutatorTotalMap  = new HashMap<String, Score>();
   private long                     numberOfTestsRun = 0;
+  private long                     populationSize;
+  private double                   designEffect     = 1;
 
   public void registerResults(final Collection<MutationResult> results) {
     FCollection.forEach(results, register());
@@ -54,6 +56,50 @@ public class MutationStatistics {
     };
   }
 
+  /**
+   * Adds the results recorded by another set of statistics, such as those for
+   * another module of a build, to these.
+   */
+  public void add(final MutationStatistics other) {
+    this.numberOfTestsRun = this.numberOfTestsRun + other.numberOfTestsRun;
+    this.populationSize = Math.max(this.populationSize, getTotalMutations())
+        + Math.max(other.populationSize, other.getTotalMutations());
+    this.designEffect = Math.max(this.designEffect, other.designEffect);
+    for (final Score each : other.getScores()) {
+      Score total = this.mutatorTotalMap.get(each.getMutatorName());
+      if (total == null) {
+        total = new Score(each.getMutatorName());
+        this.mutatorTotalMap.put(each.getMutatorName(), total);
+      }
+      total.add(each);
+    }
+  }
+
+  /**
+   * Records the number of mutations the analysed mutations were sampled from,
+   * if only a sample of the generated mutations was analysed.
+   */
+  public void setPopulationSize(final long populationSize) {
+    this.populationSize = populationSize;
+  }
+
+  /**
+   * Records the design effect of the analysed mutations having been sampled
+   * as whole units rather than individually.
+   */
+  public void setDesignEffect(final double designEffect) {
+    this.designEffect = designEffect;
+  }
+
+  public boolean isSampled() {
+    return this.populationSize > getTotalMutations();
+  }
+
+  public ScoreEstimate getScoreEstimate() {
+    return new ScoreEstimate(this.populationSize, getTotalMutations(),
+        getTotalDetectedMutations(), this.designEffect);
+  }
+
   public Iterable<Score> getScores() {
     return this.mutatorTotalMap.values();
   }
@@ -108,6 +154,21 @@ public class MutationStatistics {
         + this.getPercentageDetected() + "%)");
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
+    if (isSampled()) {
+      final ScoreEstimate estimate = getScoreEstimate();
+      final DecimalFormat format = new DecimalFormat("#.#",
+          new DecimalFormatSymbols(Locale.ENGLISH));
+      out.println(">> Estimated score " + format.format(estimate.getScore())
+          + "% (95% confidence " + format.format(estimate.getLowerBound())
+          + "% to " + format.format(estimate.getUpperBound()) + "%) from a "
+          + "sample of " + estimate.getSample() + " of "
+          + estimate.getPopulation() + " mutations");
+      if (estimate.getDesignEffect() > 1) {
+        out.println(">> Interval widened by a design effect of "
+            + format.format(estimate.getDesignEffect())
+            + " as mutations were sampled in whole units");
+      }
+    }
 
   }
 
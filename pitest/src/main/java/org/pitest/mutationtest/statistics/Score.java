@@ -46,6 +46,15 @@ public class Score {
     total.increment();
   }
 
+  /**
+   * Adds the results counted by another score to this one
+   */
+  public void add(final Score other) {
+    for (final StatusCount each : other.getCounts()) {
+      this.counts.get(each.getStatus()).add(each.getCount());
+    }
+  }
+
   public Iterable<StatusCount> getCounts() {
     return this.counts.values();
   }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+/**
+ * Estimate of the mutation score of a population of mutations from the
+ * results of a random sample of them, with a 95% confidence interval.
+ *
+ * The interval is a Wilson score interval, which unlike the normal
+ * approximation stays within 0 to 100% and does not collapse to a point when
+ * every sampled mutation was killed. The sample size is scaled by the finite
+ * population correction, so the interval narrows to the observed score as the
+ * sample approaches the whole population.
+ *
+ * The Wilson interval assumes mutations were sampled individually. Where whole
+ * groups of them were sampled instead, as happens when an analysis budget
+ * skips entire units, the sample size is first divided by the design effect
+ * of that cluster sample (see {@link #designEffect}), so the interval reported
+ * is the Wilson interval for the equivalent number of individually sampled
+ * mutations.
+ */
+public class ScoreEstimate {
+
+  private static final double Z = 1.96;
+
+  private final long          population;
+  private final long          sample;
+  private final long          detected;
+  private final double        designEffect;
+
+  public ScoreEstimate(final long population, final long sample,
+      final long detected) {
+    this(population, sample, detected, 1);
+  }
+
+  public ScoreEstimate(final long population, final long sample,
+      final long detected, final double designEffect) {
+    this.population = Math.max(population, sample);
+    this.sample = sample;
+    this.detected = detected;
+    this.designEffect = Math.max(1, designEffect);
+  }
+
+  /**
+   * Estimates the ratio of the variance of the score observed from a sample
+   * of whole clusters to that of a simple random sample of as many mutations,
+   * from the between cluster variance of the ratio estimator. It is never
+   * taken to be less than 1, and is 1 when there are too few clusters, or too
+   * little variation, to estimate it.
+   *
+   * @param sizes
+   *          number of mutations analysed in each sampled cluster
+   * @param detected
+   *          number of those detected in each cluster
+   */
+  public static double designEffect(final long[] sizes, final long[] detected) {
+    final int clusters = sizes.length;
+    long total = 0;
+    long totalDetected = 0;
+    for (int i = 0; i != clusters; i++) {
+      total = total + sizes[i];
+      totalDetected = totalDetected + detected[i];
+    }
+    if ((clusters < 2) || (totalDetected == 0) || (totalDetected == total)) {
+      return 1;
+    }
+    final double p = (double) totalDetected / total;
+    double residuals = 0;
+    for (int i = 0; i != clusters; i++) {
+      final double residual = detected[i] - (p * sizes[i]);
+      residuals = residuals + (residual * residual);
+    }
+    final double meanSize = (double) total / clusters;
+    final double clusterVariance = residuals
+        / ((clusters - 1d) * clusters * meanSize * meanSize);
+    final double simpleVariance = (p * (1 - p)) / total;
+    return Math.max(1, clusterVariance / simpleVariance);
+  }
+
+  public long getPopulation() {
+    return this.population;
+  }
+
+  public long getSample() {
+    return this.sample;
+  }
+
+  public double getDesignEffect() {
+    return this.designEffect;
+  }
+
+  public double getScore() {
+    if (this.sample == 0) {
+      return 100;
+    }
+    return (100d * this.detected) / this.sample;
+  }
+
+  public double getLowerBound() {
+    return bound(-1);
+  }
+
+  public double getUpperBound() {
+    return bound(1);
+  }
+
+  private double bound(final int sign) {
+    if (this.sample == 0) {
+      return sign < 0 ? 0 : 100;
+    }
+    if (this.sample == this.population) {
+      return getScore();
+    }
+    final double n = effectiveSampleSize();
+    final double p = (double) this.detected / this.sample;
+    final double z2 = Z * Z;
+    final double centre = p + (z2 / (2 * n));
+    final double spread = Z
+        * Math.sqrt(((p * (1 - p)) / n) + (z2 / (4 * n * n)));
+    final double bound = (centre + (sign * spread)) / (1 + (z2 / n));
+    return 100 * Math.min(1, Math.max(0, bound));
+  }
+
+  private double effectiveSampleSize() {
+    return ((this.sample / this.designEffect) * (this.population - 1d))
+        / (this.population - this.sample);
+  }
+
+}
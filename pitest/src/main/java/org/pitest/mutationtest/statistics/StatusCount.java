@@ -30,6 +30,10 @@ public class StatusCount {
     this.count++;
   }
 
+  void add(final long n) {
+    this.count = this.count + n;
+  }
+
   @Override
   public String toString() {
     return "" + this.status + " " + this.count;
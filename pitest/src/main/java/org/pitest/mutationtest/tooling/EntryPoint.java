@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
@@ -20,13 +22,18 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.mutationtest.incremental.XStreamHistoryStore;
+import org.pitest.process.HostPhysicalMemory;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
+import org.pitest.process.MinionSizer;
+import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 
 public class EntryPoint {
 
+  private static final Logger LOG = Log.getLogger();
+
   /**
    * Convenient entry point for tools to run mutation analysis.
    *
@@ -58,6 +65,33 @@ public class EntryPoint {
    */
   public AnalysisResult execute(File baseDir, ReportOptions data,
       SettingsFactory settings, Map<String, String> environmentVariables) {
+    return execute(baseDir, data, settings, environmentVariables,
+        Option.<SharedAnalysisResources> none());
+  }
+
+  /**
+   * Entry point for tools running several analyses together, such as one for
+   * each module of a build, that share a single scheduler for their mutation
+   * analysis units, the roots of their class paths and an agent jar.
+   *
+   * @param shared
+   *          resources shared with the other analyses
+   */
+  public AnalysisResult execute(File baseDir, ReportOptions data,
+      PluginServices plugins, Map<String, String> environmentVariables,
+      SharedAnalysisResources shared) {
+    SettingsFactory settings = new SettingsFactory(data, plugins);
+    return execute(baseDir, data, settings, environmentVariables,
+        Option.some(shared));
+  }
+
+  private AnalysisResult execute(File baseDir, ReportOptions data,
+      SettingsFactory settings, Map<String, String> environmentVariables,
+      Option<SharedAnalysisResources> shared) {
+
+    if (shared.hasSome()) {
+      data.setClassPathRootCache(shared.value().getClassPathRoots());
+    }
 
     final ClassPath cp = data.getClassPath();
 
@@ -66,8 +100,8 @@ public class EntryPoint {
 
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
-    final JavaAgent jac = new JarCreatingJarFinder(
-        new ClassPathByteArraySource(cp));
+    final JavaAgent jac = shared.hasSome() ? shared.value().agentFor(cp)
+        : new JarCreatingJarFinder(new ClassPathByteArraySource(cp));
 
     final KnownLocationJavaAgentFinder ja = new KnownLocationJavaAgentFinder(
         jac.getJarLocation().value());
@@ -79,25 +113,27 @@ public class EntryPoint {
 
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
-        settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables);
+        settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables,
+        minionSizer(data));
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps, coverageOptions.getPitConfig()
         .testClassIdentifier());
 
+    final HistoryStore history = new XStreamHistoryStore(historyWriter, reader);
+
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
-
-    final HistoryStore history = new XStreamHistoryStore(historyWriter, reader);
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        coverageHistory(data, history));
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
         reportOutput);
 
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
-        code, data, settings, timings);
+        code, data, settings, timings, unitExecutor(shared));
 
     try {
       return AnalysisResult.success(report.runReport());
@@ -111,4 +147,37 @@ public class EntryPoint {
 
   }
 
+  private static Option<ExecutorService> unitExecutor(
+      final Option<SharedAnalysisResources> shared) {
+    if (shared.hasNone()) {
+      return Option.none();
+    }
+    return Option.some(shared.value().getExecutor());
+  }
+
+  private static Option<MinionSizer> minionSizer(final ReportOptions data) {
+    if (!data.shouldAutoSizeMinions()) {
+      return Option.none();
+    }
+    if (!data.getWorkers().isEmpty()) {
+      LOG.info("Minions run by remote workers are not sized automatically");
+      return Option.none();
+    }
+    return Option.some(new MinionSizer(new HostPhysicalMemory(), data
+        .getNumberOfThreads(), data.getJvmArgs()));
+  }
+
+  private static Option<HistoryStore> coverageHistory(final ReportOptions data,
+      final HistoryStore history) {
+    if (!data.shouldReuseCoverage()) {
+      return Option.none();
+    }
+    if ((data.getHistoryInputLocation() == null)
+        && (data.getHistoryOutputLocation() == null)) {
+      LOG.warning("Coverage can only be reused when a history file is set");
+      return Option.none();
+    }
+    return Option.some(history);
+  }
+
 }
@@ -17,13 +17,22 @@ package org.pitest.mutationtest.tooling;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
+import org.pitest.classinfo.AddlerHash;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
@@ -33,8 +42,12 @@ import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.TestInfo;
+import org.pitest.dependency.DependencyExtractor;
+import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
-import org.pitest.functional.prelude.Prelude;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+import org.pitest.functional.predicate.Predicate;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.CoverageListener;
@@ -42,8 +55,14 @@ import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationPlanListener;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
+import org.pitest.mutationtest.build.AnalysisBudget;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationCatalogue;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
@@ -52,34 +71,73 @@ import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionProfiler;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.filter.CompoundMutationFilter;
+import org.pitest.mutationtest.filter.MutationFilter;
 import org.pitest.mutationtest.filter.MutationFilterFactory;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.mutationtest.incremental.CachingAnalyser;
+import org.pitest.mutationtest.incremental.ChangeImpactAnalyser;
+import org.pitest.mutationtest.incremental.CheckpointJournal;
+import org.pitest.mutationtest.incremental.CodeHistory;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
+import org.pitest.mutationtest.incremental.DirectoryResultCache;
 import org.pitest.mutationtest.incremental.HistoryListener;
+import org.pitest.mutationtest.incremental.HttpResultCache;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
+import org.pitest.mutationtest.incremental.ResultCache;
+import org.pitest.mutationtest.incremental.ResultCacheKeys;
+import org.pitest.mutationtest.incremental.ResumingAnalyser;
+import org.pitest.mutationtest.incremental.UnimpactedClassAnalyser;
+import org.pitest.mutationtest.metrics.MetricsPublisher;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
+import org.pitest.process.LocalMinionLauncher;
+import org.pitest.process.MinionLauncher;
+import org.pitest.process.remote.RemoteMinionLauncher;
+import org.pitest.process.remote.WorkerAgent;
+import org.pitest.util.GlobSet;
 import org.pitest.util.Log;
+import org.pitest.util.PitError;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
+import org.pitest.util.Unchecked;
 
 public class MutationCoverage {
 
-  private static final int         MB  = 1024 * 1024;
+  private static final int              MB  = 1024 * 1024;
 
-  private static final Logger      LOG = Log.getLogger();
-  private final ReportOptions      data;
+  private static final Logger           LOG = Log.getLogger();
+  private final ReportOptions           data;
 
-  private final MutationStrategies strategies;
-  private final Timings            timings;
-  private final CodeSource         code;
-  private final File               baseDir;
-  private final SettingsFactory    settings;
+  private final MutationStrategies      strategies;
+  private final Timings                 timings;
+  private final CodeSource              code;
+  private final File                    baseDir;
+  private final SettingsFactory         settings;
+  private final Option<ExecutorService> unitExecutor;
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
       final SettingsFactory settings, final Timings timings) {
+    this(strategies, baseDir, code, data, settings, timings, Option
+        .<ExecutorService> none());
+  }
+
+  /**
+   * @param unitExecutor
+   *          where supplied, executor shared with other analyses on which
+   *          mutation analysis units are run
+   */
+  public MutationCoverage(final MutationStrategies strategies,
+      final File baseDir, final CodeSource code, final ReportOptions data,
+      final SettingsFactory settings, final Timings timings,
+      final Option<ExecutorService> unitExecutor) {
+    this.unitExecutor = unitExecutor;
     this.strategies = strategies;
     this.data = data;
     this.settings = settings;
@@ -108,6 +166,9 @@ public class MutationCoverage {
 
     verifyBuildSuitableForMutationTesting();
 
+    // history may supply coverage for unchanged tests so must be read first
+    history().initialize();
+
     final CoverageDatabase coverageData = coverage().calculateCoverage();
 
     LOG.fine("Used memory after coverage calculation "
@@ -119,49 +180,271 @@ public class MutationCoverage {
 
     final MutationEngine engine = this.strategies.factory().createEngine(
         this.data.isMutateStaticInitializers(),
-        Prelude.or(this.data.getExcludedMethods()),
+        new GlobSet(this.data.getExcludedMethods()),
         this.data.getLoggingClasses(), this.data.getMutators(),
         this.data.isDetectInlinedCode());
+    final String mutationConfig = mutationConfigFingerprint(engine);
 
     final List<MutationResultListener> config = createConfig(t0, coverageData,
         stats, engine);
 
-    history().initialize();
+    final MinionProfiler profiler = this.settings.createMinionProfiler();
+    final RunMetrics metrics = new RunMetrics();
+    final StratifiedSamplingFilter sampler = new StratifiedSamplingFilter(
+        this.data.getSampleRate(), this.data.getSampleSeed());
+
+    final Option<MutationCatalogue> catalogue = mutationCatalogue();
+    final Option<CheckpointJournal> journal = checkpointJournal();
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine);
+        engine, profiler, metrics, sampler, config, catalogue, journal,
+        mutationConfig);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
     checkMutationsFound(tus);
 
-    recordClassPath(coverageData);
+    final Collection<HierarchicalClassId> classPath = classPath(coverageData);
+    history().recordClassPath(classPath, coverageData);
+    history().recordMutationConfig(mutationConfig);
 
     for(MutationResultListener r : config)
     	if(r instanceof CoverageListener)
     		((CoverageListener) r).handleCoverageData(code,coverageData);
+    signalMutationPlan(config, tus);
+    recordPlan(journal, tus, classPath);
+    recordPopulation(stats, tus, sampler);
     
     LOG.fine("Used memory before analysis start "
         + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
     LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
         + " mb");
 
-    final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
+    final MutationAnalysisExecutor mae = createExecutor(config, metrics);
+    final Option<MetricsPublisher> publisher = this.settings
+        .createMetricsPublisher(metrics);
+    final Option<AnalysisBudget> budget = analysisBudget();
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    FCollection.forEach(publisher, startPublishing());
+    try {
+      mae.run(journal(schedule(tus, budget), journal));
+      FCollection.forEach(journal, recordComplete());
+    } finally {
+      FCollection.forEach(publisher, stopPublishing());
+      FCollection.forEach(catalogue, closeCatalogue());
+      FCollection.forEach(journal, closeJournal());
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    reportSkipped(budget);
+    recordDesignEffect(stats, budget);
+
+    profiler.writeProfile();
 
     LOG.info("Completed in " + timeSpan(t0));
 
-    printStats(stats);
+    printStats(stats, profiler);
 
     return new CombinedStatistics(stats.getStatistics(),
         coverageData.createSummary());
 
   }
 
+  private static SideEffect1<MetricsPublisher> startPublishing() {
+    return new SideEffect1<MetricsPublisher>() {
+      @Override
+      public void apply(final MetricsPublisher a) {
+        a.start();
+      }
+    };
+  }
+
+  private static SideEffect1<MutationCatalogue> closeCatalogue() {
+    return new SideEffect1<MutationCatalogue>() {
+      @Override
+      public void apply(final MutationCatalogue a) {
+        a.close();
+      }
+    };
+  }
+
+  private static SideEffect1<CheckpointJournal> recordComplete() {
+    return new SideEffect1<CheckpointJournal>() {
+      @Override
+      public void apply(final CheckpointJournal a) {
+        a.recordComplete();
+      }
+    };
+  }
+
+  private static SideEffect1<CheckpointJournal> closeJournal() {
+    return new SideEffect1<CheckpointJournal>() {
+      @Override
+      public void apply(final CheckpointJournal a) {
+        a.close();
+      }
+    };
+  }
+
+  private MutationAnalysisExecutor createExecutor(
+      final List<MutationResultListener> config, final RunMetrics metrics) {
+    if (this.unitExecutor.hasSome()) {
+      return new MutationAnalysisExecutor(this.unitExecutor.value(), config,
+          metrics);
+    }
+    return new MutationAnalysisExecutor(numberOfThreads(), config, metrics);
+  }
+
+  private Option<CheckpointJournal> checkpointJournal() {
+    final Option<File> file = this.data.getCheckpointJournal();
+    if (file.hasNone()) {
+      return Option.none();
+    }
+    LOG.info("Journalling results to " + file.value());
+    return Option.some(CheckpointJournal.open(file.value(),
+        this.data.shouldResume()));
+  }
+
+  private Option<MutationCatalogue> mutationCatalogue() {
+    if (!this.data.shouldStoreMutationsOffHeap()) {
+      return Option.none();
+    }
+    return Option.some(new MutationCatalogue());
+  }
+
+  private static SideEffect1<MetricsPublisher> stopPublishing() {
+    return new SideEffect1<MetricsPublisher>() {
+      @Override
+      public void apply(final MetricsPublisher a) {
+        a.stop();
+      }
+    };
+  }
+
+  private static void recordPopulation(final MutationStatisticsListener stats,
+      final List<MutationAnalysisUnit> tus,
+      final StratifiedSamplingFilter sampler) {
+    long planned = 0;
+    for (final MutationAnalysisUnit each : tus) {
+      planned = planned + each.mutations().size();
+    }
+    final long unsampled = sampler.getPopulation() - sampler.getSelected();
+    if (unsampled > 0) {
+      LOG.info("Sampled " + planned + " of " + (planned + unsampled)
+          + " mutations");
+    }
+    stats.getStatistics().setPopulationSize(planned + unsampled);
+  }
+
+  private Option<AnalysisBudget> analysisBudget() {
+    if (this.data.getAnalysisBudget() <= 0) {
+      return Option.none();
+    }
+    return Option.some(new AnalysisBudget(
+        this.data.getAnalysisBudget() * 60000L, this.data.getSampleSeed()));
+  }
+
+  private static List<MutationAnalysisUnit> schedule(
+      final List<MutationAnalysisUnit> tus,
+      final Option<AnalysisBudget> budget) {
+    if (budget.hasNone()) {
+      return tus;
+    }
+    final List<MutationAnalysisUnit> scheduled = budget.value().schedule(tus);
+    budget.value().start();
+    return scheduled;
+  }
+
+  private static List<MutationAnalysisUnit> journal(
+      final List<MutationAnalysisUnit> tus,
+      final Option<CheckpointJournal> journal) {
+    if (journal.hasNone()) {
+      return tus;
+    }
+    return journal.value().journal(tus);
+  }
+
+  private static void recordPlan(final Option<CheckpointJournal> journal,
+      final List<MutationAnalysisUnit> tus,
+      final Collection<HierarchicalClassId> classPath) {
+    if (journal.hasSome()) {
+      journal.value().recordPlan(plannedMutations(tus), classPath);
+    }
+  }
+
+  private static void reportSkipped(final Option<AnalysisBudget> budget) {
+    if (budget.hasSome() && (budget.value().getSkipped() > 0)) {
+      LOG.warning("Analysis budget spent, " + budget.value().getSkipped()
+          + " mutations were not analysed");
+    }
+  }
+
+  private static void recordDesignEffect(
+      final MutationStatisticsListener stats,
+      final Option<AnalysisBudget> budget) {
+    if (budget.hasSome() && (budget.value().getSkipped() > 0)) {
+      stats.getStatistics().setDesignEffect(budget.value().getDesignEffect());
+    }
+  }
+
+  private void signalMutationPlan(final List<MutationResultListener> config,
+      final List<MutationAnalysisUnit> tus) {
+    for (final MutationResultListener each : config) {
+      if (each instanceof MutationPlanListener) {
+        ((MutationPlanListener) each).handleMutationPlan(plannedMutations(tus));
+      }
+    }
+  }
+
+  /**
+   * Walks the mutations unit by unit, so that those stored off heap are read
+   * one at a time rather than all brought onto the heap together
+   */
+  private static Iterable<MutationDetails> plannedMutations(
+      final List<MutationAnalysisUnit> tus) {
+    return new Iterable<MutationDetails>() {
+      @Override
+      public Iterator<MutationDetails> iterator() {
+        return new PlannedMutationIterator(tus.iterator());
+      }
+    };
+  }
+
+  private static class PlannedMutationIterator implements
+      Iterator<MutationDetails> {
+
+    private final Iterator<MutationAnalysisUnit> units;
+    private Iterator<MutationDetails>            current = Collections
+                                                             .<MutationDetails> emptyList()
+                                                             .iterator();
+
+    PlannedMutationIterator(final Iterator<MutationAnalysisUnit> units) {
+      this.units = units;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!this.current.hasNext() && this.units.hasNext()) {
+        this.current = this.units.next().mutations().iterator();
+      }
+      return this.current.hasNext();
+    }
+
+    @Override
+    public MutationDetails next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return this.current.next();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
   private int numberOfThreads() {
     return Math.max(1, this.data.getNumberOfThreads());
   }
@@ -175,7 +458,8 @@ public class MutationCoverage {
 
     final ListenerArguments args = new ListenerArguments(
         this.strategies.output(), coverageData, new SmartSourceLocator(
-            this.data.getSourceDirs()), engine, t0);
+            this.data.getSourceDirs()), engine, t0,
+        this.data.getHtmlRenderThreads());
 
     final MutationResultListener mutationReportListener = this.strategies
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
@@ -189,11 +473,11 @@ public class MutationCoverage {
     return ls;
   }
 
-  private void recordClassPath(final CoverageDatabase coverageData) {
+  private Collection<HierarchicalClassId> classPath(
+      final CoverageDatabase coverageData) {
     final Set<ClassName> allClassNames = getAllClassesAndTests(coverageData);
-    final Collection<HierarchicalClassId> ids = FCollection.map(
-        this.code.getClassInfo(allClassNames), ClassInfo.toFullClassId());
-    history().recordClassPath(ids, coverageData);
+    return FCollection.map(this.code.getClassInfo(allClassNames),
+        ClassInfo.toFullClassId());
   }
 
   private Set<ClassName> getAllClassesAndTests(
@@ -211,13 +495,21 @@ public class MutationCoverage {
     this.strategies.buildVerifier().verify(this.code);
   }
 
-  private void printStats(final MutationStatisticsListener stats) {
+  private void printStats(final MutationStatisticsListener stats,
+      final MinionProfiler profiler) {
     final PrintStream ps = System.out;
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Timings");
     ps.println(StringUtil.separatorLine('='));
     this.timings.report(ps);
 
+    if (this.data.shouldExportMinionProfile()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Minion profile");
+      ps.println(StringUtil.separatorLine('='));
+      profiler.report(ps);
+    }
+
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Statistics");
     ps.println(StringUtil.separatorLine('='));
@@ -233,7 +525,13 @@ public class MutationCoverage {
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine) {
+      final CoverageDatabase coverageData, final MutationEngine engine,
+      final MinionProfiler profiler, final RunMetrics metrics,
+      final StratifiedSamplingFilter sampler,
+      final List<MutationResultListener> config,
+      final Option<MutationCatalogue> catalogue,
+      final Option<CheckpointJournal> journal,
+      final String mutationConfigFingerprint) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
@@ -245,26 +543,216 @@ public class MutationCoverage {
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationSource source = new MutationSource(mutationConfig,
-        makeFilter().createFilter(this.data.getFreeFormProperties(), this.code,
-            this.data.getMaxMutationsPerClass()), testPrioritiser, bas);
-
-    final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history()), coverageData);
+    final MutationFilter filter = new CompoundMutationFilter(
+        Arrays.<MutationFilter> asList(
+            makeFilter().createFilter(this.data.getFreeFormProperties(),
+                this.code, this.data.getMaxMutationsPerClass()), sampler));
+    final MutationSource source = new MutationSource(mutationConfig, filter,
+        testPrioritiser, bas);
+
+    final CodeHistory codeHistory = new DefaultCodeHistory(this.code,
+        history());
+    final Option<Set<ClassName>> impacted = findImpactedClasses(codeHistory,
+        coverageData, bas);
+    final MutationAnalyser analyser = withCheckpoint(withResultCache(
+        withChangeImpact(new IncrementalAnalyser(codeHistory, coverageData),
+            impacted), coverageData, config), journal);
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
-            .getClassPath().getLocalClassPath(), this.data.isDontStopAtMutantKilled());
+        timeoutStrategy(), this.data.isVerbose(), this.data
+            .getClassPath().getLocalClassPath(), this.data
+            .isDontStopAtMutantKilled(), profiler, minionLauncher(), metrics,
+        this.data.getDiscoveryThreads());
 
     MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, catalogue);
+
+    if (impacted.hasNone()
+        || !mutationConfigUnchanged(mutationConfigFingerprint)) {
+      return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+    }
+    return createUnitsForImpactedClasses(builder, impacted.value(),
+        testPrioritiser);
+  }
+
+  private MutationAnalyser withResultCache(final MutationAnalyser analyser,
+      final CoverageDatabase coverageData,
+      final List<MutationResultListener> config) {
+    final String location = this.data.getResultCache();
+    if (location == null) {
+      return analyser;
+    }
+    LOG.info("Using mutation result cache at " + location);
+    final ResultCache cache;
+    if (location.startsWith("http://") || location.startsWith("https://")) {
+      cache = new HttpResultCache(location);
+    } else {
+      cache = new DirectoryResultCache(new File(location));
+    }
+    final CachingAnalyser caching = new CachingAnalyser(analyser, cache,
+        new ResultCacheKeys(this.code, coverageData));
+    config.add(caching.recorder());
+    return caching;
+  }
+
+  private static MutationAnalyser withCheckpoint(
+      final MutationAnalyser analyser, final Option<CheckpointJournal> journal) {
+    if (journal.hasNone()) {
+      return analyser;
+    }
+    return new ResumingAnalyser(analyser, journal.value()
+        .getRestoredResults());
+  }
+
+  private TimeoutLengthStrategy timeoutStrategy() {
+    if (this.data.shouldUseAdaptiveTimeouts()) {
+      return new AdaptiveTimeoutStrategy(this.data.getTimeoutFactor(),
+          this.data.getTimeoutConstant());
+    }
+    return new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+        this.data.getTimeoutConstant());
+  }
 
-    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+  private MinionLauncher minionLauncher() {
+    if (this.data.getWorkers().isEmpty()) {
+      return new LocalMinionLauncher();
+    }
+    LOG.info("Leasing minions to workers at " + this.data.getWorkers());
+    return new RemoteMinionLauncher(this.data.getWorkers(), workerToken());
+  }
+
+  private String workerToken() {
+    final String token = this.data.getWorkerToken() != null ? this.data
+        .getWorkerToken() : System.getenv(WorkerAgent.TOKEN_VARIABLE);
+    if ((token == null) || (token.length() == 0)) {
+      throw new PitError("A workerToken, or the "
+          + WorkerAgent.TOKEN_VARIABLE
+          + " environment variable, must give the token the workers were started with");
+    }
+    return token;
+  }
+
+  private Option<Set<ClassName>> findImpactedClasses(
+      final CodeHistory codeHistory, final CoverageDatabase coverageData,
+      final ClassByteArraySource bas) {
+    if (!this.data.shouldUseChangeImpactAnalysis()) {
+      return Option.none();
+    }
+    final Set<ClassName> codeClasses = this.code.getCodeUnderTestNames();
+    final ChangeImpactAnalyser impact = new ChangeImpactAnalyser(codeHistory,
+        coverageData, history().getHistoricMutations().keySet(),
+        dependencies(bas, codeClasses));
+    final Set<ClassName> impacted = impact.findImpactedClasses(codeClasses);
+
+    LOG.info("Change impact analysis selected " + impacted.size() + " of "
+        + codeClasses.size() + " classes");
+
+    return Option.some(impacted);
+  }
+
+  private MutationAnalyser withChangeImpact(final MutationAnalyser analyser,
+      final Option<Set<ClassName>> impacted) {
+    if (impacted.hasNone()) {
+      return analyser;
+    }
+    return new UnimpactedClassAnalyser(analyser, impacted.value(), history()
+        .getHistoricMutations());
+  }
+
+  private boolean mutationConfigUnchanged(final String fingerprint) {
+    final Option<String> previous = history().getHistoricMutationConfig();
+    if (previous.hasNone()) {
+      LOG.info("No mutation config recorded by the last run. Generating mutations for all classes");
+      return false;
+    }
+    if (!previous.value().equals(fingerprint)) {
+      LOG.info("Mutation config differs from the last run. Generating mutations for all classes");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Mutations are generated only for impacted classes, and for those whose
+   * previous results include any that may not be reused. Every other class
+   * reports its previous results as they are.
+   */
+  private List<MutationAnalysisUnit> createUnitsForImpactedClasses(
+      final MutationTestBuilder builder, final Set<ClassName> impacted,
+      final TestPrioritiser testPrioritiser) {
+    final Map<ClassName, List<MutationResult>> historic = history()
+        .getHistoricMutations();
+    final Set<ClassName> toMutate = new HashSet<ClassName>();
+    final List<MutationResult> copied = new ArrayList<MutationResult>();
+    for (final ClassName each : this.code.getCodeUnderTestNames()) {
+      final List<MutationResult> results = historic.get(each);
+      if (impacted.contains(each) || (results == null)
+          || !UnimpactedClassAnalyser.canReuseAll(results)) {
+        toMutate.add(each);
+      } else {
+        for (final MutationResult result : results) {
+          result.getDetails().addTestsInOrder(
+              testPrioritiser.assignTests(result.getDetails()));
+          copied.add(result);
+        }
+      }
+    }
+
+    LOG.info("Generating mutations for " + toMutate.size()
+        + " classes. Copied " + copied.size() + " results from history.");
+
+    return builder.createMutationTestUnits(toMutate, copied);
+  }
+
+  /**
+   * Describes the settings that decide which mutations are generated for a
+   * class, so that results are only copied from history in place of
+   * generating mutations when the same mutations would be generated.
+   */
+  private String mutationConfigFingerprint(final MutationEngine engine) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(this.data.getMutationEngine()).append('\n');
+    sb.append(engine.getMutatorNames()).append('\n');
+    sb.append(this.data.getExcludedMethods()).append('\n');
+    sb.append(this.data.getLoggingClasses()).append('\n');
+    sb.append(this.data.getMaxMutationsPerClass()).append('\n');
+    sb.append(this.data.isMutateStaticInitializers()).append('\n');
+    sb.append(this.data.isDetectInlinedCode()).append('\n');
+    sb.append(this.data.getSampleRate()).append(' ')
+        .append(this.data.getSampleSeed()).append('\n');
+    sb.append(makeFilter().description()).append('\n');
+    if (this.data.getFreeFormProperties() != null) {
+      sb.append(new TreeMap<Object, Object>(this.data.getFreeFormProperties()));
+    }
+    return Long.toHexString(new AddlerHash().hash(sb.toString().getBytes(
+        Charset.forName("UTF-8"))));
+  }
+
+  private F<ClassName, Iterable<ClassName>> dependencies(
+      final ClassByteArraySource bas, final Set<ClassName> codeClasses) {
+    final DependencyExtractor extractor = new DependencyExtractor(bas,
+        this.data.getDependencyAnalysisMaxDistance());
+    final Predicate<String> isCode = new Predicate<String>() {
+      @Override
+      public Boolean apply(final String a) {
+        return codeClasses.contains(ClassName.fromString(a));
+      }
+    };
+    return new F<ClassName, Iterable<ClassName>>() {
+      @Override
+      public Iterable<ClassName> apply(final ClassName a) {
+        try {
+          return FCollection.map(extractor.extractCallDependenciesForPackages(
+              a.asJavaName(), isCode), ClassName.stringToClassName());
+        } catch (final IOException e) {
+          throw Unchecked.translateCheckedException(e);
+        }
+      }
+    };
   }
 
   private MutationFilterFactory makeFilter() {
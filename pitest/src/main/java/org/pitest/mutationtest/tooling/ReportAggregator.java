@@ -0,0 +1,250 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.tooling;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.coverage.export.CoverageExportReader;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.CoverageListener;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.report.xml.XMLReportReader;
+import org.pitest.mutationtest.statistics.MutationStatisticsListener;
+import org.pitest.util.GlobSet;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Produces a single report from the xml mutation results (and optionally the
+ * exported line coverage) of several earlier runs, such as the shards of a
+ * split analysis, without running any tests.
+ *
+ * Results are streamed through the configured listeners a class at a time, so
+ * only the identifiers of the mutations seen so far are held in memory. Where
+ * a mutation appears in more than one set of results the first is reported.
+ */
+public class ReportAggregator {
+
+  private static final Logger   LOG = Log.getLogger();
+
+  private final ReportOptions   data;
+  private final SettingsFactory settings;
+
+  public ReportAggregator(final ReportOptions data,
+      final SettingsFactory settings) {
+    this.data = data;
+    this.settings = settings;
+  }
+
+  public CombinedStatistics aggregate() {
+    final long t0 = System.currentTimeMillis();
+
+    final CodeSource code = new CodeSource(this.data.getMutationClassPaths(),
+        this.settings.createCoverageOptions().getPitConfig()
+            .testClassIdentifier());
+    final CoverageData coverage = readCoverage(code);
+
+    final MutationStatisticsListener stats = new MutationStatisticsListener();
+    final MutationEngine engine = this.settings.createEngine().createEngine(
+        this.data.isMutateStaticInitializers(),
+        new GlobSet(this.data.getExcludedMethods()),
+        this.data.getLoggingClasses(), this.data.getMutators(),
+        this.data.isDetectInlinedCode());
+    final List<MutationResultListener> listeners = createListeners(t0,
+        coverage, stats, engine);
+
+    for (final MutationResultListener each : listeners) {
+      if (each instanceof CoverageListener) {
+        ((CoverageListener) each).handleCoverageData(code, coverage);
+      }
+      each.runStart();
+    }
+
+    final ResultMerger merger = new ResultMerger(listeners);
+    final XMLReportReader reader = new XMLReportReader();
+    for (final File each : this.data.getMutationResultFiles()) {
+      LOG.info("Reading mutation results from " + each);
+      read(each, reader, merger);
+    }
+    merger.flush();
+
+    for (final MutationResultListener each : listeners) {
+      each.runEnd();
+    }
+
+    LOG.info("Merged " + merger.getUnique() + " mutations ("
+        + merger.getDuplicates() + " duplicates discarded) in "
+        + (System.currentTimeMillis() - t0) + " ms");
+
+    return new CombinedStatistics(stats.getStatistics(),
+        coverage.createSummary());
+  }
+
+  private CoverageData readCoverage(final CodeSource code) {
+    final CoverageData coverage = new CoverageData(code, new LineMapper(code));
+    final Map<String, TestInfo> tests = new HashMap<String, TestInfo>();
+    final CoverageExportReader reader = new CoverageExportReader();
+    for (final File each : this.data.getLineCoverageFiles()) {
+      LOG.info("Reading line coverage from " + each);
+      final Reader in = open(each);
+      try {
+        reader.read(in, recordCoverage(coverage, tests));
+      } finally {
+        close(in);
+      }
+    }
+    return coverage;
+  }
+
+  private static SideEffect1<BlockCoverage> recordCoverage(
+      final CoverageData coverage, final Map<String, TestInfo> tests) {
+    return new SideEffect1<BlockCoverage>() {
+      @Override
+      public void apply(final BlockCoverage a) {
+        final List<TestInfo> infos = new ArrayList<TestInfo>();
+        for (final String each : a.getTests()) {
+          TestInfo info = tests.get(each);
+          if (info == null) {
+            info = new TestInfo(null, each, 0, Option.<ClassName> none(), 0);
+            tests.put(each, info);
+          }
+          infos.add(info);
+        }
+        coverage.recordBlockCoverage(a.getBlock(), infos);
+      }
+    };
+  }
+
+  private List<MutationResultListener> createListeners(final long t0,
+      final CoverageData coverage, final MutationStatisticsListener stats,
+      final MutationEngine engine) {
+    final List<MutationResultListener> ls = new ArrayList<MutationResultListener>();
+    ls.add(stats);
+    final ListenerArguments args = new ListenerArguments(
+        this.settings.getOutputStrategy(), coverage, new SmartSourceLocator(
+            this.data.getSourceDirs()), engine, t0,
+        this.data.getHtmlRenderThreads());
+    ls.add(this.settings.createListener().getListener(
+        this.data.getFreeFormProperties(), args));
+    return ls;
+  }
+
+  private static void read(final File file, final XMLReportReader reader,
+      final ResultMerger merger) {
+    final Reader in = open(file);
+    try {
+      reader.read(in, merger);
+    } finally {
+      close(in);
+    }
+  }
+
+  private static Reader open(final File file) {
+    try {
+      return new BufferedReader(new InputStreamReader(
+          new FileInputStream(file), "UTF-8"));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void close(final Reader in) {
+    try {
+      in.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * Discards mutations that have already been seen and passes consecutive
+   * results for the same class to the listeners together.
+   */
+  static class ResultMerger implements SideEffect1<MutationResult> {
+
+    private final Collection<MutationResultListener> listeners;
+    private final Set<MutationIdentifier>            seen    = new HashSet<MutationIdentifier>();
+    private final List<MutationResult>               pending = new ArrayList<MutationResult>();
+    private ClassName                                pendingClass;
+    private int                                      duplicates;
+
+    ResultMerger(final Collection<MutationResultListener> listeners) {
+      this.listeners = listeners;
+    }
+
+    @Override
+    public void apply(final MutationResult a) {
+      if (!this.seen.add(a.getDetails().getId())) {
+        this.duplicates++;
+        return;
+      }
+      final ClassName clazz = a.getDetails().getClassName();
+      if (!clazz.equals(this.pendingClass)) {
+        flush();
+        this.pendingClass = clazz;
+      }
+      this.pending.add(a);
+    }
+
+    void flush() {
+      if (this.pending.isEmpty()) {
+        return;
+      }
+      final ClassMutationResults results = new ClassMutationResults(
+          new ArrayList<MutationResult>(this.pending));
+      for (final MutationResultListener each : this.listeners) {
+        each.handleMutationResult(results);
+      }
+      this.pending.clear();
+    }
+
+    int getUnique() {
+      return this.seen.size();
+    }
+
+    int getDuplicates() {
+      return this.duplicates;
+    }
+
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.tooling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.ClassPathRootCache;
+import org.pitest.process.JavaAgent;
+
+/**
+ * Resources shared by analyses that run together, such as those of the
+ * modules of a build: one executor on which the mutation analysis units of
+ * every analysis are run, the roots of their class paths, and the agent jar
+ * given to their minions.
+ */
+public class SharedAnalysisResources {
+
+  private final ExecutorService    executor;
+  private final ClassPathRootCache classPathRoots = new ClassPathRootCache();
+  private JarCreatingJarFinder     agent;
+
+  public SharedAnalysisResources(final int threads) {
+    this.executor = Executors.newFixedThreadPool(Math.max(1, threads));
+  }
+
+  public ExecutorService getExecutor() {
+    return this.executor;
+  }
+
+  public ClassPathRootCache getClassPathRoots() {
+    return this.classPathRoots;
+  }
+
+  /**
+   * @return the agent, created from the supplied class path by the first
+   *         analysis to ask for it
+   */
+  synchronized JavaAgent agentFor(final ClassPath cp) {
+    if (this.agent == null) {
+      this.agent = new JarCreatingJarFinder(new ClassPathByteArraySource(cp));
+    }
+    return new KnownLocationJavaAgentFinder(this.agent.getJarLocation()
+        .value());
+  }
+
+  public synchronized void close() {
+    this.executor.shutdown();
+    if (this.agent != null) {
+      this.agent.close();
+    }
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+
+import org.pitest.util.MemorySample;
+
+/**
+ * Reads the physical memory of this machine from /proc/meminfo where present,
+ * falling back to the extended operating system bean provided by most jvms.
+ * The bean's free memory excludes reclaimable caches, so understates what is
+ * available.
+ */
+public class HostPhysicalMemory implements PhysicalMemory {
+
+  private static final File MEMINFO = new File("/proc/meminfo");
+
+  @Override
+  public long total() {
+    final long fromProc = MemorySample.readKilobytes(MEMINFO, "MemTotal:");
+    if (fromProc != MemorySample.UNKNOWN) {
+      return fromProc;
+    }
+    return fromBean("getTotalPhysicalMemorySize");
+  }
+
+  @Override
+  public long available() {
+    final long fromProc = MemorySample.readKilobytes(MEMINFO, "MemAvailable:");
+    if (fromProc != MemorySample.UNKNOWN) {
+      return fromProc;
+    }
+    return fromBean("getFreePhysicalMemorySize");
+  }
+
+  private static long fromBean(final String property) {
+    final OperatingSystemMXBean os = ManagementFactory
+        .getOperatingSystemMXBean();
+    try {
+      final Method m = os.getClass().getMethod(property);
+      m.setAccessible(true);
+      return ((Number) m.invoke(os)).longValue();
+    } catch (final Exception e) {
+      return MemorySample.UNKNOWN;
+    }
+  }
+
+}
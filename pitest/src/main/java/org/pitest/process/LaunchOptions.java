@@ -19,12 +19,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.pitest.functional.Option;
+
 public class LaunchOptions {
 
   private final JavaAgent             javaAgentFinder;
   private final List<String>          childJVMArgs;
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
+  private final Option<MinionSizer>   sizer;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -34,20 +37,39 @@ public class LaunchOptions {
   public LaunchOptions(JavaAgent javaAgentFinder,
       JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
       Map<String, String> environmentVariables) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        Option.<MinionSizer> none());
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+      JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
+      Map<String, String> environmentVariables, Option<MinionSizer> sizer) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
+    this.sizer = sizer;
   }
 
   public JavaAgent getJavaAgentFinder() {
     return this.javaAgentFinder;
   }
 
+  /**
+   * Returns the args for the next minion, which include a maximum heap when
+   * minions are being sized automatically.
+   */
   public List<String> getChildJVMArgs() {
+    if (this.sizer.hasSome()) {
+      return this.sizer.value().jvmArgs(this.childJVMArgs);
+    }
     return this.childJVMArgs;
   }
 
+  public Option<MinionSizer> getMinionSizer() {
+    return this.sizer;
+  }
+
   public String getJavaExecutable() {
     return this.javaExecutable.javaExecutable();
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 Henry Coles
+ * Copyright 2016 Henry Coles
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -12,18 +12,16 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and limitations under the License.
  */
+package org.pitest.process;
 
-package org.pitest.testapi.foreignclassloader;
+public interface LaunchedMinion {
 
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.Description;
-import org.pitest.testapi.ResultCollector;
+  void destroy();
 
-public class Success implements SideEffect2<ResultCollector, Description> {
-
-  @Override
-  public void apply(final ResultCollector rc, final Description description) {
-    rc.notifyEnd(description);
-  }
+  /**
+   * Returns true if contact with the minion was lost before it completed, in
+   * which case any work it did not report should be run again elsewhere.
+   */
+  boolean isLost();
 
 }
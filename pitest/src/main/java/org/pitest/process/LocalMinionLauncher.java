@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.IOException;
+
+import org.pitest.functional.SideEffect;
+
+/**
+ * Launches minions as child processes of this jvm.
+ */
+public class LocalMinionLauncher implements MinionLauncher {
+
+  @Override
+  public LaunchedMinion launch(final int port, final ProcessArgs args,
+      final Class<?> minionClass, final SideEffect onLost) throws IOException {
+    final WrappingProcess process = new WrappingProcess(port, args,
+        minionClass);
+    process.start();
+    return new LaunchedMinion() {
+      @Override
+      public void destroy() {
+        process.destroy();
+      }
+
+      @Override
+      public boolean isLost() {
+        return false;
+      }
+    };
+  }
+
+}
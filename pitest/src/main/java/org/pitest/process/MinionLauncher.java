@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.IOException;
+
+import org.pitest.functional.SideEffect;
+
+/**
+ * Starts minions that will connect back to a socket opened by the parent
+ * process. Implementations may start them locally or elsewhere.
+ */
+public interface MinionLauncher {
+
+  /**
+   * Starts a minion that will connect to the supplied port.
+   *
+   * @param onLost
+   *          called if contact with the minion is lost before it completes,
+   *          e.g. because the machine running it has failed
+   */
+  LaunchedMinion launch(int port, ProcessArgs args, Class<?> minionClass,
+      SideEffect onLost) throws IOException;
+
+}
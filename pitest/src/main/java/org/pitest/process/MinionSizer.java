@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.functional.SideEffect1;
+import org.pitest.util.Log;
+import org.pitest.util.MemorySample;
+
+/**
+ * Sizes minions from the memory earlier minions reported using.
+ *
+ * Once the coverage minion has reported, later minions are given a maximum
+ * heap of twice the largest live heap reported by the last few minions, unless
+ * one was supplied in the jvm args. The heap therefore shrinks again once
+ * minions need less. A minion that runs out of memory doubles the heap given
+ * to the next, and the heap is not shrunk below that again.
+ *
+ * New mutation minions are only launched while the memory available on the
+ * machine, plus the footprint of the minions already running, leaves room for
+ * another minion's footprint. A minion's footprint is the largest resident set
+ * recently reported, or the maximum heap plus an allowance for the rest of
+ * the jvm where the resident set is not known. Concurrency therefore falls when other
+ * processes put the machine under memory pressure, but at least one minion is
+ * always allowed to run.
+ */
+public class MinionSizer {
+
+  private static final Logger            LOG           = Log.getLogger();
+
+  static final long                      MB            = 1024 * 1024;
+  static final long                      MIN_HEAP      = 64 * MB;
+  static final long                      NON_HEAP      = 128 * MB;
+  static final long                      RESERVED      = 512 * MB;
+  static final int                       HEAP_HEADROOM = 2;
+  static final int                       WINDOW        = 5;
+
+  private final PhysicalMemory           host;
+  private final int                      maxMinions;
+  private final boolean                  heapFixed;
+  private final LinkedList<MemorySample> recent        = new LinkedList<MemorySample>();
+
+  private long                           heap;
+  private long                           floor;
+  private int                            running;
+  private int                            lastLimit;
+
+  public MinionSizer(final PhysicalMemory host, final int maxMinions,
+      final List<String> jvmArgs) {
+    this.host = host;
+    this.maxMinions = Math.max(1, maxMinions);
+    this.heapFixed = setsMaxHeap(jvmArgs);
+    this.lastLimit = this.maxMinions;
+  }
+
+  private static boolean setsMaxHeap(final List<String> jvmArgs) {
+    for (final String each : jvmArgs) {
+      if (each.startsWith("-Xmx") || each.startsWith("-XX:MaxHeapSize")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the supplied args with a maximum heap appended once one can be
+   * chosen.
+   */
+  public synchronized List<String> jvmArgs(final List<String> userArgs) {
+    if (this.heapFixed || (this.heap == 0)) {
+      return userArgs;
+    }
+    final List<String> args = new ArrayList<String>(userArgs);
+    args.add("-Xmx" + (this.heap / MB) + "m");
+    return args;
+  }
+
+  public synchronized void record(final MemorySample sample) {
+    LOG.fine("Minion reported " + sample);
+    this.recent.addLast(sample);
+    if (this.recent.size() > WINDOW) {
+      this.recent.removeFirst();
+    }
+    final long wanted = Math.max(this.floor,
+        Math.max(MIN_HEAP, liveHeap() * HEAP_HEADROOM));
+    if (wanted != this.heap) {
+      setHeap(wanted);
+    }
+  }
+
+  public SideEffect1<MemorySample> recorder() {
+    return new SideEffect1<MemorySample>() {
+      @Override
+      public void apply(final MemorySample a) {
+        record(a);
+      }
+    };
+  }
+
+  /**
+   * Records that a minion exhausted its heap, so the next should be given
+   * more.
+   */
+  public synchronized void outOfMemory() {
+    if (this.heapFixed) {
+      return;
+    }
+    setHeap(Math.max(MIN_HEAP, this.heap) * 2);
+    this.floor = this.heap;
+  }
+
+  private void setHeap(final long wanted) {
+    final long total = this.host.total();
+    this.heap = total > 0 ? Math.min(wanted, total / 2) : wanted;
+    LOG.fine("Minions will be given a maximum heap of " + (this.heap / MB)
+        + " mb");
+  }
+
+  /**
+   * Blocks until the machine has room for another minion.
+   */
+  public synchronized void acquire() throws InterruptedException {
+    while (this.running >= limit()) {
+      wait(1000);
+    }
+    this.running++;
+  }
+
+  public synchronized void release() {
+    this.running--;
+    notifyAll();
+  }
+
+  synchronized int limit() {
+    final long footprint = footprint();
+    final long available = this.host.available();
+    if ((footprint == 0) || (available < 0)) {
+      return this.maxMinions;
+    }
+    final long room = (available + (this.running * footprint)) - RESERVED;
+    final int limit = (int) Math.max(1,
+        Math.min(this.maxMinions, room / footprint));
+    if (limit != this.lastLimit) {
+      LOG.info("Running up to " + limit + " minions of about "
+          + (footprint / MB) + " mb with " + (available / MB)
+          + " mb of memory available");
+      this.lastLimit = limit;
+    }
+    return limit;
+  }
+
+  private long footprint() {
+    final long resident = residentSet();
+    if (resident > 0) {
+      return resident;
+    }
+    final long live = liveHeap();
+    if (live == 0) {
+      return 0;
+    }
+    return Math.max(live, this.heap) + NON_HEAP;
+  }
+
+  private long liveHeap() {
+    long live = 0;
+    for (final MemorySample each : this.recent) {
+      live = Math.max(live, each.getLiveHeap());
+    }
+    return live;
+  }
+
+  private long residentSet() {
+    long resident = MemorySample.UNKNOWN;
+    for (final MemorySample each : this.recent) {
+      resident = Math.max(resident, each.getPeakResident());
+    }
+    return resident;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2010 Henry Coles
+ * Copyright 2016 Henry Coles
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -12,18 +12,20 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and limitations under the License.
  */
+package org.pitest.process;
 
-package org.pitest.testapi.foreignclassloader;
-
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.Description;
-import org.pitest.testapi.ResultCollector;
+/**
+ * The physical memory of the machine minions are launched on. Values are in
+ * bytes, or negative when they cannot be determined.
+ */
+public interface PhysicalMemory {
 
-public class Start implements SideEffect2<ResultCollector, Description> {
+  long total();
 
-  @Override
-  public void apply(final ResultCollector rc, final Description description) {
-    rc.notifyStart(description);
-  }
+  /**
+   * Memory that could be given to new processes without swapping, including
+   * memory currently used for reclaimable caches.
+   */
+  long available();
 
 }
@@ -7,7 +7,6 @@ import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -18,25 +17,39 @@ import org.pitest.functional.predicate.Predicate;
 
 public class WrappingProcess {
 
-  private final int         port;
-  private final ProcessArgs processArgs;
-  private final Class<?>    minionClass;
+  private final Option<String> host;
+  private final int            port;
+  private final ProcessArgs    processArgs;
+  private final String         minionClass;
 
-  private JavaProcess       process;
+  private JavaProcess          process;
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
+    this(Option.<String> none(), port, args, minionClass.getName());
+  }
+
+  /**
+   * Creates a process whose minion will connect to the supplied host rather
+   * than to localhost.
+   */
+  public WrappingProcess(Option<String> host, int port, ProcessArgs args,
+      String minionClass) {
+    this.host = host;
     this.port = port;
     this.processArgs = args;
     this.minionClass = minionClass;
   }
 
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
+    final List<String> args = new ArrayList<String>();
+    args.add("" + this.port);
+    for (String each : this.host) {
+      args.add(each);
+    }
 
     ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
-        this.minionClass, Arrays.asList(args),
-        this.processArgs.getJavaAgentFinder());
+        this.minionClass, args, this.processArgs.getJavaAgentFinder());
 
     configureProcessBuilder(processBuilder, this.processArgs.getWorkingDir(),
         this.processArgs.getLaunchClassPath(),
@@ -64,7 +77,7 @@ public class WrappingProcess {
   }
 
   private static ProcessBuilder createProcessBuilder(String javaProc,
-      List<String> args, Class<?> mainClass, List<String> programArgs,
+      List<String> args, String mainClass, List<String> programArgs,
       JavaAgent javaAgent) {
     List<String> cmd = createLaunchArgs(javaProc, javaAgent, args, mainClass,
         programArgs);
@@ -84,7 +97,7 @@ public class WrappingProcess {
   }
 
   private static List<String> createLaunchArgs(String javaProcess,
-      JavaAgent agentJarLocator, List<String> args, Class<?> mainClass,
+      JavaAgent agentJarLocator, List<String> args, String mainClass,
       List<String> programArgs) {
 
     List<String> cmd = new ArrayList<String>();
@@ -100,7 +113,7 @@ public class WrappingProcess {
     }
     cmd.addAll(args);
 
-    cmd.add(mainClass.getName());
+    cmd.add(mainClass);
     cmd.addAll(programArgs);
     return cmd;
   }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process.remote;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Class path artifacts held by a worker, stored by the hash of their content.
+ */
+class ArtifactCache {
+
+  private static final String HEX = "0123456789abcdef";
+
+  private final File          dir;
+
+  ArtifactCache(final File dir) {
+    this.dir = dir;
+    this.dir.mkdirs();
+  }
+
+  boolean contains(final String hash) {
+    return fileFor(hash).exists();
+  }
+
+  /**
+   * @throws PitError
+   *           if the hash, which is supplied by the coordinator, is not a
+   *           sha1 and so might name a file outside the cache
+   */
+  File fileFor(final String hash) {
+    checkHash(hash);
+    return new File(this.dir, hash + ".jar");
+  }
+
+  private static void checkHash(final String hash) {
+    if (hash.length() != 40) {
+      throw new PitError("Invalid artifact hash " + hash);
+    }
+    for (int i = 0; i != hash.length(); i++) {
+      if (HEX.indexOf(hash.charAt(i)) == -1) {
+        throw new PitError("Invalid artifact hash " + hash);
+      }
+    }
+  }
+
+  File getDirectory() {
+    return this.dir;
+  }
+
+  /**
+   * Reads the chunks written by {@link ClassPathArtifacts#send} and stores
+   * them if their content matches the expected hash.
+   */
+  void store(final String hash, final SafeDataInputStream in) {
+    final File target = fileFor(hash);
+    try {
+      final File temp = File.createTempFile(hash, ".part", this.dir);
+      final OutputStream out = new FileOutputStream(temp);
+      try {
+        byte[] chunk = in.readBytes();
+        while (chunk.length != 0) {
+          out.write(chunk);
+          chunk = in.readBytes();
+        }
+      } finally {
+        out.close();
+      }
+
+      if (!hash.equals(ClassPathArtifacts.sha1(temp))) {
+        temp.delete();
+        throw new PitError("Content of artifact did not match hash " + hash);
+      }
+      // another lease may have stored the same artifact in the meantime
+      if (!temp.renameTo(target)) {
+        temp.delete();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
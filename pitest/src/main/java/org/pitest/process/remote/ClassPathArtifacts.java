@@ -0,0 +1,191 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process.remote;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Identifies the jars and directories on a class path by a hash of their
+ * content, so that a worker need only be sent those it has not seen before.
+ *
+ * Directories are packed into jars with fixed timestamps so that unchanged
+ * directories hash identically from one run to the next.
+ */
+class ClassPathArtifacts {
+
+  static final int                CHUNK_SIZE  = 64 * 1024;
+
+  private final Map<String, String> hashByPath = new HashMap<String, String>();
+  private final Map<String, File>   fileByHash = new HashMap<String, File>();
+
+  synchronized List<String> hashesFor(final String classPath) {
+    final List<String> hashes = new ArrayList<String>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File file = new File(each);
+      if (file.exists()) {
+        hashes.add(hashFor(file));
+      }
+    }
+    return hashes;
+  }
+
+  synchronized String hashFor(final File file) {
+    final String path = file.getAbsolutePath();
+    String hash = this.hashByPath.get(path);
+    if (hash == null) {
+      final File artifact = file.isDirectory() ? pack(file) : file;
+      hash = sha1(artifact);
+      this.hashByPath.put(path, hash);
+      this.fileByHash.put(hash, artifact);
+    }
+    return hash;
+  }
+
+  /**
+   * Writes the artifact with the supplied hash as a series of chunks
+   * terminated by an empty one.
+   */
+  void send(final String hash, final SafeDataOutputStream out)
+      throws IOException {
+    final File file = fileFor(hash);
+    final byte[] buffer = new byte[CHUNK_SIZE];
+    final InputStream in = new FileInputStream(file);
+    try {
+      int read = in.read(buffer);
+      while (read != -1) {
+        out.writeBytes(buffer, read);
+        read = in.read(buffer);
+      }
+      out.writeBytes(buffer, 0);
+    } finally {
+      in.close();
+    }
+  }
+
+  private synchronized File fileFor(final String hash) {
+    final File file = this.fileByHash.get(hash);
+    if (file == null) {
+      throw new PitError("Worker requested unknown artifact " + hash);
+    }
+    return file;
+  }
+
+  static String sha1(final File file) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      final byte[] buffer = new byte[CHUNK_SIZE];
+      final InputStream in = new FileInputStream(file);
+      try {
+        int read = in.read(buffer);
+        while (read != -1) {
+          digest.update(buffer, 0, read);
+          read = in.read(buffer);
+        }
+      } finally {
+        in.close();
+      }
+      return toHex(digest.digest());
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static String toHex(final byte[] bytes) {
+    final StringBuilder sb = new StringBuilder();
+    for (final byte each : bytes) {
+      sb.append(Integer.toHexString((each & 0xff) | 0x100).substring(1));
+    }
+    return sb.toString();
+  }
+
+  private static File pack(final File dir) {
+    try {
+      final File jar = File.createTempFile("pit-classpath", ".jar");
+      jar.deleteOnExit();
+      final JarOutputStream out = new JarOutputStream(new FileOutputStream(
+          jar));
+      try {
+        addEntries(out, dir, "");
+      } finally {
+        out.close();
+      }
+      return jar;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void addEntries(final JarOutputStream out, final File dir,
+      final String prefix) throws IOException {
+    final File[] children = dir.listFiles();
+    if (children == null) {
+      return;
+    }
+    Arrays.sort(children);
+    for (final File each : children) {
+      if (each.isDirectory()) {
+        out.putNextEntry(entry(prefix + each.getName() + "/"));
+        out.closeEntry();
+        addEntries(out, each, prefix + each.getName() + "/");
+      } else {
+        out.putNextEntry(entry(prefix + each.getName()));
+        copy(each, out);
+        out.closeEntry();
+      }
+    }
+  }
+
+  private static ZipEntry entry(final String name) {
+    final ZipEntry entry = new ZipEntry(name);
+    entry.setTime(0);
+    return entry;
+  }
+
+  private static void copy(final File file, final OutputStream out)
+      throws IOException {
+    final byte[] buffer = new byte[CHUNK_SIZE];
+    final InputStream in = new FileInputStream(file);
+    try {
+      int read = in.read(buffer);
+      while (read != -1) {
+        out.write(buffer, 0, read);
+        read = in.read(buffer);
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+}
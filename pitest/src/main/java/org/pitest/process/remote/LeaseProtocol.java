@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process.remote;
+
+import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Constants shared by the coordinator and worker ends of a lease.
+ *
+ * A lease opens with the worker sending a random nonce, to which the
+ * coordinator must reply with an HMAC of the nonce keyed by the token the two
+ * share. The token itself is never sent.
+ *
+ * Once a worker has launched a minion it sends a heartbeat at a fixed
+ * interval until the minion exits, and the coordinator treats the worker as
+ * lost if it hears nothing for several intervals.
+ */
+abstract class LeaseProtocol {
+
+  static final byte           HEARTBEAT          = 1;
+  static final byte           DONE               = 2;
+
+  static final int            HEARTBEAT_INTERVAL = 5000;
+  static final int            LEASE_TIMEOUT      = 6 * HEARTBEAT_INTERVAL;
+  static final int            CONNECT_TIMEOUT    = 10000;
+
+  static final int            NONCE_LENGTH       = 16;
+  static final int            PROOF_LENGTH       = 32;
+
+  private static final String MAC                = "HmacSHA256";
+
+  static byte[] proof(final String token, final byte[] nonce) {
+    try {
+      final Mac mac = Mac.getInstance(MAC);
+      mac.init(new SecretKeySpec(token.getBytes("UTF-8"), MAC));
+      return mac.doFinal(nonce);
+    } catch (final GeneralSecurityException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final UnsupportedEncodingException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * Writes bytes without a length, so the reader need not trust one sent by
+   * an unauthenticated peer.
+   */
+  static void writeFixed(final SafeDataOutputStream out, final byte[] bytes) {
+    for (final byte each : bytes) {
+      out.writeByte(each);
+    }
+  }
+
+  static byte[] readFixed(final SafeDataInputStream in, final int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i != length; i++) {
+      bytes[i] = in.readByte();
+    }
+    return bytes;
+  }
+
+}
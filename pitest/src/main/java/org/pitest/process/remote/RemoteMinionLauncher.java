@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.process.LaunchedMinion;
+import org.pitest.process.LocalMinionLauncher;
+import org.pitest.process.MinionLauncher;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Leases minions to {@link WorkerAgent}s listening on other ports or
+ * machines. Each lease goes to the live worker with the fewest leases
+ * outstanding.
+ *
+ * Each lease opens by proving to the worker that this jvm holds the token the
+ * worker was started with. The worker is then sent the hashes of the class path artifacts the minion needs
+ * and fetches any it does not hold, then launches the minion which connects
+ * back to this jvm exactly as a local one would. A worker that cannot be
+ * reached, or that stops sending heartbeats, is not leased to again. If no
+ * workers remain minions are launched locally.
+ */
+public class RemoteMinionLauncher implements MinionLauncher {
+
+  private static final Logger      LOG       = Log.getLogger();
+
+  private final List<Worker>       workers   = new ArrayList<Worker>();
+  private final ClassPathArtifacts artifacts = new ClassPathArtifacts();
+  private final String             token;
+  private final MinionLauncher     fallback;
+
+  public RemoteMinionLauncher(final Collection<String> addresses,
+      final String token) {
+    this(addresses, token, new LocalMinionLauncher());
+  }
+
+  RemoteMinionLauncher(final Collection<String> addresses,
+      final String token, final MinionLauncher fallback) {
+    for (final String each : addresses) {
+      this.workers.add(new Worker(parseAddress(each)));
+    }
+    this.token = token;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public LaunchedMinion launch(final int port, final ProcessArgs args,
+      final Class<?> minionClass, final SideEffect onLost) throws IOException {
+    Option<Worker> worker = nextWorker();
+    while (worker.hasSome()) {
+      try {
+        return lease(worker.value(), port, args, minionClass, onLost);
+      } catch (final IOException e) {
+        workerFailed(worker.value(), e);
+      } catch (final RuntimeException e) {
+        workerFailed(worker.value(), e);
+      }
+      worker = nextWorker();
+    }
+    return this.fallback.launch(port, args, minionClass, onLost);
+  }
+
+  private synchronized Option<Worker> nextWorker() {
+    Worker best = null;
+    for (final Worker each : this.workers) {
+      if (each.alive && ((best == null) || (each.leases < best.leases))) {
+        best = each;
+      }
+    }
+    if (best != null) {
+      best.leases++;
+    }
+    return Option.some(best);
+  }
+
+  private synchronized void release(final Worker worker) {
+    worker.leases--;
+  }
+
+  private void workerFailed(final Worker worker, final Exception e) {
+    synchronized (this) {
+      if (!worker.alive) {
+        return;
+      }
+      worker.alive = false;
+    }
+    LOG.log(Level.WARNING, "Lost worker at " + worker.address
+        + ", it will not be used again", e);
+  }
+
+  private Lease lease(final Worker worker, final int port,
+      final ProcessArgs args, final Class<?> minionClass,
+      final SideEffect onLost) throws IOException {
+    final Socket socket = new Socket();
+    try {
+      socket.connect(worker.address, LeaseProtocol.CONNECT_TIMEOUT);
+      socket.setSoTimeout(LeaseProtocol.LEASE_TIMEOUT);
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          new BufferedOutputStream(socket.getOutputStream()));
+      final SafeDataInputStream in = new SafeDataInputStream(
+          new BufferedInputStream(socket.getInputStream()));
+
+      final byte[] nonce = LeaseProtocol.readFixed(in,
+          LeaseProtocol.NONCE_LENGTH);
+      LeaseProtocol.writeFixed(out, LeaseProtocol.proof(this.token, nonce));
+
+      out.writeString(minionClass.getName());
+      // the address the worker reached us on is one its minion can use
+      out.writeString(socket.getLocalAddress().getHostAddress());
+      out.writeInt(port);
+      writeStrings(out, args.getJvmArgs());
+      writeEnvironment(out, args.getEnvironmentVariables());
+      writeStrings(out, agentHashes(args));
+      writeStrings(out, this.artifacts.hashesFor(args.getLaunchClassPath()));
+      out.flush();
+
+      final int missing = in.readInt();
+      for (int i = 0; i != missing; i++) {
+        this.artifacts.send(in.readString(), out);
+      }
+      out.flush();
+
+      final Lease lease = new Lease(worker, socket, in, onLost);
+      lease.monitor();
+      return lease;
+    } catch (final IOException e) {
+      release(worker);
+      socket.close();
+      throw e;
+    } catch (final RuntimeException e) {
+      release(worker);
+      socket.close();
+      throw e;
+    }
+  }
+
+  private List<String> agentHashes(final ProcessArgs args) {
+    final List<String> hashes = new ArrayList<String>();
+    for (final String each : args.getJavaAgentFinder().getJarLocation()) {
+      hashes.add(this.artifacts.hashFor(new File(each)));
+    }
+    return hashes;
+  }
+
+  private static void writeStrings(final SafeDataOutputStream out,
+      final List<String> values) {
+    out.writeInt(values.size());
+    for (final String each : values) {
+      out.writeString(each);
+    }
+  }
+
+  private static void writeEnvironment(final SafeDataOutputStream out,
+      final Map<String, String> environment) {
+    out.writeInt(environment.size());
+    for (final Map.Entry<String, String> each : environment.entrySet()) {
+      out.writeString(each.getKey());
+      out.writeString(each.getValue());
+    }
+  }
+
+  static InetSocketAddress parseAddress(final String address) {
+    final int colon = address.lastIndexOf(':');
+    if (colon <= 0) {
+      throw new PitError("Worker address " + address
+          + " should be of the form host:port");
+    }
+    return new InetSocketAddress(address.substring(0, colon),
+        Integer.parseInt(address.substring(colon + 1)));
+  }
+
+  private static class Worker {
+    private final InetSocketAddress address;
+    private boolean                 alive = true;
+    private int                     leases;
+
+    Worker(final InetSocketAddress address) {
+      this.address = address;
+    }
+  }
+
+  private class Lease implements LaunchedMinion {
+
+    private final Worker              worker;
+    private final Socket              socket;
+    private final SafeDataInputStream in;
+    private final SideEffect          onLost;
+
+    private volatile boolean          finished;
+    private volatile boolean          lost;
+
+    Lease(final Worker worker, final Socket socket,
+        final SafeDataInputStream in, final SideEffect onLost) {
+      this.worker = worker;
+      this.socket = socket;
+      this.in = in;
+      this.onLost = onLost;
+    }
+
+    void monitor() {
+      final Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          watchHeartbeats();
+        }
+      });
+      thread.setDaemon(true);
+      thread.setName("pit lease " + this.worker.address);
+      thread.start();
+    }
+
+    private void watchHeartbeats() {
+      try {
+        byte control = this.in.readByte();
+        while (control == LeaseProtocol.HEARTBEAT) {
+          control = this.in.readByte();
+        }
+        LOG.fine("Minion on " + this.worker.address + " exited with "
+            + this.in.readInt());
+        this.finished = true;
+      } catch (final RuntimeException e) {
+        if (!this.finished) {
+          this.lost = true;
+          workerFailed(this.worker, e);
+          this.onLost.apply();
+        }
+      } finally {
+        release(this.worker);
+      }
+    }
+
+    @Override
+    public void destroy() {
+      this.finished = true;
+      try {
+        this.socket.close();
+      } catch (final IOException e) {
+        LOG.log(Level.FINE, "Could not close lease", e);
+      }
+    }
+
+    @Override
+    public boolean isLost() {
+      return this.lost;
+    }
+
+  }
+
+}
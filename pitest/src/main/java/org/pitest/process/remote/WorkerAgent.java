@@ -0,0 +1,348 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.functional.prelude.Prelude;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Accepts leases from a {@link RemoteMinionLauncher} and launches the
+ * requested minions on this machine.
+ *
+ * Usage: WorkerAgent [bind address:]port [cache directory]
+ *
+ * The agent listens on the loopback interface unless given an address to bind
+ * to, and only accepts leases from coordinators that prove they hold the token
+ * in the PIT_WORKER_TOKEN environment variable.
+ *
+ * Several agents may be run on one machine by giving each a different port.
+ */
+public class WorkerAgent {
+
+  /**
+   * Environment variable holding the token shared by the agents and the
+   * coordinators allowed to lease from them
+   */
+  public static final String  TOKEN_VARIABLE = "PIT_WORKER_TOKEN";
+
+  private static final Logger LOG            = Log.getLogger();
+
+  private final ServerSocket  socket;
+  private final ArtifactCache cache;
+  private final String        token;
+  private final SecureRandom  random         = new SecureRandom();
+  private final Set<Socket>   leases         = new LinkedHashSet<Socket>();
+  private volatile boolean    stopped        = false;
+
+  public WorkerAgent(final ServerSocket socket, final File cacheDir,
+      final String token) {
+    this.socket = socket;
+    this.cache = new ArtifactCache(cacheDir);
+    this.token = token;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final String token = System.getenv(TOKEN_VARIABLE);
+    if ((token == null) || (token.length() == 0)) {
+      throw new PitError("The " + TOKEN_VARIABLE
+          + " environment variable must hold the token shared with the coordinator");
+    }
+    final InetSocketAddress address = bindAddress(args[0]);
+    final File cacheDir = args.length > 1 ? new File(args[1]) : new File(
+        System.getProperty("java.io.tmpdir"), "pit-worker-cache");
+    final WorkerAgent agent = new WorkerAgent(new ServerSocket(
+        address.getPort(), 0, address.getAddress()), cacheDir, token);
+    LOG.info("Worker listening on " + address + " caching class path in "
+        + cacheDir);
+    agent.run();
+  }
+
+  static InetSocketAddress bindAddress(final String arg) throws IOException {
+    if (arg.indexOf(':') == -1) {
+      // the loopback address
+      return new InetSocketAddress(InetAddress.getByName(null),
+          Integer.parseInt(arg));
+    }
+    return RemoteMinionLauncher.parseAddress(arg);
+  }
+
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  public void start() {
+    final Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        WorkerAgent.this.run();
+      }
+    });
+    thread.setDaemon(true);
+    thread.setName("pit worker " + getPort());
+    thread.start();
+  }
+
+  /**
+   * Stops accepting leases and drops those in progress, as would happen if
+   * the worker died.
+   */
+  public void stop() {
+    this.stopped = true;
+    closeQuietly(this.socket);
+    synchronized (this.leases) {
+      for (final Socket each : this.leases) {
+        closeQuietly(each);
+      }
+    }
+  }
+
+  private void run() {
+    while (!this.stopped) {
+      try {
+        final Socket lease = this.socket.accept();
+        synchronized (this.leases) {
+          this.leases.add(lease);
+        }
+        final Thread thread = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            handleLease(lease);
+          }
+        });
+        thread.setDaemon(true);
+        thread.setName("pit worker lease");
+        thread.start();
+      } catch (final IOException e) {
+        if (!this.stopped) {
+          LOG.log(Level.WARNING, "Could not accept lease", e);
+        }
+      }
+    }
+  }
+
+  private void handleLease(final Socket lease) {
+    WrappingProcess process = null;
+    try {
+      final SafeDataInputStream in = new SafeDataInputStream(
+          new BufferedInputStream(lease.getInputStream()));
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          new BufferedOutputStream(lease.getOutputStream()));
+
+      lease.setSoTimeout(LeaseProtocol.CONNECT_TIMEOUT);
+      if (!authenticate(in, out)) {
+        LOG.warning("Rejected lease from " + lease.getRemoteSocketAddress()
+            + " as it did not hold the worker token");
+        return;
+      }
+      lease.setSoTimeout(0);
+
+      final String minionClass = in.readString();
+      final String host = in.readString();
+      final int port = in.readInt();
+      final List<String> jvmArgs = readStrings(in);
+      final Map<String, String> environment = readEnvironment(in);
+      final List<String> agent = readStrings(in);
+      final List<String> classPath = readStrings(in);
+
+      fetchMissingArtifacts(in, out, agent, classPath);
+
+      process = new WrappingProcess(Option.some(host), port, processArgs(
+          agent, classPath, jvmArgs, environment), minionClass);
+      process.start();
+      LOG.fine("Launched minion for " + host + ":" + port);
+
+      sendHeartbeats(process, out);
+
+      // the coordinator closes the lease once it has its results
+      in.readByte();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Lease ended", e);
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Lease ended", e);
+    } finally {
+      if (process != null) {
+        process.destroy();
+      }
+      synchronized (this.leases) {
+        this.leases.remove(lease);
+      }
+      closeQuietly(lease);
+    }
+  }
+
+  private boolean authenticate(final SafeDataInputStream in,
+      final SafeDataOutputStream out) {
+    final byte[] nonce = new byte[LeaseProtocol.NONCE_LENGTH];
+    this.random.nextBytes(nonce);
+    LeaseProtocol.writeFixed(out, nonce);
+    out.flush();
+    final byte[] proof = LeaseProtocol.readFixed(in,
+        LeaseProtocol.PROOF_LENGTH);
+    return MessageDigest.isEqual(proof,
+        LeaseProtocol.proof(this.token, nonce));
+  }
+
+  private void fetchMissingArtifacts(final SafeDataInputStream in,
+      final SafeDataOutputStream out, final List<String> agent,
+      final List<String> classPath) {
+    final Set<String> missing = new LinkedHashSet<String>();
+    for (final String each : agent) {
+      addIfMissing(each, missing);
+    }
+    for (final String each : classPath) {
+      addIfMissing(each, missing);
+    }
+
+    out.writeInt(missing.size());
+    for (final String each : missing) {
+      out.writeString(each);
+    }
+    out.flush();
+
+    for (final String each : missing) {
+      this.cache.store(each, in);
+    }
+  }
+
+  private void addIfMissing(final String hash, final Set<String> missing) {
+    if (!this.cache.contains(hash)) {
+      missing.add(hash);
+    }
+  }
+
+  private ProcessArgs processArgs(final List<String> agent,
+      final List<String> classPath, final List<String> jvmArgs,
+      final Map<String, String> environment) {
+    final StringBuilder cp = new StringBuilder();
+    for (final String each : classPath) {
+      if (cp.length() != 0) {
+        cp.append(File.pathSeparator);
+      }
+      cp.append(this.cache.fileFor(each).getAbsolutePath());
+    }
+
+    final LaunchOptions options = new LaunchOptions(agentFor(agent),
+        new DefaultJavaExecutableLocator(), jvmArgs, environment);
+    return ProcessArgs.withClassPath(cp.toString())
+        .andLaunchOptions(options).andBaseDir(this.cache.getDirectory())
+        .andStdout(Prelude.noSideEffect(String.class))
+        .andStderr(Prelude.printWith("minion stderr "));
+  }
+
+  private JavaAgent agentFor(final List<String> agent) {
+    final Option<String> location = agent.isEmpty() ? Option.<String> none()
+        : Option.some(this.cache.fileFor(agent.get(0)).getAbsolutePath());
+    return new JavaAgent() {
+      @Override
+      public Option<String> getJarLocation() {
+        return location;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  private static void sendHeartbeats(final WrappingProcess process,
+      final SafeDataOutputStream out) {
+    final Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          while (process.getProcess().isAlive()) {
+            out.writeByte(LeaseProtocol.HEARTBEAT);
+            out.flush();
+            Thread.sleep(LeaseProtocol.HEARTBEAT_INTERVAL);
+          }
+          out.writeByte(LeaseProtocol.DONE);
+          out.writeInt(process.getProcess().waitToDie());
+          out.flush();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+          LOG.log(Level.FINE, "Could not send heartbeat", e);
+        }
+      }
+    });
+    thread.setDaemon(true);
+    thread.setName("pit worker heartbeat");
+    thread.start();
+  }
+
+  private static List<String> readStrings(final SafeDataInputStream in) {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<String>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(in.readString());
+    }
+    return values;
+  }
+
+  private static Map<String, String> readEnvironment(
+      final SafeDataInputStream in) {
+    final int size = in.readInt();
+    final Map<String, String> environment = new HashMap<String, String>();
+    for (int i = 0; i != size; i++) {
+      environment.put(in.readString(), in.readString());
+    }
+    return environment;
+  }
+
+  private static void closeQuietly(final Socket socket) {
+    try {
+      socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close socket", e);
+    }
+  }
+
+  private static void closeQuietly(final ServerSocket socket) {
+    try {
+      socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close socket", e);
+    }
+  }
+
+}
@@ -5,24 +5,59 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
+import org.pitest.util.Unchecked;
 
 /**
  * Scans classes to discover TestUnits
  *
+ * Classes may be scanned on several threads as constructing the test
+ * framework's runners can dominate start up time for large suites. As this
+ * runs the static initialisers of test classes and any custom runner builders
+ * concurrently, classes are scanned on the calling thread unless more threads
+ * are asked for. Test units are returned in the order of the supplied classes
+ * regardless.
  */
 public class FindTestUnits {
 
+  private static final int    MIN_CLASSES_PER_THREAD = 8;
+
   private final Configuration config;
+  private final int           threads;
 
   public FindTestUnits(final Configuration config) {
+    this(config, 1);
+  }
+
+  public FindTestUnits(final Configuration config, final int threads) {
     this.config = config;
+    this.threads = threads;
   }
 
   public List<TestUnit> findTestUnitsForAllSuppliedClasses(
       final Iterable<Class<?>> classes) {
+    final List<Class<?>> cs = new ArrayList<Class<?>>();
+    for (final Class<?> c : classes) {
+      cs.add(c);
+    }
+
+    final int usable = Math.min(this.threads, cs.size()
+        / MIN_CLASSES_PER_THREAD);
+    if (usable <= 1) {
+      return findSerially(cs);
+    }
+    return findInParallel(cs, usable);
+  }
+
+  private List<TestUnit> findSerially(final List<Class<?>> classes) {
     final List<TestUnit> testUnits = new ArrayList<TestUnit>();
 
     for (final Class<?> c : classes) {
@@ -31,7 +66,57 @@ public class FindTestUnits {
     }
 
     return testUnits;
+  }
 
+  private List<TestUnit> findInParallel(final List<Class<?>> classes,
+      final int numberOfThreads) {
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        numberOfThreads, discoveryThreads(Thread.currentThread()
+            .getContextClassLoader()));
+    try {
+      final List<Future<Collection<TestUnit>>> results = new ArrayList<Future<Collection<TestUnit>>>(
+          classes.size());
+      for (final Class<?> c : classes) {
+        results.add(executor.submit(discover(c)));
+      }
+
+      final List<TestUnit> testUnits = new ArrayList<TestUnit>();
+      for (final Future<Collection<TestUnit>> each : results) {
+        testUnits.addAll(each.get());
+      }
+      return testUnits;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Callable<Collection<TestUnit>> discover(final Class<?> clazz) {
+    return new Callable<Collection<TestUnit>>() {
+      @Override
+      public Collection<TestUnit> call() {
+        return getTestUnits(clazz);
+      }
+    };
+  }
+
+  // finders may look classes up through the context loader
+  private static ThreadFactory discoveryThreads(final ClassLoader loader) {
+    return new ThreadFactory() {
+      private int count;
+
+      @Override
+      public synchronized Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "pit-test-discovery-" + this.count++);
+        t.setDaemon(true);
+        t.setContextClassLoader(loader);
+        return t;
+      }
+    };
   }
 
   private Collection<TestUnit> getTestUnits(final Class<?> suiteClass) {
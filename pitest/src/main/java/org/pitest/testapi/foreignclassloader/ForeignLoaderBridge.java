@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.testapi.foreignclassloader;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.Unchecked;
+
+/**
+ * Runs tests in a class loader that has its own copies of the pitest and test
+ * framework classes without serialising anything across the boundary.
+ *
+ * The executor is constructed within the foreign loader from arguments that
+ * are either boot loader types or objects already belonging to that loader,
+ * and reports back through a proxy of the foreign loader's ResultSink.
+ */
+public final class ForeignLoaderBridge {
+
+  private ForeignLoaderBridge() {
+  }
+
+  /**
+   * @return an implementation of the loader's own copy of ResultSink that
+   *         reports to the given collector
+   */
+  public static Object createSink(final ClassLoader loader,
+      final ResultCollector rc, final Description description) {
+    final Class<?> sink = IsolationUtils.convertForClassLoader(loader,
+        ResultSink.class);
+    return Proxy.newProxyInstance(loader, new Class<?>[] { sink },
+        new CollectorHandler(rc, description));
+  }
+
+  /**
+   * Creates the loader's copy of the given executor class using its only
+   * constructor.
+   */
+  public static Callable<?> createExecutor(final ClassLoader loader,
+      final Class<? extends Callable<?>> executor, final Object... args) {
+    final Constructor<?> c = IsolationUtils.convertForClassLoader(loader,
+        executor).getConstructors()[0];
+    try {
+      return (Callable<?>) c.newInstance(args);
+    } catch (final Exception ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private static class CollectorHandler implements InvocationHandler,
+      ResultSink {
+
+    private final ResultCollector rc;
+    private final Description     description;
+
+    CollectorHandler(final ResultCollector rc, final Description description) {
+      this.rc = rc;
+      this.description = description;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method,
+        final Object[] args) throws Throwable {
+      // the foreign ResultSink has the same signature as ours
+      final Method target = method.getDeclaringClass() == Object.class ? method
+          : ResultSink.class.getMethod(method.getName(),
+              method.getParameterTypes());
+      try {
+        return target.invoke(this, args);
+      } catch (final InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+
+    @Override
+    public void start(final String test) {
+      this.rc.notifyStart(describe(test));
+    }
+
+    @Override
+    public void end(final String test, final Throwable error) {
+      if (error == null) {
+        this.rc.notifyEnd(describe(test));
+      } else {
+        this.rc.notifyEnd(describe(test), error);
+      }
+    }
+
+    @Override
+    public void skipped(final String test) {
+      this.rc.notifySkipped(describe(test));
+    }
+
+    private Description describe(final String test) {
+      if (test == null) {
+        return this.description;
+      }
+      return new Description(test, this.description.getFirstTestClass());
+    }
+
+  }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.testapi.foreignclassloader;
+
+/**
+ * Receives the results of tests run within a foreign class loader.
+ *
+ * Only classes from the boot loader appear in the signature, so the foreign
+ * loader's copy of this interface can be implemented by a proxy that forwards
+ * directly to a ResultCollector in the calling loader.
+ *
+ * A null test name refers to the test unit as a whole.
+ */
+public interface ResultSink {
+
+  void start(String test);
+
+  /**
+   * @param error
+   *          the failure, or null if the test passed
+   */
+  void end(String test, Throwable error);
+
+  void skipped(String test);
+
+}
@@ -1,14 +1,6 @@
 package org.pitest.testng;
 
-import java.util.List;
-
-import org.pitest.functional.SideEffect2;
-import org.pitest.testapi.Description;
-import org.pitest.testapi.ResultCollector;
-import org.pitest.testapi.foreignclassloader.Fail;
-import org.pitest.testapi.foreignclassloader.Start;
-import org.pitest.testapi.foreignclassloader.Success;
-import org.pitest.util.IsolationUtils;
+import org.pitest.testapi.foreignclassloader.ResultSink;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -16,43 +8,46 @@ import org.testng.SkipException;
 
 public class ForeignClassLoaderAdaptingListener implements ITestListener {
 
-  private final List<String> events;
-  private Throwable          error;
-  private boolean            hasHadFailure = false;
+  private final ResultSink sink;
+  private final boolean    reportClass;
+  private Throwable        error;
+  private boolean          hasHadFailure = false;
 
-  public ForeignClassLoaderAdaptingListener(List<String> events) {
-    this.events = events;
+  public ForeignClassLoaderAdaptingListener(ResultSink sink,
+      boolean reportClass) {
+    this.sink = sink;
+    this.reportClass = reportClass;
   }
 
   @Override
   public void onFinish(ITestContext arg0) {
-    if (this.error != null) {
-      storeAsString(new Fail(this.error));
-    } else {
-      storeAsString(new Success());
+    if (this.reportClass) {
+      this.sink.end(null, this.error);
     }
   }
 
   @Override
   public void onStart(ITestContext arg0) {
-    storeAsString(new Start());
+    if (this.reportClass) {
+      this.sink.start(null);
+    }
   }
 
   @Override
   public void onTestFailedButWithinSuccessPercentage(ITestResult arg0) {
-    storeAsString(new TestSuccess(arg0.getMethod().getMethodName()));
+    this.sink.end(arg0.getMethod().getMethodName(), null);
   }
 
   @Override
   public void onTestFailure(ITestResult arg0) {
     this.hasHadFailure = true;
     this.error = arg0.getThrowable();
-    storeAsString(new TestFail(arg0.getMethod().getMethodName(), this.error));
+    this.sink.end(arg0.getMethod().getMethodName(), this.error);
   }
 
   @Override
   public void onTestSkipped(ITestResult arg0) {
-    storeAsString(new TestSkipped(arg0.getMethod().getMethodName()));
+    this.sink.skipped(arg0.getMethod().getMethodName());
   }
 
   @Override
@@ -60,76 +55,12 @@ public class ForeignClassLoaderAdaptingListener implements ITestListener {
     if (this.hasHadFailure) {
       throw new SkipException("skipping");
     }
-    storeAsString(new TestStart(result.getMethod().getMethodName()));
+    this.sink.start(result.getMethod().getMethodName());
   }
 
   @Override
   public void onTestSuccess(ITestResult arg0) {
-    storeAsString(new TestSuccess(arg0.getMethod().getMethodName()));
-  }
-
-  private void storeAsString(
-      final SideEffect2<ResultCollector, org.pitest.testapi.Description> result) {
-    this.events.add(IsolationUtils.toXml(result));
-  }
-
-}
-
-class TestStart implements
-    SideEffect2<ResultCollector, org.pitest.testapi.Description> {
-  private final String methodName;
-
-  TestStart(String methodName) {
-    this.methodName = methodName;
+    this.sink.end(arg0.getMethod().getMethodName(), null);
   }
 
-  @Override
-  public void apply(ResultCollector rc, Description d) {
-    rc.notifyStart(new Description(this.methodName, d.getFirstTestClass()));
-  }
 }
-
-class TestSuccess implements
-    SideEffect2<ResultCollector, org.pitest.testapi.Description> {
-  private final String methodName;
-
-  TestSuccess(String methodName) {
-    this.methodName = methodName;
-  }
-
-  @Override
-  public void apply(ResultCollector rc, Description d) {
-    rc.notifyEnd(new Description(this.methodName, d.getFirstTestClass()));
-  }
-}
-
-class TestFail implements
-    SideEffect2<ResultCollector, org.pitest.testapi.Description> {
-  private final String    methodName;
-  private final Throwable throwable;
-
-  TestFail(String methodName, Throwable throwable) {
-    this.methodName = methodName;
-    this.throwable = throwable;
-  }
-
-  @Override
-  public void apply(ResultCollector rc, Description d) {
-    rc.notifyEnd(new Description(this.methodName, d.getFirstTestClass()),
-        this.throwable);
-  }
-}
-
-class TestSkipped implements
-    SideEffect2<ResultCollector, org.pitest.testapi.Description> {
-  private final String methodName;
-
-  TestSkipped(String methodName) {
-    this.methodName = methodName;
-  }
-
-  @Override
-  public void apply(ResultCollector rc, Description d) {
-    rc.notifySkipped(new Description(this.methodName, d.getFirstTestClass()));
-  }
-}
\ No newline at end of file
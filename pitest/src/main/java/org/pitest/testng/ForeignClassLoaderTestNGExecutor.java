@@ -1,34 +1,44 @@
 package org.pitest.testng;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 
+import org.pitest.testapi.foreignclassloader.ResultSink;
 import org.testng.ITestListener;
 import org.testng.TestNG;
 import org.testng.xml.XmlSuite;
 
-public class ForeignClassLoaderTestNGExecutor implements Callable<List<String>> {
-
-  private final XmlSuite suite;
-
-  public ForeignClassLoaderTestNGExecutor(XmlSuite suite) {
-    this.suite = suite;
+public class ForeignClassLoaderTestNGExecutor implements Callable<Void> {
+
+  private final String       testClass;
+  private final List<String> excludedGroups;
+  private final List<String> includedGroups;
+  private final List<String> methods;
+  private final ResultSink   sink;
+
+  public ForeignClassLoaderTestNGExecutor(final String testClass,
+      final List<String> excludedGroups, final List<String> includedGroups,
+      final List<String> methods, final ResultSink sink) {
+    this.testClass = testClass;
+    this.excludedGroups = excludedGroups;
+    this.includedGroups = includedGroups;
+    this.methods = methods;
+    this.sink = sink;
   }
 
   @Override
-  public List<String> call() throws Exception {
-    List<String> queue = new ArrayList<String>();
-    final ITestListener listener = new ForeignClassLoaderAdaptingListener(queue);
+  public Void call() throws Exception {
+    final XmlSuite suite = new TestNGClassSuite(this.testClass,
+        this.excludedGroups, this.includedGroups).including(this.methods);
+    final ITestListener listener = new ForeignClassLoaderAdaptingListener(
+        this.sink, this.methods.isEmpty());
     final TestNG testng = new TestNG(false);
-    testng.setDefaultSuiteName(this.suite.getName());
-    testng.setXmlSuites(Collections.singletonList(this.suite));
-
+    testng.setDefaultSuiteName(suite.getName());
+    testng.setXmlSuites(Collections.singletonList(suite));
     testng.addListener(listener);
     testng.run();
-
-    return queue;
+    return null;
   }
 
 }
@@ -26,18 +26,34 @@ public class TestNGAdapter implements ITestListener {
   private final ResultCollector rc;
   private final Description     description;
   private final Class<?>        clazz;
+  private final boolean         reportClass;
   private boolean               hasHadFailure = false;
   private Throwable             error;
 
   public TestNGAdapter(final Class<?> clazz, final Description d,
       final ResultCollector rc) {
+    this(clazz, d, rc, true);
+  }
+
+  /**
+   * @param reportClass
+   *          whether to report the start and end of the run against the given
+   *          description as well as each method. Units for a single method
+   *          are described by that method so need not.
+   */
+  public TestNGAdapter(final Class<?> clazz, final Description d,
+      final ResultCollector rc, final boolean reportClass) {
     this.rc = rc;
     this.description = d;
     this.clazz = clazz;
+    this.reportClass = reportClass;
   }
 
   @Override
   public void onFinish(final ITestContext arg0) {
+    if (!this.reportClass) {
+      return;
+    }
     if (this.error != null) {
       this.rc.notifyEnd(this.description, this.error);
     } else {
@@ -47,7 +63,9 @@ public class TestNGAdapter implements ITestListener {
 
   @Override
   public void onStart(final ITestContext arg0) {
-    this.rc.notifyStart(this.description);
+    if (this.reportClass) {
+      this.rc.notifyStart(this.description);
+    }
   }
 
   @Override
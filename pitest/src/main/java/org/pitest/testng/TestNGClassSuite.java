@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.testng;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * The suite for a single test class, built once and then narrowed to the
+ * methods of whichever test unit is being run.
+ *
+ * As TestNG reads the included methods when a run starts the suite must be
+ * narrowed and run while holding the TestNG lock.
+ */
+class TestNGClassSuite {
+
+  private final XmlSuite suite;
+  private final XmlClass xclass;
+
+  TestNGClassSuite(final String className, final List<String> excludedGroups,
+      final List<String> includedGroups) {
+    this.suite = new XmlSuite();
+    this.suite.setName(className);
+    final XmlTest test = new XmlTest(this.suite);
+    test.setName(className);
+    this.xclass = new XmlClass(className);
+    test.setXmlClasses(Collections.singletonList(this.xclass));
+
+    if (!excludedGroups.isEmpty()) {
+      this.suite.setExcludedGroups(excludedGroups);
+    }
+
+    if (!includedGroups.isEmpty()) {
+      this.suite.setIncludedGroups(includedGroups);
+    }
+  }
+
+  /**
+   * @param methods
+   *          names of the methods to run, or an empty list to run them all
+   */
+  XmlSuite including(final List<String> methods) {
+    final List<XmlInclude> includes = new ArrayList<XmlInclude>();
+    for (final String each : methods) {
+      includes.add(new XmlInclude(each));
+    }
+    this.xclass.setIncludedMethods(includes);
+    return this.suite;
+  }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.pitest.testng;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -21,21 +22,19 @@ import java.util.concurrent.Callable;
 import org.pitest.testapi.AbstractTestUnit;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestGroupConfig;
-import org.pitest.testapi.foreignclassloader.Events;
+import org.pitest.testapi.foreignclassloader.ForeignLoaderBridge;
 import org.pitest.util.ClassLoaderDetectionStrategy;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Unchecked;
 import org.testng.ITestListener;
 import org.testng.TestNG;
-import org.testng.xml.XmlClass;
 import org.testng.xml.XmlSuite;
-import org.testng.xml.XmlTest;
 
 /**
- * Runs tests within a class via TestNG. It would be possible to create a test
- * unit per method using TestNG's filters but this is about ten times slower and
- * probably more than negates any advantage from more finely targeting the
- * tests.
+ * Runs either a single method or all the tests within a class via TestNG.
+ * Units for the methods of a class share a suite that is built once and
+ * narrowed to the method being run, as building a suite per method would
+ * more than negate the advantage of more finely targeting the tests.
  */
 public class TestNGTestUnit extends AbstractTestUnit {
 
@@ -45,18 +44,43 @@ public class TestNGTestUnit extends AbstractTestUnit {
   private final ClassLoaderDetectionStrategy classloaderDetection;
   private final Class<?>                     clazz;
   private final TestGroupConfig              config;
+  private final List<String>                 methods;
+  private final TestNGClassSuite             suite;
 
   public TestNGTestUnit(
       final ClassLoaderDetectionStrategy classloaderDetection,
       final Class<?> clazz, final TestGroupConfig config) {
-    super(new org.pitest.testapi.Description("_", clazz));
+    this(classloaderDetection, clazz, config, "_", Collections
+        .<String> emptyList(), createSuite(clazz, config));
+  }
+
+  public TestNGTestUnit(final Class<?> clazz, final TestGroupConfig config) {
+    this(IsolationUtils.loaderDetectionStrategy(), clazz, config);
+  }
+
+  TestNGTestUnit(final ClassLoaderDetectionStrategy classloaderDetection,
+      final Class<?> clazz, final TestGroupConfig config, final String method,
+      final TestNGClassSuite suite) {
+    this(classloaderDetection, clazz, config, method, Collections
+        .singletonList(method), suite);
+  }
+
+  private TestNGTestUnit(
+      final ClassLoaderDetectionStrategy classloaderDetection,
+      final Class<?> clazz, final TestGroupConfig config, final String name,
+      final List<String> methods, final TestNGClassSuite suite) {
+    super(new org.pitest.testapi.Description(name, clazz));
     this.clazz = clazz;
     this.classloaderDetection = classloaderDetection;
     this.config = config;
+    this.methods = methods;
+    this.suite = suite;
   }
 
-  public TestNGTestUnit(final Class<?> clazz, final TestGroupConfig config) {
-    this(IsolationUtils.loaderDetectionStrategy(), clazz, config);
+  static TestNGClassSuite createSuite(final Class<?> clazz,
+      final TestGroupConfig config) {
+    return new TestNGClassSuite(clazz.getName(), config.getExcludedGroups(),
+        config.getIncludedGroups());
   }
 
   @Override
@@ -71,27 +95,28 @@ public class TestNGTestUnit extends AbstractTestUnit {
   }
 
   private void executeInForeignLoader(ResultCollector rc, ClassLoader loader) {
-    @SuppressWarnings("unchecked")
-    Callable<List<String>> e = (Callable<List<String>>) IsolationUtils
-    .cloneForLoader(new ForeignClassLoaderTestNGExecutor(createSuite()),
-        loader);
+    // lists are copied so that only boot loader types cross to the other loader
+    final Callable<?> e = ForeignLoaderBridge.createExecutor(loader,
+        ForeignClassLoaderTestNGExecutor.class, this.clazz.getName(),
+        new ArrayList<String>(this.config.getExcludedGroups()),
+        new ArrayList<String>(this.config.getIncludedGroups()),
+        new ArrayList<String>(this.methods),
+        ForeignLoaderBridge.createSink(loader, rc, this.getDescription()));
     try {
-      List<String> q = e.call();
-      Events.applyEvents(q, rc, this.getDescription());
+      e.call();
     } catch (Exception ex) {
       throw Unchecked.translateCheckedException(ex);
     }
-
   }
 
   private void executeInCurrentLoader(final ResultCollector rc) {
     final ITestListener listener = new TestNGAdapter(this.clazz,
-        this.getDescription(), rc);
+        this.getDescription(), rc, this.methods.isEmpty());
 
-    final XmlSuite suite = createSuite();
+    final XmlSuite xmlSuite = this.suite.including(this.methods);
 
-    TESTNG.setDefaultSuiteName(suite.getName());
-    TESTNG.setXmlSuites(Collections.singletonList(suite));
+    TESTNG.setDefaultSuiteName(xmlSuite.getName());
+    TESTNG.setXmlSuites(Collections.singletonList(xmlSuite));
 
     TESTNG.addListener(listener);
     try {
@@ -102,22 +127,4 @@ public class TestNGTestUnit extends AbstractTestUnit {
     }
   }
 
-  private XmlSuite createSuite() {
-    final XmlSuite suite = new XmlSuite();
-    suite.setName(this.clazz.getName());
-    final XmlTest test = new XmlTest(suite);
-    test.setName(this.clazz.getName());
-    final XmlClass xclass = new XmlClass(this.clazz.getName());
-    test.setXmlClasses(Collections.singletonList(xclass));
-    if (!this.config.getExcludedGroups().isEmpty()) {
-      suite.setExcludedGroups(this.config.getExcludedGroups());
-    }
-
-    if (!this.config.getIncludedGroups().isEmpty()) {
-      suite.setIncludedGroups(this.config.getIncludedGroups());
-    }
-
-    return suite;
-  }
-
 }
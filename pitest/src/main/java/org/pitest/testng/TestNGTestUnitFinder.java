@@ -14,8 +14,18 @@
  */
 package org.pitest.testng;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.pitest.functional.FCollection;
 import org.pitest.reflection.IsAnnotatedWith;
@@ -23,10 +33,33 @@ import org.pitest.reflection.Reflection;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
+import org.pitest.util.IsolationUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterGroups;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeGroups;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.ObjectFactory;
+import org.testng.annotations.Test;
 
+/**
+ * Creates a test unit for each test method so that only the methods that
+ * cover a mutation need be run against it. Classes whose methods depend on
+ * each other, or whose tests cannot be reliably identified, are run as a
+ * whole.
+ */
 public class TestNGTestUnitFinder implements TestUnitFinder {
 
-  private final TestGroupConfig config;
+  private static final Collection<Class<?>> CONFIGURATION = configurationAnnotations();
+
+  private final TestGroupConfig             config;
 
   public TestNGTestUnitFinder(final TestGroupConfig config) {
     this.config = config;
@@ -36,13 +69,111 @@ public class TestNGTestUnitFinder implements TestUnitFinder {
   public List<TestUnit> findTestUnits(final Class<?> clazz) {
 
     if (hasClassAnnotation(clazz) || hasMethodAnnotation(clazz)) {
-      return Collections.<TestUnit> singletonList(new TestNGTestUnit(clazz,
-          this.config));
+      final Set<String> methods = findTestMethods(clazz);
+      if (methods.isEmpty()) {
+        return Collections.<TestUnit> singletonList(new TestNGTestUnit(clazz,
+            this.config));
+      }
+      return createMethodUnits(clazz, methods);
     }
     return Collections.emptyList();
 
   }
 
+  private List<TestUnit> createMethodUnits(final Class<?> clazz,
+      final Set<String> methods) {
+    final TestNGClassSuite suite = TestNGTestUnit.createSuite(clazz,
+        this.config);
+    final List<TestUnit> units = new ArrayList<TestUnit>();
+    for (final String each : methods) {
+      units.add(new TestNGTestUnit(IsolationUtils.loaderDetectionStrategy(),
+          clazz, this.config, each, suite));
+    }
+    return units;
+  }
+
+  /**
+   * @return names of the test methods, or an empty set if the class must be
+   *         run as a whole
+   */
+  private static Set<String> findTestMethods(final Class<?> clazz) {
+    final Test classLevel = findClassAnnotation(clazz);
+    if (Modifier.isAbstract(clazz.getModifiers())
+        || hasDependencies(classLevel) || hasFactoryConstructor(clazz)) {
+      return Collections.emptySet();
+    }
+
+    final Set<String> names = new TreeSet<String>();
+    for (final Method each : clazz.getMethods()) {
+      if (each.isAnnotationPresent(Factory.class)) {
+        return Collections.emptySet();
+      }
+      if (isTest(classLevel, each)) {
+        if (hasDependencies(each.getAnnotation(Test.class))) {
+          return Collections.emptySet();
+        }
+        names.add(each.getName());
+      }
+    }
+    return names;
+  }
+
+  private static boolean isTest(final Test classLevel, final Method m) {
+    if ((m.getDeclaringClass() == Object.class)
+        || Modifier.isStatic(m.getModifiers()) || hasConfigurationAnnotation(m)) {
+      return false;
+    }
+    final Test t = m.getAnnotation(Test.class);
+    if (t != null) {
+      return t.enabled();
+    }
+    return (classLevel != null) && classLevel.enabled();
+  }
+
+  private static Collection<Class<?>> configurationAnnotations() {
+    return new HashSet<Class<?>>(Arrays.<Class<?>> asList(AfterClass.class,
+        AfterGroups.class, AfterMethod.class, AfterSuite.class,
+        AfterTest.class, BeforeClass.class, BeforeGroups.class,
+        BeforeMethod.class, BeforeSuite.class, BeforeTest.class,
+        DataProvider.class, Factory.class, ObjectFactory.class));
+  }
+
+  private static boolean hasConfigurationAnnotation(final Method m) {
+    for (final Annotation each : m.getAnnotations()) {
+      if (CONFIGURATION.contains(each.annotationType())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasFactoryConstructor(final Class<?> clazz) {
+    for (final Constructor<?> each : clazz.getConstructors()) {
+      if (each.isAnnotationPresent(Factory.class)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasDependencies(final Test t) {
+    return (t != null)
+        && ((t.dependsOnMethods().length != 0)
+            || (t.dependsOnGroups().length != 0));
+  }
+
+  private static Test findClassAnnotation(final Class<?> clazz) {
+    Class<?> c = clazz;
+    while (c != null) {
+      final Test t = c.getAnnotation(Test.class);
+      if (t != null) {
+        return t;
+      }
+      c = c.getSuperclass();
+    }
+    return null;
+  }
+
   private boolean hasClassAnnotation(final Class<?> clazz) {
     return clazz.getAnnotation(org.testng.annotations.Test.class) != null;
 
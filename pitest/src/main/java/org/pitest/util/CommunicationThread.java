@@ -16,6 +16,7 @@ package org.pitest.util;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.logging.Level;
@@ -64,8 +65,24 @@ public class CommunicationThread {
     } catch (final InterruptedException e) {
       LOG.log(Level.WARNING, "interrupted while waiting for child process", e);
       return ExitCode.UNKNOWN_ERROR;
+    } catch (final CancellationException e) {
+      LOG.fine("Stopped waiting for child process");
+      return ExitCode.UNKNOWN_ERROR;
     }
 
   }
 
+  /**
+   * Stops waiting for a child process that can no longer be reached, so that
+   * {@link #waitToFinish()} returns without its exit code.
+   */
+  public void abandon() {
+    this.future.cancel(true);
+    try {
+      this.socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close socket", e);
+    }
+  }
+
 }
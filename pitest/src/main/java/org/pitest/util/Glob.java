@@ -23,10 +23,12 @@ import org.pitest.functional.predicate.Predicate;
 
 public class Glob implements Predicate<String> {
 
+  private final String  glob;
   private final Pattern regex;
 
   public Glob(final String glob) {
-    if (glob.charAt(0) == '~') {
+    this.glob = glob;
+    if (glob.startsWith("~")) {
       this.regex = Pattern.compile(glob.substring(1));
     } else {
       this.regex = Pattern.compile(convertGlobToRegex(glob)
@@ -38,6 +40,10 @@ public class Glob implements Predicate<String> {
     return this.regex.matcher(seq).matches();
   }
 
+  String getGlob() {
+    return this.glob;
+  }
+
   public static F<String, Predicate<String>> toGlobPredicate() {
     return new F<String, Predicate<String>>() {
       @Override
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.functional.predicate.Predicate;
+
+/**
+ * Matches a string against any of a set of globs.
+ *
+ * Rather than trying the regular expression of each glob in turn the globs are
+ * compiled into a single automaton whose states are built lazily as strings
+ * are matched, so each character is examined once however many globs there
+ * are. Results are also remembered for each string, as the same class and
+ * method names are tested many times over a run.
+ *
+ * Globs given as regular expressions, or using characters the glob syntax
+ * passes through to the regular expression, and any other predicates are
+ * tried in turn after the automaton.
+ */
+public class GlobSet implements Predicate<String> {
+
+  private static final int                            MAX_MEMOISED = 50000;
+  private static final int                            MAX_STATES   = 10000;
+
+  private static final byte                           LITERAL      = 0;
+  private static final byte                           ANY          = 1;
+  private static final byte                           STAR         = 2;
+  private static final byte                           ACCEPT       = 3;
+
+  private static final String                         REGEX_CHARS  = "[]{}()+|^";
+
+  // nfa of all the globs one after the other, each ending in ACCEPT
+  private final byte[]                                kinds;
+  private final char[]                                literals;
+  private final List<Predicate<String>>               others;
+
+  // built on first use as these are not sent to minions
+  private transient volatile State                    start;
+  private transient volatile Map<BitSet, State>       states;
+  private transient volatile Map<String, Boolean>     memo;
+
+  public GlobSet(final Collection<? extends Predicate<String>> predicates) {
+    final NfaBuilder nfa = new NfaBuilder();
+    this.others = new ArrayList<Predicate<String>>();
+    for (final Predicate<String> each : predicates) {
+      final String glob = each instanceof Glob ? ((Glob) each).getGlob()
+          : null;
+      if ((glob != null) && isCompilable(glob)) {
+        nfa.addGlob(glob);
+      } else {
+        this.others.add(each);
+      }
+    }
+    this.kinds = nfa.kinds();
+    this.literals = nfa.literals();
+  }
+
+  private GlobSet(final NfaBuilder nfa) {
+    this.others = new ArrayList<Predicate<String>>();
+    this.kinds = nfa.kinds();
+    this.literals = nfa.literals();
+  }
+
+  /**
+   * @return a set matching any string starting with one of the given prefixes
+   */
+  public static GlobSet prefixes(final Collection<String> prefixes) {
+    final NfaBuilder nfa = new NfaBuilder();
+    for (final String each : prefixes) {
+      nfa.addPrefix(each);
+    }
+    return new GlobSet(nfa);
+  }
+
+  @Override
+  public Boolean apply(final String a) {
+    final Map<String, Boolean> m = memo();
+    Boolean result = m.get(a);
+    if (result == null) {
+      result = matches(a);
+      if (m.size() < MAX_MEMOISED) {
+        m.put(a, result);
+      }
+    }
+    return result;
+  }
+
+  private boolean matches(final String a) {
+    if (matchesGlobs(a)) {
+      return true;
+    }
+    for (final Predicate<String> each : this.others) {
+      if (each.apply(a)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean matchesGlobs(final String a) {
+    State state = start();
+    for (int i = 0; i != a.length(); i++) {
+      if (state.acceptsAll) {
+        return true;
+      }
+      if (state.positions.isEmpty()) {
+        return false;
+      }
+      state = state.next(a.charAt(i));
+    }
+    return state.accepting;
+  }
+
+  private static boolean isCompilable(final String glob) {
+    if ((glob.length() == 0) || (glob.charAt(0) == '~')) {
+      return false;
+    }
+    for (int i = 0; i != glob.length(); i++) {
+      if (REGEX_CHARS.indexOf(glob.charAt(i)) != -1) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Map<String, Boolean> memo() {
+    Map<String, Boolean> m = this.memo;
+    if (m == null) {
+      m = new ConcurrentHashMap<String, Boolean>();
+      this.memo = m;
+    }
+    return m;
+  }
+
+  private State start() {
+    State s = this.start;
+    if (s == null) {
+      this.states = new ConcurrentHashMap<BitSet, State>();
+      final BitSet initial = new BitSet();
+      int glob = 0;
+      for (int i = 0; i != this.kinds.length; i++) {
+        if (this.kinds[i] == ACCEPT) {
+          initial.set(glob);
+          glob = i + 1;
+        }
+      }
+      s = state(closure(initial));
+      this.start = s;
+    }
+    return s;
+  }
+
+  private State state(final BitSet positions) {
+    final Map<BitSet, State> known = this.states;
+    State s = known.get(positions);
+    if (s == null) {
+      s = new State(positions);
+      if (known.size() < MAX_STATES) {
+        known.put(positions, s);
+      }
+    }
+    return s;
+  }
+
+  private BitSet step(final BitSet from, final char c) {
+    final BitSet to = new BitSet();
+    for (int p = from.nextSetBit(0); p >= 0; p = from.nextSetBit(p + 1)) {
+      switch (this.kinds[p]) {
+      case STAR:
+        to.set(p);
+        break;
+      case ANY:
+        to.set(p + 1);
+        break;
+      case LITERAL:
+        if (this.literals[p] == c) {
+          to.set(p + 1);
+        }
+        break;
+      default:
+        break;
+      }
+    }
+    return closure(to);
+  }
+
+  private BitSet closure(final BitSet positions) {
+    for (int p = positions.nextSetBit(0); p >= 0; p = positions
+        .nextSetBit(p + 1)) {
+      // a star may also match nothing
+      if (this.kinds[p] == STAR) {
+        positions.set(p + 1);
+      }
+    }
+    return positions;
+  }
+
+  private final class State {
+    private final BitSet               positions;
+    private final boolean              accepting;
+    private final boolean              acceptsAll;
+    private final Map<Character, State> next = new ConcurrentHashMap<Character, State>();
+
+    State(final BitSet positions) {
+      this.positions = positions;
+      boolean accept = false;
+      boolean all = false;
+      for (int p = positions.nextSetBit(0); p >= 0; p = positions
+          .nextSetBit(p + 1)) {
+        accept |= GlobSet.this.kinds[p] == ACCEPT;
+        all |= (GlobSet.this.kinds[p] == STAR)
+            && (GlobSet.this.kinds[p + 1] == ACCEPT);
+      }
+      this.accepting = accept;
+      this.acceptsAll = all;
+    }
+
+    State next(final char c) {
+      State s = this.next.get(c);
+      if (s == null) {
+        s = state(step(this.positions, c));
+        if (this.next.size() < MAX_STATES) {
+          this.next.put(c, s);
+        }
+      }
+      return s;
+    }
+  }
+
+  private static final class NfaBuilder {
+    private final StringBuilder kinds    = new StringBuilder();
+    private final StringBuilder literals = new StringBuilder();
+
+    void addGlob(final String glob) {
+      for (int i = 0; i != glob.length(); i++) {
+        final char c = glob.charAt(i);
+        if (c == '*') {
+          add(STAR, ' ');
+        } else if (c == '?') {
+          add(ANY, ' ');
+        } else {
+          add(LITERAL, c);
+        }
+      }
+      add(ACCEPT, ' ');
+    }
+
+    void addPrefix(final String prefix) {
+      for (int i = 0; i != prefix.length(); i++) {
+        add(LITERAL, prefix.charAt(i));
+      }
+      add(STAR, ' ');
+      add(ACCEPT, ' ');
+    }
+
+    private void add(final byte kind, final char literal) {
+      this.kinds.append((char) kind);
+      this.literals.append(literal);
+    }
+
+    byte[] kinds() {
+      final byte[] bs = new byte[this.kinds.length()];
+      for (int i = 0; i != bs.length; i++) {
+        bs[i] = (byte) this.kinds.charAt(i);
+      }
+      return bs;
+    }
+
+    char[] literals() {
+      return this.literals.toString().toCharArray();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GlobSet [" + this.kinds.length + " positions, others="
+        + this.others + "]";
+  }
+
+}
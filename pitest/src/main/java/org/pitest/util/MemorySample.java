@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * The memory a minion has used, as measured by the minion itself and reported
+ * to its parent shortly before it exits. All values are in bytes.
+ *
+ * The heap is measured as the occupancy left by garbage collection rather than
+ * the peak in use, as the peak grows with the heap a minion is given and so
+ * would only ever ask for more. Resident
+ * set size is only available where the os exposes it through /proc, and is
+ * otherwise reported as -1.
+ */
+public final class MemorySample {
+
+  public static final long UNKNOWN = -1;
+
+  private final long       liveHeap;
+  private final long       maxHeap;
+  private final long       peakResident;
+
+  public MemorySample(final long liveHeap, final long maxHeap,
+      final long peakResident) {
+    this.liveHeap = liveHeap;
+    this.maxHeap = maxHeap;
+    this.peakResident = peakResident;
+  }
+
+  /**
+   * Measures the heap this jvm holds live and the peak resident set it has
+   * used so far. Collects garbage so that the occupancy of every pool reflects
+   * a collection, so should only be called as the jvm finishes its work.
+   */
+  public static MemorySample measure() {
+    System.gc();
+    long heap = 0;
+    for (final MemoryPoolMXBean each : ManagementFactory
+        .getMemoryPoolMXBeans()) {
+      if (each.getType() == MemoryType.HEAP) {
+        heap = heap + occupancy(each);
+      }
+    }
+    return new MemorySample(heap, Runtime.getRuntime().maxMemory(),
+        readKilobytes(new File("/proc/self/status"), "VmHWM:"));
+  }
+
+  private static long occupancy(final MemoryPoolMXBean pool) {
+    final MemoryUsage afterCollection = pool.getCollectionUsage();
+    if (afterCollection != null) {
+      return afterCollection.getUsed();
+    }
+    return pool.getUsage().getUsed();
+  }
+
+  public static MemorySample read(final SafeDataInputStream is) {
+    return new MemorySample(is.readLong(), is.readLong(), is.readLong());
+  }
+
+  public void write(final SafeDataOutputStream os) {
+    os.writeByte(Id.MEMORY);
+    os.writeLong(this.liveHeap);
+    os.writeLong(this.maxHeap);
+    os.writeLong(this.peakResident);
+  }
+
+  /**
+   * Reads a value reported in kilobytes from a /proc style file.
+   *
+   * @return the value in bytes, or {@link #UNKNOWN} if it cannot be read
+   */
+  public static long readKilobytes(final File file, final String key) {
+    if (!file.canRead()) {
+      return UNKNOWN;
+    }
+    try {
+      final BufferedReader r = new BufferedReader(new InputStreamReader(
+          new FileInputStream(file), "UTF-8"));
+      try {
+        String line;
+        while ((line = r.readLine()) != null) {
+          if (line.startsWith(key)) {
+            final String value = line.substring(key.length()).trim();
+            return Long.parseLong(value.split("\\s+")[0]) * 1024;
+          }
+        }
+      } finally {
+        r.close();
+      }
+    } catch (final IOException e) {
+      return UNKNOWN;
+    } catch (final NumberFormatException e) {
+      return UNKNOWN;
+    }
+    return UNKNOWN;
+  }
+
+  public long getLiveHeap() {
+    return this.liveHeap;
+  }
+
+  public long getMaxHeap() {
+    return this.maxHeap;
+  }
+
+  public long getPeakResident() {
+    return this.peakResident;
+  }
+
+  @Override
+  public String toString() {
+    return "MemorySample [liveHeap=" + this.liveHeap + ", maxHeap="
+        + this.maxHeap + ", peakResident=" + this.peakResident + "]";
+  }
+
+}
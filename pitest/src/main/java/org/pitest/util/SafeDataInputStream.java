@@ -45,6 +45,17 @@ public class SafeDataInputStream {
     }
   }
 
+  public byte[] readBytes() {
+    try {
+      final int length = this.dis.readInt();
+      final byte[] data = new byte[length];
+      this.dis.readFully(data);
+      return data;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T read(final Class<T> type) {
     return (T) IsolationUtils.fromXml(readString());
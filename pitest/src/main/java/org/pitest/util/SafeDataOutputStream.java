@@ -45,6 +45,15 @@ public class SafeDataOutputStream {
     }
   }
 
+  public void writeBytes(final byte[] data, final int length) {
+    try {
+      this.dos.writeInt(length);
+      this.dos.write(data, 0, length);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public <T> void write(final T value) {
     writeString(IsolationUtils.toXml(value));
   }
@@ -14,6 +14,9 @@
  */
 package org.pitest.util;
 
+import java.io.IOException;
+import java.io.Writer;
+
 public class StringUtil {
 
   public static String join(final Iterable<String> strings,
@@ -55,8 +58,7 @@ public class StringUtil {
     for (int i = 0; i < s.length(); i++) {
       final char c = s.charAt(i);
       final int v = c;
-      if ((v < 32) || (v > 127) || (v == 38) || (v == 39) || (v == 60)
-          || (v == 62) || (v == 34)) {
+      if (needsEscaping(v)) {
         out.append('&');
         out.append('#');
         out.append(v);
@@ -67,4 +69,49 @@ public class StringUtil {
     }
   }
 
+  /**
+   * Escapes as {@link #escapeBasicHtmlChars(String, StringBuilder)}, writing
+   * straight to the supplied writer.
+   */
+  public static void escapeBasicHtmlChars(final String s, final Writer out)
+      throws IOException {
+    int start = 0;
+    for (int i = 0; i < s.length(); i++) {
+      final int v = s.charAt(i);
+      if (needsEscaping(v)) {
+        out.write(s, start, i - start);
+        out.write("&#");
+        out.write(Integer.toString(v));
+        out.write(';');
+        start = i + 1;
+      }
+    }
+    out.write(s, start, s.length() - start);
+  }
+
+  private static boolean needsEscaping(final int v) {
+    return (v < 32) || (v > 127) || (v == 38) || (v == 39) || (v == 60)
+        || (v == 62) || (v == 34);
+  }
+
+  public static String escapeJson(final String s) {
+    final StringBuilder sb = new StringBuilder();
+    escapeJson(s, sb);
+    return sb.toString();
+  }
+
+  public static void escapeJson(final String s, final StringBuilder out) {
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      if ((c == '"') || (c == '\\')) {
+        out.append('\\');
+        out.append(c);
+      } else if (c < 32) {
+        out.append(String.format("\\u%04x", (int) c));
+      } else {
+        out.append(c);
+      }
+    }
+  }
+
 }
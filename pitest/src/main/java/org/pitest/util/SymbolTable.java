@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread safe table mapping names to a single canonical instance of the
+ * value they identify, so that values created many times over, such as class
+ * and method names, are held once and usually compare by identity.
+ *
+ * The table stops accepting new entries once it reaches its capacity. Values
+ * are then returned as given, so callers must not rely on identity for
+ * equality.
+ */
+public final class SymbolTable<T> {
+
+  public static final int                DEFAULT_CAPACITY = 1 << 18;
+
+  private final ConcurrentMap<String, T> symbols          = new ConcurrentHashMap<String, T>();
+  private final int                      capacity;
+
+  public SymbolTable() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public SymbolTable(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the canonical value for the name, or null if none is held
+   */
+  public T get(final String name) {
+    return this.symbols.get(name);
+  }
+
+  /**
+   * @return the canonical value for the name, which will be the supplied value
+   *         if none was previously held
+   */
+  public T intern(final String name, final T value) {
+    if (this.symbols.size() >= this.capacity) {
+      final T existing = this.symbols.get(name);
+      return existing != null ? existing : value;
+    }
+    final T existing = this.symbols.putIfAbsent(name, value);
+    return existing != null ? existing : value;
+  }
+
+  public int size() {
+    return this.symbols.size();
+  }
+
+}
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Store for line visit information.
@@ -51,6 +52,16 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<Integer, boolean[]>();
 
+  // when enabled, hits made by a thread running a test go to that test's
+  // context rather than the shared arrays above
+  private static volatile boolean              perThreadHits;
+  private static final ThreadLocal<ProbeContext> CONTEXTS        = new InheritableThreadLocal<ProbeContext>();
+
+  // hits made while per thread hits are enabled that cannot be attributed to
+  // a running test, either as the thread has no context or as the test whose
+  // context it holds has ended
+  private static final AtomicLong              STRAY_HITS        = new AtomicLong();
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -58,15 +69,62 @@ public final class CodeCoverageStore {
   private CodeCoverageStore() {
   }
 
-  public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
+  private static boolean[] hitsFor(final int classId) {
     final boolean[] bs = CLASS_HITS.get(classId);
+    if (perThreadHits) {
+      final ProbeContext context = CONTEXTS.get();
+      if ((context != null) && !context.isEnded()) {
+        return context.hitsFor(classId, bs.length);
+      }
+      STRAY_HITS.incrementAndGet();
+    }
+    return bs;
+  }
+
+  /**
+   * Enables or disables recording hits against the context of the test
+   * running on the current thread, so that tests may run concurrently.
+   */
+  public static void setPerThreadHits(final boolean enabled) {
+    perThreadHits = enabled;
+  }
+
+  /**
+   * Starts recording hits made by this thread, and the threads it starts,
+   * against a new context.
+   */
+  public static ProbeContext startTestOnThisThread() {
+    final ProbeContext context = new ProbeContext(Thread.currentThread());
+    CONTEXTS.set(context);
+    return context;
+  }
+
+  public static void endTestOnThisThread() {
+    final ProbeContext context = CONTEXTS.get();
+    if (context != null) {
+      context.end();
+    }
+    CONTEXTS.remove();
+  }
+
+  /**
+   * Returns the number of hits made while per thread hits were enabled that
+   * could not be attributed to a running test. Tests running when this
+   * changes may not have been credited with all the code they ran.
+   */
+  public static long getStrayHits() {
+    return STRAY_HITS.get();
+  }
+
+  public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     bs[probe + 1] = true;
   }
 
   public static void visitProbes(final int classId, final int offset,
       final boolean[] probes) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     for (int i = 0; i != probes.length; i++) {
       if (probes[i]) {
@@ -84,7 +142,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -93,7 +151,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -105,7 +163,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -120,7 +178,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -139,7 +197,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -161,7 +219,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -186,7 +244,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -214,7 +272,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -246,7 +304,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -281,7 +339,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -319,7 +377,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -360,7 +418,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -405,7 +463,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -453,7 +511,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -504,7 +562,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13, final boolean p14) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -560,8 +618,12 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized Collection<Long> getHits() {
+    return hitsIn(CLASS_HITS);
+  }
+
+  static Collection<Long> hitsIn(final Map<Integer, boolean[]> classHits) {
     final Collection<Long> blockHits = new ArrayList<Long>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
+    for (final Entry<Integer, boolean[]> each : classHits.entrySet()) {
       final boolean[] bs = each.getValue();
       // first entry tracks if class has been visited at all
       if (!bs[CLASS_HIT_INDEX]) {
@@ -578,6 +640,7 @@ public final class CodeCoverageStore {
     return blockHits;
   }
 
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -612,6 +675,8 @@ public final class CodeCoverageStore {
 
   public static void resetAllStaticState() {
     CLASS_HITS.clear();
+    CONTEXTS.remove();
+    perThreadHits = false;
   }
 
 }
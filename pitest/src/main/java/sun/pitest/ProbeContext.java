@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+// placed in a sun package alongside the store so non delegating classloaders
+// are likely to still delegate it's loading
+package sun.pitest;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Probe hits for a single test, recorded separately from those of tests
+ * running on other threads. Threads started by the test inherit its context,
+ * so their hits are also recorded here, but are noted so that the test can be
+ * identified as one that starts threads.
+ */
+public final class ProbeContext {
+
+  private final Thread                                owner;
+  private final ConcurrentHashMap<Integer, boolean[]> hits = new ConcurrentHashMap<Integer, boolean[]>();
+  private volatile boolean                            hitFromOtherThreads;
+  private volatile boolean                            ended;
+
+  ProbeContext(final Thread owner) {
+    this.owner = owner;
+  }
+
+  boolean[] hitsFor(final int classId, final int length) {
+    if (Thread.currentThread() != this.owner) {
+      this.hitFromOtherThreads = true;
+    }
+    final boolean[] bs = this.hits.get(classId);
+    if (bs != null) {
+      return bs;
+    }
+    final boolean[] fresh = new boolean[length];
+    final boolean[] existing = this.hits.putIfAbsent(classId, fresh);
+    return existing != null ? existing : fresh;
+  }
+
+  void end() {
+    this.ended = true;
+  }
+
+  /**
+   * Returns true once the test has ended, after which hits made by threads it
+   * started are no longer recorded here.
+   */
+  public boolean isEnded() {
+    return this.ended;
+  }
+
+  public Collection<Long> getHits() {
+    return CodeCoverageStore.hitsIn(this.hits);
+  }
+
+  /**
+   * Returns true if code under test was run by a thread other than the one
+   * running the test.
+   */
+  public boolean isHitFromOtherThreads() {
+    return this.hitFromOtherThreads;
+  }
+
+}
@@ -16,6 +16,7 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 
 import org.junit.Test;
 import org.pitest.functional.Option;
+import org.pitest.util.IsolationUtils;
 
 public class ClassNameTest {
 
@@ -153,6 +155,31 @@ public class ClassNameTest {
         ClassName.nameToClass().apply(new ClassName("org.unknown.Unknown")));
   }
 
+  @Test
+  public void shouldReturnSameInstanceForJavaAndInternalNames() {
+    final ClassName internal = ClassName.fromString("com/example/Canonical");
+    assertSame(internal, ClassName.fromString("com.example.Canonical"));
+    assertSame(internal, ClassName.fromString("com/example/Canonical"));
+  }
+
+  @Test
+  public void shouldReturnSameInstanceForClasses() {
+    assertSame(ClassName.fromString("java.lang.String"),
+        ClassName.fromClass(String.class));
+  }
+
+  @Test
+  public void shouldNotAllocateNewJavaNameOnEachCall() {
+    final ClassName testee = new ClassName("com/example/Foo");
+    assertSame(testee.asJavaName(), testee.asJavaName());
+  }
+
+  @Test
+  public void shouldResolveToCanonicalInstanceWhenDeserialised() {
+    final ClassName testee = ClassName.fromString("com.example.Serialised");
+    assertSame(testee, IsolationUtils.clone(testee));
+  }
+
   @Test
   public void shouldObeyHashcodeEqualsContract() {
     EqualsVerifier.forClass(ClassName.class).verify();
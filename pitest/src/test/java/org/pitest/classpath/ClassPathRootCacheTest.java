@@ -0,0 +1,47 @@
+package org.pitest.classpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClassPathRootCacheTest {
+
+  private static final File  JAR = new File("mytests.jar");
+
+  private ClassPathRootCache testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new ClassPathRootCache();
+  }
+
+  @Test
+  public void shouldShareRootsForTheSameFile() {
+    assertSame(this.testee.rootFor(JAR),
+        this.testee.rootFor(JAR.getAbsoluteFile()));
+  }
+
+  @Test
+  public void shouldIgnoreFilesThatDoNotExist() {
+    final ClassPath actual = this.testee.classPath(Arrays.asList(new File(
+        "doesNotExist.jar"), JAR));
+    assertEquals(4, actual.classNames().size());
+  }
+
+  @Test
+  public void shouldReadClassesFromArchives() throws Exception {
+    final ClassPath actual = this.testee.classPath(Collections
+        .singletonList(JAR));
+    assertNotNull(actual.getClassData("injar.p1.P1Test"));
+    assertNull(actual.getClassData("injar.p1.NotThere"));
+  }
+
+}
@@ -0,0 +1,50 @@
+package org.pitest.classpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class IndexedArchiveClassPathRootTest {
+
+  private final IndexedArchiveClassPathRoot testee = new IndexedArchiveClassPathRoot(
+                                                       new File("mytests.jar"));
+
+  @Test
+  public void shouldListClassesInArchive() {
+    assertEquals(Arrays.asList("injar.p1.P1NoTest$InnerTest",
+        "injar.p1.P1NoTest", "injar.p1.P1Test", "injar.p2.P2Test"),
+        this.testee.classNames());
+  }
+
+  @Test
+  public void shouldReturnDataForKnownClasses() throws Exception {
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    assertNotNull(this.testee.getData("injar/p1/P1Test"));
+  }
+
+  @Test
+  public void shouldReturnNullForUnknownClasses() throws Exception {
+    assertNull(this.testee.getData("bar"));
+  }
+
+  @Test
+  public void shouldNotLookInArchiveForClassesNotListed() throws Exception {
+    final IndexedArchiveClassPathRoot root = new IndexedArchiveClassPathRoot(
+        new File("mytests.jar")) {
+      @Override
+      public Collection<String> classNames() {
+        return Collections.singletonList("injar.p1.P1Test");
+      }
+    };
+    assertNull(root.getData("injar.p2.P2Test"));
+    assertNotNull(root.getData("injar.p1.P1Test"));
+  }
+
+}
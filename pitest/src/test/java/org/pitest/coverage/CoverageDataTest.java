@@ -37,6 +37,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassName;
@@ -128,6 +129,17 @@ public class CoverageDataTest {
     assertTrue(this.testee.getTestsForClass(this.foo).isEmpty());
   }
 
+  @Test
+  public void shouldIncludeTestsForClassRecordedAfterEarlierQuery() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.getTestsForClass(this.foo);
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest2", 0,
+        1));
+    assertEquals(Arrays.asList("fooTest", "fooTest2"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
   @Test
   public void shouldReturnUniqueTestsForClassWhenSomeTestsCoverClass() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
@@ -165,8 +177,7 @@ public class CoverageDataTest {
   @Test
   public void shouldReturnCoverageIdOf0WhenNoTestsCoverClass() {
     assertEquals(0,
-        this.testee.getCoverageIdForClass(ClassName.fromString("unknown"))
-        .longValue());
+        this.testee.getCoverageIdForClass(ClassName.fromString("unknown")));
   }
 
   @SuppressWarnings("unchecked")
@@ -187,9 +198,56 @@ public class CoverageDataTest {
     this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
         block.build(1)).build());
 
-    assertThat(this.testee.getCoverageIdForClass(foo).longValue())
-        .isNotEqualTo(0);
+    assertThat(this.testee.getCoverageIdForClass(foo)).isNotEqualTo(0);
+
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldChangeCoverageIdWhenCoveringTestClassChanges() {
+    when(this.code.getClassInfo(any(Collection.class))).thenReturn(
+        Collections.singletonList(ClassInfoMother.make(new ClassIdentifier(1,
+            ClassName.fromString("FooTest")))));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("fooTest", "FooTest"), 0, 1, true));
+    final long before = this.testee.getCoverageIdForClass(this.foo);
+
+    when(this.code.getClassInfo(any(Collection.class))).thenReturn(
+        Collections.singletonList(ClassInfoMother.make(new ClassIdentifier(2,
+            ClassName.fromString("FooTest")))));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("fooTest", "FooTest"), 0, 1, true));
+
+    assertThat(this.testee.getCoverageIdForClass(this.foo)).isNotEqualTo(
+        before);
+  }
+
+  @Test
+  public void shouldGiveSameCoverageIdWhenTestsSeenInDifferentOrder() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("aTest", "ATest"), 0, 1, true));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("bTest", "BTest"), 0, 2, true));
+
+    final CoverageData other = new CoverageData(this.code, this.lm);
+    other.calculateClassCoverage(makeCoverageResult("foo", new Description(
+        "bTest", "BTest"), 0, 2, true));
+    other.calculateClassCoverage(makeCoverageResult("foo", new Description(
+        "aTest", "ATest"), 0, 1, true));
+
+    assertEquals(this.testee.getCoverageIdForClass(this.foo),
+        other.getCoverageIdForClass(this.foo));
+  }
+
+  @Test
+  public void shouldGiveDifferentCoverageIdsForDifferentCoveringTests() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("aTest", "ATest"), 0, 1, true));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar",
+        new Description("bTest", "BTest"), 0, 1, true));
 
+    assertThat(this.testee.getCoverageIdForClass(this.foo)).isNotEqualTo(
+        this.testee.getCoverageIdForClass(this.bar));
   }
 
   @Test
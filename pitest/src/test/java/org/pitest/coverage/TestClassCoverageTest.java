@@ -0,0 +1,100 @@
+package org.pitest.coverage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+
+public class TestClassCoverageTest {
+
+  private final Map<ClassName, ClassInfo> classes = new HashMap<ClassName, ClassInfo>();
+
+  private final ClassInfoSource           source  = new ClassInfoSource() {
+    @Override
+    public Option<ClassInfo> fetchClass(final ClassName name) {
+      return Option.some(TestClassCoverageTest.this.classes.get(name));
+    }
+  };
+
+  private ClassInfo                       fooTest;
+
+  private TestClassCoverage               testee;
+
+  @Before
+  public void setUp() {
+    this.fooTest = addClass("FooTest", 1);
+    addClass("Foo", 2);
+    addClass("Bar", 3);
+    this.testee = TestClassCoverage.fromResults(this.fooTest,
+        Arrays.asList(makeResult("Foo"), makeResult("Bar")), this.source);
+  }
+
+  @Test
+  public void shouldRecordIdsOfAllCoveredClasses() {
+    assertEquals(Arrays.asList(this.classes.get(ClassName.fromString("Foo"))
+        .getHierarchicalId(), this.classes.get(ClassName.fromString("Bar"))
+        .getHierarchicalId()), this.testee.getCoveredClasses());
+  }
+
+  @Test
+  public void shouldBeUnchangedWhenNoClassesHaveChanged() {
+    assertTrue(this.testee.isUnchanged(this.fooTest, this.source));
+  }
+
+  @Test
+  public void shouldBeChangedWhenTestClassHasChanged() {
+    final ClassInfo changed = addClass("FooTest", 42);
+    assertFalse(this.testee.isUnchanged(changed, this.source));
+  }
+
+  @Test
+  public void shouldBeChangedWhenCoveredClassHasChanged() {
+    addClass("Bar", 42);
+    assertFalse(this.testee.isUnchanged(this.fooTest, this.source));
+  }
+
+  @Test
+  public void shouldBeChangedWhenCoveredClassNoLongerExists() {
+    this.classes.remove(ClassName.fromString("Bar"));
+    assertFalse(this.testee.isUnchanged(this.fooTest, this.source));
+  }
+
+  @Test
+  public void shouldBeUnchangedWhenTestCoveredNothing() {
+    this.testee = TestClassCoverage.fromResults(this.fooTest,
+        Collections.<CoverageResult> emptyList(), this.source);
+    assertTrue(this.testee.isUnchanged(this.fooTest, this.source));
+  }
+
+  private ClassInfo addClass(final String name, final long hash) {
+    final ClassInfo info = ClassInfoMother.make(new ClassIdentifier(hash,
+        ClassName.fromString(name)));
+    this.classes.put(info.getName(), info);
+    return info;
+  }
+
+  private CoverageResult makeResult(final String coveredClass) {
+    final BlockLocation block = BlockLocation.blockLocation(Location.location(
+        ClassName.fromString(coveredClass), MethodName.fromString("foo"),
+        "()V"), 0);
+    return new CoverageResult(new Description("test", "FooTest"), 1, true,
+        Collections.singletonList(block));
+  }
+
+}
@@ -0,0 +1,109 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.testapi.Description;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+public class ClassCoverageBufferTest {
+
+  private ClassCoverageBuffer testee;
+
+  @Mock
+  private CoveragePipe        pipe;
+
+  @Mock
+  private InvokeReceiver      receiver;
+
+  private int                 classId;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    CodeCoverageStore.init(this.receiver);
+    this.classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(this.classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+    this.testee = new ClassCoverageBuffer(this.pipe);
+  }
+
+  @After
+  public void cleanUp() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
+  @Test
+  public void shouldNotRecordOutcomesUntilReplayed() {
+    runTest(new Description("aTest", "ATest"));
+    verifyZeroInteractions(this.pipe);
+  }
+
+  @Test
+  public void shouldReplayOutcomesWithHitsOfEachTest() {
+    final Description d = new Description("aTest", "ATest");
+    runTest(d);
+    this.testee.replay();
+    verify(this.pipe).recordTestOutcome(eq(d), eq(true), anyInt(),
+        eq(Arrays.asList(CodeCoverageStore.encode(this.classId, 0))));
+  }
+
+  @Test
+  public void shouldNotReportStartedThreadsWhenAllHitsMadeByTestThread() {
+    runTest(new Description("aTest", "ATest"));
+    assertThat(this.testee.hasStartedThreads()).isFalse();
+  }
+
+  @Test
+  public void shouldReportStartedThreadsWhenHitsMadeByOtherThreads()
+      throws InterruptedException {
+    this.testee.newTest();
+    final Thread t = new Thread() {
+      @Override
+      public void run() {
+        CodeCoverageStore.visitSingleProbe(ClassCoverageBufferTest.this.classId,
+            0);
+      }
+    };
+    t.start();
+    t.join();
+    this.testee.recordTestOutcome(new Description("aTest", "ATest"), true, 1);
+    assertThat(this.testee.hasStartedThreads()).isTrue();
+  }
+
+  @Test
+  public void shouldNotReportMissedHitsWhenAllHitsAttributedToTests() {
+    this.testee.start();
+    runTest(new Description("aTest", "ATest"));
+    this.testee.finish();
+    assertThat(this.testee.mayHaveMissedHits()).isFalse();
+  }
+
+  @Test
+  public void shouldReportMissedHitsWhenHitMadeOutsideAnyTestWhileRunning() {
+    this.testee.start();
+    runTest(new Description("aTest", "ATest"));
+    CodeCoverageStore.visitSingleProbe(this.classId, 0);
+    this.testee.finish();
+    assertThat(this.testee.mayHaveMissedHits()).isTrue();
+  }
+
+  private void runTest(final Description d) {
+    this.testee.newTest();
+    CodeCoverageStore.visitSingleProbe(this.classId, 0);
+    this.testee.recordTestOutcome(d, true, 1);
+  }
+
+}
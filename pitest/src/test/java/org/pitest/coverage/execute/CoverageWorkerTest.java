@@ -0,0 +1,173 @@
+package org.pitest.coverage.execute;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+import org.pitest.util.Unchecked;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+public class CoverageWorkerTest {
+
+  @Mock
+  private CoveragePipe   pipe;
+
+  @Mock
+  private InvokeReceiver receiver;
+
+  private int            foo;
+  private int            bar;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    CodeCoverageStore.init(this.receiver);
+    this.foo = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(this.foo, 1);
+    this.bar = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.registerClassProbes(this.bar, 1);
+  }
+
+  @After
+  public void cleanUp() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
+  @Test
+  public void shouldRecordCoverageThroughSharedStoreWhenRunOnOneThread() {
+    final TestUnit a = hitting("ATest", this.foo);
+    new CoverageWorker(this.pipe, Arrays.asList(a)).run();
+    verify(this.pipe).newTest();
+    verify(this.pipe).recordTestOutcome(eq(a.getDescription()), eq(true),
+        anyInt());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldAttributeHitsToTestsRunningConcurrently() {
+    final CyclicBarrier bothRunning = new CyclicBarrier(2);
+    final TestUnit a = hitting("ATest", this.foo, bothRunning);
+    final TestUnit b = hitting("BTest", this.bar, bothRunning);
+
+    new CoverageWorker(this.pipe, Arrays.asList(a, b), 2).run();
+
+    verify(this.pipe).recordTestOutcome(eq(a.getDescription()), eq(true),
+        anyInt(), eq(hits(this.foo)));
+    verify(this.pipe).recordTestOutcome(eq(b.getDescription()), eq(true),
+        anyInt(), eq(hits(this.bar)));
+  }
+
+  @Test
+  public void shouldRunClassesWithTestsThatStartThreadsAgainInIsolation() {
+    final TestUnit a = hittingFromNewThread("ATest", this.foo);
+    final TestUnit b = hitting("BTest", this.bar);
+
+    new CoverageWorker(this.pipe, Arrays.asList(a, b), 2).run();
+
+    verify(this.pipe, never()).recordTestOutcome(eq(a.getDescription()),
+        eq(true), anyInt(), Matchers.<Collection<Long>> any());
+    verify(this.pipe).recordTestOutcome(eq(a.getDescription()), eq(true),
+        anyInt());
+    verify(this.pipe).recordTestOutcome(eq(b.getDescription()), eq(true),
+        anyInt(), eq(hits(this.bar)));
+  }
+
+  @Test(timeout = 10000)
+  public void shouldRunClassesRunningWhenUnattributedHitMadeAgainInIsolation()
+      throws InterruptedException {
+    final CyclicBarrier allRunning = new CyclicBarrier(3);
+    final CyclicBarrier strayHitMade = new CyclicBarrier(3);
+    final TestUnit a = hitting("ATest", this.foo, allRunning, strayHitMade);
+    final TestUnit b = hitting("BTest", this.bar, allRunning, strayHitMade);
+    final Thread stray = new Thread() {
+      @Override
+      public void run() {
+        await(allRunning);
+        CodeCoverageStore.visitSingleProbe(CoverageWorkerTest.this.foo, 0);
+        await(strayHitMade);
+      }
+    };
+    stray.start();
+
+    new CoverageWorker(this.pipe, Arrays.asList(a, b), 2).run();
+    stray.join();
+
+    verify(this.pipe, never()).recordTestOutcome(any(Description.class),
+        eq(true), anyInt(), Matchers.<Collection<Long>> any());
+    verify(this.pipe).recordTestOutcome(eq(a.getDescription()), eq(true),
+        anyInt());
+    verify(this.pipe).recordTestOutcome(eq(b.getDescription()), eq(true),
+        anyInt());
+  }
+
+  private static List<Long> hits(final int classId) {
+    return Arrays.asList(CodeCoverageStore.encode(classId, 0));
+  }
+
+  private static TestUnit hitting(final String testClass, final int classId,
+      final CyclicBarrier... barriers) {
+    return new AbstractTestUnit(new Description("aTest", testClass)) {
+      private boolean rerun;
+
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        if (!this.rerun) {
+          for (final CyclicBarrier each : barriers) {
+            await(each);
+          }
+        }
+        this.rerun = true;
+        CodeCoverageStore.visitSingleProbe(classId, 0);
+      }
+    };
+  }
+
+  private static TestUnit hittingFromNewThread(final String testClass,
+      final int classId) {
+    return new AbstractTestUnit(new Description("aTest", testClass)) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        final Thread t = new Thread() {
+          @Override
+          public void run() {
+            CodeCoverageStore.visitSingleProbe(classId, 0);
+          }
+        };
+        t.start();
+        try {
+          t.join();
+        } catch (final InterruptedException e) {
+          throw Unchecked.translateCheckedException(e);
+        }
+      }
+    };
+  }
+
+  private static void await(final CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (final Exception e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
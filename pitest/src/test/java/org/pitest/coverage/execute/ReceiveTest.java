@@ -4,6 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -12,6 +15,7 @@ import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.MemorySample;
 import org.pitest.util.SafeDataInputStream;
 
 import sun.pitest.CodeCoverageStore;
@@ -53,6 +57,21 @@ public class ReceiveTest {
     assertNull(this.result);
   }
 
+  @Test
+  public void shouldPassMemorySampleToRecorder() {
+    final List<MemorySample> samples = new ArrayList<MemorySample>();
+    this.testee = new Receive(this.handler, new SideEffect1<MemorySample>() {
+      @Override
+      public void apply(final MemorySample a) {
+        samples.add(a);
+      }
+    });
+    when(this.is.readLong()).thenReturn(1L, 2L, 3L);
+    this.testee.apply(Id.MEMORY, this.is);
+    assertEquals(1, samples.size());
+    assertEquals(3L, samples.get(0).getPeakResident());
+  }
+
   @Test
   public void shouldReportWhenTestFails() {
     recordTestCoverage(0, 0, 0, false);
@@ -0,0 +1,79 @@
+package org.pitest.coverage.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.functional.SideEffect1;
+import org.pitest.util.ResultOutputStrategy;
+
+public class CoverageExportReaderTest {
+
+  private final CoverageExportReader testee = new CoverageExportReader();
+
+  private final List<BlockCoverage>  read   = new ArrayList<BlockCoverage>();
+
+  @Test
+  public void shouldReadNothingFromEmptyExport() {
+    this.testee.read(
+        new StringReader(export(Collections.<BlockCoverage> emptyList())),
+        collect());
+    assertEquals(0, this.read.size());
+  }
+
+  @Test
+  public void shouldReadBackBlocksAndTestsWrittenByExporter() {
+    final BlockLocation foo = aBlockLocation()
+        .withLocation(
+            aLocation().withClass(ClassName.fromString("com.example.Foo"))
+                .withMethod("<init>")).withBlock(3).build();
+    final BlockLocation bar = aBlockLocation()
+        .withLocation(
+            aLocation().withClass(ClassName.fromString("com.example.Bar")))
+        .withBlock(1).build();
+
+    this.testee.read(new StringReader(export(Arrays.asList(new BlockCoverage(
+        foo, Arrays.asList("FooTest.a", "FooTest.<b>")), new BlockCoverage(bar,
+        Collections.<String> emptyList())))), collect());
+
+    assertEquals(2, this.read.size());
+    assertEquals(foo, this.read.get(0).getBlock());
+    assertEquals(Arrays.asList("FooTest.<b>", "FooTest.a"), this.read.get(0)
+        .getTests());
+    assertEquals(bar, this.read.get(1).getBlock());
+    assertEquals(0, this.read.get(1).getTests().size());
+  }
+
+  private static String export(final List<BlockCoverage> coverage) {
+    final StringWriter out = new StringWriter();
+    new DefaultCoverageExporter(new ResultOutputStrategy() {
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        return out;
+      }
+    }).recordCoverage(coverage);
+    return out.toString();
+  }
+
+  private SideEffect1<BlockCoverage> collect() {
+    return new SideEffect1<BlockCoverage>() {
+      @Override
+      public void apply(final BlockCoverage a) {
+        CoverageExportReaderTest.this.read.add(a);
+      }
+    };
+  }
+
+}
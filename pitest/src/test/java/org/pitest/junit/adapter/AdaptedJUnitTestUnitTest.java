@@ -15,17 +15,28 @@
 
 package org.pitest.junit.adapter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
+import org.junit.runner.RunWith;
 import org.junit.runner.manipulation.Filter;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.model.InitializationError;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classpath.ClassPath;
 import org.pitest.functional.Option;
+import org.pitest.junit.DescriptionFilter;
+import org.pitest.mutationtest.execute.DefaultPITClassloader;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.util.ClassLoaderDetectionStrategy;
 import org.pitest.util.IsolationUtils;
@@ -58,6 +69,27 @@ public class AdaptedJUnitTestUnitTest {
 
     }
 
+    @RunWith(CountingRunner.class)
+    public static class CountedTest {
+
+      @Test
+      public void pass() {
+
+      }
+
+    }
+
+  }
+
+  public static class CountingRunner extends BlockJUnit4ClassRunner {
+
+    static int constructed;
+
+    public CountingRunner(final Class<?> klass) throws InitializationError {
+      super(klass);
+      constructed++;
+    }
+
   }
 
   @Test
@@ -115,6 +147,59 @@ public class AdaptedJUnitTestUnitTest {
         any(Throwable.class));
   }
 
+  @Test
+  public void shouldReuseRunnerWhenExecutedRepeatedlyInSameLoader() {
+    CountingRunner.constructed = 0;
+    createTestee(IsolationUtils.loaderDetectionStrategy(),
+        HideFromJUnit.CountedTest.class, "pass");
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    assertEquals(1, CountingRunner.constructed);
+    verify(this.rc, times(2)).notifyEnd(this.testee.getDescription());
+  }
+
+  @Test
+  public void shouldRebuildRunnerWhenExecutedInDifferentLoader() {
+    CountingRunner.constructed = 0;
+    createTestee(IsolationUtils.loaderDetectionStrategy(),
+        HideFromJUnit.CountedTest.class, "pass");
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    this.testee.execute(new URLClassLoader(new URL[0],
+        IsolationUtils.getContextClassLoader()), this.rc);
+    assertEquals(2, CountingRunner.constructed);
+  }
+
+  @Test
+  public void shouldReportSkippedOnEveryExecutionWhenFilterMatchesNoTests() {
+    createTestee(IsolationUtils.loaderDetectionStrategy(),
+        HideFromJUnit.JUnit4Test.class, "doesNotExist");
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    verify(this.rc, times(2)).notifySkipped(this.testee.getDescription());
+  }
+
+  @Test
+  public void shouldReportFailuresFromLoaderWithItsOwnCopyOfPitest() {
+    final ClassLoader isolated = new DefaultPITClassloader(new ClassPath(),
+        IsolationUtils.bootClassLoader());
+    this.testee = new AdaptedJUnitTestUnit(HideFromJUnit.JUnit4Test.class,
+        Option.<Filter> some(new DescriptionFilter(Description
+            .createTestDescription(HideFromJUnit.JUnit4Test.class, "fail")
+            .toString())));
+    this.testee.execute(isolated, this.rc);
+    verify(this.rc).notifyStart(this.testee.getDescription());
+    verify(this.rc).notifyEnd(eq(this.testee.getDescription()),
+        any(AssertionError.class));
+  }
+
+  @Test
+  public void shouldReportSkippedInForeignLoaderWhenFilterMatchesNoTests() {
+    createTestee(neverMatchLoaderDetectionStrategy(),
+        HideFromJUnit.JUnit4Test.class, "doesNotExist");
+    this.testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    verify(this.rc).notifySkipped(this.testee.getDescription());
+  }
+
   private void createTestee(
       final ClassLoaderDetectionStrategy classLoaderDetectionStrategy,
       final Class<?> clazz, final String method) {
@@ -122,7 +207,8 @@ public class AdaptedJUnitTestUnitTest {
         createFilter(clazz, method));
   }
 
-  private Option<Filter> createFilter(final Class<?> clazz, final String method) {
+  private static Option<Filter> createFilter(final Class<?> clazz,
+      final String method) {
     final Description d = Description.createTestDescription(clazz, method);
     final Filter f = new Filter() {
 
@@ -16,61 +16,48 @@
 package org.pitest.junit.adapter;
 
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.pitest.DescriptionMother;
-import org.pitest.testapi.ResultCollector;
-import org.pitest.testapi.foreignclassloader.Events;
+import org.pitest.testapi.foreignclassloader.ResultSink;
 
 public class ForeignClassLoaderAdaptingRunListenerTest {
 
   private ForeignClassLoaderAdaptingRunListener testee;
 
-  private List<String>                          queue;
-
   @Mock
   private Throwable                             throwable;
 
-  private org.pitest.testapi.Description        pitDescription;
-
   @Mock
   private Description                           junitDesc;
 
   @Mock
-  private ResultCollector                       rc;
+  private ResultSink                            sink;
 
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
-    this.queue = new ArrayList<String>();
-    this.pitDescription = DescriptionMother.createEmptyDescription("foo");
-    this.testee = new ForeignClassLoaderAdaptingRunListener(this.queue);
+    this.testee = new ForeignClassLoaderAdaptingRunListener(this.sink);
   }
 
   @Test
   public void shouldReportExceptionOnFailure() throws Exception {
     this.testee.testFailure(new Failure(this.junitDesc, this.throwable));
-    applyEvents();
-    verify(this.rc).notifyEnd(eq(this.pitDescription), any(Throwable.class));
+    verify(this.sink).end(isNull(String.class), any(Throwable.class));
   }
 
   @Test
   public void shouldNotReportTestEndWithoutErrorAfterFailure() throws Exception {
     this.testee.testFailure(new Failure(this.junitDesc, this.throwable));
     this.testee.testFinished(this.junitDesc);
-    applyEvents();
-    verify(this.rc, never()).notifyEnd(this.pitDescription);
+    verify(this.sink, never()).end(null, null);
   }
 
   @Test
@@ -78,34 +65,27 @@ public class ForeignClassLoaderAdaptingRunListenerTest {
     this.testee.testAssumptionFailure(new Failure(this.junitDesc,
         this.throwable));
     this.testee.testFinished(this.junitDesc);
-    applyEvents();
-    verify(this.rc, never()).notifyEnd(this.pitDescription, this.throwable);
-    verify(this.rc).notifyEnd(this.pitDescription);
+    verify(this.sink, never()).end(null, this.throwable);
+    verify(this.sink).end(null, null);
   }
 
   @Test
   public void shouldReportIgnoredTestsAsSkipped() throws Exception {
     this.testee.testIgnored(this.junitDesc);
-    applyEvents();
-    verify(this.rc).notifySkipped(this.pitDescription);
+    verify(this.sink).skipped(null);
   }
 
   @Test
   public void shouldNotReportTestEndWithoutErrorAfterIgnore() throws Exception {
     this.testee.testIgnored(this.junitDesc);
     this.testee.testFinished(this.junitDesc);
-    applyEvents();
-    verify(this.rc, never()).notifyEnd(this.pitDescription);
+    verify(this.sink, never()).end(null, null);
   }
 
   @Test
   public void shouldReportStartedTests() throws Exception {
     this.testee.testStarted(this.junitDesc);
-    applyEvents();
-    verify(this.rc).notifyStart(this.pitDescription);
+    verify(this.sink).start(null);
   }
 
-  private void applyEvents() {
-    Events.applyEvents(this.queue, this.rc, this.pitDescription);
-  }
 }
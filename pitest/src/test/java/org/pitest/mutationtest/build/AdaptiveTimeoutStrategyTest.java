@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveTimeoutStrategyTest {
+
+  private static final String     TEST = "FooTest.aTest";
+
+  private AdaptiveTimeoutStrategy testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new AdaptiveTimeoutStrategy(2f, 4000);
+  }
+
+  @Test
+  public void shouldLearnFromCoverageTimeWhenNoRunsRecorded() {
+    assertEquals(20 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime(TEST, 10));
+  }
+
+  @Test
+  public void shouldCountCoverageTimeAlongsideRecordedRuns() {
+    this.testee.getAllowedTime(TEST, 1000);
+    this.testee.recordPassingRun(TEST, 100000);
+    this.testee.recordPassingRun(TEST, 100);
+    assertEquals(2000 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime(TEST, 1000));
+  }
+
+  @Test
+  public void shouldIgnoreFirstRunOfEachTest() {
+    recordRuns(100000, 100, 100, 100);
+    assertEquals(200 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime(TEST, 10));
+  }
+
+  @Test
+  public void shouldAllowFactorOfPercentileOfRecordedRuns() {
+    recordRuns(1, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130,
+        140, 150, 160, 170, 180, 190, 200);
+    assertEquals(380 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime(TEST, 10));
+  }
+
+  @Test
+  public void shouldLearnTimingsOfEachTestSeparately() {
+    recordRuns(100, 100, 100, 100);
+    assertEquals(20 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime("BarTest.aTest", 10));
+  }
+
+  @Test
+  public void shouldOnlyConsiderMostRecentRuns() {
+    recordRuns(0, 100000);
+    for (int i = 0; i != AdaptiveTimeoutStrategy.MAX_SAMPLES; i++) {
+      this.testee.recordPassingRun(TEST, 100);
+    }
+    assertEquals(200 + AdaptiveTimeoutStrategy.LEARNED_CONSTANT,
+        this.testee.getAllowedTime(TEST, 10));
+  }
+
+  @Test
+  public void shouldUsePercentAndConstantWhenNoTestSupplied() {
+    recordRuns(100, 100, 100, 100);
+    assertEquals(4020, this.testee.getAllowedTime(10));
+  }
+
+  private void recordRuns(final long... durations) {
+    this.testee.getAllowedTime(TEST, 10);
+    for (final long each : durations) {
+      this.testee.recordPassingRun(TEST, each);
+    }
+  }
+
+}
@@ -3,11 +3,13 @@ package org.pitest.mutationtest.build;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.engine.MutationDetails;
 
 public class AnalyisPriorityComparatorTest {
 
@@ -41,6 +43,11 @@ public class AnalyisPriorityComparatorTest {
         return count;
       }
 
+      @Override
+      public Collection<MutationDetails> mutations() {
+        return Collections.emptyList();
+      }
+
       @Override
       public String toString() {
         return "" + count;
@@ -0,0 +1,133 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+
+public class AnalysisBudgetTest {
+
+  @Test
+  public void shouldScheduleEveryUnit() {
+    final List<MutationAnalysisUnit> units = makeUnits(10);
+    final List<MutationAnalysisUnit> actual = new AnalysisBudget(1000, 0)
+        .schedule(units);
+    assertThat(actual).hasSize(10);
+    assertThat(new HashSet<MutationAnalysisUnit>(unwrap(actual))).isEqualTo(
+        new HashSet<MutationAnalysisUnit>(units));
+  }
+
+  @Test
+  public void shouldScheduleUnitsInSameOrderForSameSeed() {
+    final List<MutationAnalysisUnit> units = makeUnits(10);
+    assertThat(unwrap(new AnalysisBudget(1000, 42).schedule(units)))
+        .isEqualTo(unwrap(new AnalysisBudget(1000, 42).schedule(units)));
+  }
+
+  @Test
+  public void shouldRunUnitsStartedWithinBudget() throws Exception {
+    final MutationAnalysisUnit unit = makeUnit();
+    final MutationMetaData expected = new MutationMetaData(
+        Collections.<MutationResult> emptyList());
+    when(unit.call()).thenReturn(expected);
+    final AnalysisBudget testee = new AnalysisBudget(60000, 0);
+    final MutationAnalysisUnit scheduled = testee.schedule(
+        Collections.singletonList(unit)).get(0);
+    testee.start();
+    assertThat(scheduled.call()).isSameAs(expected);
+    assertThat(testee.getSkipped()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotRunUnitsStartedOnceBudgetIsSpent() throws Exception {
+    final MutationAnalysisUnit unit = makeUnit();
+    final AnalysisBudget testee = new AnalysisBudget(0, 0);
+    final MutationAnalysisUnit scheduled = testee.schedule(
+        Collections.singletonList(unit)).get(0);
+    testee.start();
+    assertThat(scheduled.call().getMutations()).isEmpty();
+    verify(unit, never()).call();
+    assertThat(testee.getSkipped()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEstimateDesignEffectFromResultsOfUnitsRun()
+      throws Exception {
+    final List<MutationAnalysisUnit> units = Arrays.asList(
+        makeUnitWithResults(DetectionStatus.KILLED, DetectionStatus.KILLED),
+        makeUnitWithResults(DetectionStatus.SURVIVED, DetectionStatus.SURVIVED),
+        makeUnitWithResults(DetectionStatus.KILLED, DetectionStatus.KILLED));
+    final AnalysisBudget testee = new AnalysisBudget(60000, 0);
+    testee.start();
+    for (final MutationAnalysisUnit each : testee.schedule(units)) {
+      each.call();
+    }
+    assertThat(testee.getDesignEffect()).isGreaterThan(1d);
+  }
+
+  @Test
+  public void shouldNotConsiderBudgetSpentBeforeStarting() {
+    assertThat(new AnalysisBudget(0, 0).isSpent(Long.MAX_VALUE - 1)).isFalse();
+  }
+
+  @Test
+  public void shouldConsiderBudgetSpentOnceTimeHasElapsed() {
+    final AnalysisBudget testee = new AnalysisBudget(100, 0);
+    testee.start(1000);
+    assertThat(testee.isSpent(1099)).isFalse();
+    assertThat(testee.isSpent(1100)).isTrue();
+  }
+
+  private static List<MutationAnalysisUnit> makeUnits(final int count) {
+    final List<MutationAnalysisUnit> units = new ArrayList<MutationAnalysisUnit>();
+    for (int i = 0; i != count; i++) {
+      units.add(makeUnit());
+    }
+    return units;
+  }
+
+  private static MutationAnalysisUnit makeUnit() {
+    final MutationAnalysisUnit unit = mock(MutationAnalysisUnit.class);
+    when(unit.mutations()).thenReturn(
+        Collections.<MutationDetails> singletonList(MutationDetailsMother
+            .makeMutation()));
+    return unit;
+  }
+
+  private static MutationAnalysisUnit makeUnitWithResults(
+      final DetectionStatus... statuses) throws Exception {
+    final MutationAnalysisUnit unit = makeUnit();
+    final List<MutationResult> results = new ArrayList<MutationResult>();
+    for (final DetectionStatus each : statuses) {
+      results.add(new MutationResult(MutationDetailsMother.makeMutation(),
+          new MutationStatusTestPair(1, each)));
+    }
+    when(unit.call()).thenReturn(new MutationMetaData(results));
+    return unit;
+  }
+
+  private static List<MutationAnalysisUnit> unwrap(
+      final List<MutationAnalysisUnit> scheduled) {
+    final List<MutationAnalysisUnit> units = new ArrayList<MutationAnalysisUnit>();
+    for (final MutationAnalysisUnit each : scheduled) {
+      units.add(((AnalysisBudget.BudgetedUnit) each).child());
+    }
+    return units;
+  }
+
+}
@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+
+import org.junit.Test;
+import org.pitest.util.PitError;
+
+public class DefaultMutationGrouperFactoryTest {
+
+  private final DefaultMutationGrouperFactory testee = new DefaultMutationGrouperFactory();
+
+  private final Properties                    props  = new Properties();
+
+  @Test
+  public void shouldGroupByClassByDefault() {
+    assertThat(this.testee.makeFactory(this.props, null, 1, 0)).isInstanceOf(
+        DefaultGrouper.class);
+  }
+
+  @Test
+  public void shouldGroupByTestsWhenUnitDurationGiven() {
+    this.props.setProperty(DefaultMutationGrouperFactory.UNIT_DURATION,
+        "60000");
+    assertThat(this.testee.makeFactory(this.props, null, 1, 0)).isInstanceOf(
+        TestSetGrouper.class);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectUnitDurationThatIsNotANumber() {
+    this.props.setProperty(DefaultMutationGrouperFactory.UNIT_DURATION, "soon");
+    this.testee.makeFactory(this.props, null, 1, 0);
+  }
+
+}
@@ -0,0 +1,163 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class MutationCatalogueTest {
+
+  private final MutationCatalogue testee = new MutationCatalogue();
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldReadBackStoredMutations() {
+    final TestInfo test = makeTest("FooTest");
+    final MutationDetails expected = aMutationDetail()
+        .withId(makeId("com.example.Foo", "bar", Arrays.asList(3, 7)))
+        .withFilename("Foo.java").withDescription("removed call")
+        .withLineNumber(12).withBlock(4).withIsInFinallyBlock(true)
+        .withTestsInOrder(Arrays.asList(test, makeTest("BarTest"))).build();
+
+    final MutationDetails actual = this.testee.store(
+        Collections.singletonList(expected)).get(0);
+
+    assertEquals(expected, actual);
+    assertEquals(expected.getId().getIndexes(), actual.getId().getIndexes());
+    assertEquals(expected.getId().getLocation(), actual.getId().getLocation());
+    assertEquals("Foo.java", actual.getFilename());
+    assertEquals("removed call", actual.getDescription());
+    assertEquals(12, actual.getLineNumber());
+    assertEquals(4, actual.getBlock());
+    assertTrue(actual.isInFinallyBlock());
+    assertFalse(actual.mayPoisonJVM());
+    assertEquals(expected.getTestsInOrder(), actual.getTestsInOrder());
+    assertSame(test, actual.getTestsInOrder().get(0));
+  }
+
+  @Test
+  public void shouldReadBackPoisoningMutations() {
+    final MutationDetails expected = aMutationDetail().withPoison(true)
+        .build();
+    assertTrue(this.testee.store(Collections.singletonList(expected)).get(0)
+        .mayPoisonJVM());
+  }
+
+  @Test
+  public void shouldReadBackMissingNames() {
+    final MutationDetails expected = aMutationDetail().withFilename(null)
+        .build();
+    assertNull(this.testee.store(Collections.singletonList(expected)).get(0)
+        .getFilename());
+  }
+
+  @Test
+  public void shouldReturnMutationsInOrderStored() {
+    final List<MutationDetails> expected = Arrays.asList(
+        makeDetails("com.example.A"), makeDetails("com.example.B"),
+        makeDetails("com.example.C"));
+    final List<MutationDetails> actual = this.testee.store(expected);
+    assertEquals(3, actual.size());
+    assertEquals(expected, new ArrayList<MutationDetails>(actual));
+  }
+
+  @Test
+  public void shouldKeepMutationsFromEarlierStores() {
+    final List<MutationDetails> first = this.testee.store(Arrays
+        .asList(makeDetails("com.example.A")));
+    this.testee.store(Arrays.asList(makeDetails("com.example.B"),
+        makeDetails("com.example.C")));
+    assertEquals(makeDetails("com.example.A"), first.get(0));
+    assertEquals(3, this.testee.size());
+  }
+
+  @Test
+  public void shouldStoreMutationsSpanningSeveralMappedChunks() {
+    final TestInfo test = makeTest("FooTest");
+    final List<TestInfo> manyTests = Collections.nCopies(700000, test);
+    final List<MutationDetails> expected = new ArrayList<MutationDetails>();
+    for (int i = 0; i != 3; i++) {
+      expected.add(aMutationDetail().withLineNumber(i)
+          .withTestsInOrder(manyTests).build());
+    }
+    final List<MutationDetails> actual = this.testee.store(expected);
+    for (int i = 0; i != 3; i++) {
+      assertEquals(i, actual.get(i).getLineNumber());
+      assertEquals(manyTests, actual.get(i).getTestsInOrder());
+    }
+  }
+
+  @Test
+  public void shouldAllowReadsFromManyThreadsWhileStoring() throws Exception {
+    final List<MutationDetails> expected = Arrays.asList(
+        makeDetails("com.example.A"), makeDetails("com.example.B"));
+    final List<MutationDetails> stored = this.testee.store(expected);
+    final List<Throwable> failures = Collections
+        .synchronizedList(new ArrayList<Throwable>());
+    final List<Thread> readers = new ArrayList<Thread>();
+    for (int i = 0; i != 4; i++) {
+      readers.add(new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int j = 0; j != 1000; j++) {
+              assertEquals(expected, new ArrayList<MutationDetails>(stored));
+            }
+          } catch (final Throwable t) {
+            failures.add(t);
+          }
+        }
+      });
+    }
+    for (final Thread each : readers) {
+      each.start();
+    }
+    for (int i = 0; i != 1000; i++) {
+      this.testee.store(Collections.singletonList(makeDetails("com.example.C"
+          + i)));
+    }
+    for (final Thread each : readers) {
+      each.join();
+    }
+    assertEquals(Collections.emptyList(), failures);
+    assertEquals(1002, this.testee.size());
+  }
+
+  private static TestInfo makeTest(final String name) {
+    return new TestInfo(name, name + ".aTest", 1, Option.<ClassName> none(), 1);
+  }
+
+  private static MutationIdentifier makeId(final String clazz,
+      final String method, final List<Integer> indexes) {
+    return new MutationIdentifier(Location.location(
+        ClassName.fromString(clazz), MethodName.fromString(method), "()V"),
+        indexes, "mutator");
+  }
+
+  private static MutationDetails makeDetails(final String clazz) {
+    return aMutationDetail().withId(
+        makeId(clazz, "foo", Collections.singletonList(1))).build();
+  }
+
+}
@@ -3,11 +3,15 @@ package org.pitest.mutationtest.build;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,6 +20,11 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -80,6 +89,81 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldReportKnownResultsWithoutGeneratingMutations() {
+    final MutationResult known = new MutationResult(createDetails("bar"),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "aTest"));
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Collections.<MutationDetails> emptyList());
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")),
+            Collections.singletonList(known));
+    assertEquals(1, actual.size());
+    assertEquals(Collections.singletonList(known.getDetails()),
+        new ArrayList<MutationDetails>(actual.get(0).mutations()));
+    verify(this.source, never()).createMutations(ClassName.fromString("bar"));
+  }
+
+  @Test
+  public void shouldHoldMutationsInCatalogueWhenSupplied() {
+    final MutationCatalogue catalogue = new MutationCatalogue();
+    try {
+      this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+          this.source, new DefaultGrouper(0), Option.some(catalogue));
+      final List<MutationDetails> mutations = Arrays.asList(
+          createDetails("foo"), createDetails("foo"));
+      when(this.source.createMutations(any(ClassName.class))).thenReturn(
+          mutations);
+      final List<MutationAnalysisUnit> actual = this.testee
+          .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+      assertEquals(2, catalogue.size());
+      assertEquals(mutations, new ArrayList<MutationDetails>(actual.get(0)
+          .mutations()));
+    } finally {
+      catalogue.close();
+    }
+  }
+
+  @Test
+  public void shouldAnalyseOneClassAtATimeWhenStoringInCatalogue() {
+    final MutationCatalogue catalogue = new MutationCatalogue();
+    try {
+      final RecordingAnalyser analyser = new RecordingAnalyser();
+      this.testee = new MutationTestBuilder(this.wf, analyser, this.source,
+          new DefaultGrouper(0), Option.some(catalogue));
+      final ClassName foo = ClassName.fromString("foo");
+      final ClassName bar = ClassName.fromString("bar");
+      when(this.source.createMutations(foo)).thenReturn(
+          Arrays.asList(createDetails("foo"), createDetails("foo")));
+      when(this.source.createMutations(bar)).thenReturn(
+          Arrays.asList(createDetails("bar")));
+      final List<MutationAnalysisUnit> actual = this.testee
+          .createMutationTestUnits(Arrays.asList(foo, bar));
+      assertEquals(Arrays.asList(2, 1), analyser.calls);
+      assertEquals(2, actual.size());
+      assertEquals(3, catalogue.size());
+    } finally {
+      catalogue.close();
+    }
+  }
+
+  @Test
+  public void shouldAnalyseAllClassesTogetherWhenGrouperMixesClasses() {
+    final MutationCatalogue catalogue = new MutationCatalogue();
+    try {
+      final RecordingAnalyser analyser = new RecordingAnalyser();
+      this.testee = new MutationTestBuilder(this.wf, analyser, this.source,
+          new TestSetGrouper(1000, 0, 1), Option.some(catalogue));
+      when(this.source.createMutations(any(ClassName.class))).thenReturn(
+          Arrays.asList(createDetails("foo")));
+      this.testee.createMutationTestUnits(Arrays.asList(
+          ClassName.fromString("foo"), ClassName.fromString("bar")));
+      assertEquals(Arrays.asList(2), analyser.calls);
+    } finally {
+      catalogue.close();
+    }
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -95,6 +179,17 @@ public class MutationTestBuilderTest {
         this.source, new DefaultGrouper(unitSize));
   }
 
+  private static class RecordingAnalyser implements MutationAnalyser {
+    private final List<Integer> calls = new ArrayList<Integer>();
+
+    @Override
+    public Collection<MutationResult> analyse(
+        final Collection<MutationDetails> mutations) {
+      this.calls.add(mutations.size());
+      return new NullAnalyser().analyse(mutations);
+    }
+  }
+
   public static MutationDetails createDetails(String clazz) {
     return new MutationDetails(aMutationId().withLocation(aLocation(clazz))
         .build(), "", "desc", 42, 0);
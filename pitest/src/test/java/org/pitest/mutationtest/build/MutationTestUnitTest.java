@@ -1,29 +1,43 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
 
 public class MutationTestUnitTest {
 
@@ -75,6 +89,56 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldRerunUnfinishedMutationsWhenContactWithMinionIsLost()
+      throws Exception {
+    final MutationDetails mutation = MutationDetailsMother
+        .aMutationDetail()
+        .withTestsInOrder(
+            Collections.singletonList(new TestInfo("FooTest", "FooTest.test",
+                1, Option.<ClassName> none(), 1))).build();
+    this.mutations.add(mutation);
+
+    final RunMetrics metrics = new RunMetrics();
+    final MutationTestProcess lost = mock(MutationTestProcess.class);
+    when(lost.waitToDie()).thenReturn(ExitCode.UNKNOWN_ERROR);
+    when(lost.wasLost()).thenReturn(true);
+    when(lost.metrics()).thenReturn(metrics.newMinion());
+
+    final MutationTestProcess completed = mock(MutationTestProcess.class);
+    when(completed.waitToDie()).thenReturn(ExitCode.OK);
+    when(completed.metrics()).thenReturn(metrics.newMinion());
+    doAnswer(killMutation(mutation)).when(completed).results(
+        any(MutationStatusMap.class));
+
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    when(
+        factory.createWorker(anyCollectionOf(MutationDetails.class),
+            anyCollectionOf(ClassName.class))).thenReturn(lost, completed);
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    assertThat(actual.getMutations()).containsOnly(
+        new MutationResult(mutation, new MutationStatusTestPair(1,
+            DetectionStatus.KILLED, "FooTest.test")));
+    assertThat(metrics.getMinionRestarts()).isEqualTo(1);
+  }
+
+  private static Answer<Void> killMutation(final MutationDetails mutation) {
+    return new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) {
+        final MutationStatusMap map = (MutationStatusMap) invocation
+            .getArguments()[0];
+        map.setStatusForMutation(mutation, new MutationStatusTestPair(1,
+            DetectionStatus.KILLED, "FooTest.test"));
+        return null;
+      }
+    };
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), null, null,
         0, 0));
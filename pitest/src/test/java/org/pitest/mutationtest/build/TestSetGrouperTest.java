@@ -0,0 +1,131 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class TestSetGrouperTest {
+
+  private TestSetGrouper testee;
+
+  private int            index;
+
+  @Test
+  public void shouldGroupMutationsInDifferentClassesCoveredBySameTests() {
+    this.testee = new TestSetGrouper(10000, 0, 1);
+    final MutationDetails foo = mutation("Foo", test("ATest", 100));
+    final MutationDetails bar = mutation("Bar", test("BTest", 100));
+    final MutationDetails car = mutation("Car", test("ATest", 100));
+    final MutationDetails dar = mutation("Dar", test("BTest", 100));
+    final List<List<MutationDetails>> actual = group(foo, bar, car, dar);
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0)).containsOnly(foo, car);
+    assertThat(actual.get(1)).containsOnly(bar, dar);
+  }
+
+  @Test
+  public void shouldStartNewUnitOnceTargetDurationReached() {
+    this.testee = new TestSetGrouper(250, 0, 1);
+    final List<MutationDetails> mutations = new ArrayList<MutationDetails>();
+    for (int i = 0; i != 6; i++) {
+      mutations.add(mutation("Foo", test("ATest", 100)));
+    }
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, mutations);
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0)).hasSize(3);
+    assertThat(actual.get(1)).hasSize(3);
+  }
+
+  @Test
+  public void shouldFillUnitsWithMutationsSharingTests() {
+    this.testee = new TestSetGrouper(170, 0, 1);
+    final MutationDetails both = mutation("Foo", test("ATest", 100),
+        test("CTest", 10));
+    final MutationDetails other = mutation("Bar", test("BTest", 100));
+    final MutationDetails shared = mutation("Car", test("ATest", 100));
+    final List<List<MutationDetails>> actual = group(both, other, shared);
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0)).containsExactly(both, shared);
+    assertThat(actual.get(1)).containsExactly(other);
+  }
+
+  @Test
+  public void shouldPackUnrelatedMutationsWhenUnitHasRoom() {
+    this.testee = new TestSetGrouper(10000, 0, 1);
+    final List<List<MutationDetails>> actual = group(
+        mutation("Foo", test("ATest", 1)), mutation("Bar", test("BTest", 1)),
+        mutation("Car", test("CTest", 1)), mutation("Dar"));
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0)).hasSize(2);
+    assertThat(actual.get(1)).hasSize(2);
+  }
+
+  @Test
+  public void shouldNotExceedUnitSize() {
+    this.testee = new TestSetGrouper(10000, 2, 1);
+    final List<List<MutationDetails>> actual = group(
+        mutation("Foo", test("ATest", 1)), mutation("Foo", test("ATest", 1)),
+        mutation("Foo", test("ATest", 1)));
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldCreateAtLeastTwoUnitsPerThread() {
+    this.testee = new TestSetGrouper(10000, 0, 2);
+    final List<List<MutationDetails>> actual = group(
+        mutation("Foo", test("ATest", 100)),
+        mutation("Foo", test("ATest", 100)),
+        mutation("Foo", test("ATest", 100)),
+        mutation("Foo", test("ATest", 100)));
+    assertThat(actual).hasSize(4);
+  }
+
+  @Test
+  public void shouldAssignEveryMutationToExactlyOneUnit() {
+    this.testee = new TestSetGrouper(50, 0, 1);
+    final List<MutationDetails> mutations = new ArrayList<MutationDetails>();
+    for (int i = 0; i != 30; i++) {
+      mutations.add(mutation("Foo" + (i % 7), test("Test" + (i % 5), i),
+          test("Test" + (i % 3), 2 * i)));
+    }
+    final List<MutationDetails> grouped = new ArrayList<MutationDetails>();
+    for (final List<MutationDetails> each : this.testee.groupMutations(null,
+        mutations)) {
+      grouped.addAll(each);
+    }
+    assertThat(grouped).hasSize(30);
+    assertThat(grouped).containsOnly(
+        mutations.toArray(new MutationDetails[mutations.size()]));
+  }
+
+  private List<List<MutationDetails>> group(final MutationDetails... mutations) {
+    return this.testee.groupMutations(null, Arrays.asList(mutations));
+  }
+
+  private static TestInfo test(final String testClass, final int time) {
+    return new TestInfo(testClass, testClass + ".aTest", time,
+        Option.<ClassName> none(), 1);
+  }
+
+  private MutationDetails mutation(final String clazz,
+      final TestInfo... tests) {
+    this.index++;
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withLocation(aLocation(clazz)).withIndex(this.index).build(), "file",
+        "desc", 1, 2);
+    md.addTestsInOrder(Arrays.asList(tests));
+    return md;
+  }
+
+}
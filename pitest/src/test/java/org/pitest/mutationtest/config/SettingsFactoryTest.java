@@ -4,17 +4,28 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Properties;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.NullMinionProfiler;
+import org.pitest.mutationtest.filter.ChangedLinesFilterFactory;
+import org.pitest.mutationtest.filter.MutationFilter;
 import org.pitest.util.Glob;
 import org.pitest.util.PitError;
 
@@ -42,6 +53,12 @@ public class SettingsFactoryTest {
     assertTrue(this.testee.createCoverageExporter() instanceof NullCoverageExporter);
   }
 
+  @Test
+  public void shouldReturnANullMinionProfilerWhenOptionSetToFalse() {
+    this.options.setExportMinionProfile(false);
+    assertTrue(this.testee.createMinionProfiler() instanceof NullMinionProfiler);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
@@ -103,6 +120,29 @@ public class SettingsFactoryTest {
     assertFalse(actual.getFilter().apply("org/pitest/coverage"));
   }
 
+  @Test
+  public void shouldScopeMutationsToChangedLinesBeforeLimitingThemPerClass() {
+    final Properties props = new Properties();
+    props.setProperty(ChangedLinesFilterFactory.CHANGED_LINES,
+        "com/example/Foo.java:11");
+    props.setProperty(ChangedLinesFilterFactory.CHANGED_LINES_SCOPE, "line");
+    final MutationFilter filter = this.testee.createMutationFilter()
+        .createFilter(props, mock(CodeSource.class), 1);
+
+    final MutationDetails changed = aMutationOnLine(11);
+    final Collection<MutationDetails> actual = filter.filter(Arrays.asList(
+        changed, aMutationOnLine(20), aMutationOnLine(30), aMutationOnLine(40)));
+
+    assertEquals(Collections.singletonList(changed),
+        new ArrayList<MutationDetails>(actual));
+  }
+
+  private static MutationDetails aMutationOnLine(final int line) {
+    return new MutationDetails(aMutationId().withLocation(
+        aLocation("com.example.Foo")).withIndex(line).build(), "Foo.java",
+        "desc", line, 0);
+  }
+
   @Test(expected = PitHelpError.class)
   public void shouldNotAllowUserToMakePITMutateItself() {
     this.options.setTargetClasses(Glob.toGlobPredicates(Collections
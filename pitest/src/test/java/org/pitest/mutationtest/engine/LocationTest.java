@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.engine;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.pitest.mutationtest.engine.Location.location;
 
 import java.util.Arrays;
@@ -11,6 +12,7 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 
 import org.junit.Test;
 import org.pitest.classinfo.ClassName;
+import org.pitest.util.IsolationUtils;
 
 public class LocationTest {
 
@@ -29,6 +31,27 @@ public class LocationTest {
     assertEquals(Arrays.asList(a, c, d, b), ls);
   }
 
+  @Test
+  public void shouldShareMethodNamesAndDescriptors() {
+    final Location a = location(ClassName.fromString("A"),
+        MethodName.fromString("foo"), new String("()V"));
+    final Location b = location(ClassName.fromString("A"),
+        MethodName.fromString("foo"), new String("()V"));
+    assertSame(a.getMethodName(), b.getMethodName());
+    assertSame(a.getMethodDesc(), b.getMethodDesc());
+  }
+
+  @Test
+  public void shouldShareNamesWhenDeserialised() {
+    final Location a = location(ClassName.fromString("A"),
+        MethodName.fromString("foo"), "()V");
+    final Location actual = (Location) IsolationUtils.clone(a);
+    assertEquals(a, actual);
+    assertSame(a.getClassName(), actual.getClassName());
+    assertSame(a.getMethodName(), actual.getMethodName());
+    assertSame(a.getMethodDesc(), actual.getMethodDesc());
+  }
+
   @Test
   public void shouldObeyHashcodeEqualsContract() {
     EqualsVerifier.forClass(Location.class).verify();
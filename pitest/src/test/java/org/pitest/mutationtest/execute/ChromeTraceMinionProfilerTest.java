@@ -0,0 +1,85 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.execute.MinionTiming.Stage;
+import org.pitest.util.ResultOutputStrategy;
+
+public class ChromeTraceMinionProfilerTest {
+
+  private ChromeTraceMinionProfiler testee;
+
+  private final Writer              out = new StringWriter();
+
+  @Before
+  public void setup() {
+    this.testee = new ChromeTraceMinionProfiler(createOutputStrategy());
+  }
+
+  private ResultOutputStrategy createOutputStrategy() {
+    return new ResultOutputStrategy() {
+
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        return ChromeTraceMinionProfilerTest.this.out;
+      }
+
+    };
+  }
+
+  @Test
+  public void shouldWriteValidTraceWhenNoTimingsReported() {
+    this.testee.writeProfile();
+    assertThat(this.out.toString()).isEqualTo(
+        "{\"traceEvents\":[\n\n],\"displayTimeUnit\":\"ms\"}\n");
+  }
+
+  @Test
+  public void shouldWriteCompleteEventForEachTiming() {
+    this.testee.newMinion().apply(
+        new MinionTiming(Stage.FIND_TESTS, 100, 20, null));
+    this.testee.writeProfile();
+    assertThat(this.out.toString()).contains(
+        "{\"name\":\"find tests\",\"cat\":\"minion\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":100,\"dur\":20}");
+  }
+
+  @Test
+  public void shouldPlaceEachMinionOnItsOwnRow() {
+    this.testee.newMinion().apply(
+        new MinionTiming(Stage.FIND_TESTS, 100, 20, null));
+    this.testee.newMinion().apply(
+        new MinionTiming(Stage.FIND_TESTS, 100, 20, null));
+    this.testee.writeProfile();
+    assertThat(this.out.toString()).contains("\"tid\":1").contains(
+        "\"tid\":2");
+  }
+
+  @Test
+  public void shouldIncludeEscapedDetailsAsArguments() {
+    this.testee.newMinion().apply(
+        new MinionTiming(Stage.TEST_MUTANT, 100, 20, "a \"mutant\""));
+    this.testee.writeProfile();
+    assertThat(this.out.toString()).contains(
+        "\"args\":{\"detail\":\"a \\\"mutant\\\"\"}");
+  }
+
+  @Test
+  public void shouldSummariseTimingsByStage() {
+    final SideEffect1<MinionTiming> minion = this.testee.newMinion();
+    minion.apply(new MinionTiming(Stage.TEST_MUTANT, 0, 1000, null));
+    minion.apply(new MinionTiming(Stage.TEST_MUTANT, 0, 3000, null));
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    this.testee.report(new PrintStream(bos));
+    assertThat(bos.toString()).contains("> minions launched : 1").contains(
+        "> run tests against mutant : 2 times, total 4 ms, mean 2 ms, max 3 ms");
+  }
+
+}
@@ -14,6 +14,7 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MemorySample;
 import org.pitest.util.SafeDataInputStream;
 
 public class DefaultReporterTest {
@@ -51,6 +52,28 @@ public class DefaultReporterTest {
     assertEquals(is.read(MutationStatusTestPair.class), ms);
   }
 
+  @Test
+  public void shouldSendTimings() throws IOException {
+    this.testee.timing(new MinionTiming(MinionTiming.Stage.FIND_TESTS, 1, 2,
+        "foo"));
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.TIMING, is.readByte());
+    assertEquals(MinionTiming.Stage.FIND_TESTS.ordinal(), is.readInt());
+    assertEquals(1, is.readLong());
+    assertEquals(2, is.readLong());
+    assertEquals("foo", is.readString());
+  }
+
+  @Test
+  public void shouldSendMemorySample() throws IOException {
+    this.testee.memory(new MemorySample(1, 2, 3));
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.MEMORY, is.readByte());
+    assertEquals(1, is.readLong());
+    assertEquals(2, is.readLong());
+    assertEquals(3, is.readLong());
+  }
+
   private SafeDataInputStream resultToStream() {
     final SafeDataInputStream is = new SafeDataInputStream(
         new ByteArrayInputStream(this.os.toByteArray()));
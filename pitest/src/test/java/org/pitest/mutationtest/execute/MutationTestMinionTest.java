@@ -1,10 +1,13 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -84,4 +87,19 @@ public class MutationTestMinionTest {
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
 
+  @Test
+  public void shouldNotReportTimingsWhenNotProfiling() throws IOException {
+    this.testee.run();
+    verify(this.reporter, never()).timing(any(MinionTiming.class));
+  }
+
+  @Test
+  public void shouldReportTimingsWhenProfiling() throws IOException {
+    this.args = new MinionArguments(this.mutations, this.tests, this.engine,
+        this.timeoutStrategy, false, this.testConfig, false, true, 1);
+    when(this.is.read(MinionArguments.class)).thenReturn(this.args);
+    this.testee.run();
+    verify(this.reporter, atLeastOnce()).timing(any(MinionTiming.class));
+  }
+
 }
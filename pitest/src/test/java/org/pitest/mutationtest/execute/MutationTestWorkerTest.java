@@ -1,12 +1,16 @@
 package org.pitest.mutationtest.execute;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +21,7 @@ import junit.framework.AssertionFailedError;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
@@ -27,6 +32,7 @@ import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MinionTiming.Stage;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
@@ -130,6 +136,65 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldReportTimingsForEachStageOfMutantAnalysis()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne);
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(range, this.reporter, this.testSource);
+    assertEquals(Arrays.asList(Stage.GENERATE_MUTANT, Stage.HOTSWAP_MUTANT,
+        Stage.FIRST_TEST, Stage.TEST_MUTANT), reportedStages());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldReportTimeToFirstTestOnlyOnce() throws IOException {
+    final Collection<MutationDetails> range = Arrays.asList(
+        makeMutant("foo", 1), makeMutant("foo", 2));
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(range, this.reporter, this.testSource);
+    assertEquals(1, Collections.frequency(reportedStages(), Stage.FIRST_TEST));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldNotReportTimingsWhenNotProfiling() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, 0, false);
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(Arrays.asList(makeMutant("foo", 1)), this.reporter,
+        this.testSource);
+    verify(this.reporter, never()).timing(any(MinionTiming.class));
+  }
+
+  private List<Stage> reportedStages() throws IOException {
+    final ArgumentCaptor<MinionTiming> captor = ArgumentCaptor
+        .forClass(MinionTiming.class);
+    verify(this.reporter, atLeastOnce()).timing(captor.capture());
+    final List<Stage> stages = new ArrayList<Stage>();
+    for (final MinionTiming each : captor.getAllValues()) {
+      stages.add(each.getStage());
+    }
+    return stages;
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
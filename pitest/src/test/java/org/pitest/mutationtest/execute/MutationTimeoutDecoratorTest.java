@@ -15,6 +15,9 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -27,7 +30,9 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.AdaptiveTimeoutLengthStrategy;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
@@ -41,6 +46,9 @@ public class MutationTimeoutDecoratorTest {
   @Mock
   private TimeoutLengthStrategy    timeoutStrategy;
 
+  @Mock
+  private AdaptiveTimeoutLengthStrategy adaptiveStrategy;
+
   @Mock
   private TestUnit                 child;
 
@@ -84,4 +92,73 @@ public class MutationTimeoutDecoratorTest {
         any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRecordPassingRunsWithAdaptiveStrategy() {
+    useAdaptiveStrategy(1000l);
+    this.testee.execute(null, this.rc);
+    verify(this.adaptiveStrategy).recordPassingRun(eq("FooTest.aTest"),
+        anyLong());
+    verify(this.sideEffect, never()).apply();
+  }
+
+  @Test
+  public void shouldNotRecordFailingRunsWithAdaptiveStrategy() {
+    useAdaptiveStrategy(1000l);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        final ResultCollector collector = (ResultCollector) invocation
+            .getArguments()[1];
+        collector.notifyEnd(new Description("aTest", "FooTest"),
+            new AssertionError());
+        return null;
+      }
+    }).when(this.child).execute(any(ClassLoader.class),
+        any(ResultCollector.class));
+    this.testee.execute(null, this.rc);
+    verify(this.adaptiveStrategy, never()).recordPassingRun(anyString(),
+        anyLong());
+  }
+
+  @Test
+  public void shouldNotTimeOutChildBlockedForLessThanWallClockMultipleOfBudget() {
+    useAdaptiveStrategy(50l);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        Thread.sleep(150);
+        return null;
+      }
+    }).when(this.child).execute(any(ClassLoader.class),
+        any(ResultCollector.class));
+    this.testee.execute(null, this.rc);
+    verify(this.sideEffect, never()).apply();
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenChildExceedsAdaptiveBudget() {
+    useAdaptiveStrategy(20l);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        Thread.sleep(500);
+        return null;
+      }
+    }).when(this.child).execute(any(ClassLoader.class),
+        any(ResultCollector.class));
+    this.testee.execute(null, this.rc);
+    verify(this.sideEffect).apply();
+    verify(this.adaptiveStrategy, never()).recordPassingRun(anyString(),
+        anyLong());
+  }
+
+  private void useAdaptiveStrategy(final long allowedTime) {
+    when(this.child.getDescription()).thenReturn(
+        new Description("aTest", "FooTest"));
+    when(this.adaptiveStrategy.getAllowedTime("FooTest.aTest",
+        NORMAL_EXECUTION)).thenReturn(allowedTime);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.adaptiveStrategy, NORMAL_EXECUTION);
+  }
 }
@@ -0,0 +1,26 @@
+package org.pitest.mutationtest.filter;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Properties;
+
+import org.junit.Test;
+import org.pitest.classpath.CodeSource;
+
+public class ChangedLinesFilterFactoryTest {
+
+  private final ChangedLinesFilterFactory testee = new ChangedLinesFilterFactory();
+
+  @Test
+  public void shouldNotFilterWhenNoChangedLinesSupplied() {
+    assertTrue(this.testee.createFilter(new Properties(), null, 0) instanceof UnfilteredMutationFilter);
+  }
+
+  @Test
+  public void shouldFilterWhenChangedLinesSupplied() {
+    final Properties props = new Properties();
+    props.setProperty(ChangedLinesFilterFactory.CHANGED_LINES, "Foo.java:1-3");
+    assertTrue(this.testee.createFilter(props, mock(CodeSource.class), 0) instanceof ChangedLinesFilter);
+  }
+}
@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class ChangedLinesFilterTest {
+
+  private static final String  FOO  = "com.example.Foo";
+  private static final String  PATH = "com/example/Foo.java";
+
+  @Mock
+  private ClassByteArraySource source;
+
+  private final ChangedLines   lines = new ChangedLines();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    // method a spans lines 10 to 20, method b lines 30 to 40
+    when(this.source.getBytes(FOO)).thenReturn(
+        Option.some(makeClass(new int[] { 10, 20 }, new int[] { 30, 40 })));
+  }
+
+  @Test
+  public void shouldKeepMutationsOnChangedLines() {
+    this.lines.add(PATH, 15, 15);
+    final MutationDetails onLine = mutation("a", 15);
+    assertThat(filter(false, onLine, mutation("a", 16))).containsOnly(onLine);
+  }
+
+  @Test
+  public void shouldKeepMutationsInMethodsContainingChangedLines() {
+    this.lines.add(PATH, 15, 15);
+    final MutationDetails inA = mutation("a", 11);
+    assertThat(filter(true, inA, mutation("b", 35))).containsOnly(inA);
+  }
+
+  @Test
+  public void shouldKeepAllMutationsInFilesWithoutRecordedChanges() {
+    this.lines.add("com/example/Bar.java", 1, 1);
+    final MutationDetails inA = mutation("a", 11);
+    final MutationDetails inB = mutation("b", 35);
+    assertThat(filter(false, inA, inB)).containsOnly(inA, inB);
+  }
+
+  @Test
+  public void shouldRemoveAllMutationsFromFileWithNoChangedLines() {
+    this.lines.addFile(PATH);
+    assertThat(filter(true, mutation("a", 11), mutation("b", 35))).isEmpty();
+  }
+
+  private Iterable<MutationDetails> filter(final boolean wholeMethods,
+      final MutationDetails... mutations) {
+    return new ChangedLinesFilter(this.lines, wholeMethods, this.source)
+        .filter(Arrays.asList(mutations));
+  }
+
+  private static MutationDetails mutation(final String method, final int line) {
+    return new MutationDetails(aMutationId().withLocation(
+        aLocation().withClass(ClassName.fromString(FOO)).withMethod(method)
+            .withMethodDescription("()V")).build(), "Foo.java", "desc", line,
+        0);
+  }
+
+  private static byte[] makeClass(final int[] aLines, final int[] bLines) {
+    final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, "com/example/Foo", null,
+        "java/lang/Object", null);
+    makeMethod(cw, "a", aLines);
+    makeMethod(cw, "b", bLines);
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private static void makeMethod(final ClassWriter cw, final String name,
+      final int[] lines) {
+    final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, "()V",
+        null, null);
+    mv.visitCode();
+    for (final int each : lines) {
+      final Label label = new Label();
+      mv.visitLabel(label);
+      mv.visitLineNumber(each, label);
+      mv.visitInsn(Opcodes.NOP);
+    }
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+}
@@ -0,0 +1,64 @@
+package org.pitest.mutationtest.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.PitError;
+
+public class ChangedLinesTest {
+
+  private final ChangedLines testee = new ChangedLines();
+
+  @Test
+  public void shouldReportLinesWithinAddedRangesAsChanged() {
+    this.testee.add("com/example/Foo.java", 3, 5);
+    assertThat(this.testee.isChanged("com/example/Foo.java", 2)).isFalse();
+    assertThat(this.testee.isChanged("com/example/Foo.java", 3)).isTrue();
+    assertThat(this.testee.isChanged("com/example/Foo.java", 5)).isTrue();
+    assertThat(this.testee.isChanged("com/example/Foo.java", 6)).isFalse();
+  }
+
+  @Test
+  public void shouldNotReportLinesOfOtherFilesAsChanged() {
+    this.testee.add("com/example/Foo.java", 3, 5);
+    assertThat(this.testee.isChanged("com/example/Bar.java", 3)).isFalse();
+    assertThat(this.testee.contains("com/example/Bar.java")).isFalse();
+  }
+
+  @Test
+  public void shouldDetectChangesWithinSpan() {
+    this.testee.add("Foo.java", 10, 10);
+    assertThat(this.testee.isChangedBetween("Foo.java", 1, 9)).isFalse();
+    assertThat(this.testee.isChangedBetween("Foo.java", 5, 15)).isTrue();
+    assertThat(this.testee.isChangedBetween("Foo.java", 11, 15)).isFalse();
+  }
+
+  @Test
+  public void shouldRoundTripThroughStringForm() {
+    this.testee.add("com/example/Foo.java", 3, 5);
+    this.testee.add("com/example/Foo.java", 9, 9);
+    this.testee.add("com/example/Bar.java", 1, 2);
+    this.testee.addFile("com/example/Baz.java");
+    final String spec = this.testee.toString();
+    assertThat(spec).isEqualTo(
+        "com/example/Bar.java:1-2;com/example/Baz.java:;com/example/Foo.java:3-5,9");
+    assertThat(ChangedLines.parse(spec).toString()).isEqualTo(spec);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectMalformedRanges() {
+    ChangedLines.parse("Foo.java:a-b");
+  }
+
+  @Test
+  public void shouldCreateSourcePathFromPackageAndFileName() {
+    assertThat(
+        ChangedLines.sourcePathFor(ClassName.fromString("com.example.Foo$1"),
+            "Foo.java")).isEqualTo("com/example/Foo.java");
+    assertThat(
+        ChangedLines.sourcePathFor(ClassName.fromString("Foo"), "Foo.java"))
+        .isEqualTo("Foo.java");
+  }
+
+}
@@ -0,0 +1,136 @@
+package org.pitest.mutationtest.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertSame;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.PitError;
+
+public class StratifiedSamplingFilterTest {
+
+  @Test
+  public void shouldReturnAllMutationsWhenRateIsOne() {
+    final Collection<MutationDetails> input = make("method", "mutator", 10);
+    assertSame(input, new StratifiedSamplingFilter(1, 0).filter(input));
+  }
+
+  @Test
+  public void shouldSelectRequestedFractionOfMutations() {
+    final StratifiedSamplingFilter testee = new StratifiedSamplingFilter(0.1,
+        0);
+    assertThat(testee.filter(make("method", "mutator", 100))).hasSize(10);
+  }
+
+  @Test
+  public void shouldSampleEachMutatorInProportion() {
+    final List<MutationDetails> input = make("method", "a", 60);
+    input.addAll(make("method", "b", 40));
+    final Collection<MutationDetails> actual = new StratifiedSamplingFilter(
+        0.2, 0).filter(input);
+    assertThat(count(actual, "a", toMutator())).isBetween(11, 13);
+    assertThat(count(actual, "b", toMutator())).isBetween(7, 9);
+  }
+
+  @Test
+  public void shouldSampleEachMethodInProportion() {
+    final List<MutationDetails> input = make("foo", "mutator", 30);
+    input.addAll(make("bar", "mutator", 70));
+    final Collection<MutationDetails> actual = new StratifiedSamplingFilter(
+        0.1, 0).filter(input);
+    assertThat(count(actual, "foo", toMethod())).isBetween(2, 4);
+    assertThat(count(actual, "bar", toMethod())).isBetween(6, 8);
+  }
+
+  @Test
+  public void shouldSelectSameMutationsForSameSeedWhateverTheInputOrder() {
+    final List<MutationDetails> input = make("foo", "a", 50);
+    input.addAll(make("bar", "b", 50));
+    final List<MutationDetails> shuffled = new ArrayList<MutationDetails>(
+        input);
+    Collections.shuffle(shuffled, new Random(1));
+
+    final Collection<MutationDetails> expected = new StratifiedSamplingFilter(
+        0.25, 42).filter(input);
+    assertThat(
+        new HashSet<MutationDetails>(new StratifiedSamplingFilter(0.25, 42)
+            .filter(shuffled))).isEqualTo(
+        new HashSet<MutationDetails>(expected));
+  }
+
+  @Test
+  public void shouldCountMutationsOfferedAndSelected() {
+    final StratifiedSamplingFilter testee = new StratifiedSamplingFilter(0.5,
+        0);
+    testee.filter(make("foo", "mutator", 10));
+    testee.filter(make("bar", "mutator", 20));
+    assertThat(testee.getPopulation()).isEqualTo(30);
+    assertThat(testee.getSelected()).isEqualTo(15);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectRateAboveOne() {
+    new StratifiedSamplingFilter(1.5, 0);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectRateOfZero() {
+    new StratifiedSamplingFilter(0, 0);
+  }
+
+  private static List<MutationDetails> make(final String method,
+      final String mutator, final int count) {
+    final List<MutationDetails> ms = new ArrayList<MutationDetails>();
+    for (int i = 0; i != count; i++) {
+      ms.add(new MutationDetails(aMutationId()
+          .withLocation(aLocation().withMethod(method)).withMutator(mutator)
+          .withIndex(i).build(), "", "", 0, 0));
+    }
+    return ms;
+  }
+
+  private static int count(final Collection<MutationDetails> mutations,
+      final String value, final F<MutationDetails, String> property) {
+    return FCollection.filter(FCollection.map(mutations, property),
+        isEqualTo(value)).size();
+  }
+
+  private static F<String, Boolean> isEqualTo(final String value) {
+    return new F<String, Boolean>() {
+      @Override
+      public Boolean apply(final String a) {
+        return a.equals(value);
+      }
+    };
+  }
+
+  private static F<MutationDetails, String> toMutator() {
+    return new F<MutationDetails, String>() {
+      @Override
+      public String apply(final MutationDetails a) {
+        return a.getId().getMutator();
+      }
+    };
+  }
+
+  private static F<MutationDetails, String> toMethod() {
+    return new F<MutationDetails, String>() {
+      @Override
+      public String apply(final MutationDetails a) {
+        return a.getMethod().name();
+      }
+    };
+  }
+
+}
@@ -0,0 +1,150 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class CachingAnalyserTest {
+
+  private CachingAnalyser       testee;
+
+  @Mock
+  private MutationAnalyser      child;
+
+  @Mock
+  private ResultCache           cache;
+
+  @Mock
+  private ResultCacheKeys       keys;
+
+  private final MutationDetails mutation = new MutationDetails(aMutationId()
+                                             .withLocation(aLocation())
+                                             .build(), "file", "desc", 1, 2);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.keys.keyFor(this.mutation)).thenReturn(Option.some("key"));
+    when(this.cache.get(anyString())).thenReturn(
+        Option.<MutationStatusTestPair> none());
+    this.testee = new CachingAnalyser(this.child, this.cache, this.keys);
+  }
+
+  @Test
+  public void shouldUseCachedResultForMutationsWithUnknownStatus() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    when(this.cache.get("key")).thenReturn(
+        Option.some(new MutationStatusTestPair(1, DetectionStatus.KILLED,
+            "aTest")));
+    final MutationResult actual = analyse();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.getKillingTest().value()).isEqualTo("aTest");
+  }
+
+  @Test
+  public void shouldLeaveMutationsNotInCacheUnstarted() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldNotConsultCacheForMutationsWithKnownStatus() {
+    childAssigns(DetectionStatus.SURVIVED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.SURVIVED);
+    verify(this.cache, never()).get(anyString());
+  }
+
+  @Test
+  public void shouldLeaveMutationsWithoutKeyUnstarted() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    when(this.keys.keyFor(this.mutation)).thenReturn(Option.<String> none());
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldStoreResultsOfMutationsThatWereRun() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED);
+    record(new MutationResult(this.mutation, status));
+    verify(this.cache).put("key", status);
+  }
+
+  @Test
+  public void shouldNotStoreResultsOfMutationsThatDidNotComplete() {
+    record(new MutationResult(this.mutation, new MutationStatusTestPair(1,
+        DetectionStatus.RUN_ERROR)));
+    verify(this.cache, never()).put(anyString(),
+        any(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldNotStoreTimeoutsOrMemoryErrors() {
+    record(new MutationResult(this.mutation, new MutationStatusTestPair(1,
+        DetectionStatus.TIMED_OUT)));
+    record(new MutationResult(this.mutation, new MutationStatusTestPair(1,
+        DetectionStatus.MEMORY_ERROR)));
+    verify(this.cache, never()).put(anyString(),
+        any(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldIgnoreCachedTimeouts() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    when(this.cache.get("key")).thenReturn(
+        Option.some(new MutationStatusTestPair(1, DetectionStatus.TIMED_OUT)));
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldNotStoreResultsSuppliedByCache() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    when(this.cache.get("key")).thenReturn(
+        Option.some(new MutationStatusTestPair(1, DetectionStatus.SURVIVED)));
+    record(analyse());
+    verify(this.cache, never()).put(anyString(),
+        any(MutationStatusTestPair.class));
+  }
+
+  private void childAssigns(final DetectionStatus status) {
+    final List<MutationResult> results = Collections
+        .singletonList(new MutationResult(this.mutation,
+            new MutationStatusTestPair(0, status)));
+    when(this.child.analyse(Collections.singletonList(this.mutation)))
+        .thenReturn(results);
+  }
+
+  private MutationResult analyse() {
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(this.mutation));
+    return actual.iterator().next();
+  }
+
+  private void record(final MutationResult result) {
+    final MutationResultListener recorder = this.testee.recorder();
+    recorder.handleMutationResult(MutationTestResultMother
+        .createClassResults(result));
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
+import org.pitest.functional.Option;
+
+public class ChangeImpactAnalyserTest {
+
+  private static final ClassName                FOO          = ClassName
+                                                                  .fromString("Foo");
+  private static final ClassName                BAR          = ClassName
+                                                                  .fromString("Bar");
+
+  private ChangeImpactAnalyser                  testee;
+
+  @Mock
+  private CodeHistory                           history;
+
+  @Mock
+  private CoverageDatabase                      coverage;
+
+  private final Map<ClassName, List<ClassName>> dependencies = new HashMap<ClassName, List<ClassName>>();
+
+  private final Collection<ClassName>           code         = Arrays.asList(
+                                                                 FOO, BAR);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getTestsForClass(any(ClassName.class))).thenReturn(
+        Collections.<TestInfo> emptyList());
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
+        1L);
+    this.testee = makeTestee(this.code);
+  }
+
+  @Test
+  public void shouldNotImpactAnyClassWhenNothingHasChanged() {
+    assertThat(this.testee.findImpactedClasses(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldImpactClassesWithNoRecordedMutations() {
+    this.testee = makeTestee(Collections.singletonList(FOO));
+    assertThat(this.testee.findImpactedClasses(this.code)).containsOnly(BAR);
+  }
+
+  @Test
+  public void shouldImpactChangedClasses() {
+    when(this.history.hasClassChanged(FOO)).thenReturn(true);
+    assertThat(this.testee.findImpactedClasses(this.code)).containsOnly(FOO);
+  }
+
+  @Test
+  public void shouldImpactClassesWhoseCoverageHasChanged() {
+    when(this.history.hasCoverageChanged(BAR, 1L)).thenReturn(true);
+    assertThat(this.testee.findImpactedClasses(this.code)).containsOnly(BAR);
+  }
+
+  @Test
+  public void shouldImpactClassesThatDependOnChangedClasses() {
+    when(this.history.hasClassChanged(FOO)).thenReturn(true);
+    this.dependencies.put(BAR, Collections.singletonList(FOO));
+    assertThat(this.testee.findImpactedClasses(this.code)).containsOnly(FOO,
+        BAR);
+  }
+
+  @Test
+  public void shouldImpactClassesCoveredByTestsThatCoverChangedClasses() {
+    when(this.history.hasClassChanged(FOO)).thenReturn(true);
+    final List<TestInfo> tests = Collections.singletonList(new TestInfo(
+        "FooTest", "FooTest.aTest", 1, Option.<ClassName> none(), 1));
+    when(this.coverage.getTestsForClass(FOO)).thenReturn(tests);
+    when(this.coverage.getTestsForClass(BAR)).thenReturn(tests);
+    assertThat(this.testee.findImpactedClasses(this.code)).containsOnly(FOO,
+        BAR);
+  }
+
+  private ChangeImpactAnalyser makeTestee(
+      final Collection<ClassName> classesWithHistory) {
+    return new ChangeImpactAnalyser(this.history, this.coverage,
+        classesWithHistory, dependencies());
+  }
+
+  private F<ClassName, Iterable<ClassName>> dependencies() {
+    return new F<ClassName, Iterable<ClassName>>() {
+      @Override
+      public Iterable<ClassName> apply(final ClassName a) {
+        final List<ClassName> deps = ChangeImpactAnalyserTest.this.dependencies
+            .get(a);
+        if (deps == null) {
+          return Collections.emptyList();
+        }
+        return deps;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,240 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+
+public class CheckpointJournalTest {
+
+  @Rule
+  public TemporaryFolder                        folder  = new TemporaryFolder();
+
+  private File                                  file;
+
+  private CheckpointJournal                     testee;
+
+  private final MutationDetails                 foo     = mutation("foo", 1);
+  private final MutationDetails                 bar     = mutation("bar", 2);
+
+  private final Collection<HierarchicalClassId> classes = Collections
+                                                            .singletonList(classId("1"));
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "journal");
+  }
+
+  @After
+  public void tearDown() {
+    if (this.testee != null) {
+      this.testee.close();
+    }
+  }
+
+  @Test
+  public void shouldRestoreNothingWhenNotResuming() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordResults(Collections.singletonList(killed(this.foo)));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, false);
+    assertThat(this.testee.getRestoredResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldRestoreNothingWhenNoJournalExists() {
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldRestoreRecordedResultsWhenResuming() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordResults(Arrays.asList(killed(this.foo),
+        new MutationResult(this.bar, new MutationStatusTestPair(2,
+            DetectionStatus.SURVIVED))));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = this.testee
+        .getRestoredResults();
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(this.foo.getId())).isEqualTo(
+        new MutationStatusTestPair(1, DetectionStatus.KILLED,
+            "a\ttest\\with\nodd name"));
+    assertThat(actual.get(this.bar.getId())).isEqualTo(
+        new MutationStatusTestPair(2, DetectionStatus.SURVIVED));
+  }
+
+  @Test
+  public void shouldNotRecordUnfinishedResults() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordResults(Collections.singletonList(new MutationResult(
+        this.foo, new MutationStatusTestPair(0, DetectionStatus.NOT_STARTED))));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepRestoredResultsWhenResumedAgain() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordResults(Collections.singletonList(killed(this.foo)));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    this.testee.recordResults(Arrays.asList(killed(this.foo),
+        killed(this.bar)));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).hasSize(2);
+  }
+
+  @Test
+  public void shouldIgnoreEntryCutShort() throws IOException {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordResults(Collections.singletonList(killed(this.foo)));
+    this.testee.close();
+    final FileOutputStream out = new FileOutputStream(this.file, true);
+    out.write(CheckpointJournal.encode(this.bar.getId(),
+        new MutationStatusTestPair(12, DetectionStatus.KILLED, "aTest"))
+        .substring(0, 40).getBytes("UTF-8"));
+    out.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    this.testee.recordResults(Collections.singletonList(new MutationResult(
+        this.bar, new MutationStatusTestPair(1, DetectionStatus.SURVIVED))));
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).hasSize(2);
+    assertThat(this.testee.getRestoredResults().get(this.bar.getId()))
+        .isEqualTo(new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @Test
+  public void shouldJournalResultsOfUnitsAsTheyComplete() throws Exception {
+    this.testee = CheckpointJournal.open(this.file, false);
+    final List<MutationAnalysisUnit> units = this.testee.journal(Collections
+        .<MutationAnalysisUnit> singletonList(new CompletedUnit(killed(this.foo))));
+    units.get(0).call();
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).containsKey(this.foo.getId());
+  }
+
+  @Test
+  public void shouldAcceptSamePlanInAnyOrderWhenResuming() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordPlan(Arrays.asList(this.foo, this.bar), this.classes);
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    this.testee.recordPlan(Arrays.asList(this.bar, this.foo), this.classes);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRefuseToResumeDifferentPlan() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordPlan(Arrays.asList(this.foo, this.bar), this.classes);
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    this.testee.recordPlan(Collections.singletonList(this.foo), this.classes);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRefuseToResumeWhenClassesHaveChanged() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordPlan(Arrays.asList(this.foo, this.bar), this.classes);
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    this.testee.recordPlan(Arrays.asList(this.foo, this.bar),
+        Collections.singletonList(classId("2")));
+  }
+
+  @Test
+  public void shouldNotResumeFromCompletedRun() {
+    this.testee = CheckpointJournal.open(this.file, false);
+    this.testee.recordPlan(Arrays.asList(this.foo, this.bar), this.classes);
+    this.testee.recordResults(Collections.singletonList(killed(this.foo)));
+    this.testee.recordComplete();
+    this.testee.close();
+
+    this.testee = CheckpointJournal.open(this.file, true);
+    assertThat(this.testee.getRestoredResults()).isEmpty();
+    this.testee.recordPlan(Collections.singletonList(this.foo),
+        Collections.<HierarchicalClassId> emptyList());
+  }
+
+  private static MutationDetails mutation(final String method, final int index) {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation().withMethod(method)).withIndex(index).build(),
+        "file", "desc", 1, 2);
+  }
+
+  private static HierarchicalClassId classId(final String deepHash) {
+    return new HierarchicalClassId(1, ClassName.fromString("com.example.Foo"),
+        deepHash);
+  }
+
+  private static MutationResult killed(final MutationDetails mutation) {
+    return new MutationResult(mutation, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "a\ttest\\with\nodd name"));
+  }
+
+  private static class CompletedUnit implements MutationAnalysisUnit {
+
+    private final MutationResult result;
+
+    CompletedUnit(final MutationResult result) {
+      this.result = result;
+    }
+
+    @Override
+    public MutationMetaData call() {
+      return new MutationMetaData(Collections.singletonList(this.result));
+    }
+
+    @Override
+    public int priority() {
+      return 0;
+    }
+
+    @Override
+    public Collection<MutationDetails> mutations() {
+      return Collections.singletonList(this.result.getDetails());
+    }
+
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+
+public class DirectoryResultCacheTest {
+
+  private static final String KEY    = "0123456789abcdef0123456789abcdef01234567";
+
+  @Rule
+  public TemporaryFolder      folder = new TemporaryFolder();
+
+  private DirectoryResultCache testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new DirectoryResultCache(this.folder.getRoot());
+  }
+
+  @Test
+  public void shouldReturnNoneForUnknownKey() {
+    assertThat(this.testee.get(KEY).hasNone()).isTrue();
+  }
+
+  @Test
+  public void shouldReturnStoredResult() {
+    this.testee.put(KEY, new MutationStatusTestPair(3, DetectionStatus.KILLED,
+        "FooTest.aTest(FooTest)"));
+    final MutationStatusTestPair actual = this.testee.get(KEY).value();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.getNumberOfTestsRun()).isEqualTo(3);
+    assertThat(actual.getKillingTest().value()).isEqualTo(
+        "FooTest.aTest(FooTest)");
+  }
+
+  @Test
+  public void shouldReturnStoredResultWithoutKillingTest() {
+    this.testee.put(KEY, new MutationStatusTestPair(2,
+        DetectionStatus.SURVIVED));
+    final MutationStatusTestPair actual = this.testee.get(KEY).value();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.SURVIVED);
+    assertThat(actual.getKillingTest().hasNone()).isTrue();
+  }
+
+  @Test
+  public void shouldBeReadableByAnotherInstance() {
+    this.testee.put(KEY, new MutationStatusTestPair(1,
+        DetectionStatus.TIMED_OUT));
+    assertThat(
+        new DirectoryResultCache(this.folder.getRoot()).get(KEY).value()
+            .getStatus()).isEqualTo(DetectionStatus.TIMED_OUT);
+  }
+
+  @Test
+  public void shouldNotLeaveTemporaryFilesBehind() {
+    this.testee.put(KEY, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    assertThat(new File(this.folder.getRoot(), "01").list()).containsOnly(KEY);
+  }
+
+  @Test
+  public void shouldTreatUnreadableEntriesAsMisses() throws IOException {
+    final File dir = this.folder.newFolder("01");
+    final FileOutputStream out = new FileOutputStream(new File(dir, KEY));
+    out.write("NOT_A_STATUS\n1\n".getBytes("UTF-8"));
+    out.close();
+    assertThat(this.testee.get(KEY).hasNone()).isTrue();
+  }
+
+}
@@ -0,0 +1,103 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.util.StreamUtil;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpResultCacheTest {
+
+  private static final String       KEY    = "0123456789abcdef0123456789abcdef01234567";
+
+  private final Map<String, byte[]> stored = new ConcurrentHashMap<String, byte[]>();
+
+  private HttpServer                server;
+  private HttpResultCache           testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/cache/", new StandInCache());
+    this.server.start();
+    this.testee = new HttpResultCache("http://localhost:"
+        + this.server.getAddress().getPort() + "/cache");
+  }
+
+  @After
+  public void tearDown() {
+    this.server.stop(0);
+  }
+
+  @Test
+  public void shouldReturnNoneForUnknownKey() {
+    assertThat(this.testee.get(KEY).hasNone()).isTrue();
+  }
+
+  @Test
+  public void shouldReturnStoredResult() {
+    this.testee.put(KEY, new MutationStatusTestPair(3, DetectionStatus.KILLED,
+        "FooTest.aTest(FooTest)"));
+    assertThat(this.stored).containsKey("/cache/" + KEY);
+    final MutationStatusTestPair actual = this.testee.get(KEY).value();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.getKillingTest().value()).isEqualTo(
+        "FooTest.aTest(FooTest)");
+  }
+
+  @Test
+  public void shouldTreatServerThatCannotBeReachedAsEmpty() throws IOException {
+    final ServerSocket unused = new ServerSocket(0);
+    final int port = unused.getLocalPort();
+    unused.close();
+    this.testee = new HttpResultCache("http://localhost:" + port + "/cache");
+
+    assertThat(this.testee.get(KEY).hasNone()).isTrue();
+    this.testee.put(KEY, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    assertThat(this.testee.get(KEY).hasNone()).isTrue();
+  }
+
+  private class StandInCache implements HttpHandler {
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+      final String path = exchange.getRequestURI().getPath();
+      if ("PUT".equals(exchange.getRequestMethod())) {
+        final InputStream in = exchange.getRequestBody();
+        HttpResultCacheTest.this.stored.put(path,
+            StreamUtil.streamToByteArray(in));
+        in.close();
+        exchange.sendResponseHeaders(201, -1);
+      } else {
+        final byte[] data = HttpResultCacheTest.this.stored.get(path);
+        if (data == null) {
+          exchange.sendResponseHeaders(404, -1);
+        } else {
+          exchange.sendResponseHeaders(200, data.length);
+          final OutputStream out = exchange.getResponseBody();
+          out.write(data);
+          out.close();
+        }
+      }
+      exchange.close();
+    }
+
+  }
+
+}
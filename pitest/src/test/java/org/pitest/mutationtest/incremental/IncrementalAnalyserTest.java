@@ -2,11 +2,11 @@ package org.pitest.mutationtest.incremental;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
-import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -59,7 +59,7 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(true);
+            anyLong())).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
     assertEquals(DetectionStatus.NOT_STARTED, actual.iterator().next()
@@ -72,7 +72,7 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(false);
+            anyLong())).thenReturn(false);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
     assertEquals(DetectionStatus.SURVIVED, actual.iterator().next().getStatus());
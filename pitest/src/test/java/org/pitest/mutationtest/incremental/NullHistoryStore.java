@@ -2,11 +2,14 @@ package org.pitest.mutationtest.incremental;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
@@ -20,11 +23,21 @@ public class NullHistoryStore implements HistoryStore {
 
   }
 
+  @Override
+  public void recordTestCoverage(final Collection<TestClassCoverage> coverage) {
+
+  }
+
   @Override
   public void recordResult(final MutationResult result) {
 
   }
 
+  @Override
+  public void recordMutationConfig(final String fingerprint) {
+
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return Collections.emptyMap();
@@ -35,6 +48,21 @@ public class NullHistoryStore implements HistoryStore {
     return Collections.emptyMap();
   }
 
+  @Override
+  public Map<ClassName, List<MutationResult>> getHistoricMutations() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public Map<ClassName, TestClassCoverage> getHistoricTestCoverage() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public Option<String> getHistoricMutationConfig() {
+    return Option.none();
+  }
+
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
@@ -0,0 +1,123 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class ResultCacheKeysTest {
+
+  private static final ClassName FOO      = ClassName.fromString("Foo");
+  private static final ClassName FOO_TEST = ClassName.fromString("FooTest");
+
+  @Mock
+  private ClassInfoSource        code;
+
+  @Mock
+  private CoverageDatabase       coverage;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    classHasHash(FOO, 1);
+    classHasHash(FOO_TEST, 2);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(42L);
+  }
+
+  @Test
+  public void shouldGiveSameKeyForSameCodeAndTests() {
+    assertThat(key(mutation("a", "b"))).isEqualTo(key(mutation("a", "b")));
+  }
+
+  @Test
+  public void shouldGiveDifferentKeysForDifferentMutations() {
+    assertThat(key(mutation("a"))).isNotEqualTo(
+        key(makeMutation("otherMethod", "a")));
+  }
+
+  @Test
+  public void shouldChangeKeyWhenMutatedClassChanges() {
+    final String before = key(mutation("a"));
+    classHasHash(FOO, 3);
+    assertThat(key(mutation("a"))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldChangeKeyWhenTestClassChanges() {
+    final String before = key(mutation("a"));
+    classHasHash(FOO_TEST, 3);
+    assertThat(key(mutation("a"))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldChangeKeyWhenCoveringTestsChange() {
+    assertThat(key(mutation("a"))).isNotEqualTo(key(mutation("a", "b")));
+  }
+
+  @Test
+  public void shouldChangeKeyWhenCoverageChanges() {
+    final String before = key(mutation("a"));
+    when(this.coverage.getCoverageIdForClass(FOO)).thenReturn(43L);
+    assertThat(key(mutation("a"))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldNotDependOnOrderOfTests() {
+    assertThat(key(mutation("a", "b"))).isEqualTo(key(mutation("b", "a")));
+  }
+
+  @Test
+  public void shouldGiveNoKeyWhenClassIsNotKnown() {
+    when(this.code.fetchClass(FOO)).thenReturn(Option.<ClassInfo> none());
+    assertThat(makeTestee().keyFor(mutation("a")).hasNone()).isTrue();
+  }
+
+  private String key(final MutationDetails mutation) {
+    // a fresh testee each time as class hashes are memoised
+    return makeTestee().keyFor(mutation).value();
+  }
+
+  private ResultCacheKeys makeTestee() {
+    return new ResultCacheKeys(this.code, this.coverage);
+  }
+
+  private void classHasHash(final ClassName clazz, final long hash) {
+    when(this.code.fetchClass(clazz)).thenReturn(
+        Option.some(ClassInfoMother.make(new ClassIdentifier(hash, clazz))));
+  }
+
+  private MutationDetails mutation(final String... tests) {
+    return makeMutation("method", tests);
+  }
+
+  private MutationDetails makeMutation(final String method,
+      final String... tests) {
+    final MutationDetails md = new MutationDetails(aMutationId().withLocation(
+        aLocation().withClass(FOO).withMethod(method)).build(), "file", "desc",
+        1, 2);
+    for (final String each : tests) {
+      md.addTestsInOrder(Arrays.asList(new TestInfo(FOO_TEST.asJavaName(),
+          each, 1, Option.<ClassName> none(), 1)));
+    }
+    return md;
+  }
+
+}
@@ -0,0 +1,82 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class ResumingAnalyserTest {
+
+  private ResumingAnalyser                                      testee;
+
+  @Mock
+  private MutationAnalyser                                      child;
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> restored = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+
+  private final MutationDetails                                 mutation = new MutationDetails(
+                                                                             aMutationId()
+                                                                                 .withLocation(aLocation())
+                                                                                 .build(),
+                                                                             "file", "desc", 1, 2);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new ResumingAnalyser(this.child, this.restored);
+  }
+
+  @Test
+  public void shouldUseRestoredResult() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    this.restored.put(this.mutation.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+    final MutationResult actual = analyse();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.getKillingTest().value()).isEqualTo("aTest");
+  }
+
+  @Test
+  public void shouldPreferRestoredResultToThatOfChild() {
+    childAssigns(DetectionStatus.SURVIVED);
+    this.restored.put(this.mutation.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void shouldUseResultOfChildWhenNoneRestored() {
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  private void childAssigns(final DetectionStatus status) {
+    final List<MutationResult> results = Collections
+        .singletonList(new MutationResult(this.mutation,
+            new MutationStatusTestPair(0, status)));
+    when(this.child.analyse(Collections.singletonList(this.mutation)))
+        .thenReturn(results);
+  }
+
+  private MutationResult analyse() {
+    return this.testee.analyse(Collections.singletonList(this.mutation))
+        .iterator().next();
+  }
+
+}
@@ -0,0 +1,138 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class UnimpactedClassAnalyserTest {
+
+  private static final ClassName                     FOO      = ClassName
+                                                                  .fromString("Foo");
+
+  @Mock
+  private MutationAnalyser                           child;
+
+  private final Set<ClassName>                       impacted = new HashSet<ClassName>();
+
+  private final Map<ClassName, List<MutationResult>> historic = new HashMap<ClassName, List<MutationResult>>();
+
+  private final MutationDetails                      mutation = makeMutation(0);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void shouldReuseHistoricResultForClassNotImpacted() {
+    recordHistoric(this.mutation, DetectionStatus.KILLED);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    final MutationResult actual = analyse();
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.getKillingTest().value()).isEqualTo("aTest");
+  }
+
+  @Test
+  public void shouldReportCurrentlyGeneratedMutationRatherThanHistoricOne() {
+    recordHistoric(this.mutation, DetectionStatus.KILLED);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getDetails()).isSameAs(this.mutation);
+  }
+
+  @Test
+  public void shouldNotReuseHistoricResultForImpactedClass() {
+    this.impacted.add(FOO);
+    recordHistoric(this.mutation, DetectionStatus.KILLED);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldLeaveMutationsWithNoHistoricResultToChild() {
+    recordHistoric(makeMutation(1), DetectionStatus.KILLED);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldNotReuseHistoricRunErrors() {
+    recordHistoric(this.mutation, DetectionStatus.RUN_ERROR);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldNotReuseHistoricNonViableMutants() {
+    recordHistoric(this.mutation, DetectionStatus.NON_VIABLE);
+    childAssigns(DetectionStatus.NOT_STARTED);
+    assertThat(analyse().getStatus()).isEqualTo(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldReportAllResultsReusableWhenNoneAreErrors() {
+    assertThat(
+        UnimpactedClassAnalyser.canReuseAll(Arrays.asList(
+            result(DetectionStatus.KILLED), result(DetectionStatus.SURVIVED))))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotReportResultsReusableWhenAnyIsAMemoryError() {
+    assertThat(
+        UnimpactedClassAnalyser.canReuseAll(Arrays.asList(
+            result(DetectionStatus.KILLED),
+            result(DetectionStatus.MEMORY_ERROR)))).isFalse();
+  }
+
+  private MutationResult result(final DetectionStatus status) {
+    return new MutationResult(this.mutation, new MutationStatusTestPair(1,
+        status));
+  }
+
+  private void recordHistoric(final MutationDetails md,
+      final DetectionStatus status) {
+    this.historic.put(FOO, Collections.singletonList(new MutationResult(md,
+        new MutationStatusTestPair(1, status, "aTest"))));
+  }
+
+  private void childAssigns(final DetectionStatus status) {
+    final List<MutationResult> results = Collections
+        .singletonList(new MutationResult(this.mutation,
+            new MutationStatusTestPair(0, status)));
+    when(this.child.analyse(Collections.singletonList(this.mutation)))
+        .thenReturn(results);
+  }
+
+  private MutationResult analyse() {
+    return new UnimpactedClassAnalyser(this.child, this.impacted,
+        this.historic).analyse(Collections.singletonList(this.mutation))
+        .iterator().next();
+  }
+
+  private static MutationDetails makeMutation(final int index) {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation().withClass(FOO)).withIndex(index).build(),
+        "file", "desc", 1, 2);
+  }
+
+}
@@ -12,9 +12,10 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,18 +26,24 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.testapi.Description;
 
 public class XStreamHistoryStoreTest {
 
-  private static final String COV           = BigInteger.TEN.toString(16);
+  private static final String COV           = Long.toHexString(10);
 
   private XStreamHistoryStore testee;
 
@@ -64,7 +71,7 @@ public class XStreamHistoryStoreTest {
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
-        BigInteger.TEN);
+        10L);
   }
 
   @Test
@@ -107,6 +114,97 @@ public class XStreamHistoryStoreTest {
     assertEquals(expected, this.testee.getHistoricResults());
   }
 
+  @Test
+  public void shouldRecordAndRetrieveMutationsByClass() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("foo")), "");
+    recordClassPathWithTestee(foo);
+
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails("foo"),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null));
+    this.testee.recordResult(mr);
+
+    final Reader reader = new StringReader(this.output.toString());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.some(reader));
+    this.testee.initialize();
+
+    final MutationResult actual = this.testee.getHistoricMutations()
+        .get(mr.getDetails().getClassName()).get(0);
+    assertEquals(mr.getDetails(), actual.getDetails());
+    assertEquals(mr.getDetails().getDescription(), actual.getDetails()
+        .getDescription());
+    assertEquals(mr.getStatusTestPair(), actual.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveTestCoverageAlongsideResults() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("foo")), "1");
+    final HierarchicalClassId fooTest = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("fooTest")), "2");
+    final BlockLocation block = BlockLocation.blockLocation(Location.location(
+        foo.getName(), MethodName.fromString("bar"), "()V"), 1);
+    final CoverageResult cr = new CoverageResult(new Description("aTest",
+        "fooTest"), 42, true, Collections.singletonList(block));
+
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.<Reader> none());
+    this.testee.recordTestCoverage(Collections.singletonList(new TestClassCoverage(
+        fooTest, Collections.singletonList(foo), Collections.singletonList(cr))));
+    this.testee.recordClassPath(Arrays.asList(foo), this.coverage);
+    this.testee.recordResult(new MutationResult(MutationTestResultMother
+        .createDetails("foo"), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "testName")));
+
+    final Reader reader = new StringReader(this.output.toString());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.some(reader));
+    this.testee.initialize();
+
+    final TestClassCoverage actual = this.testee.getHistoricTestCoverage().get(
+        fooTest.getName());
+    assertEquals(Arrays.asList(foo), actual.getCoveredClasses());
+    final CoverageResult actualResult = actual.getResults().iterator().next();
+    assertEquals(cr.getTestUnitDescription(),
+        actualResult.getTestUnitDescription());
+    assertEquals(42, actualResult.getExecutionTime());
+    assertEquals(Arrays.asList(block),
+        new ArrayList<BlockLocation>(actualResult.getCoverage()));
+    assertEquals(1, this.testee.getHistoricResults().size());
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveMutationConfig() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("foo")), "");
+    recordClassPathWithTestee(foo);
+    this.testee.recordMutationConfig("abc");
+
+    final Reader reader = new StringReader(this.output.toString());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.some(reader));
+    this.testee.initialize();
+
+    assertEquals(Option.some("abc"), this.testee.getHistoricMutationConfig());
+  }
+
+  @Test
+  public void shouldReturnNoMutationConfigWhenNoneRecorded() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("foo")), "");
+    recordClassPathWithTestee(foo);
+
+    final Reader reader = new StringReader(this.output.toString());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.some(reader));
+    this.testee.initialize();
+
+    assertEquals(Option.<String> none(),
+        this.testee.getHistoricMutationConfig());
+  }
+
   @Test
   public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
     try {
@@ -0,0 +1,64 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+  private final Histogram testee = new Histogram();
+
+  @Test
+  public void shouldReportZerosWhenEmpty() {
+    assertThat(this.testee.getCount()).isEqualTo(0);
+    assertThat(this.testee.getMin()).isEqualTo(0);
+    assertThat(this.testee.getMax()).isEqualTo(0);
+    assertThat(this.testee.getMean()).isEqualTo(0d);
+    assertThat(this.testee.percentile(0.5)).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldTrackCountMinMaxAndMean() {
+    this.testee.record(2);
+    this.testee.record(4);
+    this.testee.record(9);
+    assertThat(this.testee.getCount()).isEqualTo(3);
+    assertThat(this.testee.getMin()).isEqualTo(2);
+    assertThat(this.testee.getMax()).isEqualTo(9);
+    assertThat(this.testee.getMean()).isEqualTo(5d);
+  }
+
+  @Test
+  public void shouldReportUpperBoundOfBucketHoldingPercentile() {
+    for (int i = 0; i != 9; i++) {
+      this.testee.record(5);
+    }
+    this.testee.record(1000);
+    assertThat(this.testee.percentile(0.5)).isEqualTo(7);
+    assertThat(this.testee.percentile(0.9)).isEqualTo(7);
+    assertThat(this.testee.percentile(1)).isEqualTo(1000);
+  }
+
+  @Test
+  public void shouldNotReportPercentileAboveLargestValue() {
+    this.testee.record(5);
+    assertThat(this.testee.percentile(0.5)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldTreatNegativeValuesAsZero() {
+    this.testee.record(-10);
+    assertThat(this.testee.getMin()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldWriteSummaryAsJson() {
+    this.testee.record(1);
+    this.testee.record(3);
+    final StringBuilder sb = new StringBuilder();
+    this.testee.appendJson(sb);
+    assertThat(sb.toString()).isEqualTo(
+        "{\"count\":2,\"min\":1,\"mean\":2.0,\"p50\":1,\"p95\":3,\"max\":3}");
+  }
+
+}
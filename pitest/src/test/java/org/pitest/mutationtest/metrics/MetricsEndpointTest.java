@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsEndpointTest {
+
+  private final RunMetrics metrics = new RunMetrics();
+
+  private MetricsEndpoint  testee;
+
+  @Before
+  public void setUp() {
+    this.metrics.runStarted(42);
+    this.testee = new MetricsEndpoint(this.metrics, 0);
+    this.testee.start();
+  }
+
+  @After
+  public void tearDown() {
+    this.testee.stop();
+  }
+
+  @Test
+  public void shouldServeMetricsAsJson() throws IOException {
+    final HttpURLConnection connection = connect("/metrics");
+    assertThat(connection.getResponseCode()).isEqualTo(200);
+    assertThat(connection.getContentType()).startsWith("application/json");
+    assertThat(read(connection)).contains("\"total\":42");
+  }
+
+  @Test
+  public void shouldServeMetricsFromRoot() throws IOException {
+    assertThat(connect("/").getResponseCode()).isEqualTo(200);
+  }
+
+  @Test
+  public void shouldReturnNotFoundForOtherPaths() throws IOException {
+    assertThat(connect("/foo").getResponseCode()).isEqualTo(404);
+  }
+
+  private HttpURLConnection connect(final String path) throws IOException {
+    return (HttpURLConnection) new URL("http://localhost:"
+        + this.testee.getPort() + path).openConnection();
+  }
+
+  private static String read(final HttpURLConnection connection)
+      throws IOException {
+    final BufferedReader in = new BufferedReader(new InputStreamReader(
+        connection.getInputStream(), "UTF-8"));
+    try {
+      return in.readLine();
+    } finally {
+      in.close();
+    }
+  }
+
+}
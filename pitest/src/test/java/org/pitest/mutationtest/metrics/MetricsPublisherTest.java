@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Test;
+import org.pitest.functional.Option;
+
+public class MetricsPublisherTest {
+
+  private final RunMetrics   metrics = new RunMetrics();
+  private final StringWriter out     = new StringWriter();
+
+  @Test
+  public void shouldWriteOneLineOfJsonPerPublication() {
+    final MetricsPublisher testee = makeTestee(MetricsPublisher.INTERVAL_MILLIS);
+    this.metrics.runStarted(5);
+    testee.publish();
+    testee.publish();
+    final String[] lines = this.out.toString().split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{").endsWith("}").contains("\"total\":5");
+  }
+
+  @Test
+  public void shouldWriteFinalMetricsWhenStopped() {
+    final MetricsPublisher testee = makeTestee(MetricsPublisher.INTERVAL_MILLIS);
+    testee.start();
+    this.metrics.runStarted(7);
+    testee.stop();
+    final String[] lines = this.out.toString().split("\n");
+    assertThat(lines[lines.length - 1]).contains("\"total\":7");
+  }
+
+  @Test
+  public void shouldNotWriteAfterStopping() {
+    final MetricsPublisher testee = makeTestee(MetricsPublisher.INTERVAL_MILLIS);
+    testee.start();
+    testee.stop();
+    final String written = this.out.toString();
+    testee.publish();
+    assertThat(this.out.toString()).isEqualTo(written);
+  }
+
+  @Test
+  public void shouldPublishPeriodically() throws InterruptedException {
+    final MetricsPublisher testee = makeTestee(1);
+    testee.start();
+    Thread.sleep(100);
+    testee.stop();
+    assertThat(this.out.toString().split("\n").length).isGreaterThan(1);
+  }
+
+  private MetricsPublisher makeTestee(final long interval) {
+    return new MetricsPublisher(this.metrics, Option.<Writer> some(this.out),
+        0, interval);
+  }
+
+}
@@ -0,0 +1,123 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class RunMetricsTest {
+
+  private final RunMetrics         testee = new RunMetrics();
+
+  private final MutationIdentifier one    = aMutationId().withIndex(1).build();
+  private final MutationIdentifier two    = aMutationId().withIndex(2).build();
+
+  @Test
+  public void shouldCountMutantsAsMinionsReportThem() {
+    this.testee.runStarted(2, 0);
+    final MinionMetrics minion = this.testee.newMinion(0);
+    minion.mutantStarted(this.one);
+    assertThat(this.testee.getRunning()).isEqualTo(1);
+
+    minion.mutantFinished(this.one, killed());
+    assertThat(this.testee.getRunning()).isEqualTo(0);
+    assertThat(this.testee.getCompleted()).isEqualTo(1);
+    assertThat(this.testee.getCount(DetectionStatus.KILLED)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCountMutantsTwiceWhenTheirUnitCompletes() {
+    this.testee.runStarted(2, 0);
+    this.testee.newMinion(0).mutantFinished(this.one, killed());
+
+    this.testee.unitFinished(Arrays.asList(
+        result(this.one, DetectionStatus.KILLED),
+        result(this.two, DetectionStatus.NO_COVERAGE)));
+
+    assertThat(this.testee.getCompleted()).isEqualTo(2);
+    assertThat(this.testee.getCount(DetectionStatus.KILLED)).isEqualTo(1);
+    assertThat(this.testee.getCount(DetectionStatus.NO_COVERAGE)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountStatusesAssignedAfterMinionExitsAbnormally() {
+    this.testee.runStarted(1, 0);
+    this.testee.newMinion(0).mutantsFinished(Collections.singletonList(this.one),
+        DetectionStatus.TIMED_OUT);
+    assertThat(this.testee.getCount(DetectionStatus.TIMED_OUT)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountNonViableMutantsAsHotSwapFailures() {
+    this.testee.newMinion(0).mutantFinished(this.one,
+        new MutationStatusTestPair(0, DetectionStatus.NON_VIABLE));
+    assertThat(this.testee.getHotSwapFailures()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountMinionRestarts() {
+    this.testee.newMinion(0).exited(Collections.<MutationIdentifier> emptyList(),
+        true);
+    this.testee.newMinion(0).exited(Collections.<MutationIdentifier> emptyList(),
+        false);
+    assertThat(this.testee.getMinionsLaunched()).isEqualTo(2);
+    assertThat(this.testee.getMinionRestarts()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStopTreatingRescheduledMutantsAsRunning() {
+    final MinionMetrics minion = this.testee.newMinion(0);
+    minion.mutantStarted(this.one);
+    minion.exited(Collections.singletonList(this.one), true);
+    assertThat(this.testee.getRunning()).isEqualTo(0);
+    assertThat(this.testee.getCompleted()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotEstimateRemainingTimeBeforeAnythingCompletes() {
+    this.testee.runStarted(10, 0);
+    assertThat(this.testee.estimateRemainingMillis(1000)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldEstimateRemainingTimeFromCompletionRate() {
+    this.testee.runStarted(4, 0);
+    this.testee.newMinion(0).mutantFinished(this.one, killed());
+    assertThat(this.testee.estimateRemainingMillis(1000)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldWriteMetricsAsJson() {
+    this.testee.runStarted(3, 0);
+    final MinionMetrics minion = this.testee.newMinion(0);
+    minion.mutantStarted(this.two);
+    minion.mutantFinished(this.one, killed());
+
+    final String json = this.testee.toJson(500);
+    assertThat(json).startsWith("{\"timestamp\":500,\"elapsedMillis\":500,");
+    assertThat(json).contains(
+        "\"mutants\":{\"total\":3,\"pending\":1,\"running\":1,\"completed\":1,\"killed\":1}");
+    assertThat(json).contains("\"minions\":{\"launched\":1,\"active\":1,");
+    assertThat(json).contains("\"hotSwapFailures\":0");
+    assertThat(json).endsWith("\"estimatedRemainingMillis\":1000}");
+  }
+
+  private static MutationStatusTestPair killed() {
+    return new MutationStatusTestPair(1, DetectionStatus.KILLED, "aTest");
+  }
+
+  private static MutationResult result(final MutationIdentifier id,
+      final DetectionStatus status) {
+    return new MutationResult(aMutationDetail().withId(id).build(),
+        new MutationStatusTestPair(0, status));
+  }
+
+}
@@ -16,13 +16,23 @@ package org.pitest.mutationtest.report.xml;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
@@ -44,7 +54,7 @@ public class XMLReportListenerTest {
   public void shouldCreateAValidXmlDocumentWhenNoResults() throws IOException {
     this.testee.runStart();
     this.testee.runEnd();
-    final String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<mutations>\n</mutations>\n";
+    final String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<data><mutations>\n</mutations>\n<tests>\n</tests></data>\n";
     assertEquals(expected, this.out.toString());
   }
 
@@ -82,6 +92,27 @@ public class XMLReportListenerTest {
     assertEquals(expected, this.out.toString());
   }
 
+  @Test
+  public void shouldListTestsCoveringEachTestClass() {
+    final ClassInfo testClass = mock(ClassInfo.class);
+    when(testClass.getName()).thenReturn(ClassName.fromString("FooTest"));
+    final CodeSource code = mock(CodeSource.class);
+    when(code.getTests()).thenReturn(Collections.singletonList(testClass));
+    final CoverageDatabase coverage = mock(CoverageDatabase.class);
+    when(coverage.getTestsForClass(ClassName.fromString("FooTest")))
+        .thenReturn(Arrays.asList(makeTest("FooTest.a"), makeTest("FooTest.<b>")));
+
+    this.testee.handleCoverageData(code, coverage);
+    this.testee.runEnd();
+
+    assertTrue(this.out.toString().contains(
+        "<tests>\n<test>FooTest.a</test>\n<test>FooTest.&#60;b&#62;</test>\n</tests>"));
+  }
+
+  private TestInfo makeTest(final String name) {
+    return new TestInfo("FooTest", name, 1, Option.<ClassName> none(), 1);
+  }
+
   private MutationResult createSurvivingMutant() {
     final MutationResult mr = new MutationResult(
         MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
@@ -0,0 +1,78 @@
+package org.pitest.mutationtest.report.xml;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class XMLReportReaderTest {
+
+  private XMLReportReader            testee;
+
+  private final List<MutationResult> read = new ArrayList<MutationResult>();
+
+  @Before
+  public void setUp() {
+    this.testee = new XMLReportReader();
+  }
+
+  @Test
+  public void shouldReadNothingFromReportWithNoMutations() {
+    this.testee.read(new StringReader(write()), collect());
+    assertEquals(0, this.read.size());
+  }
+
+  @Test
+  public void shouldReadBackMutationsWrittenByXmlReport() {
+    final MutationResult killed = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(0,
+            DetectionStatus.KILLED, "<foo>"));
+    final MutationResult survived = new MutationResult(
+        MutationTestResultMother.createDetails("other"),
+        new MutationStatusTestPair(0, DetectionStatus.SURVIVED));
+
+    this.testee.read(new StringReader(write(killed, survived)), collect());
+
+    assertEquals(2, this.read.size());
+    assertEquals(killed.getDetails().getId(), this.read.get(0).getDetails()
+        .getId());
+    assertEquals(killed.getStatusTestPair(), this.read.get(0)
+        .getStatusTestPair());
+    assertEquals("other", this.read.get(1).getDetails().getFilename());
+    assertEquals(42, this.read.get(1).getDetails().getLineNumber());
+    assertEquals(survived.getStatusTestPair(), this.read.get(1)
+        .getStatusTestPair());
+  }
+
+  private static String write(final MutationResult... results) {
+    final StringWriter out = new StringWriter();
+    final XMLReportListener report = new XMLReportListener(out);
+    report.runStart();
+    if (results.length != 0) {
+      report.handleMutationResult(MutationTestResultMother
+          .createClassResults(results));
+    }
+    report.runEnd();
+    return out.toString();
+  }
+
+  private SideEffect1<MutationResult> collect() {
+    return new SideEffect1<MutationResult>() {
+      @Override
+      public void apply(final MutationResult a) {
+        XMLReportReaderTest.this.read.add(a);
+      }
+    };
+  }
+
+}
@@ -113,6 +113,42 @@ public class MutationStatisticsTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[1]);
   }
 
+  @Test
+  public void shouldNotReportEstimatedScoreWhenAllMutationsAnalysed() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED),
+        makeResult(DetectionStatus.KILLED)));
+    this.testee.setPopulationSize(2);
+    assertFalse(this.testee.isSampled());
+    assertEquals(2, generateReportLines().length);
+  }
+
+  @Test
+  public void shouldReportEstimatedScoreWhenSampled() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED),
+        makeResult(DetectionStatus.KILLED)));
+    this.testee.setPopulationSize(100);
+    assertTrue(this.testee.isSampled());
+    final String[] actual = generateReportLines();
+    assertEquals(
+        ">> Estimated score 50% (95% confidence 9.5% to 90.5%) from a sample of 2 of 100 mutations",
+        actual[2]);
+  }
+
+  @Test
+  public void shouldReportDesignEffectWhenSampledInUnits() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED),
+        makeResult(DetectionStatus.KILLED)));
+    this.testee.setPopulationSize(100);
+    this.testee.setDesignEffect(2);
+    final String[] actual = generateReportLines();
+    assertEquals(
+        ">> Interval widened by a design effect of 2 as mutations were sampled in whole units",
+        actual[3]);
+  }
+
   private F<Score, Boolean> hasResultForMutator(final String mutator) {
     return new F<Score, Boolean>() {
 
@@ -123,6 +159,37 @@ public class MutationStatisticsTest {
     };
   }
 
+  @Test
+  public void shouldAddResultsOfOtherStatistics() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.KILLED, 2),
+        makeResult(DetectionStatus.SURVIVED, 1)));
+    final MutationStatistics other = new MutationStatistics();
+    other.registerResults(Arrays.asList(makeResult(DetectionStatus.KILLED, 3),
+        makeResult(DetectionStatus.TIMED_OUT, 1)));
+
+    this.testee.add(other);
+
+    assertEquals(4, this.testee.getTotalMutations());
+    assertEquals(3, this.testee.getTotalDetectedMutations());
+    assertFalse(this.testee.isSampled());
+    final ByteArrayOutputStream s = new ByteArrayOutputStream();
+    this.testee.report(new PrintStream(s));
+    assertTrue(s.toString().contains(">> Ran 7 tests"));
+  }
+
+  @Test
+  public void shouldAddSampledPopulations() {
+    this.testee.registerResults(Arrays.asList(makeResult(DetectionStatus.KILLED)));
+    this.testee.setPopulationSize(10);
+    final MutationStatistics other = new MutationStatistics();
+    other.registerResults(Arrays.asList(makeResult(DetectionStatus.KILLED)));
+
+    this.testee.add(other);
+
+    assertEquals(11, this.testee.getScoreEstimate().getPopulation());
+  }
+
   private MutationResult makeResult(final DetectionStatus status) {
     return makeResult(status, 0);
   }
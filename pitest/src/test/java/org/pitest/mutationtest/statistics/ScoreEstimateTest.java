@@ -0,0 +1,95 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class ScoreEstimateTest {
+
+  @Test
+  public void shouldEstimateScoreFromSample() {
+    assertThat(new ScoreEstimate(1000, 100, 75).getScore()).isEqualTo(75d);
+  }
+
+  @Test
+  public void shouldGiveExactScoreWhenWholePopulationAnalysed() {
+    final ScoreEstimate testee = new ScoreEstimate(100, 100, 75);
+    assertThat(testee.getLowerBound()).isEqualTo(75d);
+    assertThat(testee.getUpperBound()).isEqualTo(75d);
+  }
+
+  @Test
+  public void shouldGiveIntervalAroundScoreForSample() {
+    final ScoreEstimate testee = new ScoreEstimate(10000, 100, 75);
+    assertThat(testee.getLowerBound()).isCloseTo(65.7, within(0.1));
+    assertThat(testee.getUpperBound()).isCloseTo(82.4, within(0.1));
+  }
+
+  @Test
+  public void shouldNarrowIntervalAsSampleGrows() {
+    final ScoreEstimate small = new ScoreEstimate(10000, 100, 75);
+    final ScoreEstimate large = new ScoreEstimate(10000, 1000, 750);
+    assertThat(width(large)).isLessThan(width(small));
+  }
+
+  @Test
+  public void shouldNarrowIntervalAsSampleApproachesPopulation() {
+    final ScoreEstimate most = new ScoreEstimate(110, 100, 75);
+    final ScoreEstimate few = new ScoreEstimate(10000, 100, 75);
+    assertThat(width(most)).isLessThan(width(few));
+  }
+
+  @Test
+  public void shouldNotCollapseIntervalWhenAllSampledMutationsKilled() {
+    final ScoreEstimate testee = new ScoreEstimate(1000, 20, 20);
+    assertThat(testee.getUpperBound()).isEqualTo(100d);
+    assertThat(testee.getLowerBound()).isLessThan(90d);
+  }
+
+  @Test
+  public void shouldGiveWidestIntervalWhenNothingSampled() {
+    final ScoreEstimate testee = new ScoreEstimate(1000, 0, 0);
+    assertThat(testee.getLowerBound()).isEqualTo(0d);
+    assertThat(testee.getUpperBound()).isEqualTo(100d);
+  }
+
+  @Test
+  public void shouldWidenIntervalByDesignEffect() {
+    final ScoreEstimate clustered = new ScoreEstimate(10000, 100, 75, 4);
+    final ScoreEstimate simple = new ScoreEstimate(10000, 100, 75);
+    assertThat(width(clustered)).isGreaterThan(width(simple));
+  }
+
+  @Test
+  public void shouldGiveIntervalOfEquivalentSimpleSampleForDesignEffect() {
+    final ScoreEstimate clustered = new ScoreEstimate(10000, 400, 300, 4);
+    final ScoreEstimate simple = new ScoreEstimate(10000, 100, 75);
+    assertThat(width(clustered)).isCloseTo(width(simple), within(0.5));
+  }
+
+  @Test
+  public void shouldGiveNoDesignEffectWhenClustersScoreAlike() {
+    assertThat(
+        ScoreEstimate.designEffect(new long[] { 10, 20, 10 }, new long[] { 5,
+            10, 5 })).isEqualTo(1d);
+  }
+
+  @Test
+  public void shouldGiveLargeDesignEffectWhenClustersAreWhollyKilledOrSurvive() {
+    assertThat(
+        ScoreEstimate.designEffect(new long[] { 10, 10, 10, 10 }, new long[] {
+            10, 0, 10, 0 })).isGreaterThan(10d);
+  }
+
+  @Test
+  public void shouldGiveNoDesignEffectForSingleCluster() {
+    assertThat(ScoreEstimate.designEffect(new long[] { 10 }, new long[] { 5 }))
+        .isEqualTo(1d);
+  }
+
+  private static double width(final ScoreEstimate estimate) {
+    return estimate.getUpperBound() - estimate.getLowerBound();
+  }
+
+}
@@ -0,0 +1,96 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.tooling.ReportAggregator.ResultMerger;
+
+public class ResultMergerTest {
+
+  private static final ClassName FOO = ClassName.fromString("Foo");
+  private static final ClassName BAR = ClassName.fromString("Bar");
+
+  @Mock
+  private MutationResultListener listener;
+
+  private ResultMerger           testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new ResultMerger(Collections.singletonList(this.listener));
+  }
+
+  @Test
+  public void shouldReportNothingWhenNoResultsRead() {
+    this.testee.flush();
+    verify(this.listener, never()).handleMutationResult(
+        any(ClassMutationResults.class));
+  }
+
+  @Test
+  public void shouldReportConsecutiveResultsForSameClassTogether() {
+    final MutationResult a = makeResult(FOO, 1);
+    final MutationResult b = makeResult(FOO, 2);
+    this.testee.apply(a);
+    this.testee.apply(b);
+    this.testee.flush();
+    verify(this.listener).handleMutationResult(
+        new ClassMutationResults(Arrays.asList(a, b)));
+  }
+
+  @Test
+  public void shouldReportResultsForEachClassSeparately() {
+    final MutationResult a = makeResult(FOO, 1);
+    final MutationResult b = makeResult(BAR, 1);
+    this.testee.apply(a);
+    this.testee.apply(b);
+    this.testee.flush();
+    verify(this.listener).handleMutationResult(
+        new ClassMutationResults(Arrays.asList(a)));
+    verify(this.listener).handleMutationResult(
+        new ClassMutationResults(Arrays.asList(b)));
+  }
+
+  @Test
+  public void shouldDiscardMutationsAlreadySeen() {
+    final MutationResult a = makeResult(FOO, 1);
+    this.testee.apply(a);
+    this.testee.apply(makeResult(BAR, 1));
+    this.testee.apply(makeResult(FOO, 1));
+    this.testee.flush();
+    verify(this.listener, times(2)).handleMutationResult(
+        any(ClassMutationResults.class));
+    verify(this.listener).handleMutationResult(
+        new ClassMutationResults(Arrays.asList(a)));
+  }
+
+  private static MutationResult makeResult(final ClassName clazz,
+      final int index) {
+    final MutationDetails template = MutationDetailsMother.makeMutation(clazz);
+    final MutationIdentifier id = new MutationIdentifier(template.getId()
+        .getLocation(), index, template.getMutator());
+    return new MutationResult(new MutationDetails(id, "foo.java",
+        "A mutation", index, 0), new MutationStatusTestPair(0,
+        DetectionStatus.KILLED, "aTest"));
+  }
+
+}
@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classpath.ClassPath;
+
+public class SharedAnalysisResourcesTest {
+
+  private final SharedAnalysisResources testee = new SharedAnalysisResources(2);
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldCreateAgentOnce() {
+    final ClassPath cp = new ClassPath();
+    final String first = this.testee.agentFor(cp).getJarLocation().value();
+    final String second = this.testee.agentFor(cp).getJarLocation().value();
+    assertEquals(first, second);
+    assertTrue(new File(first).exists());
+  }
+
+  @Test
+  public void shouldRemoveAgentWhenClosed() {
+    final String location = this.testee.agentFor(new ClassPath())
+        .getJarLocation().value();
+    this.testee.close();
+    assertFalse(new File(location).exists());
+  }
+
+  @Test
+  public void shouldShutDownExecutorWhenClosed() {
+    this.testee.close();
+    assertTrue(this.testee.getExecutor().isShutdown());
+  }
+
+}
@@ -0,0 +1,209 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.process.MinionSizer.MB;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.util.MemorySample;
+
+public class MinionSizerTest {
+
+  private static final List<String> NO_ARGS = Collections.emptyList();
+
+  private final StubMemory          host    = new StubMemory();
+
+  @Test
+  public void shouldNotSetHeapBeforeAnyMinionHasReported() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    assertThat(testee.jvmArgs(NO_ARGS)).isEmpty();
+  }
+
+  @Test
+  public void shouldGiveMinionsTwiceTheLiveHeapReported() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    testee.record(sample(50 * MB, MemorySample.UNKNOWN));
+    assertThat(testee.jvmArgs(Arrays.asList("-Dfoo=bar"))).containsExactly(
+        "-Dfoo=bar", "-Xmx200m");
+  }
+
+  @Test
+  public void shouldNotGrowHeapWhileReportedLiveHeapDoesNotGrow() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    for (int i = 0; i != 20; i++) {
+      testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+      testee.record(sample(80 * MB, MemorySample.UNKNOWN));
+    }
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx200m");
+  }
+
+  @Test
+  public void shouldShrinkHeapOnceRecentMinionsNeedLess() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(300 * MB, MemorySample.UNKNOWN));
+    for (int i = 0; i != MinionSizer.WINDOW; i++) {
+      testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    }
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx200m");
+  }
+
+  @Test
+  public void shouldNotShrinkHeapBelowOneThatRanOutOfMemory() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    testee.outOfMemory();
+    for (int i = 0; i != MinionSizer.WINDOW; i++) {
+      testee.record(sample(50 * MB, MemorySample.UNKNOWN));
+    }
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx400m");
+  }
+
+  @Test
+  public void shouldNotGiveMinionsLessThanMinimumHeap() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(MB, MemorySample.UNKNOWN));
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx64m");
+  }
+
+  @Test
+  public void shouldNotGiveMinionsMoreThanHalfOfPhysicalMemory() {
+    this.host.total = 1024 * MB;
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(600 * MB, MemorySample.UNKNOWN));
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx512m");
+  }
+
+  @Test
+  public void shouldNotOverrideHeapSuppliedByUser() {
+    final List<String> args = Arrays.asList("-Xmx1g");
+    final MinionSizer testee = new MinionSizer(this.host, 4, args);
+    testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    testee.outOfMemory();
+    assertThat(testee.jvmArgs(args)).containsExactly("-Xmx1g");
+  }
+
+  @Test
+  public void shouldDoubleHeapAfterMinionRunsOutOfMemory() {
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    testee.outOfMemory();
+    assertThat(testee.jvmArgs(NO_ARGS)).containsExactly("-Xmx400m");
+  }
+
+  @Test
+  public void shouldAllowAllMinionsBeforeMemoryUseIsKnown() {
+    this.host.available = 0;
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    assertThat(testee.limit()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldAllowAllMinionsWhenAvailableMemoryIsUnknown() {
+    this.host.available = MemorySample.UNKNOWN;
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    assertThat(testee.limit()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldRunAsManyMinionsAsFitInAvailableMemory() {
+    this.host.available = MinionSizer.RESERVED + (3 * 256 * MB);
+    final MinionSizer testee = new MinionSizer(this.host, 8, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    assertThat(testee.limit()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldEstimateFootprintFromHeapWhenResidentSetUnknown() {
+    this.host.available = MinionSizer.RESERVED + (3 * 328 * MB);
+    final MinionSizer testee = new MinionSizer(this.host, 8, NO_ARGS);
+    testee.record(sample(100 * MB, MemorySample.UNKNOWN));
+    assertThat(testee.limit()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotRunMoreMinionsThanThreads() {
+    final MinionSizer testee = new MinionSizer(this.host, 2, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    assertThat(testee.limit()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldAlwaysAllowOneMinion() {
+    this.host.available = 0;
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    assertThat(testee.limit()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountRunningMinionsAsUsingTheirFootprint()
+      throws InterruptedException {
+    this.host.available = MinionSizer.RESERVED + (4 * 256 * MB);
+    final MinionSizer testee = new MinionSizer(this.host, 8, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    testee.acquire();
+    testee.acquire();
+    this.host.available = this.host.available - (2 * 256 * MB);
+    assertThat(testee.limit()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldBackOffWhenMachineComesUnderMemoryPressure()
+      throws InterruptedException {
+    this.host.available = MinionSizer.RESERVED + (4 * 256 * MB);
+    final MinionSizer testee = new MinionSizer(this.host, 8, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    assertThat(testee.limit()).isEqualTo(4);
+    this.host.available = MinionSizer.RESERVED + (256 * MB);
+    assertThat(testee.limit()).isEqualTo(1);
+  }
+
+  @Test(timeout = 5000)
+  public void shouldWaitForRunningMinionToFinishWhenNoRoomForAnother()
+      throws InterruptedException {
+    this.host.available = 0;
+    final MinionSizer testee = new MinionSizer(this.host, 4, NO_ARGS);
+    testee.record(sample(100 * MB, 256 * MB));
+    testee.acquire();
+    final Thread waiting = new Thread() {
+      @Override
+      public void run() {
+        try {
+          testee.acquire();
+        } catch (final InterruptedException e) {
+          // test will fail
+        }
+      }
+    };
+    waiting.start();
+    waiting.join(200);
+    assertThat(waiting.isAlive()).isTrue();
+    testee.release();
+    waiting.join();
+  }
+
+  private static class StubMemory implements PhysicalMemory {
+    private long total     = 16 * 1024 * MB;
+    private long available = 8 * 1024 * MB;
+
+    @Override
+    public long total() {
+      return this.total;
+    }
+
+    @Override
+    public long available() {
+      return this.available;
+    }
+  }
+
+  private static MemorySample sample(final long heap, final long resident) {
+    return new MemorySample(heap, 4 * heap, resident);
+  }
+
+}
@@ -0,0 +1,117 @@
+package org.pitest.process.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class ClassPathArtifactsTest {
+
+  @Rule
+  public TemporaryFolder           folder = new TemporaryFolder();
+
+  private final ClassPathArtifacts testee = new ClassPathArtifacts();
+
+  @Test
+  public void shouldGiveFilesWithSameContentTheSameHash() throws IOException {
+    final File a = write("a.jar", "content");
+    final File b = write("b.jar", "content");
+    assertEquals(this.testee.hashFor(a), this.testee.hashFor(b));
+  }
+
+  @Test
+  public void shouldGiveFilesWithDifferentContentDifferentHashes()
+      throws IOException {
+    final File a = write("a.jar", "content");
+    final File b = write("b.jar", "other content");
+    assertFalse(this.testee.hashFor(a).equals(this.testee.hashFor(b)));
+  }
+
+  @Test
+  public void shouldGiveUnchangedDirectoriesTheSameHashEachRun()
+      throws Exception {
+    final File dir = this.folder.newFolder("classes");
+    write("classes/Foo.class", "foo");
+    final String first = this.testee.hashFor(dir);
+    Thread.sleep(1100);
+    assertEquals(first, new ClassPathArtifacts().hashFor(dir));
+  }
+
+  @Test
+  public void shouldIgnoreClassPathEntriesThatDoNotExist() throws IOException {
+    final File a = write("a.jar", "content");
+    assertEquals(1,
+        this.testee.hashesFor(a.getAbsolutePath() + File.pathSeparator
+            + "doesNotExist.jar").size());
+  }
+
+  @Test
+  public void shouldSendArtifactsThatCacheCanStore() throws IOException {
+    final File a = write("a.jar", "content");
+    final String hash = this.testee.hashFor(a);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    this.testee.send(hash, new SafeDataOutputStream(bytes));
+
+    final ArtifactCache cache = new ArtifactCache(this.folder
+        .newFolder("cache"));
+    cache.store(hash, new SafeDataInputStream(new ByteArrayInputStream(
+        bytes.toByteArray())));
+    assertTrue(cache.contains(hash));
+    assertEquals(hash, ClassPathArtifacts.sha1(cache.fileFor(hash)));
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldNotStoreArtifactsThatDoNotMatchTheirHash()
+      throws IOException {
+    final File a = write("a.jar", "content");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    this.testee.send(this.testee.hashFor(a), new SafeDataOutputStream(bytes));
+
+    new ArtifactCache(this.folder.newFolder("cache")).store(
+        "0000000000000000000000000000000000000000", new SafeDataInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectHashesThatWouldNameFilesOutsideTheCache()
+      throws IOException {
+    new ArtifactCache(this.folder.newFolder("cache")).contains("../../x");
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectHashesThatAreNotHex() throws IOException {
+    new ArtifactCache(this.folder.newFolder("cache"))
+        .fileFor("000000000000000000000000000000000000000g");
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldNotSendUnknownArtifacts() throws IOException {
+    this.testee.send("unknown", new SafeDataOutputStream(
+        new ByteArrayOutputStream()));
+  }
+
+  private File write(final String name, final String content)
+      throws IOException {
+    final File file = new File(this.folder.getRoot(), name);
+    final FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(content.getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+    return file;
+  }
+
+}
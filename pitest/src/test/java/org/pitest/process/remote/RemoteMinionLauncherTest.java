@@ -0,0 +1,175 @@
+package org.pitest.process.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.functional.SideEffect;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.LaunchedMinion;
+import org.pitest.process.MinionLauncher;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.NullJavaAgent;
+import org.pitest.util.SocketFinder;
+
+public class RemoteMinionLauncherTest {
+
+  private static final int     GREETING = 42;
+  private static final int     TIMEOUT  = 30000;
+  private static final String  TOKEN    = "token";
+
+  @Rule
+  public TemporaryFolder       folder   = new TemporaryFolder();
+
+  private final CountDownLatch lost     = new CountDownLatch(1);
+
+  private WorkerAgent          worker;
+
+  /**
+   * Stands in for a minion, connecting to the coordinator then waiting for it
+   * to hang up
+   */
+  public static class StandInMinion {
+    public static void main(final String[] args) throws IOException {
+      final Socket s = new Socket(args[1], Integer.parseInt(args[0]));
+      s.getOutputStream().write(GREETING);
+      s.getOutputStream().flush();
+      s.getInputStream().read();
+      s.close();
+    }
+  }
+
+  @After
+  public void stopWorker() {
+    if (this.worker != null) {
+      this.worker.stop();
+    }
+  }
+
+  @Test
+  public void shouldLaunchLocallyWhenNoWorkerCanBeReached() throws Exception {
+    final MinionLauncher fallback = mock(MinionLauncher.class);
+    final LaunchedMinion local = mock(LaunchedMinion.class);
+    when(
+        fallback.launch(anyInt(), any(ProcessArgs.class), any(Class.class),
+            any(SideEffect.class))).thenReturn(local);
+
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:" + unusedPort()), TOKEN, fallback);
+    assertSame(local, testee.launch(0, processArgs(), StandInMinion.class, onLost()));
+  }
+
+  @Test
+  public void shouldLaunchLocallyWhenWorkerRejectsToken() throws Exception {
+    startWorker();
+    final MinionLauncher fallback = mock(MinionLauncher.class);
+    final LaunchedMinion local = mock(LaunchedMinion.class);
+    when(
+        fallback.launch(anyInt(), any(ProcessArgs.class), any(Class.class),
+            any(SideEffect.class))).thenReturn(local);
+
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:" + this.worker.getPort()), "wrong", fallback);
+    assertSame(local, testee.launch(0, processArgs(), StandInMinion.class, onLost()));
+  }
+
+  @Test
+  public void shouldRunMinionOnWorkerThatConnectsBackToCoordinator()
+      throws Exception {
+    startWorker();
+    final ServerSocket coordinator = new SocketFinder()
+        .getNextAvailableServerSocket();
+    coordinator.setSoTimeout(TIMEOUT);
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:" + this.worker.getPort()), TOKEN);
+
+    final LaunchedMinion minion = testee.launch(coordinator.getLocalPort(),
+        processArgs(), StandInMinion.class, onLost());
+    final Socket fromMinion = coordinator.accept();
+    assertEquals(GREETING, fromMinion.getInputStream().read());
+    fromMinion.close();
+    minion.destroy();
+    coordinator.close();
+
+    assertFalse(minion.isLost());
+  }
+
+  @Test
+  public void shouldReportMinionLostWhenWorkerDies() throws Exception {
+    startWorker();
+    final ServerSocket coordinator = new SocketFinder()
+        .getNextAvailableServerSocket();
+    coordinator.setSoTimeout(TIMEOUT);
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:" + this.worker.getPort()), TOKEN);
+
+    final LaunchedMinion minion = testee.launch(coordinator.getLocalPort(),
+        processArgs(), StandInMinion.class, onLost());
+    final Socket fromMinion = coordinator.accept();
+    final InputStream in = fromMinion.getInputStream();
+    assertEquals(GREETING, in.read());
+
+    this.worker.stop();
+
+    assertTrue(this.lost.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    assertTrue(minion.isLost());
+    fromMinion.close();
+    coordinator.close();
+  }
+
+  private void startWorker() throws IOException {
+    this.worker = new WorkerAgent(new SocketFinder()
+        .getNextAvailableServerSocket(), this.folder.newFolder("cache"), TOKEN);
+    this.worker.start();
+  }
+
+  private SideEffect onLost() {
+    return new SideEffect() {
+      @Override
+      public void apply() {
+        RemoteMinionLauncherTest.this.lost.countDown();
+      }
+    };
+  }
+
+  private static int unusedPort() throws IOException {
+    final ServerSocket socket = new SocketFinder()
+        .getNextAvailableServerSocket();
+    final int port = socket.getLocalPort();
+    socket.close();
+    return port;
+  }
+
+  private ProcessArgs processArgs() {
+    // the stand in minion needs nothing but its own class
+    final String cp = new File(RemoteMinionLauncherTest.class
+        .getProtectionDomain().getCodeSource().getLocation().getPath())
+        .getAbsolutePath();
+    final LaunchOptions options = new LaunchOptions(NullJavaAgent.instance(),
+        new DefaultJavaExecutableLocator(), Collections.<String> emptyList(),
+        new HashMap<String, String>());
+    return ProcessArgs.withClassPath(cp).andLaunchOptions(options);
+  }
+
+}
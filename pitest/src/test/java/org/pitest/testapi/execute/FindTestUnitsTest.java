@@ -0,0 +1,136 @@
+package org.pitest.testapi.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+import org.pitest.functional.Option;
+import org.pitest.help.PitHelpError;
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestClassIdentifier;
+import org.pitest.testapi.TestSuiteFinder;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitFinder;
+
+public class FindTestUnitsTest {
+
+  private static final Class<?>[] CLASSES = { String.class, Integer.class,
+      Long.class, Short.class, Byte.class, Double.class, Float.class,
+      Character.class, Boolean.class, Object.class, Number.class, Math.class,
+      StringBuilder.class, StringBuffer.class, Thread.class, Runtime.class,
+      System.class, Class.class, Enum.class, Void.class };
+
+  private final Set<String>       threadsUsed = Collections
+                                                  .newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+  @Test
+  public void shouldFindSameTestUnitsInSameOrderWhenScanningInParallel() {
+    final List<String> serial = names(new FindTestUnits(config(), 1)
+        .findTestUnitsForAllSuppliedClasses(classes()));
+    final List<String> parallel = names(new FindTestUnits(config(), 2)
+        .findTestUnitsForAllSuppliedClasses(classes()));
+
+    assertThat(parallel).hasSize(CLASSES.length * 2);
+    assertThat(parallel).isEqualTo(serial);
+  }
+
+  @Test
+  public void shouldScanOnCallingThreadWhenOnlyOneThreadAllowed() {
+    new FindTestUnits(config(), 1).findTestUnitsForAllSuppliedClasses(classes());
+    assertThat(this.threadsUsed).containsOnly(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void shouldScanOnCallingThreadByDefault() {
+    new FindTestUnits(config()).findTestUnitsForAllSuppliedClasses(classes());
+    assertThat(this.threadsUsed).containsOnly(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void shouldScanOnCallingThreadWhenTooFewClassesToShare() {
+    final List<Class<?>> one = Collections.<Class<?>> singletonList(String.class);
+    new FindTestUnits(config(), 4).findTestUnitsForAllSuppliedClasses(one);
+    assertThat(this.threadsUsed).containsOnly(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void shouldScanOnOtherThreadsWhenManyClassesSupplied() {
+    new FindTestUnits(config(), 2).findTestUnitsForAllSuppliedClasses(classes());
+    assertThat(this.threadsUsed).doesNotContain(
+        Thread.currentThread().getName());
+  }
+
+  private static List<Class<?>> classes() {
+    final List<Class<?>> cs = new ArrayList<Class<?>>();
+    Collections.addAll(cs, CLASSES);
+    return cs;
+  }
+
+  private static List<String> names(final List<TestUnit> units) {
+    final List<String> names = new ArrayList<String>();
+    for (final TestUnit each : units) {
+      names.add(each.getDescription().getName());
+    }
+    return names;
+  }
+
+  private Configuration config() {
+    return new Configuration() {
+
+      @Override
+      public TestUnitFinder testUnitFinder() {
+        return new TestUnitFinder() {
+          @Override
+          public List<TestUnit> findTestUnits(final Class<?> clazz) {
+            FindTestUnitsTest.this.threadsUsed.add(Thread.currentThread()
+                .getName());
+            final List<TestUnit> units = new ArrayList<TestUnit>();
+            units.add(unit(clazz, "first"));
+            units.add(unit(clazz, "second"));
+            return units;
+          }
+        };
+      }
+
+      @Override
+      public TestSuiteFinder testSuiteFinder() {
+        return new TestSuiteFinder() {
+          @Override
+          public List<Class<?>> apply(final Class<?> a) {
+            return Collections.emptyList();
+          }
+        };
+      }
+
+      @Override
+      public TestClassIdentifier testClassIdentifier() {
+        return null;
+      }
+
+      @Override
+      public Option<PitHelpError> verifyEnvironment() {
+        return Option.none();
+      }
+
+    };
+  }
+
+  private static TestUnit unit(final Class<?> clazz, final String name) {
+    return new AbstractTestUnit(new Description(clazz.getName() + "." + name,
+        clazz)) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+
+      }
+    };
+  }
+
+}
@@ -0,0 +1,87 @@
+package org.pitest.testapi.foreignclassloader;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.Callable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classpath.ClassPath;
+import org.pitest.mutationtest.execute.DefaultPITClassloader;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.util.IsolationUtils;
+
+public class ForeignLoaderBridgeTest {
+
+  private final Description description = new Description("unit",
+                                            ForeignLoaderBridgeTest.class);
+
+  @Mock
+  private ResultCollector   rc;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void shouldReportUnnamedTestsAgainstTheUnitsDescription() {
+    final ResultSink sink = createSink(IsolationUtils.getContextClassLoader());
+    sink.start(null);
+    sink.end(null, null);
+    verify(this.rc).notifyStart(this.description);
+    verify(this.rc).notifyEnd(this.description);
+  }
+
+  @Test
+  public void shouldReportNamedTestsAgainstTheUnitsTestClass() {
+    final ResultSink sink = createSink(IsolationUtils.getContextClassLoader());
+    final Throwable t = new AssertionError();
+    sink.end("foo", t);
+    sink.skipped("bar");
+    verify(this.rc).notifyEnd(
+        new Description("foo", ForeignLoaderBridgeTest.class), t);
+    verify(this.rc).notifySkipped(
+        new Description("bar", ForeignLoaderBridgeTest.class));
+  }
+
+  @Test
+  public void shouldConstructExecutorsInTheForeignLoader() throws Exception {
+    final ClassLoader isolated = new DefaultPITClassloader(new ClassPath(),
+        IsolationUtils.bootClassLoader());
+    final Callable<?> executor = ForeignLoaderBridge.createExecutor(isolated,
+        StartingExecutor.class, "foo",
+        ForeignLoaderBridge.createSink(isolated, this.rc, this.description));
+    assertEquals(isolated, executor.call());
+    verify(this.rc).notifyStart(
+        new Description("foo", ForeignLoaderBridgeTest.class));
+  }
+
+  private ResultSink createSink(final ClassLoader loader) {
+    return (ResultSink) ForeignLoaderBridge.createSink(loader, this.rc,
+        this.description);
+  }
+
+  public static class StartingExecutor implements Callable<ClassLoader> {
+
+    private final String     test;
+    private final ResultSink sink;
+
+    public StartingExecutor(final String test, final ResultSink sink) {
+      this.test = test;
+      this.sink = sink;
+    }
+
+    @Override
+    public ClassLoader call() {
+      this.sink.start(this.test);
+      return getClass().getClassLoader();
+    }
+
+  }
+
+}
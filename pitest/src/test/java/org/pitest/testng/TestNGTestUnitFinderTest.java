@@ -16,12 +16,20 @@ package org.pitest.testng;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Parameters;
 
+import com.example.testng.AbstractClass;
 import com.example.testng.AnnotatedAtClassLevel;
 import com.example.testng.AnnotatedAtMethodLevel;
 
@@ -37,15 +45,39 @@ public class TestNGTestUnitFinderTest {
   }
 
   @Test
-  public void shouldFindSingleTestUnitForAllPublicMethodsInAnnotatedClass() {
-    assertEquals(1, this.testee.findTestUnits(AnnotatedAtClassLevel.class)
-        .size());
+  public void shouldFindTestUnitForEachPublicMethodInAnnotatedClass() {
+    assertEquals(Arrays.asList("aTest", "anotherTest"),
+        names(this.testee.findTestUnits(AnnotatedAtClassLevel.class)));
   }
 
   @Test
-  public void shouldFindSingleTestUnitClassWithAnnotatedMethods() {
-    assertEquals(1, this.testee.findTestUnits(AnnotatedAtMethodLevel.class)
-        .size());
+  public void shouldFindTestUnitForEachAnnotatedMethod() {
+    assertEquals(Arrays.asList("aTest", "anotherTest"),
+        names(this.testee.findTestUnits(AnnotatedAtMethodLevel.class)));
+  }
+
+  @Test
+  public void shouldNotTreatConfigurationMethodsAsTests() {
+    assertEquals(Arrays.asList("aTest"),
+        names(this.testee.findTestUnits(HasConfigurationMethod.class)));
+  }
+
+  @Test
+  public void shouldTreatParameterisedMethodsAsTests() {
+    assertEquals(Arrays.asList("aTest", "parameterisedTest"),
+        names(this.testee.findTestUnits(HasParameterisedMethod.class)));
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForClassWithDependentMethods() {
+    assertEquals(Arrays.asList("_"),
+        names(this.testee.findTestUnits(HasDependentMethods.class)));
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForAbstractClass() {
+    assertEquals(Arrays.asList("_"),
+        names(this.testee.findTestUnits(AbstractClass.class)));
   }
 
   @Test
@@ -53,4 +85,54 @@ public class TestNGTestUnitFinderTest {
     assertEquals(0, this.testee.findTestUnits(String.class).size());
   }
 
+  private static List<String> names(final List<TestUnit> units) {
+    final List<String> names = new ArrayList<String>();
+    for (final TestUnit each : units) {
+      names.add(each.getDescription().getName());
+    }
+    return names;
+  }
+
+  @org.testng.annotations.Test
+  public static class HasConfigurationMethod {
+    @BeforeMethod
+    public void setUp() {
+
+    }
+
+    public void aTest() {
+
+    }
+  }
+
+  @org.testng.annotations.Test
+  public static class HasParameterisedMethod {
+    @DataProvider
+    public Object[][] data() {
+      return new Object[][] { { "a" } };
+    }
+
+    @org.testng.annotations.Test
+    @Parameters("x")
+    public void parameterisedTest(final String x) {
+
+    }
+
+    public void aTest() {
+
+    }
+  }
+
+  public static class HasDependentMethods {
+    @org.testng.annotations.Test
+    public void aTest() {
+
+    }
+
+    @org.testng.annotations.Test(dependsOnMethods = "aTest")
+    public void anotherTest() {
+
+    }
+  }
+
 }
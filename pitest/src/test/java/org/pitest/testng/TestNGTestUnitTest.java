@@ -16,6 +16,7 @@ package org.pitest.testng;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,6 +37,7 @@ import org.pitest.util.IsolationUtils;
 
 import com.example.testng.Fails;
 import com.example.testng.HasGroups;
+import com.example.testng.HasOnePassingAndOneFailingMethod;
 import com.example.testng.Passes;
 import com.example.testng.Skips;
 
@@ -176,6 +178,53 @@ public class TestNGTestUnitTest {
         eq(new Description("skip", Skips.class)));
   }
 
+  @Test
+  public void shouldRunOnlyTheGivenMethod() {
+    this.testee = methodUnit(IsolationUtils.loaderDetectionStrategy(),
+        "passes", TestNGTestUnit.createSuite(
+            HasOnePassingAndOneFailingMethod.class, this.config));
+    this.testee.execute(this.loader, this.rc);
+    verify(this.rc, times(1)).notifyStart(this.testee.getDescription());
+    verify(this.rc, times(1)).notifyEnd(this.testee.getDescription());
+    verify(this.rc, never()).notifyStart(
+        new Description("fails", HasOnePassingAndOneFailingMethod.class));
+  }
+
+  @Test
+  public void shouldRunOnlyTheGivenMethodInForeignClassLoader() {
+    this.testee = methodUnit(neverMatch(), "fails", TestNGTestUnit
+        .createSuite(HasOnePassingAndOneFailingMethod.class, this.config));
+    this.testee.execute(this.loader, this.rc);
+    verify(this.rc, times(1)).notifyStart(this.testee.getDescription());
+    verify(this.rc, times(1)).notifyEnd(eq(this.testee.getDescription()),
+        any(RuntimeException.class));
+    verify(this.rc, never()).notifyStart(
+        new Description("passes", HasOnePassingAndOneFailingMethod.class));
+  }
+
+  @Test
+  public void shouldShareSuiteBetweenMethodsOfSameClass() {
+    final TestNGClassSuite suite = TestNGTestUnit.createSuite(
+        HasOnePassingAndOneFailingMethod.class, this.config);
+    final TestNGTestUnit fails = methodUnit(
+        IsolationUtils.loaderDetectionStrategy(), "fails", suite);
+    final TestNGTestUnit passes = methodUnit(
+        IsolationUtils.loaderDetectionStrategy(), "passes", suite);
+    fails.execute(this.loader, this.rc);
+    passes.execute(this.loader, this.rc);
+    fails.execute(this.loader, this.rc);
+    verify(this.rc, times(2)).notifyEnd(eq(fails.getDescription()),
+        any(RuntimeException.class));
+    verify(this.rc, times(1)).notifyEnd(passes.getDescription());
+  }
+
+  private TestNGTestUnit methodUnit(
+      final ClassLoaderDetectionStrategy loaderDetection, final String method,
+      final TestNGClassSuite suite) {
+    return new TestNGTestUnit(loaderDetection,
+        HasOnePassingAndOneFailingMethod.class, this.config, method, suite);
+  }
+
   private ClassLoaderDetectionStrategy neverMatch() {
     return new ClassLoaderDetectionStrategy() {
       @Override
@@ -0,0 +1,160 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pitest.functional.predicate.Predicate;
+
+public class GlobSetTest {
+
+  @Test
+  public void shouldMatchNothingWhenEmpty() {
+    final GlobSet testee = new GlobSet(
+        Collections.<Predicate<String>> emptyList());
+    assertFalse(testee.apply("org.foo"));
+    assertFalse(testee.apply(""));
+  }
+
+  @Test
+  public void shouldMatchAnyOfTheGlobs() {
+    final GlobSet testee = globs("org.foo.*", "com.bar.Baz", "net.?ux");
+    assertTrue(testee.apply("org.foo.Foo"));
+    assertTrue(testee.apply("com.bar.Baz"));
+    assertTrue(testee.apply("net.qux"));
+    assertFalse(testee.apply("com.bar.Baz2"));
+    assertFalse(testee.apply("net.quux"));
+    assertFalse(testee.apply("org.fo"));
+  }
+
+  @Test
+  public void shouldMatchStarsWithinGlobs() {
+    final GlobSet testee = globs("*Test", "org.*.internal.*");
+    assertTrue(testee.apply("FooTest"));
+    assertTrue(testee.apply("Test"));
+    assertTrue(testee.apply("org.foo.bar.internal.Baz"));
+    assertFalse(testee.apply("FooTests"));
+    assertFalse(testee.apply("org.internal.Baz"));
+  }
+
+  @Test
+  public void shouldGiveSameResultWhenAskedRepeatedly() {
+    final GlobSet testee = globs("org.foo.*");
+    for (int i = 0; i != 3; i++) {
+      assertTrue(testee.apply("org.foo.Foo"));
+      assertFalse(testee.apply("org.bar.Foo"));
+    }
+  }
+
+  @Test
+  public void shouldSupportRegularExpressionGlobs() {
+    final GlobSet testee = globs("~org\\.foo\\.[A-C].*", "com.*");
+    assertTrue(testee.apply("org.foo.Bar"));
+    assertFalse(testee.apply("org.foo.Dar"));
+    assertTrue(testee.apply("com.Bar"));
+  }
+
+  @Test
+  public void shouldSupportPredicatesThatAreNotGlobs() {
+    final Predicate<String> isShort = new Predicate<String>() {
+      @Override
+      public Boolean apply(final String a) {
+        return a.length() < 3;
+      }
+    };
+    final List<Predicate<String>> predicates = new ArrayList<Predicate<String>>();
+    predicates.add(new Glob("org.*"));
+    predicates.add(isShort);
+    final GlobSet testee = new GlobSet(predicates);
+    assertTrue(testee.apply("ab"));
+    assertTrue(testee.apply("org.foo"));
+    assertFalse(testee.apply("com.foo"));
+  }
+
+  @Test
+  public void shouldSupportEmptyGlobs() {
+    final GlobSet testee = globs("", "org.*");
+    assertTrue(testee.apply(""));
+    assertTrue(testee.apply("org.foo"));
+    assertFalse(testee.apply("com.foo"));
+  }
+
+  @Test
+  public void shouldMatchPrefixes() {
+    final GlobSet testee = GlobSet.prefixes(Arrays.asList("org/apache/log4j",
+        "java/util/logging"));
+    assertTrue(testee.apply("org/apache/log4j/Logger"));
+    assertTrue(testee.apply("java/util/logging"));
+    assertFalse(testee.apply("org/apache/log"));
+    assertFalse(testee.apply("org/slf4j/Logger"));
+  }
+
+  @Test
+  public void shouldNotTreatWildcardsInPrefixesAsGlobs() {
+    final GlobSet testee = GlobSet.prefixes(Arrays.asList("org.*"));
+    assertFalse(testee.apply("org.foo"));
+    assertTrue(testee.apply("org.*.foo"));
+  }
+
+  @Test
+  public void shouldMatchAfterBeingSentToAnotherProcess() {
+    final GlobSet testee = globs("org.foo.*", "~com\\.bar\\..*");
+    testee.apply("org.foo.Foo");
+    final GlobSet copy = (GlobSet) IsolationUtils.clone(testee);
+    assertTrue(copy.apply("org.foo.Foo"));
+    assertTrue(copy.apply("com.bar.Bar"));
+    assertFalse(copy.apply("net.Foo"));
+  }
+
+  @Test
+  public void shouldAgreeWithGlobs() {
+    final Random random = new Random(42);
+    final String alphabet = "ab.$*?";
+    for (int set = 0; set != 200; set++) {
+      final List<Predicate<String>> globs = new ArrayList<Predicate<String>>();
+      final int size = 1 + random.nextInt(4);
+      for (int i = 0; i != size; i++) {
+        globs.add(new Glob(randomString(random, alphabet, 1)));
+      }
+      final GlobSet testee = new GlobSet(globs);
+      for (int i = 0; i != 50; i++) {
+        final String value = randomString(random, "ab.$", 0);
+        assertEquals(globs + " " + value, anyMatch(globs, value),
+            testee.apply(value));
+      }
+    }
+  }
+
+  private static boolean anyMatch(final Collection<Predicate<String>> globs,
+      final String value) {
+    for (final Predicate<String> each : globs) {
+      if (each.apply(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String randomString(final Random random,
+      final String alphabet, final int minLength) {
+    final StringBuilder sb = new StringBuilder();
+    final int length = minLength + random.nextInt(6);
+    for (int i = 0; i != length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+
+  private static GlobSet globs(final String... globs) {
+    return new GlobSet(Glob.toGlobPredicates(Arrays.asList(globs)));
+  }
+
+}
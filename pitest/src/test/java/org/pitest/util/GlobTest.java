@@ -69,4 +69,11 @@ public class GlobTest {
     assertFalse(glob.matches("foo!!!Bar!!!car"));
   }
 
+  @Test
+  public void shouldMatchOnlyEmptyStringWhenEmpty() {
+    final Glob glob = new Glob("");
+    assertTrue(glob.matches(""));
+    assertFalse(glob.matches("foo"));
+  }
+
 }
@@ -0,0 +1,74 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MemorySampleTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldMeasureHeapUsedByThisJvm() {
+    final MemorySample actual = MemorySample.measure();
+    assertThat(actual.getLiveHeap()).isGreaterThan(0);
+    assertThat(actual.getMaxHeap()).isEqualTo(Runtime.getRuntime().maxMemory());
+  }
+
+  @Test
+  public void shouldSendSampleToParent() {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream os = new SafeDataOutputStream(bos);
+    new MemorySample(1, 2, 3).write(os);
+    os.flush();
+
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(bos.toByteArray()));
+    assertThat(is.readByte()).isEqualTo(Id.MEMORY);
+    final MemorySample actual = MemorySample.read(is);
+    assertThat(actual.getLiveHeap()).isEqualTo(1);
+    assertThat(actual.getMaxHeap()).isEqualTo(2);
+    assertThat(actual.getPeakResident()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldReadKilobyteValuesInBytes() throws IOException {
+    final File f = write("VmPeak:\t  300 kB\nVmHWM:\t  120 kB\n");
+    assertThat(MemorySample.readKilobytes(f, "VmHWM:")).isEqualTo(120 * 1024);
+  }
+
+  @Test
+  public void shouldReturnUnknownWhenValueNotPresent() throws IOException {
+    final File f = write("VmPeak:\t  300 kB\n");
+    assertThat(MemorySample.readKilobytes(f, "VmHWM:")).isEqualTo(
+        MemorySample.UNKNOWN);
+  }
+
+  @Test
+  public void shouldReturnUnknownWhenFileNotPresent() {
+    assertThat(
+        MemorySample.readKilobytes(new File(this.folder.getRoot(), "missing"),
+            "VmHWM:")).isEqualTo(MemorySample.UNKNOWN);
+  }
+
+  private File write(final String content) throws IOException {
+    final File f = this.folder.newFile();
+    final FileOutputStream fos = new FileOutputStream(f);
+    try {
+      fos.write(content.getBytes("UTF-8"));
+    } finally {
+      fos.close();
+    }
+    return f;
+  }
+
+}
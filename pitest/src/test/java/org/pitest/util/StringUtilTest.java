@@ -16,6 +16,8 @@ package org.pitest.util;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -44,4 +46,29 @@ public class StringUtilTest {
     assertEquals("----", StringUtil.repeat('-', 4));
   }
 
+  @Test
+  public void shouldEscapeQuotesAndBackslashesForJson() {
+    assertEquals("a\\\"b\\\\c", StringUtil.escapeJson("a\"b\\c"));
+  }
+
+  @Test
+  public void shouldEscapeControlCharactersForJson() {
+    assertEquals("a\\u000ab", StringUtil.escapeJson("a\nb"));
+  }
+
+  @Test
+  public void shouldEscapeBasicHtmlCharsDirectlyToWriter() throws IOException {
+    final StringWriter out = new StringWriter();
+    StringUtil.escapeBasicHtmlChars("a<b>'c'&d", out);
+    assertEquals(StringUtil.escapeBasicHtmlChars("a<b>'c'&d"), out.toString());
+  }
+
+  @Test
+  public void shouldWriteStringsWithNothingToEscapeUnchanged()
+      throws IOException {
+    final StringWriter out = new StringWriter();
+    StringUtil.escapeBasicHtmlChars("foo.Bar", out);
+    assertEquals("foo.Bar", out.toString());
+  }
+
 }
@@ -0,0 +1,44 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class SymbolTableTest {
+
+  private final SymbolTable<Object> testee = new SymbolTable<Object>(2);
+
+  @Test
+  public void shouldReturnNullForUnknownNames() {
+    assertNull(this.testee.get("foo"));
+  }
+
+  @Test
+  public void shouldReturnFirstValueInternedForName() {
+    final Object first = new Object();
+    assertSame(first, this.testee.intern("foo", first));
+    assertSame(first, this.testee.intern("foo", new Object()));
+    assertSame(first, this.testee.get("foo"));
+  }
+
+  @Test
+  public void shouldReturnSuppliedValueWithoutHoldingItWhenFull() {
+    this.testee.intern("a", new Object());
+    this.testee.intern("b", new Object());
+    final Object value = new Object();
+    assertSame(value, this.testee.intern("c", value));
+    assertNull(this.testee.get("c"));
+    assertEquals(2, this.testee.size());
+  }
+
+  @Test
+  public void shouldReturnHeldValuesWhenFull() {
+    final Object a = new Object();
+    this.testee.intern("a", a);
+    this.testee.intern("b", new Object());
+    assertSame(a, this.testee.intern("a", new Object()));
+  }
+
+}
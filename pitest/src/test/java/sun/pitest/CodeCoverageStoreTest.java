@@ -25,9 +25,11 @@ import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -99,6 +101,149 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldRecordHitsAgainstContextOfTestRunningOnThread() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+    CodeCoverageStore.setPerThreadHits(true);
+
+    final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+    CodeCoverageStore.visitProbes(classId, 0, false, true);
+    CodeCoverageStore.endTestOnThisThread();
+
+    assertThat(context.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 1));
+    assertThat(CodeCoverageStore.getHits()).isEmpty();
+    assertFalse(context.isHitFromOtherThreads());
+  }
+
+  @Test
+  public void shouldRecordHitsInSharedStoreWhenNoTestRunningOnThread() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+
+    assertThat(CodeCoverageStore.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
+  @Test
+  public void shouldCountHitsMadeWhenNoTestRunningOnThreadAsStray() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+    final long before = CodeCoverageStore.getStrayHits();
+
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+
+    assertThat(CodeCoverageStore.getStrayHits()).isEqualTo(before + 1);
+  }
+
+  @Test
+  public void shouldCountHitsMadeByThreadsOfEndedTestAsStray()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+
+    final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+    final CountDownLatch testEnded = new CountDownLatch(1);
+    final Thread t = new Thread() {
+      @Override
+      public void run() {
+        try {
+          testEnded.await();
+        } catch (final InterruptedException e) {
+          return;
+        }
+        CodeCoverageStore.visitSingleProbe(classId, 0);
+      }
+    };
+    t.start();
+    CodeCoverageStore.endTestOnThisThread();
+    final long before = CodeCoverageStore.getStrayHits();
+    testEnded.countDown();
+    t.join();
+
+    assertThat(context.getHits()).isEmpty();
+    assertThat(CodeCoverageStore.getStrayHits()).isEqualTo(before + 1);
+  }
+
+  @Test
+  public void shouldNotCountHitsOfRunningTestAsStray() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+    final long before = CodeCoverageStore.getStrayHits();
+
+    CodeCoverageStore.startTestOnThisThread();
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+    CodeCoverageStore.endTestOnThisThread();
+
+    assertThat(CodeCoverageStore.getStrayHits()).isEqualTo(before);
+  }
+
+  @Test
+  public void shouldRecordHitsInSharedStoreWhenPerThreadHitsDisabled() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+    CodeCoverageStore.endTestOnThisThread();
+
+    assertThat(context.getHits()).isEmpty();
+    assertThat(CodeCoverageStore.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
+  @Test
+  public void shouldKeepHitsOfTestsOnDifferentThreadsSeparate()
+      throws InterruptedException, ExecutionException {
+    final int foo = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(foo, 1);
+    final int bar = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.registerClassProbes(bar, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+
+    final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+    CodeCoverageStore.visitSingleProbe(foo, 0);
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    final Future<ProbeContext> other = pool.submit(runTestHitting(bar));
+    pool.shutdown();
+    CodeCoverageStore.endTestOnThisThread();
+
+    assertThat(context.getHits()).containsExactly(
+        CodeCoverageStore.encode(foo, 0));
+    assertThat(other.get().getHits()).containsExactly(
+        CodeCoverageStore.encode(bar, 0));
+  }
+
+  @Test
+  public void shouldAttributeHitsFromThreadsStartedByTestToThatTest()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    CodeCoverageStore.setPerThreadHits(true);
+
+    final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+    final Thread t = new Thread() {
+      @Override
+      public void run() {
+        CodeCoverageStore.visitSingleProbe(classId, 0);
+      }
+    };
+    t.start();
+    t.join();
+    CodeCoverageStore.endTestOnThisThread();
+
+    assertThat(context.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+    assertThat(context.isHitFromOtherThreads()).isTrue();
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -116,6 +261,9 @@ public class CodeCoverageStoreTest {
     pool.shutdown();
 
     assertNull(future.get());
+    // stop the writers so they do not hit the store during later tests
+    pool.shutdownNow();
+    pool.awaitTermination(5, TimeUnit.SECONDS);
 
   }
 
@@ -428,6 +576,18 @@ public class CodeCoverageStoreTest {
     return read;
   }
 
+  private static Callable<ProbeContext> runTestHitting(final int classId) {
+    return new Callable<ProbeContext>() {
+      @Override
+      public ProbeContext call() {
+        final ProbeContext context = CodeCoverageStore.startTestOnThisThread();
+        CodeCoverageStore.visitSingleProbe(classId, 0);
+        CodeCoverageStore.endTestOnThisThread();
+        return context;
+      }
+    };
+  }
+
   private static Runnable makeWriter(final int sleepPeriod) {
     final Runnable write = new Runnable() {
 
@@ -437,6 +597,7 @@ public class CodeCoverageStoreTest {
           try {
             Thread.sleep(sleepPeriod);
           } catch (final InterruptedException e) {
+            return;
           }
           final boolean b[] = new boolean[1000];
           CodeCoverageStore.visitProbes(0, 0, b);